@@ -0,0 +1,72 @@
+package com.oroboros.EscalaDeFolga.benchmark;
+
+import com.oroboros.EscalaDeFolga.app.dto.calendario.CalendarioResponseDTO;
+import com.oroboros.EscalaDeFolga.app.mapper.CalendarioMapper;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.service.CalendarioService;
+import com.oroboros.EscalaDeFolga.domain.service.EscalaRegrasService;
+import com.oroboros.EscalaDeFolga.domain.service.OcupacaoDiaService;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem do calendário do mês com todas as folgas lançadas (8 por colaborador),
+ * a partir de repositórios em memória, e conversão do resultado para o DTO de resposta.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CalendarioBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int totalColaboradores;
+
+    private Long escalaId;
+    private CalendarioService calendarioService;
+    private CalendarioMapper calendarioMapper;
+    private CalendarioService.CalendarioDomain calendario;
+
+    @Setup
+    public void preparar() {
+        Escala escala = DadosSinteticos.escala();
+        List<Colaborador> colaboradores = DadosSinteticos.colaboradores(escala, totalColaboradores);
+        List<Folga> folgas = DadosSinteticos.folgas(escala, colaboradores, DadosSinteticos.FOLGAS_PERMITIDAS);
+        FolgaRepository folgaRepository = RepositoriosEmMemoria.folgas(folgas);
+        ColaboradorRepository colaboradorRepository = RepositoriosEmMemoria.colaboradores(colaboradores);
+
+        escalaId = escala.getId();
+        calendarioService = new CalendarioService(
+                RepositoriosEmMemoria.escalas(escala),
+                colaboradorRepository,
+                folgaRepository,
+                new EscalaRegrasService(),
+                // Só leitura: nenhum contador é criado, então não há inserção
+                new OcupacaoDiaService(RepositoriosEmMemoria.ocupacao(escalaId, folgas), null, folgaRepository,
+                        colaboradorRepository, evento -> { }),
+                new SimpleMeterRegistry()
+        );
+        calendarioMapper = Mappers.getMapper(CalendarioMapper.class);
+        calendario = calendarioService.gerarCalendario(escalaId);
+    }
+
+    @Benchmark
+    public CalendarioService.CalendarioDomain gerarCalendario() {
+        return calendarioService.gerarCalendario(escalaId);
+    }
+
+    @Benchmark
+    public CalendarioResponseDTO mapearResposta() {
+        return calendarioMapper.toResponse(calendario);
+    }
+}
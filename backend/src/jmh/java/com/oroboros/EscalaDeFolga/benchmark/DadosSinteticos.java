@@ -0,0 +1,84 @@
+package com.oroboros.EscalaDeFolga.benchmark;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Massa de dados dos benchmarks: um setor de julho/2030 (começa numa segunda-feira)
+ * com 8 folgas permitidas por colaborador.
+ */
+final class DadosSinteticos {
+
+    static final int MES = 7;
+    static final int ANO = 2030;
+    static final int FOLGAS_PERMITIDAS = 8;
+
+    private DadosSinteticos() {
+    }
+
+    static Escala escala() {
+        Setor setor = new Setor();
+        setor.setId(1L);
+        setor.setNome("UTI Adulto");
+
+        Escala escala = new Escala();
+        escala.setId(1L);
+        escala.setMes(MES);
+        escala.setAno(ANO);
+        escala.setFolgasPermitidas(FOLGAS_PERMITIDAS);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        return escala;
+    }
+
+    static List<Colaborador> colaboradores(Escala escala, int total) {
+        List<Colaborador> colaboradores = new ArrayList<>(total);
+        for (long id = 1; id <= total; id++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setId(id);
+            colaborador.setNome("COLABORADOR " + id);
+            colaborador.setCargo(id % 4 == 0 ? CargoEnum.ENFERMEIRO : CargoEnum.TECNICO);
+            colaborador.setTurno(escala.getTurno());
+            colaborador.setSetor(escala.getSetor());
+            colaborador.setUltimaFolga(LocalDate.of(ANO, MES, 1).minusDays(1 + id % 6));
+            colaboradores.add(colaborador);
+        }
+        return colaboradores;
+    }
+
+    /**
+     * Folgas a cada 4 dias a partir dos dias 1, 2 ou 3 (cobre todas as semanas e um domingo),
+     * limitadas à quantidade informada por colaborador
+     */
+    static List<Folga> folgas(Escala escala, List<Colaborador> colaboradores, int porColaborador) {
+        List<Folga> folgas = new ArrayList<>(colaboradores.size() * porColaborador);
+        long id = 1;
+        for (Colaborador colaborador : colaboradores) {
+            int inicio = 1 + (int) (colaborador.getId() % 3);
+            for (int k = 0; k < porColaborador; k++) {
+                folgas.add(folga(id++, escala, colaborador, LocalDate.of(ANO, MES, inicio + 4 * k),
+                        k % 2 == 0 ? StatusFolgaEnum.APROVADA : StatusFolgaEnum.PENDENTE));
+            }
+        }
+        return folgas;
+    }
+
+    static Folga folga(Long id, Escala escala, Colaborador colaborador, LocalDate data, StatusFolgaEnum status) {
+        Folga folga = new Folga();
+        folga.setId(id);
+        folga.setEscala(escala);
+        folga.setColaborador(colaborador);
+        folga.setDataSolicitada(data);
+        folga.setStatus(status);
+        return folga;
+    }
+}
@@ -0,0 +1,104 @@
+package com.oroboros.EscalaDeFolga.benchmark;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.domain.service.EscalaRegrasService;
+import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.domain.validation.folga.*;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo das regras de folga sem banco.
+ *
+ * <ul>
+ *   <li><b>compositeTodasAsRegras</b> — {@link FolgaValidatorComposite#validar(Folga)} com os
+ *   cinco validadores, usando o contexto agrupado sobre um repositório em memória.
+ *   As solicitações são válidas, então todas as regras são executadas.</li>
+ *   <li><b>distribuicaoSemanal</b> — apenas o agrupamento por semana do
+ *   {@link ValidaDistribuicaoSemanalDeFolgas} para a última folga permitida do mês,
+ *   caso em que também são calculadas as semanas descobertas.</li>
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FolgaValidacaoBenchmark {
+
+    private static final int TOTAL_COLABORADORES = 100;
+
+    private FolgaValidatorComposite composite;
+    private ValidaDistribuicaoSemanalDeFolgas distribuicaoSemanal;
+
+    // Quinta folga de cada colaborador (as quatro primeiras já existem)
+    private Folga[] solicitacoes;
+
+    // Oitava folga de um colaborador com sete folgas no mês
+    private Folga ultimaFolgaDoMes;
+    private List<Folga> folgasAnteriores;
+
+    private int proxima;
+
+    @Setup
+    public void preparar() {
+        Escala escala = DadosSinteticos.escala();
+        List<Colaborador> colaboradores = DadosSinteticos.colaboradores(escala, TOTAL_COLABORADORES);
+        FolgaRepository folgaRepository = RepositoriosEmMemoria.folgas(DadosSinteticos.folgas(escala, colaboradores, 4));
+        EscalaRegrasService regras = new EscalaRegrasService();
+
+        distribuicaoSemanal = new ValidaDistribuicaoSemanalDeFolgas(folgaRepository, regras);
+        composite = new FolgaValidatorComposite(List.of(
+                new ValidaDuplicidadeDeFolga(folgaRepository),
+                new ValidaLimiteDeFolgas(folgaRepository),
+                new ValidaDomingoObrigatorio(folgaRepository),
+                distribuicaoSemanal,
+                new ValidaLimiteDeDiasTrabalho(folgaRepository, regras)
+        ), folgaRepository, new SimpleMeterRegistry());
+
+        solicitacoes = colaboradores.stream()
+                .map(c -> DadosSinteticos.folga(null, escala, c,
+                        LocalDate.of(DadosSinteticos.ANO, DadosSinteticos.MES, 1 + (int) (c.getId() % 3) + 16),
+                        StatusFolgaEnum.PENDENTE))
+                .toArray(Folga[]::new);
+
+        Colaborador colaborador = colaboradores.get(0);
+        folgasAnteriores = DadosSinteticos.folgas(escala, List.of(colaborador), DadosSinteticos.FOLGAS_PERMITIDAS - 1);
+        ultimaFolgaDoMes = DadosSinteticos.folga(null, escala, colaborador,
+                folgasAnteriores.get(folgasAnteriores.size() - 1).getDataSolicitada().plusDays(4),
+                StatusFolgaEnum.PENDENTE);
+
+        verificar(composite.validar(solicitacoes[0]));
+        verificar(distribuicaoSemanal());
+    }
+
+    @Benchmark
+    public ResultadoValidacao compositeTodasAsRegras() {
+        Folga folga = solicitacoes[proxima];
+        proxima = (proxima + 1) % solicitacoes.length;
+        return composite.validar(folga);
+    }
+
+    @Benchmark
+    public ResultadoValidacao distribuicaoSemanal() {
+        return distribuicaoSemanal.validar(
+                ultimaFolgaDoMes,
+                ContextoValidacaoFolga.emMemoria(ultimaFolgaDoMes, folgasAnteriores, null)
+        );
+    }
+
+    private static void verificar(ResultadoValidacao resultado) {
+        if (!resultado.isValido()) {
+            throw new IllegalStateException("Massa de dados inválida: " + resultado.getMensagem());
+        }
+    }
+}
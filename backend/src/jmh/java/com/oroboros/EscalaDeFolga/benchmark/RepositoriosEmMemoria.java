@@ -0,0 +1,101 @@
+package com.oroboros.EscalaDeFolga.benchmark;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoDia;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.OcupacaoDiaRepository;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Repositórios em memória para os benchmarks.
+ *
+ * <p>Implementam, via {@link Proxy}, apenas as consultas usadas pelos trechos medidos,
+ * respondendo a partir de listas pré-carregadas; qualquer outro método lança
+ * {@link UnsupportedOperationException}. Assim o benchmark mede a lógica de domínio
+ * sem banco e sem o custo de registro de chamadas de um mock.</p>
+ */
+final class RepositoriosEmMemoria {
+
+    private RepositoriosEmMemoria() {
+    }
+
+    static FolgaRepository folgas(List<Folga> folgas) {
+        Map<Long, List<Folga>> porColaborador = folgas.stream()
+                .collect(Collectors.groupingBy(f -> f.getColaborador().getId()));
+
+        return proxy(FolgaRepository.class, (nome, args) -> switch (nome) {
+            case "findDoColaboradorNaEscalaOuNoMes" -> porColaborador.getOrDefault(((Colaborador) args[0]).getId(), List.of());
+            case "findByColaboradorAndEscalaAndStatusIn" -> ativas(porColaborador.getOrDefault(((Colaborador) args[0]).getId(), List.of()));
+            case "countByColaboradorAndEscalaAndStatusIn" -> (long) ativas(porColaborador.getOrDefault(((Colaborador) args[0]).getId(), List.of())).size();
+            case "existsByColaboradorAndDataSolicitada" -> porColaborador.getOrDefault(((Colaborador) args[0]).getId(), List.of()).stream()
+                    .anyMatch(f -> f.getDataSolicitada().equals(args[1]));
+            case "findUltimaFolgaAntesDe" -> ativas(porColaborador.getOrDefault(((Colaborador) args[0]).getId(), List.of())).stream()
+                    .map(Folga::getDataSolicitada)
+                    .filter(d -> d.isBefore((LocalDate) args[1]))
+                    .max(Comparator.naturalOrder());
+            case "findByEscalaAndStatusInComColaborador" -> ativas(folgas);
+            default -> throw new UnsupportedOperationException(nome);
+        });
+    }
+
+    static EscalaRepository escalas(Escala escala) {
+        return proxy(EscalaRepository.class, (nome, args) -> switch (nome) {
+            case "findById" -> Optional.of(escala);
+            default -> throw new UnsupportedOperationException(nome);
+        });
+    }
+
+    static ColaboradorRepository colaboradores(List<Colaborador> colaboradores) {
+        return proxy(ColaboradorRepository.class, (nome, args) -> switch (nome) {
+            case "findBySetorAndTurno" -> colaboradores;
+            default -> throw new UnsupportedOperationException(nome);
+        });
+    }
+
+    static OcupacaoDiaRepository ocupacao(Long escalaId, List<Folga> folgas) {
+        List<OcupacaoDia> contadores = ativas(folgas).stream()
+                .collect(Collectors.groupingBy(Folga::getDataSolicitada, TreeMap::new, Collectors.counting()))
+                .entrySet().stream()
+                .map(e -> OcupacaoDia.criar(escalaId, e.getKey(), e.getValue().intValue()))
+                .toList();
+
+        return proxy(OcupacaoDiaRepository.class, (nome, args) -> switch (nome) {
+            case "findByEscalaIdOrderByData" -> contadores;
+            default -> throw new UnsupportedOperationException(nome);
+        });
+    }
+
+    private static List<Folga> ativas(List<Folga> folgas) {
+        return folgas.stream()
+                .filter(f -> f.getStatus() == StatusFolgaEnum.PENDENTE || f.getStatus() == StatusFolgaEnum.APROVADA)
+                .toList();
+    }
+
+    @FunctionalInterface
+    private interface Consulta {
+        Object responder(String nome, Object[] args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> tipo, Consulta consulta) {
+        return (T) Proxy.newProxyInstance(
+                tipo.getClassLoader(),
+                new Class<?>[]{tipo},
+                (instancia, metodo, args) -> switch (metodo.getName()) {
+                    case "toString" -> tipo.getSimpleName() + "EmMemoria";
+                    case "hashCode" -> System.identityHashCode(instancia);
+                    case "equals" -> instancia == args[0];
+                    default -> consulta.responder(metodo.getName(), args);
+                }
+        );
+    }
+}
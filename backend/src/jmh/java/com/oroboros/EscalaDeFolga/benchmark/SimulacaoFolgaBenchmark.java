@@ -0,0 +1,91 @@
+package com.oroboros.EscalaDeFolga.benchmark;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.RetratoEscala;
+import com.oroboros.EscalaDeFolga.domain.service.EscalaRegrasService;
+import com.oroboros.EscalaDeFolga.domain.service.OcupacaoDiaService;
+import com.oroboros.EscalaDeFolga.domain.service.SimulacaoFolgaService;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaDesequilibrioTurno;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaDomingoFaltando;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaIntervaloMinimo;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaService;
+import com.oroboros.EscalaDeFolga.domain.validation.folga.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simulação do mês inteiro (31 datas) para um colaborador sobre o retrato da escala:
+ * regras, vagas do dia e geradores de alertas, sem banco. Cada colaborador já tem
+ * 4 folgas, então parte das datas é rejeitada e parte gera alertas.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimulacaoFolgaBenchmark {
+
+    @Param({"10", "100", "500"})
+    private int totalColaboradores;
+
+    private SimulacaoFolgaService simulacaoService;
+    private RetratoEscala retrato;
+    private long[] colaboradorIds;
+    private List<LocalDate> mes;
+
+    private int proximo;
+
+    @Setup
+    public void preparar() {
+        Escala escala = DadosSinteticos.escala();
+        List<Colaborador> colaboradores = DadosSinteticos.colaboradores(escala, totalColaboradores);
+        List<Folga> folgas = DadosSinteticos.folgas(escala, colaboradores, 4);
+        EscalaRegrasService regras = new EscalaRegrasService();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        // Nenhuma regra nem gerador consulta o banco na simulação
+        FolgaValidatorComposite validadores = new FolgaValidatorComposite(List.of(
+                new ValidaDuplicidadeDeFolga(null),
+                new ValidaLimiteDeFolgas(null),
+                new ValidaDomingoObrigatorio(null),
+                new ValidaDistribuicaoSemanalDeFolgas(null, regras),
+                new ValidaLimiteDeDiasTrabalho(null, regras)
+        ), null, meterRegistry);
+        AlertaService alertaService = new AlertaService(List.of(
+                new AlertaDesequilibrioTurno(null, null),
+                new AlertaDomingoFaltando(null),
+                new AlertaIntervaloMinimo(null)
+        ), null, null, evento -> { }, meterRegistry);
+        simulacaoService = new SimulacaoFolgaService(
+                validadores, alertaService, null, null, null, null, null, meterRegistry);
+
+        retrato = RetratoEscala.de(0, escala, colaboradores, folgas, Map.of(),
+                OcupacaoDiaService.limitePara(colaboradores.size()));
+        colaboradorIds = colaboradores.stream().mapToLong(Colaborador::getId).toArray();
+
+        YearMonth yearMonth = YearMonth.of(DadosSinteticos.ANO, DadosSinteticos.MES);
+        mes = yearMonth.atDay(1).datesUntil(yearMonth.atEndOfMonth().plusDays(1)).toList();
+
+        SimulacaoFolgaService.SimulacaoDomain simulacao = simularMes();
+        if (simulacao.resultados().stream().noneMatch(SimulacaoFolgaService.ResultadoDataDomain::permitida)) {
+            throw new IllegalStateException("Massa de dados inválida: nenhuma data permitida");
+        }
+    }
+
+    @Benchmark
+    public SimulacaoFolgaService.SimulacaoDomain simularMes() {
+        long colaboradorId = colaboradorIds[proximo];
+        proximo = (proximo + 1) % colaboradorIds.length;
+        return simulacaoService.avaliar(retrato, colaboradorId, mes);
+    }
+}
@@ -0,0 +1,59 @@
+package com.oroboros.EscalaDeFolga.benchmark;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.SnapshotColaborador;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.util.TextoNormalizerUtil;
+import com.oroboros.EscalaDeFolga.util.AuditoriaJsonUtil;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Utilitários chamados a cada cadastro: normalização de nomes (duplicidade de
+ * colaborador/setor) e snapshots do colaborador para a auditoria.
+ *
+ * <p>O colaborador tem um histórico de folgas carregado: o snapshot não deve
+ * ficar mais caro por isso.</p>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UtilBenchmark {
+
+    private String nome;
+    private Colaborador colaborador;
+    private SnapshotColaborador antes;
+
+    @Setup
+    public void preparar() {
+        nome = "  Maria   da Conceição   Ângela  Júnior ";
+
+        Escala escala = DadosSinteticos.escala();
+        colaborador = DadosSinteticos.colaboradores(escala, 1).get(0);
+        colaborador.setNome(nome);
+        colaborador.setFolgas(DadosSinteticos.folgas(escala, List.of(colaborador), 8));
+        antes = SnapshotColaborador.de(colaborador);
+        colaborador.setCargo(CargoEnum.ENFERMEIRO);
+    }
+
+    @Benchmark
+    public String normalizarNome() {
+        return TextoNormalizerUtil.normalizar(nome);
+    }
+
+    @Benchmark
+    public String snapshotColaborador() {
+        return AuditoriaJsonUtil.snapshot(SnapshotColaborador.de(colaborador));
+    }
+
+    @Benchmark
+    public AuditoriaJsonUtil.Diferenca diferencaColaborador() {
+        return AuditoriaJsonUtil.diferenca(antes, SnapshotColaborador.de(colaborador));
+    }
+}
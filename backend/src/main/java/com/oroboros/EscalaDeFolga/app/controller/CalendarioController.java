@@ -2,18 +2,27 @@ package com.oroboros.EscalaDeFolga.app.controller;
 
 import com.oroboros.EscalaDeFolga.app.dto.alerta.AvisoHistoricoResponseDTO;
 import com.oroboros.EscalaDeFolga.app.dto.alerta.ColaboradorSemHistoricoDTO;
+import com.oroboros.EscalaDeFolga.app.dto.calendario.CalendarioDeltaResponseDTO;
 import com.oroboros.EscalaDeFolga.app.dto.calendario.CalendarioResponseDTO;
 import com.oroboros.EscalaDeFolga.app.mapper.CalendarioMapper;
+import com.oroboros.EscalaDeFolga.domain.service.CalendarioCacheService;
+import com.oroboros.EscalaDeFolga.domain.service.CalendarioDeltaService;
+import com.oroboros.EscalaDeFolga.domain.service.CalendarioEventosService;
 import com.oroboros.EscalaDeFolga.domain.service.CalendarioService;
+import com.oroboros.EscalaDeFolga.domain.service.EscalaVersaoService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
- * Controller de Calendário - usa CalendarioMapper
+ * Controller de Calendário - o calendário vem do cache por escala
  */
 
 @Slf4j
@@ -23,23 +32,56 @@ import java.util.List;
 public class CalendarioController {
 
     private final CalendarioService calendarioService;
+    private final CalendarioCacheService calendarioCacheService;
+    private final EscalaVersaoService escalaVersaoService;
+    private final CalendarioDeltaService calendarioDeltaService;
+    private final CalendarioEventosService calendarioEventosService;
     private final CalendarioMapper calendarioMapper;
 
     /**
      * GET /api/escala/{id}/calendario
-     * Retorna calendário visual do mês
+     * Retorna calendário visual do mês (gerado novamente só quando a escala muda).
+     * Com If-None-Match igual ao ETag atual responde 304 sem montar o calendário.
      */
     @GetMapping("/{id}/calendario")
-    public ResponseEntity<CalendarioResponseDTO> obterCalendario(@PathVariable Long id) {
+    public ResponseEntity<CalendarioResponseDTO> obterCalendario(@PathVariable Long id, WebRequest request) {
 
-        // ✅ Service retorna Domain
-        CalendarioService.CalendarioDomain calendarioDomain =
-                calendarioService.gerarCalendario(id);
+        long versao = escalaVersaoService.buscarVersao(id);
+        if (request.checkNotModified(etagCalendario(versao))) {
+            return null; // 304 Not Modified
+        }
 
-        // ✅ Mapper faz a conversão Domain → DTO
-        CalendarioResponseDTO response = calendarioMapper.toResponse(calendarioDomain);
+        CalendarioCacheService.CalendarioVersionadoDomain calendario =
+                calendarioCacheService.obterCalendario(id, versao);
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(etagCalendario(calendario.versao()))
+                .body(calendario.calendario());
+    }
+
+    /**
+     * GET /api/escala/{id}/calendario/delta?desde={versao}
+     * Retorna apenas os dias e colaboradores alterados desde a versão informada,
+     * com o resumo atual. Com desde=0 (ou versão fora do histórico) traz o mês inteiro.
+     */
+    @GetMapping("/{id}/calendario/delta")
+    public ResponseEntity<CalendarioDeltaResponseDTO> obterCalendarioDelta(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "0") long desde
+    ) {
+        CalendarioDeltaService.CalendarioDeltaDomain delta = calendarioDeltaService.gerarDelta(id, desde);
+
+        return ResponseEntity.ok(calendarioMapper.toDeltaResponse(delta));
+    }
+
+    /**
+     * GET /api/escala/{id}/calendario/eventos
+     * Stream SSE com as alterações da escala confirmadas no banco (folgas, status dos
+     * dias e novos alertas). Uma lacuna nos ids indica eventos descartados: buscar o delta.
+     */
+    @GetMapping(value = "/{id}/calendario/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter assinarEventos(@PathVariable Long id) {
+        return calendarioEventosService.assinar(id);
     }
 
     /**
@@ -77,4 +119,11 @@ public class CalendarioController {
 
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * Versão da escala + data atual (os dias desde a última folga mudam com a data)
+     */
+    private String etagCalendario(long versao) {
+        return versao + "-" + LocalDate.now();
+    }
 }
\ No newline at end of file
@@ -1,29 +1,50 @@
 package com.oroboros.EscalaDeFolga.app.controller;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.oroboros.EscalaDeFolga.app.dto.colaborador.*;
+import com.oroboros.EscalaDeFolga.domain.exception.ConflitoVersaoException;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
+import com.oroboros.EscalaDeFolga.domain.service.AuditoriaColaboradorService;
+import com.oroboros.EscalaDeFolga.domain.service.AuditoriaColaboradorService.FiltroHistorico;
 import com.oroboros.EscalaDeFolga.domain.service.ColaboradorService;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import jakarta.validation.Valid;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import lombok.extern.slf4j.Slf4j;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+
 @Slf4j
 @RestController
 @RequestMapping("api/colaborador")
 @SecurityRequirement(name = "bearer-key")
 public class ColaboradorController {
 
+    private static final MediaType NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
     @Autowired
     private ColaboradorService colaboradorService;
 
+    @Autowired
+    private AuditoriaColaboradorService auditoriaService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
     @PostMapping
     public ResponseEntity<ColaboradorResponseDTO> cadastrar(@RequestBody @Valid ColaboradorRequestDTO colaborador) throws JsonProcessingException {
 
@@ -69,6 +90,10 @@ public class ColaboradorController {
     }
 
 
+    /**
+     * PUT /api/colaborador/{id}
+     * 409 com o colaborador atual se ele mudou desde a leitura
+     */
     @PutMapping("{id}")
     public ResponseEntity<ColaboradorResponseDTO> atualizar(@PathVariable Long id, @RequestBody ColaboradorUpdateDTO colaboradorUpdateDTO) {
 
@@ -81,8 +106,12 @@ public class ColaboradorController {
                 null         // userAgent
         );
 
-        ColaboradorResponseDTO colaboradorResponseDTO = colaboradorService.atualizar(id, auditor, colaboradorUpdateDTO);
-        return ResponseEntity.ok().body(colaboradorResponseDTO);
+        try {
+            ColaboradorResponseDTO colaboradorResponseDTO = colaboradorService.atualizar(id, auditor, colaboradorUpdateDTO);
+            return ResponseEntity.ok().body(colaboradorResponseDTO);
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflitoVersaoException("Colaborador", id, colaboradorService.buscarPorId(id));
+        }
     }
 
     /**
@@ -94,19 +123,64 @@ public class ColaboradorController {
             @PathVariable Long id,
             @RequestBody @Valid UltimaFolgaUpdateDTO dto
     ) {
-        ColaboradorResponseDTO response = colaboradorService.atualizarUltimaFolga(id, dto.ultimaFolga());
-        return ResponseEntity.ok(response);
+        try {
+            ColaboradorResponseDTO response = colaboradorService.atualizarUltimaFolga(id, dto.ultimaFolga());
+            return ResponseEntity.ok(response);
+        } catch (OptimisticLockingFailureException e) {
+            // Tentativas do servidor esgotadas
+            throw new ConflitoVersaoException("Colaborador", id, colaboradorService.buscarPorId(id));
+        }
     }
 
-}
-
-
-
-
-
-
-
-
-
+    /**
+     * GET /api/colaborador/{id}/auditoria?acao=&inicio=&fim=&cursor=&tamanho=
+     * Histórico de auditoria do mais recente para o mais antigo, paginado por cursor:
+     * a próxima página é pedida com o {@code proximoCursor} da resposta
+     */
+    @GetMapping("{id}/auditoria")
+    public ResponseEntity<AuditoriaHistoricoResponseDTO> historicoAuditoria(
+            @PathVariable Long id,
+            @RequestParam(required = false) AcaoAuditoriaEnum acao,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "" + AuditoriaColaboradorService.TAMANHO_PADRAO) int tamanho
+    ) {
+        FiltroHistorico filtro = new FiltroHistorico(acao, inicio, fim);
+        return ResponseEntity.ok(auditoriaService.historico(id, filtro, cursor, tamanho));
+    }
 
+    /**
+     * GET /api/colaborador/{id}/auditoria/exportar?acao=&inicio=&fim=
+     * Histórico filtrado completo em NDJSON (um registro por linha), enviado página a página
+     */
+    @GetMapping(value = "{id}/auditoria/exportar", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportarAuditoria(
+            @PathVariable Long id,
+            @RequestParam(required = false) AcaoAuditoriaEnum acao,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime inicio,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime fim
+    ) {
+        // Antes de abrir a resposta, para o colaborador inexistente ainda virar 400
+        auditoriaService.validarColaborador(id);
+        FiltroHistorico filtro = new FiltroHistorico(acao, inicio, fim);
+
+        StreamingResponseBody corpo = saida -> auditoriaService.exportar(id, filtro, pagina -> {
+            try {
+                for (AuditoriaColaboradorDTO auditoria : pagina) {
+                    saida.write(objectMapper.writeValueAsBytes(auditoria));
+                    saida.write('\n');
+                }
+                saida.flush();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        return ResponseEntity.ok()
+                .contentType(NDJSON)
+                .header("Content-Disposition", "attachment; filename=\"auditoria-colaborador-" + id + ".ndjson\"")
+                .body(corpo);
+    }
 
+}
@@ -1,17 +1,29 @@
 package com.oroboros.EscalaDeFolga.app.controller;
 
 
+import com.oroboros.EscalaDeFolga.app.dto.alerta.AlertaDTO;
 import com.oroboros.EscalaDeFolga.app.dto.escala.EscalaRequestDTO;
 import com.oroboros.EscalaDeFolga.app.dto.escala.EscalaResponseDTO;
 import com.oroboros.EscalaDeFolga.app.dto.escala.EscalaUpdateDTO;
+import com.oroboros.EscalaDeFolga.app.dto.escala.GeracaoEscalaResponseDTO;
+import com.oroboros.EscalaDeFolga.app.dto.escala.PendenciaGeracaoDTO;
+import com.oroboros.EscalaDeFolga.app.mapper.AlertaMapper;
 import com.oroboros.EscalaDeFolga.app.mapper.EscalaMapper;
+import com.oroboros.EscalaDeFolga.domain.exception.ConflitoVersaoException;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.service.EscalaService;
+import com.oroboros.EscalaDeFolga.domain.service.EscalaVersaoService;
+import com.oroboros.EscalaDeFolga.domain.service.GeradorEscalaService;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
 
 @RestController
 @RequestMapping("api/escala")
@@ -20,6 +32,10 @@ public class EscalaController {
 
     private final EscalaService escalaService;
     private final EscalaMapper escalaMapper;
+    private final GeradorEscalaService geradorEscalaService;
+    private final EscalaVersaoService escalaVersaoService;
+    private final AlertaService alertaService;
+    private final AlertaMapper alertaMapper;
 
     @PostMapping
     public ResponseEntity<EscalaResponseDTO> criarEscala(@Valid @RequestBody EscalaRequestDTO request) {
@@ -38,12 +54,68 @@ public class EscalaController {
         return ResponseEntity.ok(escalaMapper.toResponse(escala));
     }
 
+    /**
+     * PUT /api/escala/{id}
+     * 409 com a escala atual se ela mudou desde a leitura
+     */
     @PutMapping("{id}")
     public ResponseEntity<EscalaResponseDTO> atualizarEscala(@PathVariable Long id,
                                                              @RequestBody EscalaUpdateDTO dto){
 
-        return ResponseEntity.ok(escalaMapper.toResponse(escalaService.atualizarEscala(id, dto)));
+        try {
+            return ResponseEntity.ok(escalaMapper.toResponse(escalaService.atualizarEscala(id, dto)));
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflitoVersaoException("Escala", id, escalaMapper.toResponse(escalaService.buscarPorId(id)));
+        }
+
+    }
+
+    /**
+     * POST /api/escala/{id}/gerar-folgas
+     * Gera automaticamente as folgas do mês para o setor/turno da escala
+     */
+    @PostMapping("/{id}/gerar-folgas")
+    public ResponseEntity<GeracaoEscalaResponseDTO> gerarFolgas(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean regerar
+    ) {
+        GeradorEscalaService.GeracaoEscalaDomain geracao = geradorEscalaService.gerar(id, regerar);
+
+        GeracaoEscalaResponseDTO response = new GeracaoEscalaResponseDTO(
+                geracao.escala().getId(),
+                geracao.totalColaboradores(),
+                geracao.colaboradoresAtendidos(),
+                geracao.totalFolgasCriadas(),
+                geracao.tempoPlanejamentoMs(),
+                geracao.pendencias().stream()
+                        .map(p -> new PendenciaGeracaoDTO(
+                                p.colaborador() != null ? p.colaborador().getId() : null,
+                                p.colaborador() != null ? p.colaborador().getNome() : null,
+                                p.motivo()
+                        ))
+                        .toList()
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GET /api/escala/{id}/alertas
+     * Alertas não resolvidos da escala, com ETag pela versão da escala
+     */
+    @GetMapping("/{id}/alertas")
+    public ResponseEntity<List<AlertaDTO>> listarAlertas(@PathVariable Long id, WebRequest request) {
+
+        String etag = String.valueOf(escalaVersaoService.buscarVersao(id));
+        if (request.checkNotModified(etag)) {
+            return null; // 304 Not Modified
+        }
+
+        List<AlertaDTO> alertas = alertaService.obterAlertasEscala(id).stream()
+                .map(alertaMapper::toDTO)
+                .toList();
 
+        return ResponseEntity.ok().eTag(etag).body(alertas);
     }
 
     @DeleteMapping("{id}")
@@ -4,15 +4,21 @@ import com.oroboros.EscalaDeFolga.app.dto.folga.*;
 import com.oroboros.EscalaDeFolga.app.dto.alerta.AlertaDTO;
 import com.oroboros.EscalaDeFolga.app.mapper.FolgaMapper;
 import com.oroboros.EscalaDeFolga.app.mapper.AlertaMapper;
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.exception.ConflitoVersaoException;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
+import com.oroboros.EscalaDeFolga.domain.service.FolgaLoteService;
 import com.oroboros.EscalaDeFolga.domain.service.FolgaService;
+import com.oroboros.EscalaDeFolga.domain.service.SimulacaoFolgaService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +31,8 @@ import java.util.stream.Collectors;
 public class FolgaController {
 
     private final FolgaService folgaService;
+    private final FolgaLoteService folgaLoteService;
+    private final SimulacaoFolgaService simulacaoFolgaService;
     private final FolgaMapper folgaMapper;
     private final AlertaMapper alertaMapper;
 
@@ -77,12 +85,99 @@ public class FolgaController {
                 baseResponse.justificativa(),
                 baseResponse.dataCriacao(),
                 alertasDTO,
-                proximasFolgasDTO
+                proximasFolgasDTO,
+                baseResponse.versao()
         );
 
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * POST /api/folga/lote
+     * Cria várias folgas de uma escala de uma vez (lançamento do mês inteiro do setor)
+     */
+    @PostMapping("/lote")
+    public ResponseEntity<FolgaLoteResponseDTO> criarEmLote(
+            @Valid @RequestBody FolgaLoteRequestDTO request
+    ) {
+        // ✅ Manual: DTO → Domain
+        List<FolgaLoteService.SolicitacaoLoteDomain> solicitacoes = request.folgas().stream()
+                .map(item -> new FolgaLoteService.SolicitacaoLoteDomain(
+                        item.escalaId(),
+                        item.colaboradorId(),
+                        item.dataSolicitada(),
+                        item.justificativa()
+                ))
+                .collect(Collectors.toList());
+
+        // ✅ Service: valida em conjunto e grava em batch
+        List<FolgaLoteService.ResultadoItemLoteDomain> resultados =
+                folgaLoteService.criarEmLote(request.escalaId(), solicitacoes);
+
+        // ✅ Manual: Domain → DTO
+        List<FolgaLoteItemResponseDTO> itens = resultados.stream()
+                .map(r -> new FolgaLoteItemResponseDTO(
+                        r.indice(),
+                        r.colaboradorId(),
+                        r.dataSolicitada(),
+                        r.criada(),
+                        r.criada() ? r.folga().getId() : null,
+                        r.mensagem()
+                ))
+                .collect(Collectors.toList());
+
+        int totalCriadas = (int) itens.stream().filter(FolgaLoteItemResponseDTO::criada).count();
+
+        FolgaLoteResponseDTO response = new FolgaLoteResponseDTO(
+                request.escalaId(),
+                itens.size(),
+                totalCriadas,
+                itens.size() - totalCriadas,
+                itens
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * POST /api/folga/simular
+     * Avalia uma ou várias datas para o colaborador (regras, vagas do dia e alertas)
+     * sem criar nada; usado para colorir os dias do mês antes de pedir a folga
+     */
+    @PostMapping("/simular")
+    public ResponseEntity<FolgaSimulacaoResponseDTO> simular(
+            @Valid @RequestBody FolgaSimulacaoRequestDTO request
+    ) {
+        List<LocalDate> datas = request.datasSimuladas();
+        if (datas.isEmpty()) {
+            throw new BusinessException("Informe dataSolicitada ou datas para simular");
+        }
+
+        // ✅ Service: avalia sobre o retrato da escala em memória
+        SimulacaoFolgaService.SimulacaoDomain simulacao =
+                simulacaoFolgaService.simular(request.escalaId(), request.colaboradorId(), datas);
+
+        // ✅ Manual: Domain → DTO
+        List<FolgaSimulacaoItemResponseDTO> resultados = simulacao.resultados().stream()
+                .map(r -> new FolgaSimulacaoItemResponseDTO(
+                        r.data(),
+                        r.permitida(),
+                        r.mensagem(),
+                        r.alertas().stream().map(alertaMapper::toDTO).collect(Collectors.toList())
+                ))
+                .collect(Collectors.toList());
+
+        FolgaSimulacaoResponseDTO response = new FolgaSimulacaoResponseDTO(
+                simulacao.escalaId(),
+                simulacao.colaboradorId(),
+                simulacao.versao(),
+                (int) resultados.stream().filter(FolgaSimulacaoItemResponseDTO::permitida).count(),
+                resultados
+        );
+
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * GET /api/folga/{id}
      * Busca folga por ID
@@ -94,20 +189,38 @@ public class FolgaController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * GET /api/folga/{id}/alertas
+     * Alertas gerados para a folga (usado quando os alertas são assíncronos)
+     */
+    @GetMapping("/{id}/alertas")
+    public ResponseEntity<List<AlertaDTO>> buscarAlertas(@PathVariable Long id) {
+        List<AlertaDTO> alertas = folgaService.buscarAlertas(id).stream()
+                .map(alertaMapper::toDTO)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(alertas);
+    }
+
     /**
      * PUT /api/folga/{id}
-     * Atualiza folga pendente
+     * Atualiza folga pendente; 409 com a folga atual se ela mudou desde a leitura
      */
     @PutMapping("/{id}")
     public ResponseEntity<FolgaResponseDTO> atualizar(
             @PathVariable Long id,
             @Valid @RequestBody FolgaUpdateDTO request
     ) {
-        Folga atualizada = folgaService.atualizar(
-                id,
-                request.dataSolicitada(),
-                request.justificativa()
-        );
+        Folga atualizada;
+        try {
+            atualizada = folgaService.atualizar(
+                    id,
+                    request.dataSolicitada(),
+                    request.justificativa(),
+                    request.versao()
+            );
+        } catch (OptimisticLockingFailureException e) {
+            throw new ConflitoVersaoException("Folga", id, folgaMapper.toResponse(folgaService.buscarPorId(id)));
+        }
 
         FolgaResponseDTO response = folgaMapper.toResponse(atualizada);
         return ResponseEntity.ok(response);
@@ -0,0 +1,17 @@
+package com.oroboros.EscalaDeFolga.app.dto.calendario;
+
+import java.util.List;
+
+/**
+ * Response do calendário em delta: só os dias e colaboradores alterados desde
+ * a versão informada, mais o resumo atual. Com {@code completo}, traz o mês inteiro.
+ */
+public record CalendarioDeltaResponseDTO(
+        Long escalaId,
+        long versao,
+        long desde,
+        boolean completo,
+        List<CalendarioDiaDTO> dias,
+        List<ColaboradorCalendarioDTO> colaboradores,
+        ResumoCalendarioDTO resumo
+) {}
@@ -0,0 +1,34 @@
+package com.oroboros.EscalaDeFolga.app.dto.calendario;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.time.LocalDate;
+
+/**
+ * Evento enviado pelo stream SSE do calendário. Apenas os campos do tipo do evento
+ * são preenchidos:
+ * <ul>
+ *   <li>FOLGA_CRIADA / FOLGA_ATUALIZADA / FOLGA_EXCLUIDA: folga, colaborador, data(s) e status</li>
+ *   <li>DIA_ALTERADO: data, status do dia e ocupação</li>
+ *   <li>ALERTA_CRIADO: alerta, colaborador, folga, tipo, severidade e mensagem</li>
+ *   <li>CALENDARIO_ALTERADO: o mês inteiro pode ter mudado (buscar o delta)</li>
+ *   <li>CONECTADO: primeira mensagem, com a versão atual</li>
+ * </ul>
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record CalendarioEventoDTO(
+        String tipo,
+        Long escalaId,
+        Long versao,
+        Long folgaId,
+        Long colaboradorId,
+        LocalDate data,
+        LocalDate dataAnterior,
+        String status,
+        Integer totalFolgasNoDia,
+        Integer limiteMaximoFolgas,
+        Long alertaId,
+        String tipoAlerta,
+        String severidade,
+        String mensagem
+) {}
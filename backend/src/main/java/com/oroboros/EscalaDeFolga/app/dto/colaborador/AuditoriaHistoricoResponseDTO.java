@@ -0,0 +1,12 @@
+package com.oroboros.EscalaDeFolga.app.dto.colaborador;
+
+import java.util.List;
+
+/**
+ * Página do histórico de auditoria de um colaborador. {@code proximoCursor} é
+ * nulo na última página.
+ */
+public record AuditoriaHistoricoResponseDTO(
+        List<AuditoriaColaboradorDTO> itens,
+        String proximoCursor
+) {}
@@ -3,7 +3,7 @@ package com.oroboros.EscalaDeFolga.app.dto.colaborador;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
 
-public record ColaboradorResponseDTO(long id, String nome, CargoEnum cargo, TurnoEnum turno, Long setorId) {
+public record ColaboradorResponseDTO(long id, String nome, CargoEnum cargo, TurnoEnum turno, Long setorId, Long versao) {
 
 
 }
@@ -4,5 +4,9 @@ import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
 
-public record ColaboradorUpdateDTO(String nome, CargoEnum cargo, TurnoEnum turno, Long setorId) {
+/**
+ * Campos nulos não são alterados. Com {@code versao}, a atualização é recusada
+ * com 409 se o colaborador mudou desde a leitura.
+ */
+public record ColaboradorUpdateDTO(String nome, CargoEnum cargo, TurnoEnum turno, Long setorId, Long versao) {
 }
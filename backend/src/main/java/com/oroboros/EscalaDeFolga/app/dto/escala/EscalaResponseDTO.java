@@ -9,5 +9,6 @@ public record EscalaResponseDTO(
         Integer folgasPermitidas,
         TurnoEnum turno,
         Long setorId,
-        String setorNome
+        String setorNome,
+        Long versao
 ) {}
@@ -1,8 +1,12 @@
 package com.oroboros.EscalaDeFolga.app.dto.escala;
 
-
+/**
+ * Campos nulos não são alterados. Com {@code versao}, a atualização é recusada
+ * com 409 se a escala mudou desde a leitura.
+ */
 public record EscalaUpdateDTO( Integer mes,
                                Integer ano,
                                Integer folgasPermitidas,
-                               Long setorId
+                               Long setorId,
+                               Long versao
 ) {}
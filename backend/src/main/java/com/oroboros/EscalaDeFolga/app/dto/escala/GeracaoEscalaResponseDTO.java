@@ -0,0 +1,15 @@
+package com.oroboros.EscalaDeFolga.app.dto.escala;
+
+import java.util.List;
+
+/**
+ * Resultado da geração automática das folgas do mês
+ */
+public record GeracaoEscalaResponseDTO(
+        Long escalaId,
+        int totalColaboradores,
+        int colaboradoresAtendidos,
+        int totalFolgasCriadas,
+        long tempoPlanejamentoMs,
+        List<PendenciaGeracaoDTO> pendencias
+) {}
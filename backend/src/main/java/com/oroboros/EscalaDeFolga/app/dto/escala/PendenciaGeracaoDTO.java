@@ -0,0 +1,10 @@
+package com.oroboros.EscalaDeFolga.app.dto.escala;
+
+/**
+ * Colaborador que não recebeu folgas na geração automática, com o motivo
+ */
+public record PendenciaGeracaoDTO(
+        Long colaboradorId,
+        String colaboradorNome,
+        String motivo
+) {}
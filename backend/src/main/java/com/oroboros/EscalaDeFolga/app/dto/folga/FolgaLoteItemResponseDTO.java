@@ -0,0 +1,15 @@
+package com.oroboros.EscalaDeFolga.app.dto.folga;
+
+import java.time.LocalDate;
+
+/**
+ * Resultado de um item do lote (na mesma posição em que foi enviado)
+ */
+public record FolgaLoteItemResponseDTO(
+        int indice,
+        Long colaboradorId,
+        LocalDate dataSolicitada,
+        boolean criada,
+        Long folgaId,
+        String mensagem
+) {}
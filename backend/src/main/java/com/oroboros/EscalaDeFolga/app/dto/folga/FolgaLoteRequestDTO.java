@@ -0,0 +1,20 @@
+package com.oroboros.EscalaDeFolga.app.dto.folga;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+/**
+ * Request para criar várias folgas de uma mesma escala de uma só vez
+ */
+public record FolgaLoteRequestDTO(
+
+        @NotNull(message = "Escala é obrigatória")
+        Long escalaId,
+
+        @NotEmpty(message = "Informe ao menos uma folga")
+        @Size(max = 5000, message = "O lote pode ter no máximo 5000 folgas")
+        List<FolgaRequestDTO> folgas
+) {}
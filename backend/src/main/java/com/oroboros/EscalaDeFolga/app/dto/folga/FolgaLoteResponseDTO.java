@@ -0,0 +1,14 @@
+package com.oroboros.EscalaDeFolga.app.dto.folga;
+
+import java.util.List;
+
+/**
+ * Response da criação de folgas em lote
+ */
+public record FolgaLoteResponseDTO(
+        Long escalaId,
+        int totalRecebidas,
+        int totalCriadas,
+        int totalRejeitadas,
+        List<FolgaLoteItemResponseDTO> itens
+) {}
@@ -18,5 +18,6 @@ public record FolgaResponseDTO(
         String justificativa,
         LocalDate dataCriacao,
         List<AlertaDTO> alertas,
-        ProximasFolgasDTO proximasFolgas
+        ProximasFolgasDTO proximasFolgas,
+        Long versao
 ) {}
@@ -0,0 +1,16 @@
+package com.oroboros.EscalaDeFolga.app.dto.folga;
+
+import com.oroboros.EscalaDeFolga.app.dto.alerta.AlertaDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Veredito de uma data simulada e os alertas que a folga geraria (só se permitida)
+ */
+public record FolgaSimulacaoItemResponseDTO(
+        LocalDate data,
+        boolean permitida,
+        String mensagem,
+        List<AlertaDTO> alertas
+) {}
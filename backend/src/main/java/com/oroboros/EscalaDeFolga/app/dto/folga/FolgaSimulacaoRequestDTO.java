@@ -0,0 +1,41 @@
+package com.oroboros.EscalaDeFolga.app.dto.folga;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Request da simulação de folgas: uma data ({@code dataSolicitada}), várias
+ * ({@code datas}) ou ambas, para o mesmo colaborador e escala
+ */
+public record FolgaSimulacaoRequestDTO(
+
+        @NotNull(message = "Escala é obrigatória")
+        Long escalaId,
+
+        @NotNull(message = "Colaborador é obrigatório")
+        Long colaboradorId,
+
+        LocalDate dataSolicitada,
+
+        @Size(max = 31, message = "A simulação pode ter no máximo 31 datas")
+        List<@NotNull(message = "Data é obrigatória") LocalDate> datas
+) {
+
+    /**
+     * {@code dataSolicitada} seguida de {@code datas}, na ordem recebida
+     */
+    public List<LocalDate> datasSimuladas() {
+        List<LocalDate> todas = new ArrayList<>();
+        if (dataSolicitada != null) {
+            todas.add(dataSolicitada);
+        }
+        if (datas != null) {
+            todas.addAll(datas);
+        }
+        return todas;
+    }
+}
@@ -0,0 +1,15 @@
+package com.oroboros.EscalaDeFolga.app.dto.folga;
+
+import java.util.List;
+
+/**
+ * Response da simulação de folgas. {@code versao} é a versão do calendário da
+ * escala usada na avaliação (a mesma do ETag do calendário).
+ */
+public record FolgaSimulacaoResponseDTO(
+        Long escalaId,
+        Long colaboradorId,
+        long versao,
+        int totalPermitidas,
+        List<FolgaSimulacaoItemResponseDTO> resultados
+) {}
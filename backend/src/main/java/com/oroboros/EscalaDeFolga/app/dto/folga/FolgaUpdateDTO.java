@@ -3,9 +3,11 @@ package com.oroboros.EscalaDeFolga.app.dto.folga;
 import java.time.LocalDate;
 
 /**
- * Request para atualizar folga pendente
+ * Request para atualizar folga pendente. Com {@code versao} (a recebida na
+ * leitura), a atualização é recusada com 409 se a folga mudou nesse meio-tempo.
  */
 public record FolgaUpdateDTO(
         LocalDate dataSolicitada,
-        String justificativa
+        String justificativa,
+        Long versao
 ) {}
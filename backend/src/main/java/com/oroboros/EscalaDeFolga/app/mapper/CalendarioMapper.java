@@ -1,6 +1,7 @@
 package com.oroboros.EscalaDeFolga.app.mapper;
 
 import com.oroboros.EscalaDeFolga.app.dto.calendario.*;
+import com.oroboros.EscalaDeFolga.domain.service.CalendarioDeltaService;
 import com.oroboros.EscalaDeFolga.domain.service.CalendarioService;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -34,6 +35,15 @@ public interface CalendarioMapper {
     @Mapping(target = "configuracao", source = "configuracao")
     CalendarioResponseDTO toResponse(CalendarioService.CalendarioDomain domain);
 
+    /**
+     * Mapeia o calendário em delta (apenas os itens alterados)
+     */
+    @Mapping(target = "escalaId", source = "parcial.escala.id")
+    @Mapping(target = "dias", source = "parcial.dias")
+    @Mapping(target = "colaboradores", source = "parcial.colaboradores")
+    @Mapping(target = "resumo", source = "parcial.resumo")
+    CalendarioDeltaResponseDTO toDeltaResponse(CalendarioDeltaService.CalendarioDeltaDomain delta);
+
     /**
      * Mapeia DiaDomain para DTO
      */
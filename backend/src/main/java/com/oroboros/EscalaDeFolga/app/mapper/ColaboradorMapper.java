@@ -12,6 +12,7 @@ import org.mapstruct.Named;
 public interface ColaboradorMapper {
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "versao", ignore = true)
     @Mapping(target = "setor", source = "setorId", qualifiedByName = "mapSetorFromId")
     Colaborador toEntity(ColaboradorRequestDTO dto);
 
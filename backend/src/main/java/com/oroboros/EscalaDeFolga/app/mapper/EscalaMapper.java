@@ -28,6 +28,8 @@ public interface EscalaMapper {
      *   <li><b>status:</b> Valor padrão NOVA definido na entidade</li>
      *   <li><b>registros:</b> Coleção de relacionamento</li>
      *   <li><b>folgas:</b> Coleção de relacionamento</li>
+     *   <li><b>versao:</b> Controle otimista do Hibernate</li>
+     *   <li><b>versaoCalendario:</b> Incrementada a cada alteração do calendário</li>
      * </ul>
      *
      * @param dto dados da requisição
@@ -37,6 +39,8 @@ public interface EscalaMapper {
     @Mapping(target = "status", ignore = true)
     @Mapping(target = "registros", ignore = true)
     @Mapping(target = "folgas", ignore = true)
+    @Mapping(target = "versao", ignore = true)
+    @Mapping(target = "versaoCalendario", ignore = true)
     @Mapping(target = "setor", source = "setorId", qualifiedByName = "mapSetorFromId")
     Escala toEntity(EscalaRequestDTO dto);
 
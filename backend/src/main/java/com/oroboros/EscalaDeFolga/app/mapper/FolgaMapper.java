@@ -34,6 +34,7 @@ public abstract class FolgaMapper {
      */
     @Mapping(target = "id", ignore = true)
     @Mapping(target = "status", ignore = true)
+    @Mapping(target = "versao", ignore = true)
     @Mapping(target = "escala", source = "escalaId", qualifiedByName = "mapEscalaFromId")
     @Mapping(target = "colaborador", source = "colaboradorId", qualifiedByName = "mapColaboradorFromId")
     public abstract Folga toEntity(FolgaRequestDTO dto);
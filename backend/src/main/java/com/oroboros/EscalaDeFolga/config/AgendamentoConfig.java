@@ -0,0 +1,16 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Habilita as tarefas {@code @Scheduled} da aplicação.
+ *
+ * <p>O agendador é o do Spring Boot, com {@code spring.task.scheduling.pool.size}
+ * threads: uma tarefa longa (reconciliação da ocupação) não segura as demais
+ * (heartbeat do SSE, outbox de alertas, poda do histórico, limpeza da idempotência).</p>
+ */
+@Configuration
+@EnableScheduling
+public class AgendamentoConfig {
+}
@@ -0,0 +1,30 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Pool limitado que drena a outbox de alertas.
+ *
+ * <p>A fila é limitada: se os workers não derem conta, os pedidos excedentes
+ * continuam gravados na outbox e são retomados pela varredura periódica.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(AlertasProperties.class)
+public class AlertaAssincronoConfig {
+
+    @Bean(name = "alertaOutboxExecutor")
+    public ThreadPoolTaskExecutor alertaOutboxExecutor(AlertasProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.workers());
+        executor.setMaxPoolSize(properties.workers());
+        executor.setQueueCapacity(properties.fila());
+        executor.setThreadNamePrefix("alertas-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
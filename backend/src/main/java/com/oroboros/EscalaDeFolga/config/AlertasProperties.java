@@ -0,0 +1,25 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração da geração de alertas ({@code escala.alertas.*}).
+ *
+ * @param assincrono     {@code false} (padrão) gera os alertas na própria requisição e os
+ *                       devolve na resposta; {@code true} grava um pedido na outbox e os
+ *                       alertas são gerados pelos workers em segundo plano
+ * @param workers        número de threads que processam a outbox
+ * @param fila           capacidade da fila dos workers; quando cheia, o pedido fica na
+ *                       outbox até a próxima varredura
+ * @param intervaloMs    intervalo entre varreduras da outbox
+ * @param maxTentativas  tentativas antes de marcar o pedido como FALHA
+ */
+@ConfigurationProperties(prefix = "escala.alertas")
+public record AlertasProperties(
+        @DefaultValue("false") boolean assincrono,
+        @DefaultValue("2") int workers,
+        @DefaultValue("500") int fila,
+        @DefaultValue("5000") long intervaloMs,
+        @DefaultValue("3") int maxTentativas
+) {}
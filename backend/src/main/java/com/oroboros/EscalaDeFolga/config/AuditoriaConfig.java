@@ -0,0 +1,14 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita a configuração da auditoria de colaboradores.
+ *
+ * @see com.oroboros.EscalaDeFolga.infrastructure.auditoria.GravadorAuditoria
+ */
+@Configuration
+@EnableConfigurationProperties(AuditoriaProperties.class)
+public class AuditoriaConfig {
+}
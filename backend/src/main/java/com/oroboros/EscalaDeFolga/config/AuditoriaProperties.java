@@ -0,0 +1,40 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+
+/**
+ * Configuração da gravação da auditoria de colaboradores ({@code escala.auditoria.*}).
+ *
+ * @param assincrona      {@code true} (padrão) enfileira os registros e um gravador em
+ *                        segundo plano os insere em lote; {@code false} grava na requisição
+ * @param fila            capacidade da fila em memória; quando cheia, o registro é gravado
+ *                        na própria thread de quem auditou
+ * @param lote            registros por lote de inserts
+ * @param intervaloMs     espera máxima por novos registros antes de gravar um lote incompleto
+ * @param arquivoPendente arquivo (um JSON por linha) onde os lotes ficam enquanto o banco
+ *                        estiver indisponível; é reenviado assim que o banco voltar.
+ *                        Obrigatório e absoluto: um caminho relativo dependeria do diretório
+ *                        de trabalho do processo
+ */
+@ConfigurationProperties(prefix = "escala.auditoria")
+public record AuditoriaProperties(
+        @DefaultValue("true") boolean assincrona,
+        @DefaultValue("10000") int fila,
+        @DefaultValue("200") int lote,
+        @DefaultValue("500") long intervaloMs,
+        String arquivoPendente
+) {
+
+    public AuditoriaProperties {
+        if (arquivoPendente == null || arquivoPendente.isBlank()) {
+            throw new IllegalArgumentException("escala.auditoria.arquivo-pendente é obrigatório");
+        }
+        if (!Path.of(arquivoPendente).isAbsolute()) {
+            throw new IllegalArgumentException(
+                    "escala.auditoria.arquivo-pendente deve ser um caminho absoluto: " + arquivoPendente);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Habilita os caches por escala: calendários e retratos da simulação de folgas.
+ *
+ * <p>Cada cache é um Caffeine limitado, definido em {@code spring.cache.*}; as
+ * estatísticas ({@code recordStats}) são publicadas pelo actuator como
+ * {@code cache.gets}, {@code cache.puts}, {@code cache.evictions} e {@code cache.size}.</p>
+ *
+ * @see com.oroboros.EscalaDeFolga.domain.service.CalendarioCacheService
+ * @see com.oroboros.EscalaDeFolga.domain.service.SimulacaoFolgaService
+ */
+@Configuration
+@EnableCaching
+public class CalendarioCacheConfig {
+}
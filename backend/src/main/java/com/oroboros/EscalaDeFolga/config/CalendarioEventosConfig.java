@@ -0,0 +1,33 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Pool que envia os eventos do calendário aos clientes SSE.
+ *
+ * <p>As conexões abertas não ocupam threads (requisições assíncronas); as threads
+ * deste pool só são usadas enquanto há eventos para escrever, de modo que um
+ * cliente lento não atrasa a requisição que fez a alteração.</p>
+ *
+ * <p>A fila é limitada: uma rajada de alterações não acumula tarefas sem fim, e as
+ * recusadas viram um {@code CALENDARIO_ALTERADO} sem detalhes.</p>
+ */
+@Configuration
+@EnableConfigurationProperties(CalendarioEventosProperties.class)
+public class CalendarioEventosConfig {
+
+    @Bean(name = "calendarioEventosExecutor")
+    public ThreadPoolTaskExecutor calendarioEventosExecutor(CalendarioEventosProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.threads());
+        executor.setMaxPoolSize(properties.threads());
+        executor.setQueueCapacity(properties.fila());
+        executor.setThreadNamePrefix("calendario-sse-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,23 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração do stream SSE do calendário ({@code escala.calendario.eventos.*}).
+ *
+ * @param buffer       eventos pendentes por cliente; quando cheio, o mais antigo é descartado
+ * @param timeoutMs    duração máxima de uma conexão (o cliente reconecta sozinho)
+ * @param heartbeatMs  intervalo dos comentários que mantêm a conexão aberta e detectam clientes caídos
+ * @param threads      threads que enviam os eventos aos clientes
+ * @param fila         capacidade da fila do pool; quando cheia, os clientes das escalas
+ *                     afetadas recebem só {@code CALENDARIO_ALTERADO} e buscam o delta
+ */
+@ConfigurationProperties(prefix = "escala.calendario.eventos")
+public record CalendarioEventosProperties(
+        @DefaultValue("64") int buffer,
+        @DefaultValue("1800000") long timeoutMs,
+        @DefaultValue("25000") long heartbeatMs,
+        @DefaultValue("2") int threads,
+        @DefaultValue("1000") int fila
+) {}
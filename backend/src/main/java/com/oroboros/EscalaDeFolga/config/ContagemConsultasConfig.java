@@ -0,0 +1,47 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import com.oroboros.EscalaDeFolga.infrastructure.consultas.ContadorConsultas;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registra o {@link ContadorConsultas} como {@code StatementInspector} do Hibernate.
+ *
+ * <p>Um inspector já configurado em
+ * {@code spring.jpa.properties.hibernate.session_factory.statement_inspector}
+ * continua recebendo o SQL, depois da contagem.</p>
+ *
+ * @see com.oroboros.EscalaDeFolga.infrastructure.consultas.ConsultasPorRequisicaoFilter
+ */
+@Configuration
+public class ContagemConsultasConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer contagemConsultasCustomizer() {
+        return propriedades -> {
+            StatementInspector contador = new ContadorConsultas();
+            StatementInspector configurado = instanciar(propriedades.get(AvailableSettings.STATEMENT_INSPECTOR));
+            propriedades.put(AvailableSettings.STATEMENT_INSPECTOR, configurado == null
+                    ? contador
+                    : (StatementInspector) sql -> configurado.inspect(contador.inspect(sql)));
+        };
+    }
+
+    private static StatementInspector instanciar(Object configurado) {
+        if (configurado == null) {
+            return null;
+        }
+        if (configurado instanceof StatementInspector inspector) {
+            return inspector;
+        }
+        Class<?> classe = configurado instanceof Class<?> c
+                ? c
+                : ClassUtils.resolveClassName(configurado.toString(), ContagemConsultasConfig.class.getClassLoader());
+        return (StatementInspector) BeanUtils.instantiateClass(classe);
+    }
+}
@@ -0,0 +1,29 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Thread que versiona, depois do commit, as escalas afetadas pela última folga
+ * dos colaboradores.
+ *
+ * <p>Uma única thread: as propagações não disputam as mesmas linhas entre si e a
+ * requisição que gravou a folga devolve a conexão sem esperar por elas.</p>
+ */
+@Configuration
+public class EscalaVersaoConfig {
+
+    @Bean(name = "escalaVersaoExecutor")
+    public ThreadPoolTaskExecutor escalaVersaoExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("escala-versao-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+}
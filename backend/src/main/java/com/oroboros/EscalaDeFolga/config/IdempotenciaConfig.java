@@ -0,0 +1,26 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import com.oroboros.EscalaDeFolga.infrastructure.idempotencia.ArmazemIdempotencia;
+import com.oroboros.EscalaDeFolga.infrastructure.idempotencia.ArmazemIdempotenciaBanco;
+import com.oroboros.EscalaDeFolga.infrastructure.idempotencia.ArmazemIdempotenciaMemoria;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Escolhe o armazém das respostas idempotentes conforme {@code escala.idempotencia.armazem}.
+ *
+ * @see com.oroboros.EscalaDeFolga.infrastructure.idempotencia.IdempotenciaFilter
+ */
+@Configuration
+@EnableConfigurationProperties(IdempotenciaProperties.class)
+public class IdempotenciaConfig {
+
+    @Bean
+    public ArmazemIdempotencia armazemIdempotencia(IdempotenciaProperties properties, JdbcTemplate jdbcTemplate) {
+        return properties.armazemNoBanco()
+                ? new ArmazemIdempotenciaBanco(jdbcTemplate, properties)
+                : new ArmazemIdempotenciaMemoria(properties);
+    }
+}
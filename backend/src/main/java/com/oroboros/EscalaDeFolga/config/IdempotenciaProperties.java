@@ -0,0 +1,30 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Configuração das chaves de idempotência dos POSTs ({@code escala.idempotencia.*}).
+ *
+ * @param habilitada       {@code false} ignora o cabeçalho {@code Idempotency-Key}
+ * @param armazem          {@code memoria} (padrão, por instância) ou {@code banco}
+ *                         (tabela {@code idempotencia_requisicao}, compartilhada entre instâncias)
+ * @param ttlMs            por quanto tempo a resposta fica guardada para repetições
+ * @param maximoChaves     limite de chaves no armazém em memória
+ * @param maximoCorpoBytes respostas maiores não são guardadas (a repetição executa de novo)
+ * @param esperaMs         espera máxima de uma repetição pela execução ainda em andamento
+ */
+@ConfigurationProperties(prefix = "escala.idempotencia")
+public record IdempotenciaProperties(
+        @DefaultValue("true") boolean habilitada,
+        @DefaultValue("memoria") String armazem,
+        @DefaultValue("86400000") long ttlMs,
+        @DefaultValue("10000") int maximoChaves,
+        @DefaultValue("1048576") int maximoCorpoBytes,
+        @DefaultValue("30000") long esperaMs
+) {
+
+    public boolean armazemNoBanco() {
+        return "banco".equalsIgnoreCase(armazem);
+    }
+}
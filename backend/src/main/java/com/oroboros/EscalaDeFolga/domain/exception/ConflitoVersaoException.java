@@ -0,0 +1,32 @@
+package com.oroboros.EscalaDeFolga.domain.exception;
+
+/**
+ * Edição recusada porque o recurso foi alterado por outra requisição desde a
+ * leitura. Leva o estado atual para o cliente refazer a edição sobre ele.
+ */
+public class ConflitoVersaoException extends RuntimeException {
+
+    private final String recurso;
+    private final Object id;
+    private final Object estadoAtual;
+
+    public ConflitoVersaoException(String recurso, Object id, Object estadoAtual) {
+        super(String.format("%s com ID %s foi alterado por outra requisição. Recarregue e tente novamente.",
+                recurso, id));
+        this.recurso = recurso;
+        this.id = id;
+        this.estadoAtual = estadoAtual;
+    }
+
+    public String getRecurso() {
+        return recurso;
+    }
+
+    public Object getId() {
+        return id;
+    }
+
+    public Object getEstadoAtual() {
+        return estadoAtual;
+    }
+}
@@ -20,12 +20,14 @@ import java.time.LocalDateTime;
         @Index(name = "idx_escala_colaborador", columnList = "escala_id, colaborador_id"),
         @Index(name = "idx_severidade", columnList = "severidade"),
         @Index(name = "idx_data_criacao", columnList = "data_criacao"),
-        @Index(name = "idx_resolvido", columnList = "resolvido")
+        @Index(name = "idx_resolvido", columnList = "resolvido"),
+        @Index(name = "idx_alertas_folga", columnList = "folga_id")
 })
 public class Alerta {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alertas_seq")
+    @SequenceGenerator(name = "alertas_seq", sequenceName = "alertas_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
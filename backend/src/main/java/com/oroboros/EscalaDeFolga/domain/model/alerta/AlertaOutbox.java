@@ -0,0 +1,78 @@
+package com.oroboros.EscalaDeFolga.domain.model.alerta;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Pedido de geração de alertas gravado na mesma transação da folga.
+ *
+ * <p>Quando os alertas estão em modo assíncrono, a criação da folga grava apenas
+ * esta linha; os workers do {@code AlertaOutboxWorker} drenam a tabela e executam
+ * os geradores de alerta fora da requisição.</p>
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "alertas_outbox", indexes = {
+        @Index(name = "idx_outbox_status", columnList = "status, id")
+})
+public class AlertaOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Sem FK: a folga pode ser removida antes do processamento
+    @Column(name = "folga_id", nullable = false)
+    private Long folgaId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StatusOutboxEnum status = StatusOutboxEnum.PENDENTE;
+
+    @Column(nullable = false)
+    private int tentativas = 0;
+
+    @Column(name = "data_criacao", nullable = false, updatable = false)
+    private LocalDateTime dataCriacao = LocalDateTime.now();
+
+    @Column(name = "data_processamento")
+    private LocalDateTime dataProcessamento;
+
+    @Column(name = "ultimo_erro", length = 500)
+    private String ultimoErro;
+
+    /**
+     * Factory method para criar o pedido de uma folga
+     */
+    public static AlertaOutbox criar(Long folgaId) {
+        AlertaOutbox outbox = new AlertaOutbox();
+        outbox.setFolgaId(folgaId);
+        outbox.setStatus(StatusOutboxEnum.PENDENTE);
+        outbox.setDataCriacao(LocalDateTime.now());
+        return outbox;
+    }
+
+    /**
+     * Marca o pedido como processado
+     */
+    public void concluir() {
+        this.status = StatusOutboxEnum.CONCLUIDO;
+        this.dataProcessamento = LocalDateTime.now();
+        this.ultimoErro = null;
+    }
+
+    /**
+     * Registra uma falha: volta para a fila ou desiste após o máximo de tentativas
+     */
+    public void registrarFalha(String erro, int maxTentativas) {
+        this.ultimoErro = erro != null && erro.length() > 500 ? erro.substring(0, 500) : erro;
+        this.dataProcessamento = LocalDateTime.now();
+        this.status = tentativas >= maxTentativas ? StatusOutboxEnum.FALHA : StatusOutboxEnum.PENDENTE;
+    }
+}
@@ -0,0 +1,40 @@
+package com.oroboros.EscalaDeFolga.domain.model.alerta;
+
+import java.util.List;
+
+/**
+ * Evento de domínio: novos alertas foram gravados para uma escala.
+ *
+ * <p>Leva apenas o resumo dos alertas (sem as entidades), para poder ser lido
+ * depois do commit. É publicado dentro da transação da alteração.</p>
+ */
+public record AlertasGeradosEvento(
+        Long escalaId,
+        List<AlertaResumo> alertas
+) {
+
+    public static AlertasGeradosEvento de(Long escalaId, List<Alerta> alertas) {
+        return new AlertasGeradosEvento(
+                escalaId,
+                alertas.stream()
+                        .map(a -> new AlertaResumo(
+                                a.getId(),
+                                a.getColaborador() != null ? a.getColaborador().getId() : null,
+                                a.getFolga() != null ? a.getFolga().getId() : null,
+                                a.getTipo(),
+                                a.getSeveridade(),
+                                a.getMensagem()
+                        ))
+                        .toList()
+        );
+    }
+
+    public record AlertaResumo(
+            Long id,
+            Long colaboradorId,
+            Long folgaId,
+            TipoAlertaEnum tipo,
+            SeveridadeEnum severidade,
+            String mensagem
+    ) {}
+}
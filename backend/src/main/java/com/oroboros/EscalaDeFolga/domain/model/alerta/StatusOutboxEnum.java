@@ -0,0 +1,11 @@
+package com.oroboros.EscalaDeFolga.domain.model.alerta;
+
+/**
+ * Situação de um pedido de geração de alertas na outbox
+ */
+public enum StatusOutboxEnum {
+    PENDENTE,       // Aguardando um worker
+    PROCESSANDO,    // Reservado por um worker
+    CONCLUIDO,      // Alertas gerados e persistidos
+    FALHA           // Esgotou as tentativas
+}
@@ -6,6 +6,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(name = "auditoria_colaborador", indexes = {
+        @Index(name = "idx_auditoria_colaborador_data_id", columnList = "colaborador_id, data_hora, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -14,7 +17,8 @@ public class AuditoriaColaborador {
 
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "auditoria_colaborador_seq")
+    @SequenceGenerator(name = "auditoria_colaborador_seq", sequenceName = "auditoria_colaborador_seq", allocationSize = 50)
     private Long id;
 
     // ID do colaborador afetado
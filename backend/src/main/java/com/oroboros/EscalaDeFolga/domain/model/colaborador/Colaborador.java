@@ -5,11 +5,15 @@ import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
 import com.oroboros.EscalaDeFolga.domain.util.TextoNormalizerUtil;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Entity
+@Table(name = "colaborador", indexes = {
+        @Index(name = "idx_colaborador_setor_turno_nome", columnList = "setor_id, turno, nome_normalizado")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -17,7 +21,8 @@ import java.util.List;
 public class Colaborador {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "colaborador_seq")
+    @SequenceGenerator(name = "colaborador_seq", sequenceName = "colaborador_seq", allocationSize = 50)
     private Long id;
     private String nome;
 
@@ -38,10 +43,18 @@ public class Colaborador {
     @Column(name = "ultima_folga")
     private LocalDate ultimaFolga;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "setor_id")
     private Setor setor;
 
+    /**
+     * Versão para controle otimista das edições. A última folga mantida pelas
+     * folgas (UPDATE direto no banco) não altera a versão.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
 
     public void delete(){
         this.ativo = false;
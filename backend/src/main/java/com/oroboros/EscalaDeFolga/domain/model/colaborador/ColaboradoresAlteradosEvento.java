@@ -0,0 +1,110 @@
+package com.oroboros.EscalaDeFolga.domain.model.colaborador;
+
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Evento de domínio: colaboradores de um setor/turno mudaram, afetando o
+ * calendário de todas as escalas desse setor nesses turnos.
+ *
+ * <p>Com {@code apenasUltimaFolga}, só a última folga dos colaboradores mudou e
+ * apenas as linhas deles no calendário são afetadas; caso contrário (cadastro,
+ * dados ou inativação) o calendário inteiro pode ter mudado.</p>
+ *
+ * <p>{@code escalaOrigemId} é a escala cujas folgas mudaram a última folga (ou
+ * {@code null}): ela já registra a alteração pelo {@code EscalaAlteradaEvento} e
+ * pode ser ignorada por quem só versiona as demais escalas.</p>
+ *
+ * <p>É publicado dentro da transação da alteração; quem depende dos dados já
+ * gravados deve ouvir com {@code @TransactionalEventListener}.</p>
+ */
+public record ColaboradoresAlteradosEvento(
+        Long setorId,
+        Set<TurnoEnum> turnos,
+        Set<Long> colaboradorIds,
+        boolean apenasUltimaFolga,
+        Long escalaOrigemId
+) {
+
+    public ColaboradoresAlteradosEvento(Long setorId, Set<TurnoEnum> turnos, Set<Long> colaboradorIds, boolean apenasUltimaFolga) {
+        this(setorId, turnos, colaboradorIds, apenasUltimaFolga, null);
+    }
+
+    /**
+     * Cadastro ou dados do colaborador, incluindo os turnos em que ele estava antes da alteração
+     */
+    public static ColaboradoresAlteradosEvento de(Colaborador colaborador, TurnoEnum... turnosAnteriores) {
+        Set<TurnoEnum> turnos = Stream.concat(Stream.of(colaborador.getTurno()), Stream.of(turnosAnteriores))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(() -> EnumSet.noneOf(TurnoEnum.class)));
+
+        return new ColaboradoresAlteradosEvento(setorId(colaborador), turnos, idDe(colaborador), false);
+    }
+
+    /**
+     * Dados do colaborador alterados: afeta o setor/turno de antes e o de agora. No mesmo
+     * setor é um único evento com os dois turnos; com troca de setor, um evento por setor.
+     */
+    public static List<ColaboradoresAlteradosEvento> alteracao(
+            Colaborador colaborador,
+            Long setorAnteriorId,
+            TurnoEnum turnoAnterior
+    ) {
+        if (Objects.equals(setorAnteriorId, setorId(colaborador))) {
+            return List.of(de(colaborador, turnoAnterior));
+        }
+
+        Set<TurnoEnum> turnosAnteriores = turnoAnterior != null
+                ? EnumSet.of(turnoAnterior)
+                : EnumSet.noneOf(TurnoEnum.class);
+        return List.of(
+                new ColaboradoresAlteradosEvento(setorAnteriorId, turnosAnteriores, idDe(colaborador), false),
+                de(colaborador)
+        );
+    }
+
+    /**
+     * Última folga do colaborador alterada diretamente (sem escala de origem)
+     */
+    public static ColaboradoresAlteradosEvento ultimaFolga(Colaborador colaborador) {
+        return ultimaFolga(null, colaborador);
+    }
+
+    /**
+     * Última folga do colaborador alterada por uma folga da escala informada
+     */
+    public static ColaboradoresAlteradosEvento ultimaFolga(Long escalaOrigemId, Colaborador colaborador) {
+        return ultimaFolga(escalaOrigemId, List.of(colaborador)).get(0);
+    }
+
+    /**
+     * Última folga alterada para vários colaboradores: um evento por setor/turno
+     */
+    public static List<ColaboradoresAlteradosEvento> ultimaFolga(Long escalaOrigemId, Collection<Colaborador> colaboradores) {
+        Map<List<Object>, List<Colaborador>> porSetorETurno = colaboradores.stream()
+                .collect(Collectors.groupingBy(
+                        c -> Arrays.asList(setorId(c), c.getTurno()),
+                        LinkedHashMap::new,
+                        Collectors.toList()
+                ));
+
+        return porSetorETurno.values().stream()
+                .map(grupo -> new ColaboradoresAlteradosEvento(
+                        setorId(grupo.get(0)),
+                        grupo.get(0).getTurno() != null ? EnumSet.of(grupo.get(0).getTurno()) : EnumSet.noneOf(TurnoEnum.class),
+                        grupo.stream().map(Colaborador::getId).filter(Objects::nonNull).collect(Collectors.toCollection(TreeSet::new)),
+                        true,
+                        escalaOrigemId
+                ))
+                .toList();
+    }
+
+    private static Long setorId(Colaborador colaborador) {
+        return colaborador.getSetor() != null ? colaborador.getSetor().getId() : null;
+    }
+
+    private static Set<Long> idDe(Colaborador colaborador) {
+        return colaborador.getId() != null ? Set.of(colaborador.getId()) : Set.of();
+    }
+}
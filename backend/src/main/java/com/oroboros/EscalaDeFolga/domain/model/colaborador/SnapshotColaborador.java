@@ -0,0 +1,32 @@
+package com.oroboros.EscalaDeFolga.domain.model.colaborador;
+
+import java.time.LocalDate;
+
+/**
+ * Estado do colaborador guardado na auditoria: só campos simples e o ID do setor.
+ *
+ * <p>Não navega {@code folgas} nem carrega o setor (o ID vem do proxy), então o
+ * tamanho e o custo do snapshot não dependem do histórico de folgas.</p>
+ */
+public record SnapshotColaborador(
+        Long id,
+        String nome,
+        CargoEnum cargo,
+        TurnoEnum turno,
+        boolean ativo,
+        LocalDate ultimaFolga,
+        Long setorId
+) {
+
+    public static SnapshotColaborador de(Colaborador colaborador) {
+        return new SnapshotColaborador(
+                colaborador.getId(),
+                colaborador.getNome(),
+                colaborador.getCargo(),
+                colaborador.getTurno(),
+                colaborador.isAtivo(),
+                colaborador.getUltimaFolga(),
+                colaborador.getSetor() != null ? colaborador.getSetor().getId() : null
+        );
+    }
+}
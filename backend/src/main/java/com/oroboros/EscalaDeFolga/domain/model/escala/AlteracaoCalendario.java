@@ -0,0 +1,69 @@
+package com.oroboros.EscalaDeFolga.domain.model.escala;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Registro do que mudou no calendário de uma escala em uma versão.
+ *
+ * <p>Cada alteração grava uma linha por dia e uma por colaborador afetados, com a
+ * versão da escala resultante; uma linha {@code completa} indica que o calendário
+ * inteiro pode ter mudado. Usado para responder o calendário em delta.</p>
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "alteracao_calendario", indexes = {
+        @Index(name = "idx_alteracao_calendario_escala_versao", columnList = "escala_id, versao")
+})
+public class AlteracaoCalendario {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alteracao_calendario_seq")
+    @SequenceGenerator(name = "alteracao_calendario_seq", sequenceName = "alteracao_calendario_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "escala_id", nullable = false)
+    private Long escalaId;
+
+    @Column(nullable = false)
+    private long versao;
+
+    private LocalDate data;
+
+    @Column(name = "colaborador_id")
+    private Long colaboradorId;
+
+    @Column(nullable = false)
+    private boolean completa;
+
+    public static AlteracaoCalendario completa(Long escalaId, long versao) {
+        AlteracaoCalendario alteracao = criar(escalaId, versao);
+        alteracao.setCompleta(true);
+        return alteracao;
+    }
+
+    public static AlteracaoCalendario doDia(Long escalaId, long versao, LocalDate data) {
+        AlteracaoCalendario alteracao = criar(escalaId, versao);
+        alteracao.setData(data);
+        return alteracao;
+    }
+
+    public static AlteracaoCalendario doColaborador(Long escalaId, long versao, Long colaboradorId) {
+        AlteracaoCalendario alteracao = criar(escalaId, versao);
+        alteracao.setColaboradorId(colaboradorId);
+        return alteracao;
+    }
+
+    private static AlteracaoCalendario criar(Long escalaId, long versao) {
+        AlteracaoCalendario alteracao = new AlteracaoCalendario();
+        alteracao.setEscalaId(escalaId);
+        alteracao.setVersao(versao);
+        return alteracao;
+    }
+}
@@ -3,6 +3,7 @@ package com.oroboros.EscalaDeFolga.domain.model.escala;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.List;
 
@@ -12,7 +13,15 @@ import java.util.List;
 @Getter
 @Setter
 @Entity
+@NamedEntityGraph(name = Escala.GRAFO_COM_SETOR, attributeNodes = @NamedAttributeNode("setor"))
+@Table(name = "escala", indexes = {
+        @Index(name = "idx_escala_setor_turno_periodo", columnList = "setor_id, turno, ano, mes")
+})
 public class Escala {
+
+    /** Calendário e resposta da API exibem o nome do setor */
+    public static final String GRAFO_COM_SETOR = "Escala.comSetor";
+
     @Id @GeneratedValue
     private Long id;
 
@@ -32,8 +41,25 @@ public class Escala {
 
     private TurnoEnum turno;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "setor_id", nullable = false)
     private Setor setor;
 
+    /**
+     * Versão do calendário/alertas da escala, incrementada a cada alteração.
+     * Só é alterada por UPDATE atômico no banco, nunca pela entidade.
+     */
+    @ColumnDefault("0")
+    @Column(name = "versao_calendario", nullable = false, updatable = false)
+    private long versaoCalendario;
+
+    /**
+     * Versão da própria escala para controle otimista das edições (mês, ano,
+     * limite de folgas). Independente de {@link #versaoCalendario}.
+     */
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+
 }
@@ -0,0 +1,61 @@
+package com.oroboros.EscalaDeFolga.domain.model.escala;
+
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * Evento de domínio: o calendário ou os alertas de uma escala mudaram (folgas,
+ * dados da escala, alertas ou correção dos contadores de ocupação).
+ *
+ * <p>Quando a alteração é localizada, {@code datas} e {@code colaboradorIds}
+ * indicam os dias e os colaboradores do calendário afetados; {@code null} em
+ * {@code datas} significa que o calendário inteiro pode ter mudado.</p>
+ *
+ * <p>É publicado dentro da transação da alteração; quem depende dos dados já
+ * gravados deve ouvir com {@code @TransactionalEventListener}.</p>
+ */
+public record EscalaAlteradaEvento(
+        Long escalaId,
+        Origem origem,
+        Set<LocalDate> datas,
+        Set<Long> colaboradorIds
+) {
+
+    public enum Origem {
+        FOLGA,
+        ESCALA,
+        ALERTA,
+        RECONCILIACAO
+    }
+
+    /**
+     * Alteração que pode afetar todo o calendário
+     */
+    public EscalaAlteradaEvento(Long escalaId, Origem origem) {
+        this(escalaId, origem, null, null);
+    }
+
+    /**
+     * Folgas criadas, alteradas ou removidas, incluindo as datas anteriores a uma troca
+     */
+    public static EscalaAlteradaEvento folgas(Long escalaId, Collection<Folga> folgas, LocalDate... datasAnteriores) {
+        Set<LocalDate> datas = new TreeSet<>(Arrays.asList(datasAnteriores));
+        Set<Long> colaboradorIds = new TreeSet<>();
+        for (Folga folga : folgas) {
+            datas.add(folga.getDataSolicitada());
+            colaboradorIds.add(folga.getColaborador().getId());
+        }
+        return new EscalaAlteradaEvento(escalaId, Origem.FOLGA, datas, colaboradorIds);
+    }
+
+    /**
+     * Alertas alterados: não mudam nenhum dia nem colaborador do calendário
+     */
+    public static EscalaAlteradaEvento alertas(Long escalaId) {
+        return new EscalaAlteradaEvento(escalaId, Origem.ALERTA, Set.of(), Set.of());
+    }
+
+    public boolean isCompleta() {
+        return datas == null;
+    }
+}
@@ -19,10 +19,10 @@ public class EscalaColaborador {
     @GeneratedValue
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Escala escala;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Colaborador colaborador;
 
     private LocalDate diaDaEscala;
@@ -2,33 +2,107 @@ package com.oroboros.EscalaDeFolga.domain.model.escala;
 
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
 import jakarta.persistence.*;
+import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 
+import java.time.DayOfWeek;
 import java.time.LocalDate;
 
+/**
+ * Folga solicitada por um colaborador em uma escala.
+ *
+ * <p>O dia da semana da data é gravado em {@code dia_semana} (ISO-8601: 1 = segunda,
+ * 7 = domingo) para que a busca de domingos use o índice (colaborador, data) com
+ * um intervalo de datas, sem funções de data do banco.</p>
+ *
+ * <p>Os índices e a unicidade (colaborador, data) também são criados pelas
+ * migrações em {@code db/migration}.</p>
+ *
+ * <p>O ID vem da sequência {@code folga_seq} com otimizador pooled: o Hibernate
+ * reserva 50 IDs por acesso e pode agrupar os inserts em batch JDBC, o que o
+ * {@code GenerationType.IDENTITY} impedia.</p>
+ *
+ * <p>Colaborador e escala são LAZY; cada caso de uso declara o que carrega
+ * ({@link #GRAFO_RESPOSTA}, {@link #GRAFO_ALERTAS} ou {@code JOIN FETCH} nas
+ * consultas do calendário).</p>
+ *
+ * <p>{@link #versao} faz o controle otimista: edições concorrentes da mesma folga
+ * falham no commit em vez de sobrescrever uma à outra.</p>
+ */
 @Entity
+@NamedEntityGraph(name = Folga.GRAFO_RESPOSTA, attributeNodes = @NamedAttributeNode("colaborador"))
+@NamedEntityGraph(name = Folga.GRAFO_ALERTAS, attributeNodes = {
+        @NamedAttributeNode("colaborador"),
+        @NamedAttributeNode("escala")
+})
+@Table(name = "folga", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_folga_colaborador_data", columnNames = {"colaborador_id", "data_solicitada"})
+}, indexes = {
+        @Index(name = "idx_folga_escala_data_status", columnList = "escala_id, data_solicitada, status"),
+        @Index(name = "idx_folga_colaborador_escala_status", columnList = "colaborador_id, escala_id, status")
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
 @Setter
 public class Folga {
+
+    /** Resposta da API: colaborador (nome); a escala só é exposta pelo ID */
+    public static final String GRAFO_RESPOSTA = "Folga.resposta";
+
+    /** Geração de alertas: colaborador e regras da escala */
+    public static final String GRAFO_ALERTAS = "Folga.alertas";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "folga_seq")
+    @SequenceGenerator(name = "folga_seq", sequenceName = "folga_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Colaborador colaborador;
 
     private LocalDate dataSolicitada;
 
+    @Column(name = "dia_semana")
+    @Setter(AccessLevel.NONE)
+    private Integer diaSemana; // preenchido a partir de dataSolicitada
+
     private String justificativa;
 
     @Enumerated(EnumType.STRING)
     private StatusFolgaEnum status; // PENDENTE, APROVADA, NEGADA
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     private Escala escala; // opcional, vincula ao mês correspondente
+
+    @Version
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long versao;
+
+    public void setDataSolicitada(LocalDate dataSolicitada) {
+        this.dataSolicitada = dataSolicitada;
+        this.diaSemana = diaSemanaDe(dataSolicitada);
+    }
+
+    public boolean isDomingo() {
+        return diaSemana != null && diaSemana == DayOfWeek.SUNDAY.getValue();
+    }
+
+    public static Integer diaSemanaDe(LocalDate data) {
+        return data == null ? null : data.getDayOfWeek().getValue();
+    }
+
+    /**
+     * Garante o dia da semana também para instâncias criadas pelo construtor completo
+     */
+    @PrePersist
+    @PreUpdate
+    private void atualizarDiaSemana() {
+        this.diaSemana = diaSemanaDe(dataSolicitada);
+    }
 }
@@ -0,0 +1,52 @@
+package com.oroboros.EscalaDeFolga.domain.model.escala;
+
+import java.time.LocalDate;
+
+/**
+ * Evento de domínio: uma folga foi criada, atualizada ou excluída.
+ *
+ * <p>Complementa o {@link EscalaAlteradaEvento} com o que aconteceu com a folga,
+ * para quem acompanha a escala em tempo real. É publicado dentro da transação da
+ * alteração; quem depende dos dados já gravados deve ouvir com
+ * {@code @TransactionalEventListener}.</p>
+ */
+public record FolgaAlteradaEvento(
+        Long escalaId,
+        Tipo tipo,
+        Long folgaId,
+        Long colaboradorId,
+        LocalDate data,
+        LocalDate dataAnterior,
+        StatusFolgaEnum status
+) {
+
+    public enum Tipo {
+        CRIADA,
+        ATUALIZADA,
+        EXCLUIDA
+    }
+
+    public static FolgaAlteradaEvento criada(Folga folga) {
+        return de(Tipo.CRIADA, folga, null);
+    }
+
+    public static FolgaAlteradaEvento atualizada(Folga folga, LocalDate dataAnterior) {
+        return de(Tipo.ATUALIZADA, folga, dataAnterior);
+    }
+
+    public static FolgaAlteradaEvento excluida(Folga folga) {
+        return de(Tipo.EXCLUIDA, folga, null);
+    }
+
+    private static FolgaAlteradaEvento de(Tipo tipo, Folga folga, LocalDate dataAnterior) {
+        return new FolgaAlteradaEvento(
+                folga.getEscala().getId(),
+                tipo,
+                folga.getId(),
+                folga.getColaborador().getId(),
+                folga.getDataSolicitada(),
+                dataAnterior,
+                folga.getStatus()
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package com.oroboros.EscalaDeFolga.domain.model.escala;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+
+/**
+ * Contador de folgas ativas (PENDENTE/APROVADA) por dia de uma escala.
+ *
+ * <p>Mantido na mesma transação das alterações de folga pelo
+ * {@code OcupacaoDiaService}, permite ler a ocupação de um dia sem contar
+ * as linhas de {@code folga}. Divergências são corrigidas pela reconciliação.</p>
+ */
+@NoArgsConstructor
+@Getter
+@Setter
+@Entity
+@Table(name = "ocupacao_dia", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_ocupacao_escala_data", columnNames = {"escala_id", "data"})
+})
+public class OcupacaoDia {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "escala_id", nullable = false)
+    private Long escalaId;
+
+    @Column(nullable = false)
+    private LocalDate data;
+
+    @Column(name = "total_folgas", nullable = false)
+    private int totalFolgas;
+
+    public static OcupacaoDia criar(Long escalaId, LocalDate data, int totalFolgas) {
+        OcupacaoDia ocupacao = new OcupacaoDia();
+        ocupacao.setEscalaId(escalaId);
+        ocupacao.setData(data);
+        ocupacao.setTotalFolgas(totalFolgas);
+        return ocupacao;
+    }
+}
@@ -0,0 +1,337 @@
+package com.oroboros.EscalaDeFolga.domain.model.escala;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Ocupação imutável de um mês de escala: quem folga em qual dia.
+ *
+ * <p>Cada colaborador é uma linha da matriz de bits colaborador × dia do mês,
+ * guardada em um {@code int} (bit {@code d - 1} = folga no dia {@code d}). Os totais
+ * por dia e por semana e as máscaras de semanas e domingos são arrays primitivos
+ * calculados uma única vez na construção. Um mês com 500 colaboradores ocupa
+ * cerca de 6 KB.</p>
+ *
+ * <p>As consultas ({@link #temDomingo(long)}, {@link #folgasNaSemana(long, int)},
+ * {@link #totalNoDia(int)}...) não alocam objetos. As variantes que recebem uma
+ * máscara permitem simular uma folga ainda não gravada ({@code mascara | bit(dia)})
+ * sem criar outra instância.</p>
+ *
+ * <p>Só entram folgas PENDENTES ou APROVADAS com data no mês. As semanas seguem a
+ * numeração usada nas regras de distribuição semanal: a semana 1 vai do dia 1 até o
+ * domingo da primeira semana iniciada no mês, e cada segunda-feira seguinte abre
+ * uma nova semana a cada 7 dias.</p>
+ */
+public final class OcupacaoMes {
+
+    private static final int MAX_SEMANAS = 6;
+
+    private final YearMonth mes;
+    private final int dias;
+    private final int mascaraDomingos;
+    private final int semanas;
+    private final int[] mascaraSemana;   // [semana] -> dias da semana
+    private final byte[] semanaDoDia;    // [dia - 1] -> semana
+
+    private final long[] colaboradorIds; // ordenado
+    private final int[] folgas;          // [índice do colaborador] -> dias com folga
+    private final int[] totalPorDia;     // [dia - 1]
+    private final int[] totalPorSemana;  // [semana]
+
+    private OcupacaoMes(YearMonth mes, long[] colaboradorIds, int[] folgas) {
+        this.mes = mes;
+        this.dias = mes.lengthOfMonth();
+        this.semanaDoDia = new byte[dias];
+        this.mascaraSemana = new int[MAX_SEMANAS + 1];
+
+        LocalDate primeiroDia = mes.atDay(1);
+        int domingos = 0;
+        int ultimaSemana = 0;
+        for (int dia = 1; dia <= dias; dia++) {
+            LocalDate data = mes.atDay(dia);
+            int semana = numeroSemana(data, primeiroDia);
+            semanaDoDia[dia - 1] = (byte) semana;
+            mascaraSemana[semana] |= bit(dia);
+            ultimaSemana = semana;
+            if (data.getDayOfWeek() == DayOfWeek.SUNDAY) {
+                domingos |= bit(dia);
+            }
+        }
+        this.mascaraDomingos = domingos;
+        this.semanas = ultimaSemana;
+
+        this.colaboradorIds = colaboradorIds;
+        this.folgas = folgas;
+        this.totalPorDia = new int[dias];
+        this.totalPorSemana = new int[MAX_SEMANAS + 1];
+        for (int linha : folgas) {
+            for (int restante = linha; restante != 0; restante &= restante - 1) {
+                int dia = Integer.numberOfTrailingZeros(restante) + 1;
+                totalPorDia[dia - 1]++;
+                totalPorSemana[semanaDoDia[dia - 1]]++;
+            }
+        }
+    }
+
+    /**
+     * Ocupação a partir das folgas carregadas; colaboradores sem folga entram pelo {@code colaboradorIds}
+     */
+    public static OcupacaoMes de(YearMonth mes, Collection<Long> colaboradorIds, Collection<Folga> folgas) {
+        Construtor construtor = construtor(mes);
+        colaboradorIds.forEach(construtor::colaborador);
+        for (Folga folga : folgas) {
+            if (folga.getStatus() == StatusFolgaEnum.PENDENTE || folga.getStatus() == StatusFolgaEnum.APROVADA) {
+                construtor.folga(folga.getColaborador().getId(), folga.getDataSolicitada());
+            }
+        }
+        return construtor.construir();
+    }
+
+    public static OcupacaoMes de(Escala escala, Collection<Folga> folgas) {
+        return de(YearMonth.of(escala.getAno(), escala.getMes()), List.of(), folgas);
+    }
+
+    /**
+     * Para montar a ocupação a partir de linhas (colaborador, data) sem carregar entidades
+     */
+    public static Construtor construtor(YearMonth mes) {
+        return new Construtor(mes);
+    }
+
+    /**
+     * Número da semana do mês (1 a 6) de uma data do mês
+     */
+    public static int numeroSemana(LocalDate data) {
+        return numeroSemana(data, data.withDayOfMonth(1));
+    }
+
+    private static int numeroSemana(LocalDate data, LocalDate primeiroDia) {
+        LocalDate inicioSemana = data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        if (inicioSemana.isBefore(primeiroDia)) {
+            inicioSemana = primeiroDia;
+        }
+        return (int) ChronoUnit.DAYS.between(primeiroDia, inicioSemana) / 7 + 1;
+    }
+
+    /**
+     * Bit do dia do mês (1 a 31) nas máscaras de folgas
+     */
+    public static int bit(int dia) {
+        return 1 << (dia - 1);
+    }
+
+    // ========================================
+    // Estrutura do mês
+    // ========================================
+
+    public YearMonth getMes() {
+        return mes;
+    }
+
+    public int getDias() {
+        return dias;
+    }
+
+    public int getSemanas() {
+        return semanas;
+    }
+
+    public int semanaDoDia(int dia) {
+        return semanaDoDia[dia - 1];
+    }
+
+    public int mascaraSemana(int semana) {
+        return mascaraSemana[semana];
+    }
+
+    public int getMascaraDomingos() {
+        return mascaraDomingos;
+    }
+
+    /**
+     * Dia do mês da data, ou 0 se ela não pertence ao mês
+     */
+    public int diaDe(LocalDate data) {
+        return data.getYear() == mes.getYear() && data.getMonthValue() == mes.getMonthValue()
+                ? data.getDayOfMonth()
+                : 0;
+    }
+
+    // ========================================
+    // Consultas por colaborador
+    // ========================================
+
+    public int getTotalColaboradores() {
+        return colaboradorIds.length;
+    }
+
+    /**
+     * Dias com folga do colaborador (0 se ele não tem folgas no mês)
+     */
+    public int mascara(long colaboradorId) {
+        int indice = Arrays.binarySearch(colaboradorIds, colaboradorId);
+        return indice >= 0 ? folgas[indice] : 0;
+    }
+
+    public boolean temFolga(long colaboradorId, int dia) {
+        return (mascara(colaboradorId) & bit(dia)) != 0;
+    }
+
+    public int totalFolgas(long colaboradorId) {
+        return Integer.bitCount(mascara(colaboradorId));
+    }
+
+    public int folgasNaSemana(long colaboradorId, int semana) {
+        return contarNaSemana(mascara(colaboradorId), semana);
+    }
+
+    public boolean temDomingo(long colaboradorId) {
+        return incluiDomingo(mascara(colaboradorId));
+    }
+
+    /**
+     * Datas com folga do colaborador, em ordem
+     */
+    public List<LocalDate> datas(long colaboradorId) {
+        int linha = mascara(colaboradorId);
+        List<LocalDate> datas = new ArrayList<>(Integer.bitCount(linha));
+        for (int restante = linha; restante != 0; restante &= restante - 1) {
+            datas.add(mes.atDay(Integer.numberOfTrailingZeros(restante) + 1));
+        }
+        return datas;
+    }
+
+    // ========================================
+    // Consultas sobre uma máscara de folgas
+    // ========================================
+
+    public int contarNaSemana(int mascara, int semana) {
+        return Integer.bitCount(mascara & mascaraSemana[semana]);
+    }
+
+    public boolean incluiDomingo(int mascara) {
+        return (mascara & mascaraDomingos) != 0;
+    }
+
+    /**
+     * Semanas sem nenhuma folga na máscara (bit {@code s} = semana {@code s})
+     */
+    public int semanasSemFolga(int mascara) {
+        int semanasSem = 0;
+        for (int semana = 1; semana <= semanas; semana++) {
+            if ((mascara & mascaraSemana[semana]) == 0) {
+                semanasSem |= 1 << semana;
+            }
+        }
+        return semanasSem;
+    }
+
+    /**
+     * Maior quantidade de folgas em uma mesma semana
+     */
+    public int maxFolgasNumaSemana(int mascara) {
+        int max = 0;
+        for (int semana = 1; semana <= semanas; semana++) {
+            max = Math.max(max, contarNaSemana(mascara, semana));
+        }
+        return max;
+    }
+
+    /**
+     * Última folga da máscara antes do dia, ou 0 se não houver no mês
+     */
+    public static int ultimaFolgaAntes(int mascara, int dia) {
+        int anteriores = mascara & (bit(dia) - 1);
+        return anteriores == 0 ? 0 : 32 - Integer.numberOfLeadingZeros(anteriores);
+    }
+
+    // ========================================
+    // Totais
+    // ========================================
+
+    public int totalNoDia(int dia) {
+        return totalPorDia[dia - 1];
+    }
+
+    public int totalNaSemana(int semana) {
+        return totalPorSemana[semana];
+    }
+
+    public int getTotalFolgas() {
+        int total = 0;
+        for (int t : totalPorDia) {
+            total += t;
+        }
+        return total;
+    }
+
+    /**
+     * Cópia com uma folga a mais (simulação); esta instância não muda. Um dia fora
+     * do mês ({@code 0}) apenas inclui o colaborador.
+     */
+    public OcupacaoMes comFolga(long colaboradorId, int dia) {
+        int bit = dia > 0 ? bit(dia) : 0;
+        int indice = Arrays.binarySearch(colaboradorIds, colaboradorId);
+        if (indice >= 0) {
+            int[] novasFolgas = folgas.clone();
+            novasFolgas[indice] |= bit;
+            return new OcupacaoMes(mes, colaboradorIds, novasFolgas);
+        }
+
+        int posicao = -indice - 1;
+        long[] novosIds = new long[colaboradorIds.length + 1];
+        int[] novasFolgas = new int[folgas.length + 1];
+        System.arraycopy(colaboradorIds, 0, novosIds, 0, posicao);
+        System.arraycopy(folgas, 0, novasFolgas, 0, posicao);
+        novosIds[posicao] = colaboradorId;
+        novasFolgas[posicao] = bit;
+        System.arraycopy(colaboradorIds, posicao, novosIds, posicao + 1, colaboradorIds.length - posicao);
+        System.arraycopy(folgas, posicao, novasFolgas, posicao + 1, folgas.length - posicao);
+        return new OcupacaoMes(mes, novosIds, novasFolgas);
+    }
+
+    /**
+     * Acumula colaboradores e folgas; cada colaborador vira uma linha da matriz
+     */
+    public static final class Construtor {
+
+        private final YearMonth mes;
+        private final Map<Long, Integer> linhas = new HashMap<>();
+
+        private Construtor(YearMonth mes) {
+            this.mes = mes;
+        }
+
+        public Construtor colaborador(long colaboradorId) {
+            linhas.putIfAbsent(colaboradorId, 0);
+            return this;
+        }
+
+        /**
+         * Registra a folga; datas fora do mês são ignoradas
+         */
+        public Construtor folga(long colaboradorId, LocalDate data) {
+            boolean doMes = data.getYear() == mes.getYear() && data.getMonthValue() == mes.getMonthValue();
+            linhas.merge(colaboradorId, doMes ? bit(data.getDayOfMonth()) : 0, (a, b) -> a | b);
+            return this;
+        }
+
+        public OcupacaoMes construir() {
+            long[] ids = linhas.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+            int[] folgas = new int[ids.length];
+            for (int i = 0; i < ids.length; i++) {
+                folgas[i] = linhas.get(ids[i]);
+            }
+            return new OcupacaoMes(mes, ids, folgas);
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.oroboros.EscalaDeFolga.domain.model.escala;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Retrato imutável de uma escala em uma versão do calendário, com tudo o que as
+ * regras de folga e os geradores de alertas precisam para avaliar uma folga sem
+ * consultar o banco.
+ *
+ * <p>Guarda a escala, os colaboradores do setor/turno (e os que já têm folga nela),
+ * todas as folgas da escala agrupadas por colaborador (em qualquer status, para a
+ * duplicidade), a {@link OcupacaoMes} das folgas ativas, a última folga de cada
+ * colaborador antes do mês e o limite de folgas por dia.</p>
+ *
+ * <p>As entidades são compartilhadas entre requisições e não devem ser alteradas
+ * nem ter associações preguiçosas navegadas.</p>
+ */
+public final class RetratoEscala {
+
+    private static final List<StatusFolgaEnum> STATUS_ATIVOS =
+            List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA);
+
+    private final long versao;
+    private final Escala escala;
+    private final OcupacaoMes ocupacao;
+    private final int limiteDoDia;
+    private final int colaboradoresNoTurno;
+    private final Map<Long, Colaborador> colaboradores;
+    private final Map<Long, List<Folga>> folgasPorColaborador;
+    private final Map<Long, LocalDate> ultimaFolgaAntesDoMes;
+
+    private RetratoEscala(
+            long versao,
+            Escala escala,
+            OcupacaoMes ocupacao,
+            int limiteDoDia,
+            int colaboradoresNoTurno,
+            Map<Long, Colaborador> colaboradores,
+            Map<Long, List<Folga>> folgasPorColaborador,
+            Map<Long, LocalDate> ultimaFolgaAntesDoMes
+    ) {
+        this.versao = versao;
+        this.escala = escala;
+        this.ocupacao = ocupacao;
+        this.limiteDoDia = limiteDoDia;
+        this.colaboradoresNoTurno = colaboradoresNoTurno;
+        this.colaboradores = colaboradores;
+        this.folgasPorColaborador = folgasPorColaborador;
+        this.ultimaFolgaAntesDoMes = ultimaFolgaAntesDoMes;
+    }
+
+    /**
+     * @param versao versão do calendário da escala lida antes da carga
+     * @param colaboradoresNoTurno colaboradores do setor/turno da escala
+     * @param folgas todas as folgas da escala, com o colaborador carregado
+     * @param ultimaFolgaAntesDoMes última folga ativa de cada colaborador antes do mês da escala
+     * @param limiteDoDia máximo de folgas ativas por dia
+     */
+    public static RetratoEscala de(
+            long versao,
+            Escala escala,
+            Collection<Colaborador> colaboradoresNoTurno,
+            Collection<Folga> folgas,
+            Map<Long, LocalDate> ultimaFolgaAntesDoMes,
+            int limiteDoDia
+    ) {
+        Map<Long, Colaborador> colaboradores = new HashMap<>();
+        colaboradoresNoTurno.forEach(c -> colaboradores.put(c.getId(), c));
+
+        Map<Long, List<Folga>> porColaborador = new HashMap<>();
+        for (Folga folga : folgas) {
+            Colaborador colaborador = folga.getColaborador();
+            colaboradores.putIfAbsent(colaborador.getId(), colaborador);
+            porColaborador.computeIfAbsent(colaborador.getId(), id -> new ArrayList<>()).add(folga);
+        }
+        porColaborador.replaceAll((id, lista) -> List.copyOf(lista));
+
+        OcupacaoMes ocupacao = OcupacaoMes.de(
+                YearMonth.of(escala.getAno(), escala.getMes()), colaboradores.keySet(), folgas);
+
+        return new RetratoEscala(
+                versao,
+                escala,
+                ocupacao,
+                limiteDoDia,
+                colaboradoresNoTurno.size(),
+                Map.copyOf(colaboradores),
+                Map.copyOf(porColaborador),
+                Map.copyOf(ultimaFolgaAntesDoMes)
+        );
+    }
+
+    public long getVersao() {
+        return versao;
+    }
+
+    public Escala getEscala() {
+        return escala;
+    }
+
+    /**
+     * Folgas ativas da escala, sem nenhuma simulação
+     */
+    public OcupacaoMes getOcupacao() {
+        return ocupacao;
+    }
+
+    public int getLimiteDoDia() {
+        return limiteDoDia;
+    }
+
+    public int getColaboradoresNoTurno() {
+        return colaboradoresNoTurno;
+    }
+
+    /**
+     * Colaborador do setor/turno ou com folga na escala, ou {@code null}
+     */
+    public Colaborador colaborador(long colaboradorId) {
+        return colaboradores.get(colaboradorId);
+    }
+
+    /**
+     * Folgas do colaborador na escala, em qualquer status
+     */
+    public List<Folga> folgasDe(long colaboradorId) {
+        return folgasPorColaborador.getOrDefault(colaboradorId, List.of());
+    }
+
+    /**
+     * Última folga ativa do colaborador antes da data: no mês da escala ou, sem
+     * nenhuma antes dela no mês, a última dos meses anteriores ({@code null} se não houver)
+     */
+    public LocalDate ultimaFolgaAntes(long colaboradorId, LocalDate data) {
+        LocalDate ultima = null;
+        for (Folga folga : folgasDe(colaboradorId)) {
+            LocalDate dia = folga.getDataSolicitada();
+            if (STATUS_ATIVOS.contains(folga.getStatus()) && dia.isBefore(data)
+                    && (ultima == null || dia.isAfter(ultima))) {
+                ultima = dia;
+            }
+        }
+        return ultima != null ? ultima : ultimaFolgaAntesDoMes.get(colaboradorId);
+    }
+}
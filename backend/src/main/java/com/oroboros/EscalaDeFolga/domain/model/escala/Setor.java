@@ -1,5 +1,6 @@
 package com.oroboros.EscalaDeFolga.domain.model.escala;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.oroboros.EscalaDeFolga.domain.util.TextoNormalizerUtil;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
@@ -12,10 +13,12 @@ import lombok.Setter;
 @Getter
 @Setter
 @Entity
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"}) // proxy LAZY no JSON da auditoria
 public class Setor {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "setor_seq")
+    @SequenceGenerator(name = "setor_seq", sequenceName = "setor_seq", allocationSize = 50)
     private Long id;
 
     private String nome;
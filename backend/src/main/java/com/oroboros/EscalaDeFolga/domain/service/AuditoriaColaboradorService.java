@@ -1,18 +1,63 @@
 package com.oroboros.EscalaDeFolga.domain.service;
 
+import com.oroboros.EscalaDeFolga.app.dto.colaborador.AuditoriaColaboradorDTO;
+import com.oroboros.EscalaDeFolga.app.dto.colaborador.AuditoriaHistoricoResponseDTO;
 import com.oroboros.EscalaDeFolga.app.dto.colaborador.AuditoriaInfoDTO;
+import com.oroboros.EscalaDeFolga.config.AuditoriaProperties;
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.AuditoriaColaborador;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.infrastructure.auditoria.GravadorAuditoria;
+import com.oroboros.EscalaDeFolga.infrastructure.auditoria.RegistroAuditoria;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.AuditoriaColaboradorRepository;
-import org.springframework.beans.factory.annotation.Autowired;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Auditoria das alterações de colaboradores.
+ *
+ * <p>No modo assíncrono (padrão) o registro vai para o {@link GravadorAuditoria}
+ * e a requisição não espera o insert. Dentro de uma transação, só é entregue
+ * depois do commit: uma alteração desfeita não deixa auditoria.</p>
+ *
+ * <p>O histórico é lido em páginas por chave (dataHora, id), do mais recente para
+ * o mais antigo; o cursor da próxima página é a chave do último item, codificada.</p>
+ */
 @Service
+@RequiredArgsConstructor
 public class AuditoriaColaboradorService {
 
-    @Autowired
-    private AuditoriaColaboradorRepository repository;
+    public static final int TAMANHO_PADRAO = 50;
+    public static final int TAMANHO_MAXIMO = 200;
+    static final int TAMANHO_EXPORTACAO = 500;
+
+    // Limites usados quando o filtro não informa o período (válidos em qualquer banco)
+    private static final LocalDateTime INICIO_PADRAO = LocalDateTime.of(1900, 1, 1, 0, 0);
+    private static final LocalDateTime FIM_PADRAO = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    private final AuditoriaColaboradorRepository repository;
+    private final ColaboradorRepository colaboradorRepository;
+    private final GravadorAuditoria gravador;
+    private final AuditoriaProperties properties;
+
+    /**
+     * Filtros opcionais do histórico; o período é [inicio, fim)
+     */
+    public record FiltroHistorico(AcaoAuditoriaEnum acao, LocalDateTime inicio, LocalDateTime fim) {}
 
 
     public void criarAuditoria(
@@ -22,17 +67,120 @@ public class AuditoriaColaboradorService {
             String dadosAnteriores,
             String dadosNovos
     ) {
-        AuditoriaColaborador auditoria = AuditoriaColaborador.criar(
+        RegistroAuditoria registro = RegistroAuditoria.de(
                 acao,
                 colaborador.getId(),
-                auditor.usuarioId(),
-                auditor.usuarioNome(),
+                auditor,
                 dadosAnteriores,
-                dadosNovos,
-                auditor.ipOrigem(),
-                auditor.userAgent()
+                dadosNovos
         );
 
-        repository.save(auditoria);
+        if (!properties.assincrona()) {
+            repository.save(registro.paraEntidade());
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    gravador.enfileirar(registro);
+                }
+            });
+        } else {
+            gravador.enfileirar(registro);
+        }
+    }
+
+    public void validarColaborador(Long colaboradorId) {
+        if (!colaboradorRepository.existsById(colaboradorId)) {
+            throw new BusinessException("Colaborador", colaboradorId);
+        }
+    }
+
+    /**
+     * Uma página do histórico, a partir do cursor (ou do registro mais recente, sem cursor)
+     */
+    public AuditoriaHistoricoResponseDTO historico(Long colaboradorId, FiltroHistorico filtro, String cursor, int tamanho) {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO) {
+            throw new BusinessException("O tamanho da página deve estar entre 1 e " + TAMANHO_MAXIMO + ".");
+        }
+        validarColaborador(colaboradorId);
+
+        Chave inicio = cursor != null && !cursor.isBlank() ? Chave.decodificar(cursor) : Chave.fim(filtro);
+        // Um item a mais indica se há próxima página
+        List<AuditoriaColaborador> pagina = buscarPagina(colaboradorId, filtro, inicio, tamanho + 1);
+
+        boolean temProxima = pagina.size() > tamanho;
+        List<AuditoriaColaborador> itens = temProxima ? pagina.subList(0, tamanho) : pagina;
+        String proximoCursor = temProxima ? Chave.de(itens.get(itens.size() - 1)).codificar() : null;
+
+        return new AuditoriaHistoricoResponseDTO(
+                itens.stream().map(AuditoriaColaboradorDTO::fromEntity).toList(),
+                proximoCursor
+        );
+    }
+
+    /**
+     * Entrega o histórico filtrado inteiro, página a página: só uma página fica em memória
+     */
+    public void exportar(Long colaboradorId, FiltroHistorico filtro, Consumer<List<AuditoriaColaboradorDTO>> destino) {
+        Chave chave = Chave.fim(filtro);
+        List<AuditoriaColaborador> pagina;
+        do {
+            pagina = buscarPagina(colaboradorId, filtro, chave, TAMANHO_EXPORTACAO);
+            if (pagina.isEmpty()) {
+                break;
+            }
+            destino.accept(pagina.stream().map(AuditoriaColaboradorDTO::fromEntity).toList());
+            chave = Chave.de(pagina.get(pagina.size() - 1));
+        } while (pagina.size() == TAMANHO_EXPORTACAO);
+    }
+
+    private List<AuditoriaColaborador> buscarPagina(Long colaboradorId, FiltroHistorico filtro, Chave antesDe, int limite) {
+        Set<AcaoAuditoriaEnum> acoes = filtro.acao() != null
+                ? EnumSet.of(filtro.acao())
+                : EnumSet.allOf(AcaoAuditoriaEnum.class);
+        LocalDateTime inicio = filtro.inicio() != null ? filtro.inicio() : INICIO_PADRAO;
+
+        return repository.findHistorico(
+                colaboradorId, acoes, inicio, antesDe.dataHora(), antesDe.id(), Limit.of(limite));
+    }
+
+    /**
+     * Chave de paginação: a página traz os registros estritamente anteriores a ela
+     */
+    private record Chave(LocalDateTime dataHora, Long id) {
+
+        private static final String SEPARADOR = "_";
+
+        static Chave de(AuditoriaColaborador auditoria) {
+            return new Chave(auditoria.getDataHora(), auditoria.getId());
+        }
+
+        /**
+         * Primeira página: tudo antes do fim do período (id 0 exclui o próprio instante final)
+         */
+        static Chave fim(FiltroHistorico filtro) {
+            return filtro.fim() != null ? new Chave(filtro.fim(), 0L) : new Chave(FIM_PADRAO, 0L);
+        }
+
+        String codificar() {
+            String chave = dataHora + SEPARADOR + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(chave.getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Chave decodificar(String cursor) {
+            try {
+                String chave = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separador = chave.lastIndexOf(SEPARADOR);
+                return new Chave(
+                        LocalDateTime.parse(chave.substring(0, separador)),
+                        Long.parseLong(chave.substring(separador + 1))
+                );
+            } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+                throw new BusinessException("Cursor de auditoria inválido.");
+            }
+        }
     }
 }
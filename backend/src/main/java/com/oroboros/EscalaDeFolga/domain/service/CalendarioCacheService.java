@@ -0,0 +1,140 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.app.dto.calendario.CalendarioResponseDTO;
+import com.oroboros.EscalaDeFolga.app.mapper.CalendarioMapper;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Cache do calendário já convertido em resposta, por escala.
+ *
+ * <p>O calendário só muda quando folgas, a própria escala ou os colaboradores do
+ * setor/turno mudam. Essas alterações publicam {@link EscalaAlteradaEvento} ou
+ * {@link ColaboradoresAlteradosEvento}, e apenas as escalas afetadas são removidas
+ * do cache depois do commit (antes dele, uma leitura concorrente poderia guardar
+ * de novo os dados antigos).</p>
+ *
+ * <p>Cada entrada guarda a versão da escala ({@link EscalaVersaoService}) lida antes
+ * de gerar o calendário. Uma entrada com versão menor que a atual é gerada de novo,
+ * cobrindo o intervalo entre o commit de uma alteração e a remoção do cache.</p>
+ *
+ * <p>O cache é limitado em tamanho e as entradas expiram em poucos minutos, porque
+ * parte do calendário (dias desde a última folga) depende da data atual.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarioCacheService {
+
+    public static final String CACHE = "calendarios";
+
+    private final CalendarioService calendarioService;
+    private final CalendarioMapper calendarioMapper;
+    private final EscalaRepository escalaRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Calendário da escala em uma versão igual ou mais nova que a informada,
+     * gerado apenas se o cache não tiver essa versão
+     */
+    public CalendarioVersionadoDomain obterCalendario(Long escalaId, long versao) {
+        CalendarioVersionadoDomain calendario;
+        try {
+            calendario = cache().get(escalaId, () -> gerar(escalaId, versao));
+        } catch (Cache.ValueRetrievalException e) {
+            // Mantém a exceção original (ex.: BusinessException) para o handler global
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+
+        if (calendario.versao() < versao) {
+            calendario = guardar(escalaId, gerar(escalaId, versao));
+        }
+        return calendario;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarEscala(EscalaAlteradaEvento evento) {
+        // Alertas não fazem parte do calendário
+        if (evento.origem() != EscalaAlteradaEvento.Origem.ALERTA) {
+            invalidar(evento.escalaId(), evento.origem().name());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarColaboradores(ColaboradoresAlteradosEvento evento) {
+        if (evento.setorId() == null || evento.turnos().isEmpty()) {
+            return;
+        }
+
+        List<Long> escalas = escalaRepository.findIdsPorSetorETurnos(evento.setorId(), evento.turnos());
+        escalas.forEach(escalaId -> invalidar(escalaId, "COLABORADOR"));
+    }
+
+    private CalendarioVersionadoDomain gerar(Long escalaId, long versao) {
+        log.debug("📅 Gerando calendário da escala {} (versão {})", escalaId, versao);
+        CalendarioService.CalendarioDomain calendario = calendarioService.gerarCalendario(escalaId);
+        return new CalendarioVersionadoDomain(
+                versao,
+                CalendarioService.fase(meterRegistry, "mapeamento").record(() -> calendarioMapper.toResponse(calendario))
+        );
+    }
+
+    /**
+     * Guarda o calendário só se ele for mais novo que o do cache: uma geração lenta,
+     * de uma versão anterior, não substitui a de outra requisição que já viu a alteração
+     *
+     * @return o calendário que ficou no cache
+     */
+    @SuppressWarnings("unchecked")
+    private CalendarioVersionadoDomain guardar(Long escalaId, CalendarioVersionadoDomain calendario) {
+        Object nativo = cache().getNativeCache();
+        ConcurrentMap<Object, Object> entradas;
+        if (nativo instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            entradas = (ConcurrentMap<Object, Object>) caffeine.asMap();
+        } else if (nativo instanceof ConcurrentMap<?, ?> mapa) {
+            entradas = (ConcurrentMap<Object, Object>) mapa;
+        } else {
+            cache().put(escalaId, calendario);
+            return calendario;
+        }
+
+        return (CalendarioVersionadoDomain) entradas.merge(escalaId, calendario, (atual, novo) ->
+                ((CalendarioVersionadoDomain) atual).versao() >= ((CalendarioVersionadoDomain) novo).versao()
+                        ? atual
+                        : novo);
+    }
+
+    private void invalidar(Long escalaId, String origem) {
+        if (cache().evictIfPresent(escalaId)) {
+            log.debug("🧹 Calendário da escala {} removido do cache ({})", escalaId, origem);
+            meterRegistry.counter("calendario.cache.invalidacoes", "origem", origem).increment();
+        }
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE);
+    }
+
+    /**
+     * ========================================
+     * CLASSES DE DOMÍNIO (não são DTOs!)
+     * ========================================
+     */
+
+    public record CalendarioVersionadoDomain(long versao, CalendarioResponseDTO calendario) {}
+}
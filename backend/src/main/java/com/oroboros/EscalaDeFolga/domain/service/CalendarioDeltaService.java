@@ -0,0 +1,78 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.escala.AlteracaoCalendario;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Calendário em delta - apenas os dias e colaboradores alterados desde uma versão.
+ *
+ * <p>Os itens alterados vêm do histórico mantido pelo {@link EscalaVersaoService}.
+ * O calendário completo é devolvido (com {@code completo = true}) quando a versão
+ * de partida é 0, está fora do histórico retido ou é maior que a atual, ou quando
+ * alguma alteração do intervalo afetou o calendário inteiro.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CalendarioDeltaService {
+
+    private final EscalaVersaoService escalaVersaoService;
+    private final CalendarioService calendarioService;
+
+    public CalendarioDeltaDomain gerarDelta(Long escalaId, long desde) {
+        // A versão é lida antes dos dados: o conteúdo gerado é no mínimo dessa versão
+        long versao = escalaVersaoService.buscarVersao(escalaId);
+
+        Optional<List<AlteracaoCalendario>> alteracoes = desde <= 0 || desde > versao
+                ? Optional.empty()
+                : escalaVersaoService.buscarAlteracoes(escalaId, desde, versao);
+
+        boolean completo = alteracoes.isEmpty()
+                || alteracoes.get().stream().anyMatch(AlteracaoCalendario::isCompleta);
+
+        if (completo) {
+            log.debug("📅 Delta da escala {} desde {}: calendário completo (versão {})", escalaId, desde, versao);
+            return new CalendarioDeltaDomain(versao, desde, true,
+                    calendarioService.gerarCalendarioParcial(escalaId, null, Set.of()));
+        }
+
+        Set<LocalDate> datas = alteracoes.get().stream()
+                .map(AlteracaoCalendario::getData)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        Set<Long> colaboradorIds = alteracoes.get().stream()
+                .map(AlteracaoCalendario::getColaboradorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toCollection(TreeSet::new));
+
+        log.debug("📅 Delta da escala {} desde {}: {} dia(s), {} colaborador(es) (versão {})",
+                escalaId, desde, datas.size(), colaboradorIds.size(), versao);
+
+        return new CalendarioDeltaDomain(versao, desde, false,
+                calendarioService.gerarCalendarioParcial(escalaId, datas, colaboradorIds));
+    }
+
+    /**
+     * ========================================
+     * CLASSES DE DOMÍNIO (não são DTOs!)
+     * ========================================
+     */
+
+    public record CalendarioDeltaDomain(
+            long versao,
+            long desde,
+            boolean completo,
+            CalendarioService.CalendarioParcialDomain parcial
+    ) {}
+}
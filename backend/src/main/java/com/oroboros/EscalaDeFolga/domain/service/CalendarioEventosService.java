@@ -0,0 +1,451 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.app.dto.calendario.CalendarioEventoDTO;
+import com.oroboros.EscalaDeFolga.config.CalendarioEventosProperties;
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.AlertasGeradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.FolgaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Stream SSE das alterações do calendário, por escala.
+ *
+ * <p>Os eventos de domínio são convertidos em eventos compactos
+ * ({@link CalendarioEventoDTO}) somente depois do commit e somente se houver
+ * clientes conectados à escala. Cada cliente tem uma fila limitada: quando ela
+ * enche, o evento mais antigo é descartado. Os ids dos eventos são sequenciais por
+ * escala, então uma lacuna indica descarte e o cliente deve buscar o delta do
+ * calendário a partir da última versão que conhece.</p>
+ *
+ * <p>As conexões são assíncronas e não ocupam threads enquanto ociosas. Depois do
+ * commit, a thread que fez a alteração só confere se há clientes na escala: a
+ * montagem dos eventos (versão, status dos dias, escalas do setor) e o envio são
+ * feitos pelo pool {@code calendarioEventosExecutor}. As montagens de uma escala
+ * rodam uma por vez, na ordem dos commits, e cada cliente tem no máximo uma tarefa
+ * de envio.</p>
+ */
+@Slf4j
+@Service
+public class CalendarioEventosService {
+
+    private static final String EVENTO_CONECTADO = "CONECTADO";
+    private static final String EVENTO_CALENDARIO = "CALENDARIO_ALTERADO";
+    private static final String EVENTO_DIA = "DIA_ALTERADO";
+    private static final String EVENTO_COLABORADOR = "COLABORADOR_ALTERADO";
+    private static final String EVENTO_ALERTA = "ALERTA_CRIADO";
+
+    private final EscalaVersaoService escalaVersaoService;
+    private final CalendarioService calendarioService;
+    private final EscalaRepository escalaRepository;
+    private final TaskExecutor executor;
+    private final CalendarioEventosProperties properties;
+    private final Counter descartados;
+
+    private final Map<Long, Canal> canais = new ConcurrentHashMap<>();
+
+    public CalendarioEventosService(
+            EscalaVersaoService escalaVersaoService,
+            CalendarioService calendarioService,
+            EscalaRepository escalaRepository,
+            @Qualifier("calendarioEventosExecutor") TaskExecutor executor,
+            CalendarioEventosProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.escalaVersaoService = escalaVersaoService;
+        this.calendarioService = calendarioService;
+        this.escalaRepository = escalaRepository;
+        this.executor = executor;
+        this.properties = properties;
+        this.descartados = meterRegistry.counter("calendario.eventos.descartados");
+        Gauge.builder("calendario.eventos.assinantes", this, CalendarioEventosService::totalAssinantes)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Abre o stream da escala; a primeira mensagem traz a versão atual do calendário
+     */
+    public SseEmitter assinar(Long escalaId) {
+        long versao = escalaVersaoService.buscarVersao(escalaId);
+
+        SseEmitter emitter = new SseEmitter(properties.timeoutMs());
+        Assinante assinante = new Assinante(escalaId, emitter);
+
+        Canal canal = canais.compute(escalaId, (id, atual) -> {
+            Canal c = atual != null ? atual : new Canal();
+            c.assinantes.add(assinante);
+            return c;
+        });
+
+        emitter.onCompletion(() -> remover(escalaId, assinante));
+        emitter.onTimeout(() -> remover(escalaId, assinante));
+        emitter.onError(e -> remover(escalaId, assinante));
+
+        assinante.enfileirar(canal.mensagem(EVENTO_CONECTADO, evento(EVENTO_CONECTADO, escalaId, versao)));
+
+        log.debug("📡 Cliente conectado aos eventos da escala {} ({} na escala)", escalaId, canal.assinantes.size());
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarFolga(FolgaAlteradaEvento evento) {
+        String tipo = "FOLGA_" + evento.tipo().name();
+        montar(evento.escalaId(), () -> publicar(evento.escalaId(), tipo, new CalendarioEventoDTO(
+                tipo,
+                evento.escalaId(),
+                versaoAtual(evento.escalaId()),
+                evento.folgaId(),
+                evento.colaboradorId(),
+                evento.data(),
+                evento.dataAnterior(),
+                evento.status() != null ? evento.status().name() : null,
+                null, null, null, null, null, null
+        )));
+    }
+
+    /**
+     * Dias alterados: envia o novo status e a ocupação de cada dia
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarEscala(EscalaAlteradaEvento evento) {
+        Long escalaId = evento.escalaId();
+        if (evento.origem() == EscalaAlteradaEvento.Origem.ALERTA) {
+            return;
+        }
+
+        if (evento.isCompleta()) {
+            montar(escalaId, () ->
+                    publicar(escalaId, EVENTO_CALENDARIO, evento(EVENTO_CALENDARIO, escalaId, versaoAtual(escalaId))));
+        } else if (!evento.datas().isEmpty()) {
+            montar(escalaId, () -> publicarDias(escalaId, evento.datas()));
+        }
+    }
+
+    private void publicarDias(Long escalaId, Set<LocalDate> datas) {
+        try {
+            Long versao = versaoAtual(escalaId);
+            calendarioService.gerarCalendarioParcial(escalaId, datas, Set.of()).dias()
+                    .forEach(dia -> publicar(escalaId, EVENTO_DIA, new CalendarioEventoDTO(
+                            EVENTO_DIA,
+                            escalaId,
+                            versao,
+                            null,
+                            null,
+                            dia.data(),
+                            null,
+                            dia.status().nome(),
+                            dia.totalFolgasNoDia(),
+                            dia.limiteMaximoFolgas(),
+                            null, null, null, null
+                    )));
+        } catch (RuntimeException e) {
+            // Sem o status dos dias, o cliente recarrega o delta
+            log.warn("⚠️ Não foi possível montar os dias alterados da escala {}: {}", escalaId, e.getMessage());
+            publicar(escalaId, EVENTO_CALENDARIO, evento(EVENTO_CALENDARIO, escalaId, versaoAtual(escalaId)));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarColaboradores(ColaboradoresAlteradosEvento evento) {
+        if (canais.isEmpty() || evento.setorId() == null || evento.turnos().isEmpty()) {
+            return;
+        }
+
+        // A busca das escalas do setor também sai da thread que fez a alteração
+        try {
+            executor.execute(() -> escalaRepository.findIdsPorSetorETurnos(evento.setorId(), evento.turnos())
+                    .forEach(escalaId -> montar(escalaId, () -> publicarColaboradores(escalaId, evento))));
+        } catch (TaskRejectedException e) {
+            // Sem a busca das escalas do setor, todos os clientes conectados recarregam o delta
+            log.warn("⚠️ Pool de eventos do calendário cheio: alteração de colaboradores do setor {} "
+                    + "enviada sem detalhes", evento.setorId());
+            descartados.increment();
+            canais.keySet().forEach(escalaId ->
+                    publicar(escalaId, EVENTO_CALENDARIO, evento(EVENTO_CALENDARIO, escalaId, null)));
+        }
+    }
+
+    private void publicarColaboradores(Long escalaId, ColaboradoresAlteradosEvento evento) {
+        Long versao = versaoAtual(escalaId);
+        if (!evento.apenasUltimaFolga()) {
+            publicar(escalaId, EVENTO_CALENDARIO, evento(EVENTO_CALENDARIO, escalaId, versao));
+            return;
+        }
+        evento.colaboradorIds().forEach(colaboradorId -> publicar(escalaId, EVENTO_COLABORADOR,
+                new CalendarioEventoDTO(EVENTO_COLABORADOR, escalaId, versao, null, colaboradorId,
+                        null, null, null, null, null, null, null, null, null)));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoGerarAlertas(AlertasGeradosEvento evento) {
+        montar(evento.escalaId(), () -> publicarAlertas(evento));
+    }
+
+    private void publicarAlertas(AlertasGeradosEvento evento) {
+        Long escalaId = evento.escalaId();
+        Long versao = versaoAtual(escalaId);
+        evento.alertas().forEach(alerta -> publicar(escalaId, EVENTO_ALERTA, new CalendarioEventoDTO(
+                EVENTO_ALERTA,
+                escalaId,
+                versao,
+                alerta.folgaId(),
+                alerta.colaboradorId(),
+                null,
+                null,
+                null,
+                null,
+                null,
+                alerta.id(),
+                alerta.tipo() != null ? alerta.tipo().name() : null,
+                alerta.severidade() != null ? alerta.severidade().name() : null,
+                alerta.mensagem()
+        )));
+    }
+
+    /**
+     * Comentário periódico: mantém proxies abertos e detecta clientes desconectados
+     */
+    @Scheduled(fixedDelayString = "${escala.calendario.eventos.heartbeat-ms:25000}")
+    public void enviarHeartbeat() {
+        canais.values().forEach(canal -> canal.assinantes.forEach(Assinante::heartbeat));
+    }
+
+    @PreDestroy
+    public void encerrar() {
+        canais.values().forEach(canal -> canal.assinantes.forEach(a -> a.emitter.complete()));
+        canais.clear();
+    }
+
+    int totalAssinantes() {
+        return canais.values().stream().mapToInt(c -> c.assinantes.size()).sum();
+    }
+
+    /**
+     * Agenda a montagem dos eventos de uma escala com clientes conectados; sem
+     * clientes nada é consultado
+     */
+    private void montar(Long escalaId, Runnable montagem) {
+        Canal canal = canais.get(escalaId);
+        if (canal != null) {
+            canal.montar(escalaId, montagem);
+        }
+    }
+
+    private void publicar(Long escalaId, String nome, CalendarioEventoDTO dados) {
+        Canal canal = canais.get(escalaId);
+        if (canal == null) {
+            return;
+        }
+        Mensagem mensagem = canal.mensagem(nome, dados);
+        canal.assinantes.forEach(a -> a.enfileirar(mensagem));
+    }
+
+    private void remover(Long escalaId, Assinante assinante) {
+        assinante.ativo = false;
+        canais.computeIfPresent(escalaId, (id, canal) -> {
+            canal.assinantes.remove(assinante);
+            return canal.assinantes.isEmpty() ? null : canal;
+        });
+    }
+
+    private Long versaoAtual(Long escalaId) {
+        try {
+            return escalaVersaoService.buscarVersao(escalaId);
+        } catch (BusinessException e) {
+            return null; // Escala excluída
+        }
+    }
+
+    private CalendarioEventoDTO evento(String tipo, Long escalaId, Long versao) {
+        return new CalendarioEventoDTO(tipo, escalaId, versao,
+                null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Clientes de uma escala, a sequência dos ids dos eventos e as montagens
+     * pendentes, executadas uma por vez no pool
+     */
+    private final class Canal {
+        private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+        private final AtomicLong sequencia = new AtomicLong();
+        private final Deque<Runnable> montagens = new ArrayDeque<>();
+        private final AtomicBoolean montando = new AtomicBoolean();
+
+        private Mensagem mensagem(String nome, CalendarioEventoDTO dados) {
+            return new Mensagem(String.valueOf(sequencia.incrementAndGet()), nome, dados);
+        }
+
+        private void montar(Long escalaId, Runnable montagem) {
+            synchronized (montagens) {
+                montagens.addLast(montagem);
+            }
+            agendar(escalaId);
+        }
+
+        private void agendar(Long escalaId) {
+            if (!montando.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(() -> executarMontagens(escalaId));
+            } catch (TaskRejectedException e) {
+                montando.set(false);
+                int perdidas;
+                synchronized (montagens) {
+                    perdidas = montagens.size();
+                    montagens.clear();
+                }
+                // Sem os detalhes, o cliente recarrega o delta a partir da versão que conhece
+                log.warn("⚠️ Pool de eventos do calendário cheio: {} montagem(ns) da escala {} descartada(s)",
+                        perdidas, escalaId);
+                descartados.increment(perdidas);
+                publicar(escalaId, EVENTO_CALENDARIO, evento(EVENTO_CALENDARIO, escalaId, null));
+            }
+        }
+
+        private void executarMontagens(Long escalaId) {
+            try {
+                Runnable montagem;
+                while ((montagem = proximaMontagem()) != null) {
+                    try {
+                        montagem.run();
+                    } catch (RuntimeException e) {
+                        log.warn("⚠️ Falha ao montar evento da escala {}: {}", escalaId, e.getMessage());
+                    }
+                }
+            } finally {
+                montando.set(false);
+            }
+
+            // Montagem que chegou entre a última leitura e a liberação da flag
+            boolean pendente;
+            synchronized (montagens) {
+                pendente = !montagens.isEmpty();
+            }
+            if (pendente) {
+                agendar(escalaId);
+            }
+        }
+
+        private Runnable proximaMontagem() {
+            synchronized (montagens) {
+                return montagens.pollFirst();
+            }
+        }
+    }
+
+    /**
+     * Mensagem pendente; sem nome é um comentário de heartbeat
+     */
+    private record Mensagem(String id, String nome, CalendarioEventoDTO dados) {
+
+        private SseEmitter.SseEventBuilder paraEnvio() {
+            if (nome == null) {
+                return SseEmitter.event().comment("ping");
+            }
+            return SseEmitter.event().id(id).name(nome).data(dados, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    /**
+     * Cliente conectado: fila limitada (descarta a mais antiga) drenada por uma tarefa por vez
+     */
+    private final class Assinante {
+        private final Long escalaId;
+        private final SseEmitter emitter;
+        private final Deque<Mensagem> fila = new ArrayDeque<>();
+        private final AtomicBoolean enviando = new AtomicBoolean();
+        private volatile boolean ativo = true;
+
+        private Assinante(Long escalaId, SseEmitter emitter) {
+            this.escalaId = escalaId;
+            this.emitter = emitter;
+        }
+
+        private void enfileirar(Mensagem mensagem) {
+            synchronized (fila) {
+                if (fila.size() >= properties.buffer()) {
+                    fila.pollFirst();
+                    descartados.increment();
+                }
+                fila.addLast(mensagem);
+            }
+            agendar();
+        }
+
+        private void heartbeat() {
+            synchronized (fila) {
+                if (!fila.isEmpty()) {
+                    return; // Já há algo a caminho
+                }
+            }
+            enfileirar(new Mensagem(null, null, null));
+        }
+
+        private void agendar() {
+            if (!ativo || !enviando.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                executor.execute(this::drenar);
+            } catch (TaskRejectedException e) {
+                enviando.set(false); // Tenta de novo no próximo evento ou heartbeat
+            }
+        }
+
+        private void drenar() {
+            try {
+                Mensagem mensagem;
+                while (ativo && (mensagem = proxima()) != null) {
+                    emitter.send(mensagem.paraEnvio());
+                }
+            } catch (IOException | IllegalStateException e) {
+                // Cliente desconectado: o container encerra a requisição
+                log.debug("📡 Cliente dos eventos da escala {} desconectado: {}", escalaId, e.getMessage());
+                remover(escalaId, this);
+            } finally {
+                enviando.set(false);
+            }
+
+            // Mensagem que chegou entre a última leitura e a liberação da flag
+            boolean pendente;
+            synchronized (fila) {
+                pendente = !fila.isEmpty();
+            }
+            if (pendente) {
+                agendar();
+            }
+        }
+
+        private Mensagem proxima() {
+            synchronized (fila) {
+                return fila.pollFirst();
+            }
+        }
+    }
+}
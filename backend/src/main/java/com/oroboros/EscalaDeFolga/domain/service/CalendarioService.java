@@ -2,10 +2,13 @@ package com.oroboros.EscalaDeFolga.domain.service;
 
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
 import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.*;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,25 +19,40 @@ import java.util.*;
 import java.util.stream.Collectors;
 
 /**
- * Service de Calendário - trabalha apenas com entidades e classes de domínio
+ * Service de Calendário - trabalha apenas com entidades e classes de domínio.
+ *
+ * <p>As fases da montagem (dias, colaboradores, resumo e, no cache, o mapeamento
+ * para a resposta) são medidas no timer {@value #METRICA_FASE}, com a tag {@code fase}.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class CalendarioService {
 
+    public static final String METRICA_FASE = "calendario.fase";
+
     private final EscalaRepository escalaRepository;
     private final ColaboradorRepository colaboradorRepository;
     private final FolgaRepository folgaRepository;
     private final EscalaRegrasService regrasService;
+    private final OcupacaoDiaService ocupacaoDiaService;
+    private final MeterRegistry meterRegistry;
+
+    private static final List<StatusFolgaEnum> STATUS_ATIVOS =
+            List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA);
 
     /**
-     * Gera dados do calendário do mês (retorna domínio, não DTO)
+     * Gera dados do calendário do mês (retorna domínio, não DTO).
+     *
+     * <p>As folgas ativas da escala são carregadas em uma única consulta e
+     * agrupadas em memória por dia e na {@link OcupacaoMes} (colaborador × dia), de modo que o número de
+     * consultas não depende do tamanho do setor nem da quantidade de dias do mês.
+     * O total de folgas de cada dia vem dos contadores de ocupação.</p>
      */
     public CalendarioDomain gerarCalendario(Long escalaId) {
         log.info("📅 Gerando calendário para escala {}", escalaId);
 
-        Escala escala = escalaRepository.findById(escalaId)
+        Escala escala = escalaRepository.findComSetorById(escalaId)
                 .orElseThrow(() -> new BusinessException("Escala", escalaId));
 
         List<Colaborador> colaboradores = colaboradorRepository
@@ -46,15 +64,30 @@ public class CalendarioService {
             );
         }
 
+        // Carrega todas as folgas ativas da escala de uma vez
+        List<Folga> folgasAtivas = folgaRepository
+                .findByEscalaAndStatusInComColaborador(escala, STATUS_ATIVOS);
+
+        Map<LocalDate, List<Folga>> folgasPorDia = folgasAtivas.stream()
+                .collect(Collectors.groupingBy(Folga::getDataSolicitada));
+
+        // Matriz colaborador × dia das folgas do mês
+        OcupacaoMes ocupacaoMes = OcupacaoMes.de(escala, folgasAtivas);
+
+        // Ocupação mantida por dia (dias sem contador usam as folgas carregadas)
+        Map<LocalDate, Integer> ocupacaoPorDia = ocupacaoDiaService.contarPorDia(escala);
+
         // Gera dias do mês
-        List<DiaDomain> dias = gerarDiasMes(escala, colaboradores);
+        List<DiaDomain> dias = fase(meterRegistry, "dias").record(() ->
+                gerarDiasMes(escala, colaboradores, folgasPorDia, ocupacaoPorDia));
 
         // Gera colaboradores com histórico
-        List<ColaboradorHistoricoDomain> colaboradoresHistorico =
-                gerarColaboradoresComHistorico(escala, colaboradores);
+        List<ColaboradorHistoricoDomain> colaboradoresHistorico = fase(meterRegistry, "colaboradores").record(() ->
+                gerarColaboradoresComHistorico(escala, colaboradores, ocupacaoMes));
 
         // Calcula resumo
-        ResumoCalendarioDomain resumo = calcularResumo(escala, dias, colaboradores);
+        ResumoCalendarioDomain resumo = fase(meterRegistry, "resumo").record(() ->
+                calcularResumo(escala, dias, colaboradores));
 
         // Configuração
         ConfiguracaoCalendarioDomain configuracao = obterConfiguracao(escala);
@@ -68,6 +101,91 @@ public class CalendarioService {
         );
     }
 
+    /**
+     * Gera apenas os dias e os colaboradores informados, mais o resumo do mês.
+     *
+     * <p>Só são carregadas as folgas dessas datas e desses colaboradores. O resumo
+     * usa os contadores de ocupação de todos os dias, então o custo acompanha a
+     * quantidade de itens pedidos e não o tamanho do mês. Passar {@code null} em
+     * {@code datas} gera o mês inteiro.</p>
+     */
+    public CalendarioParcialDomain gerarCalendarioParcial(Long escalaId, Set<LocalDate> datas, Set<Long> colaboradorIds) {
+        if (datas == null) {
+            CalendarioDomain completo = gerarCalendario(escalaId);
+            return new CalendarioParcialDomain(completo.escala(), completo.dias(), completo.colaboradores(), completo.resumo());
+        }
+
+        Escala escala = escalaRepository.findById(escalaId)
+                .orElseThrow(() -> new BusinessException("Escala", escalaId));
+
+        List<Colaborador> colaboradores = colaboradorRepository
+                .findBySetorAndTurno(escala.getSetor(), escala.getTurno());
+
+        if (colaboradores.isEmpty()) {
+            throw new BusinessException(
+                    "Não há colaboradores cadastrados para este turno/setor"
+            );
+        }
+
+        List<Folga> folgas = buscarFolgasParciais(escala, datas, colaboradorIds);
+
+        Map<LocalDate, List<Folga>> folgasPorDia = folgas.stream()
+                .filter(f -> datas.contains(f.getDataSolicitada()))
+                .collect(Collectors.groupingBy(Folga::getDataSolicitada));
+
+        OcupacaoMes ocupacaoMes = OcupacaoMes.de(escala, folgas.stream()
+                .filter(f -> colaboradorIds.contains(f.getColaborador().getId()))
+                .toList());
+
+        // Todos os dias entram no resumo; só os pedidos carregam as folgas
+        Map<LocalDate, Integer> ocupacaoPorDia = ocupacaoDiaService.contarPorDia(escala);
+        List<DiaDomain> todosOsDias = fase(meterRegistry, "dias").record(() ->
+                gerarDiasMes(escala, colaboradores, folgasPorDia, ocupacaoPorDia));
+
+        List<DiaDomain> dias = todosOsDias.stream()
+                .filter(d -> datas.contains(d.data()))
+                .toList();
+
+        List<Colaborador> pedidos = colaboradores.stream().filter(c -> colaboradorIds.contains(c.getId())).toList();
+        List<ColaboradorHistoricoDomain> colaboradoresHistorico = fase(meterRegistry, "colaboradores").record(() ->
+                gerarColaboradoresComHistorico(escala, pedidos, ocupacaoMes));
+
+        return new CalendarioParcialDomain(
+                escala,
+                dias,
+                colaboradoresHistorico,
+                fase(meterRegistry, "resumo").record(() -> calcularResumo(escala, todosOsDias, colaboradores))
+        );
+    }
+
+    /**
+     * Folgas ativas das datas e dos colaboradores pedidos. Uma coleção vazia não vai
+     * para o {@code IN}: cada combinação tem sua consulta.
+     */
+    private List<Folga> buscarFolgasParciais(Escala escala, Set<LocalDate> datas, Set<Long> colaboradorIds) {
+        if (datas.isEmpty() && colaboradorIds.isEmpty()) {
+            return List.of();
+        }
+        if (colaboradorIds.isEmpty()) {
+            return folgaRepository.findByEscalaAndStatusInDasDatas(escala, STATUS_ATIVOS, datas);
+        }
+        if (datas.isEmpty()) {
+            return folgaRepository.findByEscalaAndStatusInDosColaboradores(escala, STATUS_ATIVOS, colaboradorIds);
+        }
+        return folgaRepository.findByEscalaAndStatusInDasDatasOuColaboradores(escala, STATUS_ATIVOS, datas, colaboradorIds);
+    }
+
+    /**
+     * Timer de uma fase da montagem do calendário
+     */
+    public static Timer fase(MeterRegistry meterRegistry, String fase) {
+        return Timer.builder(METRICA_FASE)
+                .description("Fases da montagem do calendário")
+                .tag("fase", fase)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
     /**
      * Verifica se há colaboradores sem última folga registrada
      */
@@ -109,7 +227,12 @@ public class CalendarioService {
     /**
      * Gera lista de dias do mês
      */
-    private List<DiaDomain> gerarDiasMes(Escala escala, List<Colaborador> colaboradores) {
+    private List<DiaDomain> gerarDiasMes(
+            Escala escala,
+            List<Colaborador> colaboradores,
+            Map<LocalDate, List<Folga>> folgasPorDia,
+            Map<LocalDate, Integer> ocupacaoPorDia
+    ) {
         YearMonth mes = YearMonth.of(escala.getAno(), escala.getMes());
         LocalDate primeiroDia = mes.atDay(1);
         LocalDate ultimoDia = mes.atEndOfMonth();
@@ -117,7 +240,9 @@ public class CalendarioService {
         List<DiaDomain> dias = new ArrayList<>();
 
         for (LocalDate data = primeiroDia; !data.isAfter(ultimoDia); data = data.plusDays(1)) {
-            dias.add(gerarDia(data, escala, colaboradores));
+            List<Folga> folgasNoDia = folgasPorDia.getOrDefault(data, List.of());
+            int totalFolgasNoDia = ocupacaoPorDia.getOrDefault(data, folgasNoDia.size());
+            dias.add(gerarDia(data, colaboradores, folgasNoDia, totalFolgasNoDia));
         }
 
         return dias;
@@ -126,17 +251,15 @@ public class CalendarioService {
     /**
      * Gera informações de um dia
      */
-    private DiaDomain gerarDia(LocalDate data, Escala escala, List<Colaborador> colaboradores) {
-        List<Folga> folgasNoDia = folgaRepository.findByDataSolicitadaAndEscala(data, escala);
-
-        List<Folga> folgasAtivas = folgasNoDia.stream()
-                .filter(f -> f.getStatus() == StatusFolgaEnum.APROVADA ||
-                        f.getStatus() == StatusFolgaEnum.PENDENTE)
-                .collect(Collectors.toList());
-
-        int totalFolgasNoDia = folgasAtivas.size();
+    private DiaDomain gerarDia(
+            LocalDate data,
+            List<Colaborador> colaboradores,
+            List<Folga> folgasAtivas,
+            int totalFolgasNoDia
+    ) {
         int colaboradoresDisponiveis = colaboradores.size() - totalFolgasNoDia;
-        int limiteMaximo = (int) Math.floor(colaboradores.size() * 0.5);
+        // Mesmo limite que a inclusão de folgas aplica ao dia
+        int limiteMaximo = OcupacaoDiaService.limitePara(colaboradores.size());
 
         StatusDiaDomain status = determinarStatusDia(data, totalFolgasNoDia, limiteMaximo);
 
@@ -178,10 +301,11 @@ public class CalendarioService {
      */
     private List<ColaboradorHistoricoDomain> gerarColaboradoresComHistorico(
             Escala escala,
-            List<Colaborador> colaboradores
+            List<Colaborador> colaboradores,
+            OcupacaoMes ocupacaoMes
     ) {
         return colaboradores.stream()
-                .map(c -> gerarColaboradorHistorico(c, escala))
+                .map(c -> gerarColaboradorHistorico(c, escala, ocupacaoMes))
                 .sorted(Comparator.comparing(ColaboradorHistoricoDomain::nome))
                 .collect(Collectors.toList());
     }
@@ -191,41 +315,36 @@ public class CalendarioService {
      */
     private ColaboradorHistoricoDomain gerarColaboradorHistorico(
             Colaborador colaborador,
-            Escala escala
+            Escala escala,
+            OcupacaoMes ocupacaoMes
     ) {
-        List<Folga> folgas = folgaRepository.findByColaboradorAndEscalaAndStatusIn(
-                colaborador,
-                escala,
-                List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA)
-        );
-
+        int totalFolgas = ocupacaoMes.totalFolgas(colaborador.getId());
         LocalDate ultimaFolga = colaborador.getUltimaFolga();
         int diasDesdeUltima = ultimaFolga != null ?
                 (int) ChronoUnit.DAYS.between(ultimaFolga, LocalDate.now()) : 999;
 
         LocalDate proximaData = calcularProximaDataDisponivel(colaborador);
 
-        boolean temDomingo = folgas.stream()
-                .anyMatch(f -> f.getDataSolicitada().getDayOfWeek() == DayOfWeek.SUNDAY);
+        boolean temDomingo = ocupacaoMes.temDomingo(colaborador.getId());
 
         List<String> alertas = new ArrayList<>();
         if (!temDomingo) alertas.add("Sem domingo neste mês");
-        if (folgas.size() < escala.getFolgasPermitidas() / 2) {
+        if (totalFolgas < escala.getFolgasPermitidas() / 2) {
             alertas.add("Poucas folgas alocadas");
         }
 
-        String cor = determinarCorColaborador(diasDesdeUltima, folgas.size(), escala.getFolgasPermitidas());
+        String cor = determinarCorColaborador(diasDesdeUltima, totalFolgas, escala.getFolgasPermitidas());
 
         return new ColaboradorHistoricoDomain(
                 colaborador,
                 ultimaFolga,
                 diasDesdeUltima,
                 proximaData,
-                folgas.size(),
-                escala.getFolgasPermitidas() - folgas.size(),
-                folgas.stream().map(Folga::getDataSolicitada).collect(Collectors.toList()),
+                totalFolgas,
+                escala.getFolgasPermitidas() - totalFolgas,
+                ocupacaoMes.datas(colaborador.getId()),
                 temDomingo,
-                folgas.size() < escala.getFolgasPermitidas() / 2,
+                totalFolgas < escala.getFolgasPermitidas() / 2,
                 alertas,
                 diasDesdeUltima >= regrasService.getDiasTrabalhoPermitidos(),
                 cor
@@ -306,6 +425,13 @@ public class CalendarioService {
             ConfiguracaoCalendarioDomain configuracao
     ) {}
 
+    public record CalendarioParcialDomain(
+            Escala escala,
+            List<DiaDomain> dias,
+            List<ColaboradorHistoricoDomain> colaboradores,
+            ResumoCalendarioDomain resumo
+    ) {}
+
     public record DiaDomain(
             LocalDate data,
             StatusDiaDomain status,
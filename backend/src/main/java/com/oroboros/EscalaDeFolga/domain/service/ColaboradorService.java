@@ -6,12 +6,18 @@ import com.oroboros.EscalaDeFolga.app.dto.colaborador.ColaboradorResponseDTO;
 import com.oroboros.EscalaDeFolga.app.dto.colaborador.ColaboradorUpdateDTO;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.SnapshotColaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
 import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.AuditoriaColaboradorRepository;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.concorrencia.RetentativaOtimista;
 import com.oroboros.EscalaDeFolga.app.mapper.ColaboradorMapper;
-import com.oroboros.EscalaDeFolga.util.JsonUtil;
+import com.oroboros.EscalaDeFolga.util.AuditoriaJsonUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,6 +36,10 @@ public class ColaboradorService {
 
     private final ColaboradorMapper colaboradorMapper;
 
+    private final RetentativaOtimista retentativa;
+
+    private final ApplicationEventPublisher eventPublisher;
+
 
     public ColaboradorResponseDTO cadastrar(ColaboradorRequestDTO colaboradorDTO, AuditoriaInfoDTO auditor)  {
 
@@ -49,8 +59,9 @@ public class ColaboradorService {
                 colaborador,
                 auditor,
                 null,
-                JsonUtil.toJson(colaborador)
+                AuditoriaJsonUtil.snapshot(SnapshotColaborador.de(colaborador))
         );
+        eventPublisher.publishEvent(ColaboradoresAlteradosEvento.de(colaborador));
         return colaboradorMapper.toResponse(colaborador);
     }
 
@@ -71,7 +82,7 @@ public class ColaboradorService {
         Colaborador colaborador = colaboradorRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("Colaborador", id));
 
-        String dadosAnteriores = JsonUtil.toJson(colaborador);
+        String dadosAnteriores = AuditoriaJsonUtil.snapshot(SnapshotColaborador.de(colaborador));
 
         if (colaborador.isAtivo()) {
             colaborador.delete();
@@ -83,15 +94,24 @@ public class ColaboradorService {
                 colaborador,
                 auditor,
                 dadosAnteriores,
-                JsonUtil.toJson(colaborador)
+                AuditoriaJsonUtil.snapshot(SnapshotColaborador.de(colaborador))
         );
+        eventPublisher.publishEvent(ColaboradoresAlteradosEvento.de(colaborador));
     }
 
     public ColaboradorResponseDTO atualizar(Long id, AuditoriaInfoDTO auditor, ColaboradorUpdateDTO colaboradorUpdateDTO) {
         Colaborador colaborador = colaboradorRepository.findById(id)
                 .orElseThrow(() -> new BusinessException("Colaborador", id));
 
-        String dadosAnteriores = JsonUtil.toJson(colaborador);
+        Long versao = colaboradorUpdateDTO.versao();
+        if (versao != null && !versao.equals(colaborador.getVersao())) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Colaborador %d mudou desde a leitura (versão enviada %d, atual %d)", id, versao, colaborador.getVersao()));
+        }
+
+        SnapshotColaborador antes = SnapshotColaborador.de(colaborador);
+        Long setorAnteriorId = colaborador.getSetor() != null ? colaborador.getSetor().getId() : null;
+        TurnoEnum turnoAnterior = colaborador.getTurno();
 
         if (colaboradorUpdateDTO.nome() != null) {
             colaborador.setNome(colaboradorUpdateDTO.nome());
@@ -104,13 +124,20 @@ public class ColaboradorService {
         }
 
         colaboradorRepository.save(colaborador);
+
+        // Na atualização a auditoria guarda só os campos que mudaram
+        AuditoriaJsonUtil.Diferenca diferenca =
+                AuditoriaJsonUtil.diferenca(antes, SnapshotColaborador.de(colaborador));
         auditoriaService.criarAuditoria(
                 AcaoAuditoriaEnum.ATUALIZACAO,
                 colaborador,
                 auditor,
-                dadosAnteriores,
-                JsonUtil.toJson(colaborador)
+                diferenca.anteriores(),
+                diferenca.novos()
         );
+        // Remove do cache as escalas do setor/turno de antes e as do setor/turno de agora
+        ColaboradoresAlteradosEvento.alteracao(colaborador, setorAnteriorId, turnoAnterior)
+                .forEach(eventPublisher::publishEvent);
 
         return colaboradorMapper.toResponse(colaborador);
     }
@@ -124,15 +151,22 @@ public class ColaboradorService {
     }
 
     /**
-     * Atualiza última folga do colaborador manualmente
+     * Atualiza última folga do colaborador manualmente.
+     *
+     * <p>Grava um valor absoluto sobre o estado relido a cada tentativa, então um
+     * conflito com outra edição do colaborador é repetido no servidor em vez de
+     * voltar como 409.</p>
      */
     public ColaboradorResponseDTO atualizarUltimaFolga(Long id, LocalDate ultimaFolga) {
-        Colaborador colaborador = buscarPorIdEntity(id);
+        return retentativa.executar("última folga do colaborador " + id, () -> {
+            Colaborador colaborador = buscarPorIdEntity(id);
 
-        colaborador.setUltimaFolga(ultimaFolga);
+            colaborador.setUltimaFolga(ultimaFolga);
 
-        Colaborador atualizado = colaboradorRepository.save(colaborador);
+            Colaborador atualizado = colaboradorRepository.saveAndFlush(colaborador);
+            eventPublisher.publishEvent(ColaboradoresAlteradosEvento.ultimaFolga(atualizado));
 
-        return colaboradorMapper.toResponse(atualizado);
+            return colaboradorMapper.toResponse(atualizado);
+        });
     }
 }
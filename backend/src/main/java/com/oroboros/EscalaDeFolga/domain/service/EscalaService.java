@@ -2,6 +2,7 @@ package com.oroboros.EscalaDeFolga.domain.service;
 
 import com.oroboros.EscalaDeFolga.app.dto.escala.EscalaUpdateDTO;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
 import com.oroboros.EscalaDeFolga.domain.validation.escala.EscalaValidatorComposite;
@@ -11,6 +12,8 @@ import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -28,6 +31,10 @@ public class EscalaService {
 
     private final SetorService setorService;
 
+    private final OcupacaoDiaService ocupacaoDiaService;
+
+    private final ApplicationEventPublisher eventPublisher;
+
 
     @Transactional
     public Escala criarEscala(Escala escala) {
@@ -49,15 +56,20 @@ public class EscalaService {
 
 
     public Escala buscarPorId(Long id) {
-        return escalaRepository.findById(id)
+        return escalaRepository.findComSetorById(id)
                 .orElseThrow(() -> new BusinessException("Escala", id));
     }
 
     public Escala atualizarEscala(Long id, EscalaUpdateDTO dto) {
 
-        Escala escala = escalaRepository.findById(id)
+        Escala escala = escalaRepository.findComSetorById(id)
                 .orElseThrow(() -> new BusinessException("Escala", id));
 
+        if (dto.versao() != null && !dto.versao().equals(escala.getVersao())) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Escala %d mudou desde a leitura (versão enviada %d, atual %d)", id, dto.versao(), escala.getVersao()));
+        }
+
         var validacao = validaEscalaEditavel.validar(escala);
 
         if (!validacao.isValido()) {
@@ -72,9 +84,12 @@ public class EscalaService {
         if (dto.folgasPermitidas() != null) {
             escala.setFolgasPermitidas(dto.folgasPermitidas());
         }
-        return escalaRepository.save(escala);
+        Escala atualizada = escalaRepository.save(escala);
+        eventPublisher.publishEvent(new EscalaAlteradaEvento(id, EscalaAlteradaEvento.Origem.ESCALA));
+        return atualizada;
     }
 
+    @Transactional
     public void deletar(Long id) {
 
         Escala escala = escalaRepository.findById(id)
@@ -86,5 +101,7 @@ public class EscalaService {
             throw new BusinessException(validacao.getMensagem());
         }
         escalaRepository.delete(escala);
+        ocupacaoDiaService.removerDaEscala(id);
+        eventPublisher.publishEvent(new EscalaAlteradaEvento(id, EscalaAlteradaEvento.Origem.ESCALA));
     }
 }
@@ -0,0 +1,307 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.AlteracaoCalendario;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AlteracaoCalendarioRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Versão do calendário e dos alertas de cada escala, usada como ETag, e o
+ * histórico do que mudou em cada versão, usado pelo calendário em delta.
+ *
+ * <p>A versão é incrementada por {@code UPDATE} atômico na mesma transação da
+ * alteração (folgas, alertas, dados da escala ou colaboradores do setor/turno),
+ * então quem lê a versão já confirmada enxerga também os dados correspondentes.
+ * Ler a versão é uma busca pela chave da escala, sem tocar em {@code folga}.</p>
+ *
+ * <p>A exceção é a última folga dos colaboradores, que aparece no calendário das
+ * demais escalas do setor/turno: ela é versionada depois do commit, em transação
+ * própria na thread {@code escalaVersaoExecutor}, para que a gravação de folgas não
+ * trave as outras escalas nem segure uma segunda conexão. Até lá essas escalas
+ * mantêm a versão anterior, que é segura para o delta (traz a mudança a mais, não
+ * a menos). Se a fila da thread estiver cheia, a propagação roda na própria thread
+ * de quem gravou (ainda depois do commit); se a transação falhar, é repetida até
+ * {@value #TENTATIVAS_PROPAGACAO} vezes, para que as outras escalas não fiquem com a
+ * ETag antiga. Quando várias escalas são incrementadas juntas, as linhas são travadas
+ * em ordem de ID e atualizadas por um único {@code UPDATE}.</p>
+ *
+ * <p>Cada escala é incrementada uma única vez por transação: as alterações seguintes
+ * da mesma transação (alertas da folga, contadores, colaboradores) são registradas
+ * na versão já reservada, sem novo {@code UPDATE}, a menos que a versão tenha sido
+ * lida nesse meio tempo. As linhas do histórico usam ID por sequência e vão ao
+ * banco em batch.</p>
+ *
+ * <p>O histórico guarda apenas as últimas {@value #RETENCAO_VERSOES} versões de
+ * cada escala; um delta pedido a partir de uma versão mais antiga é respondido
+ * com o calendário completo. O excedente é removido por {@link #podarHistorico()},
+ * fora das transações de escrita.</p>
+ */
+@Slf4j
+@Service
+public class EscalaVersaoService {
+
+    public static final int RETENCAO_VERSOES = 500;
+    static final int TENTATIVAS_PROPAGACAO = 3;
+
+    private static final String VERSOES_DA_TRANSACAO = EscalaVersaoService.class.getName() + ".versoes";
+
+    private final EscalaRepository escalaRepository;
+    private final AlteracaoCalendarioRepository alteracaoRepository;
+    private final TransactionTemplate transacao;
+    private final TaskExecutor executor;
+
+    public EscalaVersaoService(
+            EscalaRepository escalaRepository,
+            AlteracaoCalendarioRepository alteracaoRepository,
+            PlatformTransactionManager transactionManager,
+            @Qualifier("escalaVersaoExecutor") TaskExecutor executor
+    ) {
+        this.escalaRepository = escalaRepository;
+        this.alteracaoRepository = alteracaoRepository;
+        this.transacao = new TransactionTemplate(transactionManager);
+        // Também roda no afterCommit de quem gravou, quando a transação dele já terminou
+        this.transacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.executor = executor;
+    }
+
+    /**
+     * Versão atual da escala. Depois de lida, a versão reservada na transação deixa
+     * de ser reaproveitada: a próxima alteração incrementa de novo.
+     */
+    public long buscarVersao(Long escalaId) {
+        long versao = escalaRepository.findVersaoCalendario(escalaId)
+                .orElseThrow(() -> new BusinessException("Escala", escalaId));
+        liberarVersaoDaTransacao(escalaId);
+        return versao;
+    }
+
+    /**
+     * Alterações do calendário depois de {@code desde} até {@code ate}, ou vazio se o
+     * histórico não cobre esse intervalo
+     */
+    public Optional<List<AlteracaoCalendario>> buscarAlteracoes(Long escalaId, long desde, long ate) {
+        if (desde < 0 || ate - desde > RETENCAO_VERSOES) {
+            return Optional.empty();
+        }
+        return Optional.of(alteracaoRepository.findAlteracoes(escalaId, desde, ate));
+    }
+
+    @EventListener
+    @Transactional
+    public void aoAlterarEscala(EscalaAlteradaEvento evento) {
+        registrar(evento.escalaId(), evento.isCompleta(), evento.datas(), evento.colaboradorIds());
+    }
+
+    /**
+     * Cadastro, dados ou inativação de colaboradores: na transação da alteração
+     */
+    @EventListener
+    @Transactional
+    public void aoAlterarColaboradores(ColaboradoresAlteradosEvento evento) {
+        if (!evento.apenasUltimaFolga()) {
+            registrarNasEscalas(evento.setorId(), evento.turnos(), null, true, evento.colaboradorIds());
+        }
+    }
+
+    /**
+     * Última folga: depois do commit, em transação própria e sem a escala de origem,
+     * que já foi versionada junto com as folgas
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarUltimaFolga(ColaboradoresAlteradosEvento evento) {
+        if (!evento.apenasUltimaFolga() || evento.setorId() == null || evento.turnos().isEmpty()) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> propagarUltimaFolga(evento));
+        } catch (TaskRejectedException e) {
+            log.warn("⚠️ Fila de versões cheia: última folga de {} versionada na thread da requisição",
+                    evento.colaboradorIds());
+            propagarUltimaFolga(evento);
+        }
+    }
+
+    /**
+     * Versiona as demais escalas do setor/turno em transação própria, repetindo se ela falhar
+     */
+    private void propagarUltimaFolga(ColaboradoresAlteradosEvento evento) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                transacao.executeWithoutResult(status -> registrarNasEscalas(
+                        evento.setorId(), evento.turnos(), evento.escalaOrigemId(), false, evento.colaboradorIds()));
+                return;
+            } catch (RuntimeException e) {
+                if (tentativa == TENTATIVAS_PROPAGACAO) {
+                    log.error("💥 Última folga de {} não versionada nas escalas do setor {} após {} tentativas: {}",
+                            evento.colaboradorIds(), evento.setorId(), tentativa, e.getMessage(), e);
+                    return;
+                }
+                log.warn("⚠️ Falha ao versionar a última folga de {} (tentativa {}): {}",
+                        evento.colaboradorIds(), tentativa, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Remove o histórico fora da retenção de todas as escalas
+     */
+    @Scheduled(fixedDelayString = "${escala.calendario.historico.limpeza-ms:600000}")
+    @Transactional
+    public void podarHistorico() {
+        int removidas = alteracaoRepository.excluirForaDaRetencao(RETENCAO_VERSOES);
+        if (removidas > 0) {
+            log.info("🧹 {} alteração(ões) de calendário fora da retenção removida(s)", removidas);
+        }
+    }
+
+    private void registrar(Long escalaId, boolean completa, Set<LocalDate> datas, Set<Long> colaboradorIds) {
+        Map<Long, Long> versoes = versoesDaTransacao();
+
+        // Alteração completa confere se a escala ainda existe (exclusão)
+        Long versao = completa ? null : versoes.get(escalaId);
+        if (versao == null) {
+            escalaRepository.incrementarVersaoCalendario(escalaId);
+
+            Optional<Long> atual = escalaRepository.findVersaoCalendario(escalaId);
+            if (atual.isEmpty()) {
+                // Escala excluída nesta transação
+                versoes.remove(escalaId);
+                alteracaoRepository.deleteByEscalaId(escalaId);
+                return;
+            }
+            versao = atual.get();
+            versoes.put(escalaId, versao);
+        }
+
+        List<AlteracaoCalendario> alteracoes = new ArrayList<>();
+        adicionar(alteracoes, escalaId, versao, completa, datas, colaboradorIds);
+        alteracaoRepository.saveAll(alteracoes);
+    }
+
+    /**
+     * Incrementa as escalas do setor/turno (travadas em ordem de ID) com um único
+     * {@code UPDATE} e registra a mesma alteração em todas
+     */
+    private void registrarNasEscalas(
+            Long setorId,
+            Set<TurnoEnum> turnos,
+            Long exceto,
+            boolean completa,
+            Set<Long> colaboradorIds
+    ) {
+        if (setorId == null || turnos.isEmpty()) {
+            return;
+        }
+
+        List<EscalaRepository.VersaoEscala> escalas =
+                escalaRepository.travarVersoesPorSetorETurnos(setorId, turnos, exceto);
+        if (escalas.isEmpty()) {
+            return;
+        }
+
+        // Escalas já versionadas nesta transação reaproveitam a versão reservada
+        Map<Long, Long> versoes = versoesDaTransacao();
+        List<Long> incrementar = escalas.stream()
+                .map(EscalaRepository.VersaoEscala::getId)
+                .filter(id -> !versoes.containsKey(id))
+                .toList();
+        if (!incrementar.isEmpty()) {
+            escalaRepository.incrementarVersoesCalendario(incrementar);
+        }
+
+        List<AlteracaoCalendario> alteracoes = new ArrayList<>();
+        for (EscalaRepository.VersaoEscala escala : escalas) {
+            long versao = versoes.computeIfAbsent(escala.getId(), id -> escala.getVersao() + 1);
+            adicionar(alteracoes, escala.getId(), versao, completa, Set.of(), colaboradorIds);
+        }
+        alteracaoRepository.saveAll(alteracoes);
+
+        log.debug("🔢 Versão incrementada em {} escala(s) do setor {}", incrementar.size(), setorId);
+    }
+
+    private void adicionar(
+            List<AlteracaoCalendario> alteracoes,
+            Long escalaId,
+            long versao,
+            boolean completa,
+            Set<LocalDate> datas,
+            Set<Long> colaboradorIds
+    ) {
+        if (completa) {
+            alteracoes.add(AlteracaoCalendario.completa(escalaId, versao));
+        } else {
+            datas.forEach(data -> alteracoes.add(AlteracaoCalendario.doDia(escalaId, versao, data)));
+            colaboradorIds.forEach(id -> alteracoes.add(AlteracaoCalendario.doColaborador(escalaId, versao, id)));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void liberarVersaoDaTransacao(Long escalaId) {
+        Map<Long, Long> versoes = (Map<Long, Long>) TransactionSynchronizationManager.getResource(VERSOES_DA_TRANSACAO);
+        if (versoes != null) {
+            versoes.remove(escalaId);
+        }
+    }
+
+    /**
+     * Versão já reservada de cada escala na transação atual. Sem sincronização de
+     * transação ativa, cada chamada incrementa de novo.
+     */
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Long> versoesDaTransacao() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashMap<>();
+        }
+
+        Map<Long, Long> versoes = (Map<Long, Long>) TransactionSynchronizationManager.getResource(VERSOES_DA_TRANSACAO);
+        if (versoes == null) {
+            Map<Long, Long> novas = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(VERSOES_DA_TRANSACAO, novas);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                // Uma transação REQUIRES_NEW aninhada reserva as próprias versões
+                @Override
+                public void suspend() {
+                    TransactionSynchronizationManager.unbindResource(VERSOES_DA_TRANSACAO);
+                }
+
+                @Override
+                public void resume() {
+                    TransactionSynchronizationManager.bindResource(VERSOES_DA_TRANSACAO, novas);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(VERSOES_DA_TRANSACAO);
+                }
+            });
+            versoes = novas;
+        }
+        return versoes;
+    }
+}
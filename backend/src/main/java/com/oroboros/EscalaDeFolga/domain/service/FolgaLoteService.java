@@ -0,0 +1,336 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.config.AlertasProperties;
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.RetratoEscala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaOutboxService;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaService;
+import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.domain.validation.folga.ContextoValidacaoFolga;
+import com.oroboros.EscalaDeFolga.domain.validation.folga.FolgaValidatorComposite;
+import com.oroboros.EscalaDeFolga.infrastructure.concorrencia.TravasDiaEscala;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaLoteRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Service de criação de folgas em lote - trabalha apenas com entidades e classes de domínio.
+ *
+ * <p>Todas as solicitações pertencem a uma mesma escala e são validadas juntas
+ * contra uma visão em memória da escala: as folgas já existentes são carregadas
+ * uma única vez e cada folga aceita passa a fazer parte dessa visão, de modo que
+ * as solicitações seguintes do mesmo lote a enxergam (duplicidade, limite,
+ * domingo, distribuição semanal e dias consecutivos). As folgas dos colaboradores
+ * no mês em outras escalas também entram na visão, para a duplicidade e o domingo.</p>
+ *
+ * <p>As folgas aceitas são gravadas pelo JPA com batch de inserts (IDs da sequência
+ * pooled {@code folga_seq}); a última folga dos colaboradores é atualizada em lote
+ * pelo {@link FolgaLoteRepository}.</p>
+ *
+ * <p>Alertas: no modo assíncrono cada folga aceita ganha um pedido na outbox; no
+ * síncrono os geradores avaliam todas as folgas aceitas sobre um {@link RetratoEscala}
+ * montado com a escala já com o lote, sem consultas por folga.</p>
+ *
+ * <p>Os dias pedidos ficam travados ({@link TravasDiaEscala}) durante todo o lote e
+ * cada dia aceita folgas até o limite de vagas; as vagas usadas são reservadas no
+ * banco ao final, pela {@link OcupacaoDiaService#reservar(Escala, LocalDate, int, int)}.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FolgaLoteService {
+
+    private static final List<StatusFolgaEnum> STATUS_ATIVOS =
+            List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA);
+
+    private final EscalaRepository escalaRepository;
+    private final ColaboradorRepository colaboradorRepository;
+    private final FolgaRepository folgaRepository;
+    private final FolgaLoteRepository folgaLoteRepository;
+    private final FolgaValidatorComposite validadores;
+    private final OcupacaoDiaService ocupacaoDiaService;
+    private final TravasDiaEscala travasDia;
+    private final AlertaService alertaService;
+    private final AlertaOutboxService alertaOutboxService;
+    private final AlertasProperties alertasProperties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Valida e cria as folgas do lote, retornando o resultado de cada item na ordem recebida
+     */
+    @Transactional
+    public List<ResultadoItemLoteDomain> criarEmLote(Long escalaId, List<SolicitacaoLoteDomain> solicitacoes) {
+        log.info("📝 Criando {} folga(s) em lote na escala {}", solicitacoes.size(), escalaId);
+
+        Escala escala = escalaRepository.findById(escalaId)
+                .orElseThrow(() -> new BusinessException("Escala", escalaId));
+
+        // Antes de ler as folgas existentes: outros pedidos para estes dias esperam o commit
+        Set<LocalDate> datas = solicitacoes.stream()
+                .map(SolicitacaoLoteDomain::dataSolicitada)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        travasDia.travar(escala.getId(), datas);
+
+        Set<Long> colaboradorIds = solicitacoes.stream()
+                .map(SolicitacaoLoteDomain::colaboradorId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<Long, Colaborador> colaboradores = colaboradorRepository.findAllById(colaboradorIds).stream()
+                .collect(Collectors.toMap(Colaborador::getId, Function.identity()));
+
+        // Visão em memória: todas as folgas da escala agrupadas por colaborador
+        List<Folga> existentes = folgaRepository.findByEscalaComColaborador(escala);
+        Map<Long, List<Folga>> folgasPorColaborador = existentes.stream()
+                .collect(Collectors.groupingBy(
+                        f -> f.getColaborador().getId(),
+                        Collectors.toCollection(ArrayList::new)
+                ));
+
+        // Mais as folgas do mês em outras escalas (duplicidade e domingo valem para todas)
+        YearMonth mes = YearMonth.of(escala.getAno(), escala.getMes());
+        LocalDate inicioMes = mes.atDay(1);
+        if (!colaboradores.isEmpty()) {
+            folgaRepository.findDosColaboradoresEmOutrasEscalasEntre(
+                            colaboradores.keySet(), escala, inicioMes, mes.atEndOfMonth())
+                    .forEach(f -> folgasPorColaborador
+                            .computeIfAbsent(f.getColaborador().getId(), id -> new ArrayList<>())
+                            .add(f));
+        }
+
+        // Última folga de cada colaborador antes do início do mês (escalas anteriores)
+        Map<Long, LocalDate> ultimaFolgaAntesDoMes = colaboradores.isEmpty()
+                ? Map.of()
+                : folgaRepository.findUltimaFolgaAntesDePorColaborador(colaboradores.keySet(), inicioMes).stream()
+                        .collect(Collectors.toMap(
+                                FolgaRepository.UltimaFolgaColaborador::getColaboradorId,
+                                FolgaRepository.UltimaFolgaColaborador::getUltimaFolga
+                        ));
+
+        List<ResultadoItemLoteDomain> resultados = new ArrayList<>(solicitacoes.size());
+        List<Folga> aceitas = new ArrayList<>();
+
+        // Vagas restantes por dia: os dias pedidos estão travados, então as folgas
+        // ativas já carregadas da escala são a ocupação real de cada um
+        int limiteDoDia = ocupacaoDiaService.limiteDoDia(escala);
+        Map<LocalDate, Long> ocupadas = existentes.stream()
+                .filter(f -> STATUS_ATIVOS.contains(f.getStatus()))
+                .collect(Collectors.groupingBy(Folga::getDataSolicitada, Collectors.counting()));
+        Map<LocalDate, Integer> vagas = new HashMap<>();
+
+        for (int indice = 0; indice < solicitacoes.size(); indice++) {
+            SolicitacaoLoteDomain solicitacao = solicitacoes.get(indice);
+
+            String inconsistencia = verificarSolicitacao(solicitacao, escala, colaboradores);
+            if (inconsistencia != null) {
+                resultados.add(ResultadoItemLoteDomain.rejeitada(indice, solicitacao, inconsistencia));
+                continue;
+            }
+
+            Folga folga = new Folga();
+            folga.setColaborador(colaboradores.get(solicitacao.colaboradorId()));
+            folga.setEscala(escala);
+            folga.setDataSolicitada(solicitacao.dataSolicitada());
+            folga.setJustificativa(solicitacao.justificativa());
+            folga.setStatus(StatusFolgaEnum.PENDENTE);
+
+            List<Folga> doColaborador = folgasPorColaborador
+                    .computeIfAbsent(solicitacao.colaboradorId(), id -> new ArrayList<>());
+
+            LocalDate ultimaFolgaAntes = ultimaFolgaAntes(
+                    doColaborador,
+                    solicitacao.dataSolicitada(),
+                    ultimaFolgaAntesDoMes.get(solicitacao.colaboradorId())
+            );
+
+            ResultadoValidacao validacao = validadores.validar(
+                    folga,
+                    ContextoValidacaoFolga.emMemoria(folga, doColaborador, ultimaFolgaAntes)
+            );
+
+            if (!validacao.isValido()) {
+                resultados.add(ResultadoItemLoteDomain.rejeitada(indice, solicitacao, validacao.getMensagem()));
+                continue;
+            }
+
+            int vagasNoDia = vagas.computeIfAbsent(solicitacao.dataSolicitada(),
+                    data -> limiteDoDia - ocupadas.getOrDefault(data, 0L).intValue());
+            if (vagasNoDia <= 0) {
+                resultados.add(ResultadoItemLoteDomain.rejeitada(indice, solicitacao,
+                        OcupacaoDiaService.mensagemDiaLotado(solicitacao.dataSolicitada(), limiteDoDia)));
+                continue;
+            }
+            vagas.put(solicitacao.dataSolicitada(), vagasNoDia - 1);
+
+            doColaborador.add(folga);
+            aceitas.add(folga);
+            resultados.add(ResultadoItemLoteDomain.criada(indice, folga));
+        }
+
+        if (!aceitas.isEmpty()) {
+            // Inserts agrupados em batch; o flush antecede o UPDATE via JDBC
+            folgaRepository.saveAll(aceitas);
+            folgaRepository.flush();
+            Map<Long, LocalDate> ultimaFolga = ultimaFolgaPorColaborador(aceitas);
+            folgaLoteRepository.atualizarUltimaFolga(ultimaFolga);
+            ultimaFolga.forEach((id, data) -> colaboradorRepository.sincronizarUltimaFolga(colaboradores.get(id), data));
+            aceitas.stream()
+                    .collect(Collectors.groupingBy(Folga::getDataSolicitada, TreeMap::new, Collectors.counting()))
+                    .forEach((data, total) -> ocupacaoDiaService.reservar(escala, data, total.intValue(), limiteDoDia));
+
+            eventPublisher.publishEvent(EscalaAlteradaEvento.folgas(escala.getId(), aceitas));
+            ColaboradoresAlteradosEvento.ultimaFolga(escala.getId(), aceitas.stream().map(Folga::getColaborador).distinct().toList())
+                    .forEach(eventPublisher::publishEvent);
+
+            gerarAlertas(escala, existentes, aceitas, ultimaFolgaAntesDoMes, limiteDoDia);
+        }
+
+        log.info("✅ Lote concluído: {} criada(s), {} rejeitada(s)",
+                aceitas.size(), solicitacoes.size() - aceitas.size());
+
+        return resultados;
+    }
+
+    /**
+     * Modo assíncrono: um pedido na outbox por folga, gravado nesta transação.
+     * Síncrono: todas as folgas aceitas avaliadas sobre o retrato da escala com o lote.
+     */
+    private void gerarAlertas(
+            Escala escala,
+            List<Folga> existentes,
+            List<Folga> aceitas,
+            Map<Long, LocalDate> ultimaFolgaAntesDoMes,
+            int limiteDoDia
+    ) {
+        if (alertasProperties.assincrono()) {
+            aceitas.forEach(alertaOutboxService::registrar);
+            log.info("📨 Alertas de {} folga(s) do lote serão gerados em segundo plano", aceitas.size());
+            return;
+        }
+
+        List<Folga> folgasDaEscala = new ArrayList<>(existentes);
+        folgasDaEscala.addAll(aceitas);
+
+        RetratoEscala retrato = RetratoEscala.de(
+                escala.getVersaoCalendario(),
+                escala,
+                colaboradorRepository.findBySetorAndTurno(escala.getSetor(), escala.getTurno()),
+                folgasDaEscala,
+                ultimaFolgaAntesDoMes,
+                limiteDoDia
+        );
+        alertaService.gerarEPersistirAlertas(aceitas, retrato);
+    }
+
+    /**
+     * Verifica os dados básicos do item antes de executar as regras de negócio
+     */
+    private String verificarSolicitacao(
+            SolicitacaoLoteDomain solicitacao,
+            Escala escala,
+            Map<Long, Colaborador> colaboradores
+    ) {
+        if (solicitacao.colaboradorId() == null) {
+            return "ID do colaborador é obrigatório";
+        }
+        if (solicitacao.dataSolicitada() == null) {
+            return "Data é obrigatória";
+        }
+        if (solicitacao.escalaId() != null && !solicitacao.escalaId().equals(escala.getId())) {
+            return String.format("A folga pertence à escala %d, mas o lote é da escala %d",
+                    solicitacao.escalaId(), escala.getId());
+        }
+        if (!colaboradores.containsKey(solicitacao.colaboradorId())) {
+            return String.format("Colaborador com ID %d não encontrado", solicitacao.colaboradorId());
+        }
+        LocalDate data = solicitacao.dataSolicitada();
+        if (data.getYear() != escala.getAno() || data.getMonthValue() != escala.getMes()) {
+            return String.format("A data %s não pertence ao mês da escala (%02d/%d)",
+                    data, escala.getMes(), escala.getAno());
+        }
+        return null;
+    }
+
+    /**
+     * Última folga ativa antes da data, considerando o lote e as escalas anteriores
+     */
+    private LocalDate ultimaFolgaAntes(List<Folga> doColaborador, LocalDate data, LocalDate antesDoMes) {
+        return doColaborador.stream()
+                .filter(f -> STATUS_ATIVOS.contains(f.getStatus()))
+                .map(Folga::getDataSolicitada)
+                .filter(d -> d.isBefore(data))
+                .max(Comparator.naturalOrder())
+                .orElse(antesDoMes);
+    }
+
+    private Map<Long, LocalDate> ultimaFolgaPorColaborador(List<Folga> aceitas) {
+        return aceitas.stream()
+                .collect(Collectors.toMap(
+                        f -> f.getColaborador().getId(),
+                        Folga::getDataSolicitada,
+                        (a, b) -> a.isAfter(b) ? a : b
+                ));
+    }
+
+    /**
+     * ========================================
+     * CLASSES DE DOMÍNIO (não são DTOs!)
+     * ========================================
+     */
+
+    public record SolicitacaoLoteDomain(
+            Long escalaId,
+            Long colaboradorId,
+            LocalDate dataSolicitada,
+            String justificativa
+    ) {}
+
+    public record ResultadoItemLoteDomain(
+            int indice,
+            Long colaboradorId,
+            LocalDate dataSolicitada,
+            Folga folga,
+            String mensagem
+    ) {
+        public boolean criada() { return folga != null; }
+
+        static ResultadoItemLoteDomain criada(int indice, Folga folga) {
+            return new ResultadoItemLoteDomain(
+                    indice,
+                    folga.getColaborador().getId(),
+                    folga.getDataSolicitada(),
+                    folga,
+                    "Folga criada."
+            );
+        }
+
+        static ResultadoItemLoteDomain rejeitada(int indice, SolicitacaoLoteDomain solicitacao, String mensagem) {
+            return new ResultadoItemLoteDomain(
+                    indice,
+                    solicitacao.colaboradorId(),
+                    solicitacao.dataSolicitada(),
+                    null,
+                    mensagem
+            );
+        }
+    }
+}
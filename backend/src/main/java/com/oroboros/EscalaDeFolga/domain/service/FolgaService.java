@@ -1,15 +1,24 @@
 package com.oroboros.EscalaDeFolga.domain.service;
 
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.FolgaAlteradaEvento;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
 import com.oroboros.EscalaDeFolga.domain.validation.folga.FolgaValidatorComposite;
 import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaOutboxService;
 import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaService;
+import com.oroboros.EscalaDeFolga.config.AlertasProperties;
+import com.oroboros.EscalaDeFolga.infrastructure.concorrencia.TravasDiaEscala;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +34,15 @@ import java.util.List;
 public class FolgaService {
 
     private final FolgaRepository folgaRepository;
+    private final ColaboradorRepository colaboradorRepository;
     private final FolgaValidatorComposite validadores;
     private final AlertaService alertaService;
     private final EscalaRegrasService regrasService;
+    private final AlertaOutboxService alertaOutboxService;
+    private final AlertasProperties alertasProperties;
+    private final OcupacaoDiaService ocupacaoDiaService;
+    private final TravasDiaEscala travasDia;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Cria folga (recebe e retorna ENTIDADE)
@@ -42,6 +57,9 @@ public class FolgaService {
         // Define status inicial
         folga.setStatus(StatusFolgaEnum.PENDENTE);
 
+        // Pedidos para o mesmo dia passam um por vez até o commit (duplicidade e vagas)
+        travasDia.travar(folga.getEscala().getId(), folga.getDataSolicitada());
+
         // ========================================
         // ✅ FASE 1: VALIDAÇÕES (BLOQUEIAM)
         // ========================================
@@ -57,21 +75,51 @@ public class FolgaService {
         Folga criada = folgaRepository.save(folga);
         log.info("✅ Folga criada: ID={}", criada.getId());
 
-        // Atualiza última folga do colaborador
-        criada.getColaborador().setUltimaFolga(criada.getDataSolicitada());
+        // Atualiza última folga do colaborador (UPDATE direto: não conflita com edições do colaborador)
+        colaboradorRepository.atualizarUltimaFolga(criada.getColaborador().getId(), criada.getDataSolicitada());
+        colaboradorRepository.sincronizarUltimaFolga(criada.getColaborador(), criada.getDataSolicitada());
+
+        // Reserva a vaga do dia (rejeita se o dia estiver cheio)
+        ocupacaoDiaService.registrarInclusao(criada);
+
+        // Calendário da escala; a última folga chega às demais escalas do setor/turno após o commit
+        eventPublisher.publishEvent(FolgaAlteradaEvento.criada(criada));
+        eventPublisher.publishEvent(EscalaAlteradaEvento.folgas(criada.getEscala().getId(), List.of(criada)));
+        eventPublisher.publishEvent(ColaboradoresAlteradosEvento.ultimaFolga(criada.getEscala().getId(), criada.getColaborador()));
+
+        // Modo assíncrono: pedido de alertas gravado na mesma transação
+        if (alertasProperties.assincrono()) {
+            alertaOutboxService.registrar(criada);
+        }
 
         return criada;
     }
 
     /**
-     * Gera alertas para uma folga (retorna lista de entidades)
+     * Gera alertas para uma folga (retorna lista de entidades).
+     * No modo assíncrono retorna vazio: os alertas são gerados pelos workers da outbox.
      */
     @Transactional
     public List<Alerta> gerarAlertas(Folga folga) {
+        if (alertasProperties.assincrono()) {
+            log.info("📨 Alertas da folga ID={} serão gerados em segundo plano", folga.getId());
+            return List.of();
+        }
+
         log.info("🔔 Gerando alertas para folga ID={}", folga.getId());
         return alertaService.gerarEPersistirAlertas(folga);
     }
 
+    /**
+     * Alertas já gerados para uma folga (consulta do cliente no modo assíncrono)
+     */
+    public List<Alerta> buscarAlertas(Long folgaId) {
+        if (!folgaRepository.existsById(folgaId)) {
+            throw new BusinessException("Folga", folgaId);
+        }
+        return alertaService.obterAlertasFolga(folgaId);
+    }
+
     /**
      * Calcula próximas datas disponíveis (retorna domínio)
      */
@@ -103,7 +151,7 @@ public class FolgaService {
      * Busca folga por ID (retorna entidade)
      */
     public Folga buscarPorId(Long id) {
-        return folgaRepository.findById(id)
+        return folgaRepository.findComColaboradorById(id)
                 .orElseThrow(() -> new BusinessException("Folga", id));
     }
 
@@ -119,21 +167,35 @@ public class FolgaService {
         }
 
         folgaRepository.delete(folga);
+        ocupacaoDiaService.registrarRemocao(folga);
+        eventPublisher.publishEvent(FolgaAlteradaEvento.excluida(folga));
+        eventPublisher.publishEvent(EscalaAlteradaEvento.folgas(folga.getEscala().getId(), List.of(folga)));
         log.info("✅ Folga {} deletada", id);
     }
 
     /**
-     * Atualiza folga pendente
+     * Atualiza folga pendente. Com {@code versao}, recusa a atualização se a folga
+     * mudou desde que o cliente a leu; sem ela, o Hibernate ainda recusa no commit
+     * se outra requisição gravou a folga durante esta.
      */
     @Transactional
-    public Folga atualizar(Long id, LocalDate novaData, String novaJustificativa) {
+    public Folga atualizar(Long id, LocalDate novaData, String novaJustificativa, Long versao) {
         Folga folga = buscarPorId(id);
 
+        if (versao != null && !versao.equals(folga.getVersao())) {
+            throw new OptimisticLockingFailureException(String.format(
+                    "Folga %d mudou desde a leitura (versão enviada %d, atual %d)", id, versao, folga.getVersao()));
+        }
+
         if (folga.getStatus() != StatusFolgaEnum.PENDENTE) {
             throw new BusinessException("Apenas folgas pendentes podem ser atualizadas");
         }
 
+        LocalDate dataAnterior = folga.getDataSolicitada();
+        StatusFolgaEnum statusAnterior = folga.getStatus();
+
         if (novaData != null) {
+            travasDia.travar(folga.getEscala().getId(), novaData);
             folga.setDataSolicitada(novaData);
         }
 
@@ -147,7 +209,12 @@ public class FolgaService {
             throw new BusinessException(validacao.getMensagem());
         }
 
-        return folgaRepository.save(folga);
+        Folga atualizada = folgaRepository.save(folga);
+        ocupacaoDiaService.registrarAlteracao(atualizada, dataAnterior, statusAnterior);
+        eventPublisher.publishEvent(FolgaAlteradaEvento.atualizada(atualizada, dataAnterior));
+        eventPublisher.publishEvent(EscalaAlteradaEvento.folgas(atualizada.getEscala().getId(), List.of(atualizada), dataAnterior));
+
+        return atualizada;
     }
 
     /**
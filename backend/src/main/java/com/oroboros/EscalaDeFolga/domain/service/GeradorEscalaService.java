@@ -0,0 +1,551 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AlertaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaLoteRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Gerador automático das folgas do mês de uma {@link Escala}.
+ *
+ * <p>O planejamento roda inteiramente em memória: os dias do mês viram índices
+ * de arrays primitivos (semana, domingo, carga do dia) e as folgas de cada
+ * colaborador são uma máscara de bits ({@code int}, um bit por dia). Para cada
+ * colaborador, uma programação dinâmica sobre os dias escolhe exatamente
+ * {@code folgasPermitidas} datas de menor carga que respeitam as mesmas regras
+ * dos validadores de folga:</p>
+ * <ul>
+ *   <li>pelo menos um domingo, antes da última folga do mês (ValidaDomingoObrigatorio);</li>
+ *   <li>pelo menos uma folga em cada semana do mês, sem passar de 2 folgas numa semana
+ *   enquanto houver semana descoberta (ValidaDistribuicaoSemanalDeFolgas);</li>
+ *   <li>no máximo {@link EscalaRegrasService#getDiasTrabalhoPermitidos()} - 1 dias de
+ *   trabalho entre duas folgas, a partir da última folga anterior ao mês (ValidaLimiteDeDiasTrabalho);</li>
+ *   <li>sem repetir datas já usadas pelo colaborador na escala (ValidaDuplicidadeDeFolga);</li>
+ *   <li>no máximo {@value #COBERTURA_MAXIMA_DIA} do setor de folga no mesmo dia (mesmo teto do calendário).</li>
+ * </ul>
+ *
+ * <p>As datas de cada colaborador são gravadas em ordem cronológica pelo
+ * {@link FolgaLoteService}, que as valida novamente com os validadores reais e
+ * grava tudo em um único lote.</p>
+ *
+ * <p>Colaboradores que já possuem folgas ativas na escala são mantidos como estão
+ * (suas folgas contam na carga dos dias) e não recebem novas folgas.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GeradorEscalaService {
+
+    private static final List<StatusFolgaEnum> STATUS_ATIVOS =
+            List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA);
+
+    // Mesmo limite usado pelo calendário para marcar o dia como OCUPADO
+    static final double COBERTURA_MAXIMA_DIA = 0.5;
+
+    // Folgas por semana permitidas enquanto houver semana sem folga
+    private static final int MAX_FOLGAS_SEMANA = 2;
+
+    private static final int INFINITO = Integer.MAX_VALUE / 2;
+
+    private final EscalaRepository escalaRepository;
+    private final ColaboradorRepository colaboradorRepository;
+    private final FolgaRepository folgaRepository;
+    private final FolgaLoteRepository folgaLoteRepository;
+    private final AlertaRepository alertaRepository;
+    private final FolgaLoteService folgaLoteService;
+    private final OcupacaoDiaService ocupacaoDiaService;
+    private final EscalaRegrasService regrasService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Gera e grava as folgas do mês para os colaboradores do setor/turno da escala.
+     *
+     * @param regerar remove antes as folgas PENDENTES da escala (as APROVADAS são mantidas)
+     */
+    @Transactional
+    public GeracaoEscalaDomain gerar(Long escalaId, boolean regerar) {
+        log.info("🗓️ Gerando folgas automaticamente para escala {} (regerar={})", escalaId, regerar);
+
+        Escala escala = escalaRepository.findById(escalaId)
+                .orElseThrow(() -> new BusinessException("Escala", escalaId));
+
+        List<Colaborador> colaboradores = colaboradorRepository
+                .findBySetorAndTurno(escala.getSetor(), escala.getTurno());
+
+        if (colaboradores.isEmpty()) {
+            throw new BusinessException("Não há colaboradores cadastrados para este turno/setor");
+        }
+
+        if (regerar) {
+            removerPendentes(escala);
+
+            // O DELETE em massa limpa o contexto de persistência: recarrega o que foi lido
+            escala = escalaRepository.findById(escalaId)
+                    .orElseThrow(() -> new BusinessException("Escala", escalaId));
+            colaboradores = colaboradorRepository.findBySetorAndTurno(escala.getSetor(), escala.getTurno());
+        }
+
+        YearMonth mes = YearMonth.of(escala.getAno(), escala.getMes());
+        LocalDate inicioMes = mes.atDay(1);
+
+        // Folgas já existentes: carga dos dias e datas indisponíveis por colaborador
+        int[] cargaInicial = new int[mes.lengthOfMonth()];
+        Set<Long> comFolgasAtivas = new HashSet<>();
+        Map<Long, Integer> datasUsadas = new HashMap<>();
+
+        for (Folga folga : folgaRepository.findByEscalaComColaborador(escala)) {
+            LocalDate data = folga.getDataSolicitada();
+            if (!YearMonth.from(data).equals(mes)) {
+                continue;
+            }
+            int dia = data.getDayOfMonth() - 1;
+            Long colaboradorId = folga.getColaborador().getId();
+
+            datasUsadas.merge(colaboradorId, 1 << dia, (a, b) -> a | b);
+            if (STATUS_ATIVOS.contains(folga.getStatus())) {
+                cargaInicial[dia]++;
+                comFolgasAtivas.add(colaboradorId);
+            }
+        }
+
+        Map<Long, LocalDate> ultimaFolgaRegistrada = folgaRepository
+                .findUltimaFolgaAntesDePorColaborador(
+                        colaboradores.stream().map(Colaborador::getId).toList(),
+                        inicioMes
+                ).stream()
+                .collect(Collectors.toMap(
+                        FolgaRepository.UltimaFolgaColaborador::getColaboradorId,
+                        FolgaRepository.UltimaFolgaColaborador::getUltimaFolga
+                ));
+
+        List<PendenciaGeracaoDomain> pendencias = new ArrayList<>();
+        List<ColaboradorPlanoDomain> aPlanejar = new ArrayList<>();
+
+        for (Colaborador colaborador : colaboradores) {
+            if (comFolgasAtivas.contains(colaborador.getId())) {
+                pendencias.add(new PendenciaGeracaoDomain(colaborador,
+                        "Colaborador já possui folgas nesta escala; folgas mantidas."));
+                continue;
+            }
+            aPlanejar.add(new ColaboradorPlanoDomain(
+                    colaborador,
+                    ultimaFolgaReferencia(colaborador, ultimaFolgaRegistrada.get(colaborador.getId()), inicioMes),
+                    datasUsadas.getOrDefault(colaborador.getId(), 0)
+            ));
+        }
+
+        long inicio = System.nanoTime();
+        PlanoEscalaDomain plano = planejar(escala, colaboradores.size(), aPlanejar, cargaInicial);
+        long tempoPlanejamentoMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio);
+
+        pendencias.addAll(plano.pendencias());
+
+        // Persiste: datas de cada colaborador em ordem cronológica, validadas e gravadas em lote
+        List<FolgaLoteService.SolicitacaoLoteDomain> solicitacoes = plano.alocacoes().stream()
+                .flatMap(a -> a.datas().stream()
+                        .map(data -> new FolgaLoteService.SolicitacaoLoteDomain(
+                                escalaId, a.colaborador().getId(), data, "Gerada automaticamente")))
+                .toList();
+
+        List<FolgaLoteService.ResultadoItemLoteDomain> resultados = solicitacoes.isEmpty()
+                ? List.of()
+                : folgaLoteService.criarEmLote(escalaId, solicitacoes);
+
+        Map<Long, Colaborador> porId = colaboradores.stream()
+                .collect(Collectors.toMap(Colaborador::getId, c -> c));
+        resultados.stream()
+                .filter(r -> !r.criada())
+                .forEach(r -> pendencias.add(new PendenciaGeracaoDomain(
+                        porId.get(r.colaboradorId()),
+                        String.format("Folga em %s rejeitada: %s", r.dataSolicitada(), r.mensagem())
+                )));
+
+        int totalCriadas = (int) resultados.stream().filter(FolgaLoteService.ResultadoItemLoteDomain::criada).count();
+
+        log.info("✅ Geração concluída: {} folga(s) para {} colaborador(es) em {} ms de planejamento, {} pendência(s)",
+                totalCriadas, plano.alocacoes().size(), tempoPlanejamentoMs, pendencias.size());
+
+        return new GeracaoEscalaDomain(
+                escala,
+                colaboradores.size(),
+                plano.alocacoes().size(),
+                totalCriadas,
+                tempoPlanejamentoMs,
+                pendencias
+        );
+    }
+
+    /**
+     * Planeja as folgas do mês em memória, sem acessar o banco.
+     *
+     * @param totalColaboradores tamanho do setor/turno (base do teto de folgas por dia)
+     * @param colaboradores      colaboradores a planejar, com a última folga antes do mês e
+     *                           a máscara de dias já usados na escala
+     * @param cargaInicial       folgas ativas já existentes em cada dia do mês (índice 0 = dia 1);
+     *                           o array é atualizado com as folgas planejadas
+     */
+    public PlanoEscalaDomain planejar(
+            Escala escala,
+            int totalColaboradores,
+            List<ColaboradorPlanoDomain> colaboradores,
+            int[] cargaInicial
+    ) {
+        MesPlanejamento mes = new MesPlanejamento(
+                YearMonth.of(escala.getAno(), escala.getMes()),
+                escala.getFolgasPermitidas(),
+                regrasService.getDiasTrabalhoPermitidos(),
+                OcupacaoDiaService.limitePara(totalColaboradores),
+                cargaInicial
+        );
+
+        // Mais restritos primeiro: quem tem a última folga mais antiga precisa folgar mais cedo
+        List<ColaboradorPlanoDomain> ordenados = new ArrayList<>(colaboradores);
+        ordenados.sort(Comparator
+                .comparing(ColaboradorPlanoDomain::ultimaFolga, Comparator.nullsLast(Comparator.naturalOrder()))
+                .thenComparing(c -> c.colaborador().getId()));
+
+        List<AlocacaoDomain> alocacoes = new ArrayList<>(ordenados.size());
+        List<PendenciaGeracaoDomain> pendencias = new ArrayList<>();
+
+        for (ColaboradorPlanoDomain c : ordenados) {
+            int inicio = c.ultimaFolga() == null
+                    ? MesPlanejamento.SEM_FOLGA_ANTERIOR
+                    : (int) ChronoUnit.DAYS.between(mes.primeiroDia, c.ultimaFolga());
+
+            int mascara = mes.planejarColaborador(inicio, c.datasUsadas());
+
+            if (mascara == 0) {
+                pendencias.add(new PendenciaGeracaoDomain(c.colaborador(), motivoSemSolucao(mes, c)));
+                continue;
+            }
+
+            mes.registrarCarga(mascara);
+            alocacoes.add(new AlocacaoDomain(c.colaborador(), mes.datas(mascara)));
+        }
+
+        return new PlanoEscalaDomain(alocacoes, pendencias, mes.tetoPorDia);
+    }
+
+    /**
+     * Última folga usada como ponto de partida: a registrada em folgas (a mesma que o
+     * validador consulta) ou, sem histórico, a informada no cadastro do colaborador,
+     * desde que ainda permita folgar no início do mês.
+     */
+    private LocalDate ultimaFolgaReferencia(Colaborador colaborador, LocalDate registrada, LocalDate inicioMes) {
+        if (registrada != null) {
+            return registrada;
+        }
+        LocalDate cadastro = colaborador.getUltimaFolga();
+        if (cadastro != null
+                && cadastro.isBefore(inicioMes)
+                && ChronoUnit.DAYS.between(cadastro, inicioMes) <= regrasService.getDiasTrabalhoPermitidos()) {
+            return cadastro;
+        }
+        return null;
+    }
+
+    private String motivoSemSolucao(MesPlanejamento mes, ColaboradorPlanoDomain c) {
+        if (c.ultimaFolga() != null
+                && ChronoUnit.DAYS.between(c.ultimaFolga(), mes.primeiroDia) > mes.intervaloMaximo) {
+            return String.format(
+                    "Última folga em %s: nenhuma data do mês respeita o limite de %d dias consecutivos de trabalho.",
+                    c.ultimaFolga(), mes.intervaloMaximo);
+        }
+        return String.format(
+                "Não foi possível distribuir %d folga(s) respeitando domingo, semanas, dias consecutivos e cobertura.",
+                mes.folgasPermitidas);
+    }
+
+    private void removerPendentes(Escala escala) {
+        // Primeira pendente removida de cada colaborador (a consulta vem ordenada por data)
+        Map<Long, LocalDate> primeiraRemovida = new HashMap<>();
+        folgaRepository.findFolgasDoDiaByEscala(escala, List.of(StatusFolgaEnum.PENDENTE))
+                .forEach(f -> primeiraRemovida.putIfAbsent(f.getColaboradorId(), f.getData()));
+
+        int alertas = alertaRepository.deleteByFolgaEscalaAndStatus(escala, StatusFolgaEnum.PENDENTE);
+        int folgas = folgaRepository.deleteByEscalaAndStatus(escala, StatusFolgaEnum.PENDENTE);
+        ocupacaoDiaService.reconciliar(escala.getId());
+        int corrigidos = recalcularUltimaFolga(escala.getId(), primeiraRemovida);
+
+        log.info("🗑️ {} folga(s) pendente(s) e {} alerta(s) removidos para regerar a escala {} ({} última(s) folga(s) recalculada(s))",
+                folgas, alertas, escala.getId(), corrigidos);
+    }
+
+    /**
+     * A última folga gravada no colaborador pode ser uma das pendentes removidas: volta
+     * para a última folga ativa que restou, em qualquer escala, ou fica vazia. Quem tem a
+     * última folga anterior às removidas não muda.
+     *
+     * @return quantidade de colaboradores com a última folga alterada
+     */
+    private int recalcularUltimaFolga(Long escalaId, Map<Long, LocalDate> primeiraRemovida) {
+        if (primeiraRemovida.isEmpty()) {
+            return 0;
+        }
+
+        List<Colaborador> afetados = colaboradorRepository.findAllById(primeiraRemovida.keySet()).stream()
+                .filter(c -> c.getUltimaFolga() != null
+                        && !c.getUltimaFolga().isBefore(primeiraRemovida.get(c.getId())))
+                .toList();
+        if (afetados.isEmpty()) {
+            return 0;
+        }
+
+        Map<Long, LocalDate> restantes = folgaRepository
+                .findUltimaFolgaPorColaborador(afetados.stream().map(Colaborador::getId).toList()).stream()
+                .collect(Collectors.toMap(
+                        FolgaRepository.UltimaFolgaColaborador::getColaboradorId,
+                        FolgaRepository.UltimaFolgaColaborador::getUltimaFolga
+                ));
+
+        // HashMap: a última folga de quem não tem mais folgas ativas volta a ser nula
+        Map<Long, LocalDate> novas = new HashMap<>();
+        List<Colaborador> alterados = new ArrayList<>();
+        for (Colaborador colaborador : afetados) {
+            LocalDate nova = restantes.get(colaborador.getId());
+            if (!Objects.equals(nova, colaborador.getUltimaFolga())) {
+                novas.put(colaborador.getId(), nova);
+                alterados.add(colaborador);
+            }
+        }
+
+        if (!novas.isEmpty()) {
+            folgaLoteRepository.atualizarUltimaFolga(novas);
+            alterados.forEach(c -> colaboradorRepository.sincronizarUltimaFolga(c, novas.get(c.getId())));
+            ColaboradoresAlteradosEvento.ultimaFolga(escalaId, alterados).forEach(eventPublisher::publishEvent);
+        }
+        return novas.size();
+    }
+
+    /**
+     * Estado do mês em arrays primitivos, reaproveitado entre os colaboradores.
+     *
+     * <p>A programação dinâmica percorre os dias em ordem; o estado de uma folga no
+     * dia {@code d} é (quantidade de folgas até ela, já tem domingo, folgas na semana
+     * corrente). A transição só liga folgas com no máximo {@code intervaloMaximo} dias
+     * de distância e em semanas iguais ou consecutivas.</p>
+     */
+    static final class MesPlanejamento {
+
+        static final int SEM_FOLGA_ANTERIOR = Integer.MIN_VALUE;
+
+        private final LocalDate primeiroDia;
+        private final int dias;
+        private final int folgasPermitidas;
+        private final int intervaloMaximo;
+        private final int tetoPorDia;
+
+        private final int[] semana;
+        private final boolean[] domingo;
+        private final int[] carga;
+        private final int ultimaSemana;
+
+        // Tabelas da programação dinâmica: [dia][quantidade][domingo][folgas na semana]
+        private final int[] custo;
+        private final int[] anterior;
+
+        MesPlanejamento(YearMonth mes, int folgasPermitidas, int intervaloMaximo, int tetoPorDia, int[] carga) {
+            this.primeiroDia = mes.atDay(1);
+            this.dias = mes.lengthOfMonth();
+            this.folgasPermitidas = folgasPermitidas;
+            this.intervaloMaximo = intervaloMaximo;
+            this.tetoPorDia = tetoPorDia;
+            this.carga = carga;
+
+            this.semana = new int[dias];
+            this.domingo = new boolean[dias];
+            for (int d = 0; d < dias; d++) {
+                LocalDate data = primeiroDia.plusDays(d);
+                semana[d] = OcupacaoMes.numeroSemana(data);
+                domingo[d] = data.getDayOfWeek() == DayOfWeek.SUNDAY;
+            }
+            this.ultimaSemana = semana[dias - 1];
+
+            int estados = dias * (folgasPermitidas + 1) * 2 * (MAX_FOLGAS_SEMANA + 1);
+            this.custo = new int[estados];
+            this.anterior = new int[estados];
+        }
+
+        private int indice(int dia, int quantidade, int temDomingo, int naSemana) {
+            return ((dia * (folgasPermitidas + 1) + quantidade) * 2 + temDomingo) * (MAX_FOLGAS_SEMANA + 1) + naSemana;
+        }
+
+        /**
+         * Escolhe as folgas de um colaborador.
+         *
+         * @param ultimaFolga índice (relativo ao dia 1) da última folga antes do mês, ou {@link #SEM_FOLGA_ANTERIOR}
+         * @param bloqueados  máscara de dias que o colaborador não pode usar
+         * @return máscara de dias escolhidos, ou 0 se não houver solução
+         */
+        int planejarColaborador(int ultimaFolga, int bloqueados) {
+            int p = folgasPermitidas;
+            // Com uma única folga o domingo precisaria já existir antes dela
+            if (p < 2 || p > dias) {
+                return 0;
+            }
+
+            Arrays.fill(custo, INFINITO);
+
+            // Primeira folga: precisa estar na semana 1 e respeitar o intervalo desde a última folga
+            for (int d = 0; d < dias && semana[d] == 1; d++) {
+                if (!disponivel(d, bloqueados)) continue;
+                if (ultimaFolga != SEM_FOLGA_ANTERIOR && d - ultimaFolga > intervaloMaximo) break;
+
+                int i = indice(d, 1, domingo[d] ? 1 : 0, 1);
+                custo[i] = carga[d];
+                anterior[i] = -1;
+            }
+
+            for (int d = 0; d < dias; d++) {
+                for (int q = 1; q < p; q++) {
+                    for (int s = 0; s <= 1; s++) {
+                        for (int k = 1; k <= MAX_FOLGAS_SEMANA; k++) {
+                            int atual = indice(d, q, s, k);
+                            if (custo[atual] >= INFINITO) continue;
+                            expandir(d, q, s, k, atual, bloqueados);
+                        }
+                    }
+                }
+            }
+
+            // Estado final: todas as folgas, domingo garantido, última folga na última semana
+            // e perto o bastante do fim do mês para o mês seguinte começar dentro do limite
+            int melhor = -1;
+            for (int d = Math.max(0, dias - intervaloMaximo); d < dias; d++) {
+                if (semana[d] != ultimaSemana) continue;
+                for (int k = 1; k <= MAX_FOLGAS_SEMANA; k++) {
+                    int i = indice(d, p, 1, k);
+                    if (custo[i] < INFINITO && (melhor < 0 || custo[i] < custo[melhor])) {
+                        melhor = i;
+                    }
+                }
+            }
+
+            if (melhor < 0) {
+                return 0;
+            }
+
+            int mascara = 0;
+            int tamanhoDia = (folgasPermitidas + 1) * 2 * (MAX_FOLGAS_SEMANA + 1);
+            for (int i = melhor; i >= 0; i = anterior[i]) {
+                mascara |= 1 << (i / tamanhoDia);
+            }
+            return mascara;
+        }
+
+        private void expandir(int d, int q, int s, int k, int atual, int bloqueados) {
+            int p = folgasPermitidas;
+            int limite = Math.min(dias - 1, d + intervaloMaximo);
+
+            for (int prox = d + 1; prox <= limite; prox++) {
+                int salto = semana[prox] - semana[d];
+                if (salto > 1) break;
+                if (!disponivel(prox, bloqueados)) continue;
+
+                int naSemana;
+                if (salto == 0) {
+                    naSemana = k + 1;
+                    if (naSemana > MAX_FOLGAS_SEMANA) {
+                        // Só a última semana pode concentrar folgas: as demais já estão cobertas
+                        if (semana[prox] != ultimaSemana) continue;
+                        naSemana = MAX_FOLGAS_SEMANA;
+                    }
+                } else {
+                    naSemana = 1;
+                }
+
+                // A última folga só é aceita se o domingo já tiver sido usado antes dela
+                if (q + 1 == p && s == 0) continue;
+
+                int novoDomingo = s == 1 || domingo[prox] ? 1 : 0;
+                int destino = indice(prox, q + 1, novoDomingo, naSemana);
+                int novoCusto = custo[atual] + carga[prox];
+
+                if (novoCusto < custo[destino]) {
+                    custo[destino] = novoCusto;
+                    anterior[destino] = atual;
+                }
+            }
+        }
+
+        private boolean disponivel(int dia, int bloqueados) {
+            return (bloqueados & (1 << dia)) == 0 && carga[dia] < tetoPorDia;
+        }
+
+        void registrarCarga(int mascara) {
+            for (int d = 0; d < dias; d++) {
+                if ((mascara & (1 << d)) != 0) {
+                    carga[d]++;
+                }
+            }
+        }
+
+        List<LocalDate> datas(int mascara) {
+            List<LocalDate> datas = new ArrayList<>(Integer.bitCount(mascara));
+            for (int d = 0; d < dias; d++) {
+                if ((mascara & (1 << d)) != 0) {
+                    datas.add(primeiroDia.plusDays(d));
+                }
+            }
+            return datas;
+        }
+    }
+
+    /**
+     * ========================================
+     * CLASSES DE DOMÍNIO (não são DTOs!)
+     * ========================================
+     */
+
+    public record ColaboradorPlanoDomain(
+            Colaborador colaborador,
+            LocalDate ultimaFolga,
+            int datasUsadas
+    ) {}
+
+    public record AlocacaoDomain(
+            Colaborador colaborador,
+            List<LocalDate> datas
+    ) {}
+
+    public record PendenciaGeracaoDomain(
+            Colaborador colaborador,
+            String motivo
+    ) {}
+
+    public record PlanoEscalaDomain(
+            List<AlocacaoDomain> alocacoes,
+            List<PendenciaGeracaoDomain> pendencias,
+            int tetoPorDia
+    ) {}
+
+    public record GeracaoEscalaDomain(
+            Escala escala,
+            int totalColaboradores,
+            int colaboradoresAtendidos,
+            int totalFolgasCriadas,
+            long tempoPlanejamentoMs,
+            List<PendenciaGeracaoDomain> pendencias
+    ) {}
+}
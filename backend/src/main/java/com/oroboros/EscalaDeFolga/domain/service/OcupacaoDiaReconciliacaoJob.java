@@ -0,0 +1,45 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reconstrói periodicamente os contadores de ocupação a partir de {@code folga},
+ * detectando e corrigindo divergências. Cada escala é reconciliada em sua própria transação,
+ * com os contadores dela travados da contagem até o commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OcupacaoDiaReconciliacaoJob {
+
+    private final EscalaRepository escalaRepository;
+    private final OcupacaoDiaService ocupacaoDiaService;
+
+    @Scheduled(cron = "${escala.ocupacao.reconciliacao-cron:0 0 3 * * *}")
+    public void reconciliarTodas() {
+        log.info("🔄 Reconciliando contadores de ocupação");
+
+        int escalas = 0;
+        int divergencias = 0;
+
+        for (Escala escala : escalaRepository.findAll()) {
+            try {
+                divergencias += ocupacaoDiaService.reconciliar(escala.getId());
+                escalas++;
+            } catch (Exception e) {
+                log.error("❌ Erro ao reconciliar escala {}: {}", escala.getId(), e.getMessage());
+            }
+        }
+
+        if (divergencias > 0) {
+            log.warn("⚠️ {} contador(es) de ocupação corrigido(s) em {} escala(s)", divergencias, escalas);
+        } else {
+            log.info("✅ Contadores de ocupação consistentes em {} escala(s)", escalas);
+        }
+    }
+}
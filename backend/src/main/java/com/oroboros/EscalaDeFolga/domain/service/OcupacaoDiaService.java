@@ -0,0 +1,277 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoDia;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.OcupacaoDiaInsercaoRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.OcupacaoDiaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Service dos contadores de ocupação por dia da escala.
+ *
+ * <p>Toda alteração que muda a quantidade de folgas ativas de um dia (criação,
+ * remoção, troca de data ou de status) deve passar por aqui, dentro da mesma
+ * transação da alteração. A leitura da ocupação de um dia passa a ser uma busca
+ * por chave, em vez de um {@code COUNT} sobre {@code folga}.</p>
+ *
+ * <p>O contador de um dia é criado na primeira alteração, a partir da contagem
+ * real, pelo {@link OcupacaoDiaInsercaoRepository}. Se outra transação criar o
+ * mesmo contador ao mesmo tempo, a alteração é aplicada sobre o dela. A
+ * {@link #reconciliar(Long)} recalcula todos os dias de uma escala com os
+ * contadores travados e corrige divergências.</p>
+ *
+ * <p>Folgas que ocupam um dia (inclusão ou troca de data/status) passam pela
+ * {@link #reservar(Escala, LocalDate, int)}: o contador só é incrementado se couber
+ * no {@link #limiteDoDia(Escala)}, numa instrução condicional no banco. Quem chama
+ * deve segurar a trava do dia ({@code TravasDiaEscala}) desde antes das validações.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OcupacaoDiaService {
+
+    private static final List<StatusFolgaEnum> STATUS_ATIVOS =
+            List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA);
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final OcupacaoDiaRepository ocupacaoDiaRepository;
+    private final OcupacaoDiaInsercaoRepository ocupacaoDiaInsercaoRepository;
+    private final FolgaRepository folgaRepository;
+    private final ColaboradorRepository colaboradorRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Folga ativa criada (chamar depois do save): reserva a vaga no dia
+     *
+     * @throws BusinessException se o dia já atingiu o limite
+     */
+    @Transactional
+    public void registrarInclusao(Folga folga) {
+        if (isAtiva(folga.getStatus())) {
+            reservar(folga.getEscala(), folga.getDataSolicitada(), 1);
+        }
+    }
+
+    /**
+     * Folga removida (chamar depois do delete)
+     */
+    @Transactional
+    public void registrarRemocao(Folga folga) {
+        if (isAtiva(folga.getStatus())) {
+            ajustar(folga.getEscala(), folga.getDataSolicitada(), -1);
+        }
+    }
+
+    /**
+     * Folga alterada: troca de data e/ou de status. O dia que passa a ser ocupado
+     * precisa ter vaga.
+     *
+     * @throws BusinessException se o novo dia já atingiu o limite
+     */
+    @Transactional
+    public void registrarAlteracao(
+            Folga folga,
+            LocalDate dataAnterior,
+            StatusFolgaEnum statusAnterior
+    ) {
+        boolean estavaAtiva = isAtiva(statusAnterior);
+        boolean estaAtiva = isAtiva(folga.getStatus());
+        boolean mudouData = !Objects.equals(dataAnterior, folga.getDataSolicitada());
+
+        if (estavaAtiva && (!estaAtiva || mudouData)) {
+            ajustar(folga.getEscala(), dataAnterior, -1);
+        }
+        if (estaAtiva && (!estavaAtiva || mudouData)) {
+            reservar(folga.getEscala(), folga.getDataSolicitada(), 1);
+        }
+    }
+
+    /**
+     * Soma o delta ao contador do dia. Se o contador ainda não existe, ele é
+     * criado com a contagem real (que já inclui a alteração corrente); se outra
+     * transação o criou nesse meio tempo, o delta é somado ao dela.
+     */
+    @Transactional
+    public void ajustar(Escala escala, LocalDate data, int delta) {
+        if (delta == 0) {
+            return;
+        }
+
+        int atualizados = ocupacaoDiaRepository.incrementar(escala.getId(), data, delta);
+        if (atualizados == 0) {
+            long total = folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(escala, data, STATUS_ATIVOS);
+            if (!ocupacaoDiaInsercaoRepository.inserirSeAusente(escala.getId(), data, (int) total)) {
+                ocupacaoDiaRepository.incrementar(escala.getId(), data, delta);
+            }
+        }
+    }
+
+    /**
+     * Ocupa {@code quantidade} vagas do dia, já gravadas na transação atual, sem
+     * passar do limite. O banco só aplica o incremento se couber; sem contador, ele
+     * é criado com a contagem real (que já inclui as folgas da transação).
+     *
+     * <p>Entre instâncias, duas criações simultâneas do mesmo contador esbarram em
+     * {@code uk_ocupacao_escala_data}: a que perde desfaz só a inserção e tenta a
+     * reserva condicional sobre o contador da outra.</p>
+     *
+     * @throws BusinessException se as vagas não couberem no limite do dia
+     */
+    @Transactional
+    public void reservar(Escala escala, LocalDate data, int quantidade) {
+        reservar(escala, data, quantidade, limiteDoDia(escala));
+    }
+
+    /**
+     * Como {@link #reservar(Escala, LocalDate, int)}, com o limite já calculado por
+     * quem reserva vários dias da mesma escala
+     */
+    @Transactional
+    public void reservar(Escala escala, LocalDate data, int quantidade, int limite) {
+        if (ocupacaoDiaRepository.reservar(escala.getId(), data, quantidade, limite) == 1) {
+            return;
+        }
+
+        if (ocupacaoDiaRepository.findByEscalaIdAndData(escala.getId(), data).isEmpty()) {
+            long total = folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(escala, data, STATUS_ATIVOS);
+            if (total <= limite) {
+                if (ocupacaoDiaInsercaoRepository.inserirSeAusente(escala.getId(), data, (int) total)
+                        || ocupacaoDiaRepository.reservar(escala.getId(), data, quantidade, limite) == 1) {
+                    return;
+                }
+            }
+        }
+
+        log.warn("❌ Dia {} da escala {} sem vaga para {} folga(s) (limite {})",
+                data, escala.getId(), quantidade, limite);
+        throw new BusinessException(mensagemDiaLotado(data, limite));
+    }
+
+    /**
+     * Máximo de folgas ativas por dia: metade dos colaboradores do setor/turno da
+     * escala, com no mínimo uma. O calendário e a geração usam o mesmo
+     * {@link #limitePara(long)}.
+     */
+    public int limiteDoDia(Escala escala) {
+        return limitePara(colaboradorRepository.countBySetorAndTurno(escala.getSetor(), escala.getTurno()));
+    }
+
+    /**
+     * Limite do dia para um setor/turno com a quantidade de colaboradores informada
+     */
+    public static int limitePara(long colaboradores) {
+        return Math.max(1, (int) Math.floor(colaboradores * GeradorEscalaService.COBERTURA_MAXIMA_DIA));
+    }
+
+    public static String mensagemDiaLotado(LocalDate data, int limite) {
+        return String.format("O dia %s já atingiu o limite de %d folga(s) da escala.",
+                data.format(FORMATO_DATA), limite);
+    }
+
+    /**
+     * Folgas ativas em um dia da escala
+     */
+    public int contar(Escala escala, LocalDate data) {
+        return ocupacaoDiaRepository.findByEscalaIdAndData(escala.getId(), data)
+                .map(OcupacaoDia::getTotalFolgas)
+                .orElseGet(() -> (int) folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(
+                        escala, data, STATUS_ATIVOS));
+    }
+
+    /**
+     * Folgas ativas por dia da escala (dias sem contador ficam de fora)
+     */
+    public Map<LocalDate, Integer> contarPorDia(Escala escala) {
+        return ocupacaoDiaRepository.findByEscalaIdOrderByData(escala.getId()).stream()
+                .collect(Collectors.toMap(OcupacaoDia::getData, OcupacaoDia::getTotalFolgas));
+    }
+
+    /**
+     * Matriz colaborador × dia das folgas ativas da escala, montada sem carregar entidades
+     */
+    @Transactional(readOnly = true)
+    public OcupacaoMes carregarMes(Escala escala) {
+        OcupacaoMes.Construtor construtor = OcupacaoMes.construtor(YearMonth.of(escala.getAno(), escala.getMes()));
+        folgaRepository.findFolgasDoDiaByEscala(escala, STATUS_ATIVOS)
+                .forEach(f -> construtor.folga(f.getColaboradorId(), f.getData()));
+        return construtor.construir();
+    }
+
+    /**
+     * Recalcula os contadores da escala a partir de {@code folga}.
+     *
+     * <p>Os contadores são travados antes da contagem: alterações concorrentes
+     * esperam a correção, e as que terminaram antes já entram na contagem. A
+     * correção é gravada no commit, ainda com as travas.</p>
+     *
+     * @return quantidade de dias cujo contador estava divergente (ou ausente)
+     */
+    @Transactional
+    public int reconciliar(Long escalaId) {
+        Map<LocalDate, OcupacaoDia> contadores = ocupacaoDiaRepository.travarPorEscala(escalaId).stream()
+                .collect(Collectors.toMap(OcupacaoDia::getData, o -> o));
+
+        Map<LocalDate, Long> reais = folgaRepository.contarFolgasAtivasPorDia(escalaId).stream()
+                .collect(Collectors.toMap(
+                        FolgaRepository.TotalFolgasDia::getData,
+                        FolgaRepository.TotalFolgasDia::getTotal
+                ));
+
+        Set<LocalDate> dias = new TreeSet<>(reais.keySet());
+        dias.addAll(contadores.keySet());
+
+        int divergencias = 0;
+        for (LocalDate dia : dias) {
+            int real = reais.getOrDefault(dia, 0L).intValue();
+            OcupacaoDia contador = contadores.get(dia);
+
+            if (contador == null) {
+                // Criado por uma alteração concorrente: já nasce com a contagem real
+                if (ocupacaoDiaInsercaoRepository.inserirSeAusente(escalaId, dia, real)) {
+                    divergencias++;
+                }
+            } else if (contador.getTotalFolgas() != real) {
+                log.warn("⚠️ Ocupação divergente na escala {} em {}: contador={}, real={}",
+                        escalaId, dia, contador.getTotalFolgas(), real);
+                contador.setTotalFolgas(real);
+                divergencias++;
+            }
+        }
+
+        if (divergencias > 0) {
+            eventPublisher.publishEvent(new EscalaAlteradaEvento(escalaId, EscalaAlteradaEvento.Origem.RECONCILIACAO));
+        }
+
+        return divergencias;
+    }
+
+    /**
+     * Remove os contadores de uma escala excluída
+     */
+    @Transactional
+    public void removerDaEscala(Long escalaId) {
+        ocupacaoDiaRepository.deleteByEscalaId(escalaId);
+    }
+
+    private boolean isAtiva(StatusFolgaEnum status) {
+        return status != null && STATUS_ATIVOS.contains(status);
+    }
+}
@@ -0,0 +1,237 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.RetratoEscala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.domain.service.alerta.AlertaService;
+import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.domain.validation.folga.ContextoValidacaoFolga;
+import com.oroboros.EscalaDeFolga.domain.validation.folga.FolgaValidatorComposite;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Simulação de folgas ("posso folgar neste dia?") sem gravar nada.
+ *
+ * <p>Cada data é avaliada pelo {@link FolgaValidatorComposite}, pelo limite de
+ * folgas do dia e pelos geradores de alertas, exatamente como na criação, mas
+ * sobre um {@link RetratoEscala} em memória: sem transação, sem travas e sem
+ * consultas por data. As datas são independentes entre si (cada uma é avaliada
+ * como se fosse a única solicitação).</p>
+ *
+ * <p>Os retratos ficam no cache {@value #CACHE}, por escala, com a versão do
+ * calendário ({@link EscalaVersaoService}) lida antes da carga. A cada simulação
+ * só a versão atual é consultada (busca pela chave da escala); um retrato mais
+ * antigo é carregado de novo. Como no {@link CalendarioCacheService}, as alterações
+ * da escala e dos colaboradores do setor/turno também removem o retrato depois
+ * do commit.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SimulacaoFolgaService {
+
+    public static final String CACHE = "simulacoes";
+
+    private final FolgaValidatorComposite validadores;
+    private final AlertaService alertaService;
+    private final EscalaVersaoService escalaVersaoService;
+    private final EscalaRepository escalaRepository;
+    private final ColaboradorRepository colaboradorRepository;
+    private final FolgaRepository folgaRepository;
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Avalia as datas para o colaborador na versão atual da escala
+     */
+    public SimulacaoDomain simular(Long escalaId, Long colaboradorId, List<LocalDate> datas) {
+        long versao = escalaVersaoService.buscarVersao(escalaId);
+        return avaliar(obterRetrato(escalaId, versao), colaboradorId, datas);
+    }
+
+    /**
+     * Avalia as datas sobre um retrato já carregado, sem acesso ao banco
+     */
+    public SimulacaoDomain avaliar(RetratoEscala retrato, Long colaboradorId, List<LocalDate> datas) {
+        Escala escala = retrato.getEscala();
+        Colaborador colaborador = retrato.colaborador(colaboradorId);
+        if (colaborador == null) {
+            throw new BusinessException(String.format(
+                    "Colaborador com ID %d não encontrado no setor/turno da escala %d.",
+                    colaboradorId, escala.getId()));
+        }
+
+        List<ResultadoDataDomain> resultados = new ArrayList<>(datas.size());
+        for (LocalDate data : datas) {
+            resultados.add(avaliar(retrato, colaborador, data));
+        }
+
+        meterRegistry.counter("folga.simulacao.datas").increment(datas.size());
+        return new SimulacaoDomain(escala.getId(), colaboradorId, retrato.getVersao(), resultados);
+    }
+
+    private ResultadoDataDomain avaliar(RetratoEscala retrato, Colaborador colaborador, LocalDate data) {
+        Escala escala = retrato.getEscala();
+
+        int dia = retrato.getOcupacao().diaDe(data);
+        if (dia == 0) {
+            return ResultadoDataDomain.rejeitada(data, String.format(
+                    "A data %s não pertence ao mês da escala (%02d/%d)", data, escala.getMes(), escala.getAno()));
+        }
+
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(data);
+        folga.setStatus(StatusFolgaEnum.PENDENTE);
+
+        ResultadoValidacao validacao = validadores.validar(folga, ContextoValidacaoFolga.simulacao(
+                folga,
+                retrato.folgasDe(colaborador.getId()),
+                retrato.ultimaFolgaAntes(colaborador.getId(), data)
+        ));
+        if (!validacao.isValido()) {
+            return ResultadoDataDomain.rejeitada(data, validacao.getMensagem());
+        }
+
+        if (retrato.getOcupacao().totalNoDia(dia) >= retrato.getLimiteDoDia()) {
+            return ResultadoDataDomain.rejeitada(data,
+                    OcupacaoDiaService.mensagemDiaLotado(data, retrato.getLimiteDoDia()));
+        }
+
+        return ResultadoDataDomain.permitida(data, alertaService.simularAlertas(folga, retrato));
+    }
+
+    /**
+     * Retrato da escala em uma versão igual ou mais nova que a informada
+     */
+    private RetratoEscala obterRetrato(Long escalaId, long versao) {
+        RetratoEscala retrato;
+        try {
+            retrato = cache().get(escalaId, () -> carregar(escalaId, versao));
+        } catch (Cache.ValueRetrievalException e) {
+            // Mantém a exceção original (ex.: BusinessException) para o handler global
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw e;
+        }
+
+        if (retrato.getVersao() < versao) {
+            retrato = carregar(escalaId, versao);
+            cache().put(escalaId, retrato);
+        }
+        return retrato;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarEscala(EscalaAlteradaEvento evento) {
+        // Alertas já gravados não entram na simulação
+        if (evento.origem() != EscalaAlteradaEvento.Origem.ALERTA) {
+            cache().evictIfPresent(evento.escalaId());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void aoAlterarColaboradores(ColaboradoresAlteradosEvento evento) {
+        // Inclui a última folga: ela vira a "última antes do mês" das escalas seguintes
+        if (evento.setorId() == null || evento.turnos().isEmpty()) {
+            return;
+        }
+
+        escalaRepository.findIdsPorSetorETurnos(evento.setorId(), evento.turnos())
+                .forEach(escalaId -> cache().evictIfPresent(escalaId));
+    }
+
+    /**
+     * Carrega a escala com o setor, os colaboradores do setor/turno, todas as folgas
+     * da escala e a última folga de cada colaborador antes do mês (quatro consultas).
+     * Uma alteração durante a carga incrementa a versão e o retrato é refeito na
+     * próxima simulação.
+     */
+    private RetratoEscala carregar(Long escalaId, long versao) {
+        log.debug("📸 Carregando retrato da escala {} (versão {})", escalaId, versao);
+
+        Escala escala = escalaRepository.findComSetorById(escalaId)
+                .orElseThrow(() -> new BusinessException("Escala", escalaId));
+
+        List<Colaborador> colaboradores = colaboradorRepository.findBySetorAndTurno(escala.getSetor(), escala.getTurno());
+        List<Folga> folgas = folgaRepository.findByEscalaComColaborador(escala);
+
+        List<Long> colaboradorIds = new ArrayList<>(colaboradores.stream().map(Colaborador::getId).toList());
+        folgas.forEach(f -> colaboradorIds.add(f.getColaborador().getId()));
+
+        LocalDate inicioMes = YearMonth.of(escala.getAno(), escala.getMes()).atDay(1);
+        Map<Long, LocalDate> ultimaFolgaAntesDoMes = colaboradorIds.isEmpty()
+                ? Map.of()
+                : folgaRepository.findUltimaFolgaAntesDePorColaborador(colaboradorIds.stream().distinct().toList(), inicioMes)
+                        .stream()
+                        .collect(Collectors.toMap(
+                                FolgaRepository.UltimaFolgaColaborador::getColaboradorId,
+                                FolgaRepository.UltimaFolgaColaborador::getUltimaFolga
+                        ));
+
+        return RetratoEscala.de(
+                versao,
+                escala,
+                colaboradores,
+                folgas,
+                ultimaFolgaAntesDoMes,
+                OcupacaoDiaService.limitePara(colaboradores.size())
+        );
+    }
+
+    private Cache cache() {
+        return cacheManager.getCache(CACHE);
+    }
+
+    /**
+     * ========================================
+     * CLASSES DE DOMÍNIO (não são DTOs!)
+     * ========================================
+     */
+
+    public record SimulacaoDomain(
+            Long escalaId,
+            Long colaboradorId,
+            long versao,
+            List<ResultadoDataDomain> resultados
+    ) {}
+
+    public record ResultadoDataDomain(
+            LocalDate data,
+            boolean permitida,
+            String mensagem,
+            List<Alerta> alertas
+    ) {
+        static ResultadoDataDomain permitida(LocalDate data, List<Alerta> alertas) {
+            return new ResultadoDataDomain(data, true, "Folga permitida.", alertas);
+        }
+
+        static ResultadoDataDomain rejeitada(LocalDate data, String mensagem) {
+            return new ResultadoDataDomain(data, false, mensagem, List.of());
+        }
+    }
+}
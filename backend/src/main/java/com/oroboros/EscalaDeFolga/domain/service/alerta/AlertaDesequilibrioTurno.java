@@ -3,9 +3,10 @@ package com.oroboros.EscalaDeFolga.domain.service.alerta;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.TipoAlertaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
-import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
+import com.oroboros.EscalaDeFolga.domain.model.escala.RetratoEscala;
+import com.oroboros.EscalaDeFolga.domain.service.OcupacaoDiaService;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
-import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -20,31 +21,55 @@ import java.util.*;
 @RequiredArgsConstructor
 public class AlertaDesequilibrioTurno implements IAlertaGenerator {
 
-    private final FolgaRepository folgaRepository;
+    private final OcupacaoDiaService ocupacaoDiaService;
     private final ColaboradorRepository colaboradorRepository;
     private static final double LIMITE_COBERTURA_MINIMA = 0.60; // 60%
 
     @Override
     public List<Alerta> gerarAlertas(Folga folga) {
+        // Folgas no mesmo dia/turno (incluindo a atual), lidas do contador de ocupação
+        return avaliar(folga, ocupacaoDiaService.contar(folga.getEscala(), folga.getDataSolicitada()),
+                contarColaboradores(folga));
+    }
+
+    @Override
+    public List<Alerta> gerarAlertas(Folga folga, OcupacaoMes ocupacao) {
+        int dia = ocupacao.diaDe(folga.getDataSolicitada());
+        if (dia == 0) {
+            return gerarAlertas(folga);
+        }
+        return avaliar(folga, ocupacao.totalNoDia(dia), contarColaboradores(folga));
+    }
+
+    /**
+     * Simulação: o total de colaboradores do setor/turno vem do retrato
+     */
+    @Override
+    public List<Alerta> gerarAlertas(Folga folga, OcupacaoMes ocupacao, RetratoEscala retrato) {
+        int dia = ocupacao.diaDe(folga.getDataSolicitada());
+        if (dia == 0) {
+            return List.of();
+        }
+        return avaliar(folga, ocupacao.totalNoDia(dia), retrato.getColaboradoresNoTurno());
+    }
+
+    /**
+     * Total de colaboradores no turno/setor
+     */
+    private long contarColaboradores(Folga folga) {
+        return colaboradorRepository.countBySetorAndTurno(
+                folga.getEscala().getSetor(),
+                folga.getEscala().getTurno()
+        );
+    }
+
+    private List<Alerta> avaliar(Folga folga, long folgasNoDia, long totalColaboradores) {
         List<Alerta> alertas = new ArrayList<>();
 
         var escala = folga.getEscala();
         var turno = escala.getTurno();
         var dataSolicitada = folga.getDataSolicitada();
 
-        // Conta folgas no mesmo dia/turno (incluindo a atual)
-        long folgasNoDia = folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(
-                escala,
-                dataSolicitada,
-                List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA)
-        );
-
-        // Total de colaboradores no turno/setor
-        long totalColaboradores = colaboradorRepository.countBySetorAndTurno(
-                escala.getSetor(),
-                turno
-        );
-
         if (totalColaboradores > 0) {
             double percentualEmFolga = (double) folgasNoDia / totalColaboradores;
             double percentualCobertura = 1 - percentualEmFolga;
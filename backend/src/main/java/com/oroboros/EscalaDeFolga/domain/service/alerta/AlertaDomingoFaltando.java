@@ -3,6 +3,7 @@ package com.oroboros.EscalaDeFolga.domain.service.alerta;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.TipoAlertaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
 import lombok.RequiredArgsConstructor;
@@ -27,8 +28,6 @@ public class AlertaDomingoFaltando implements IAlertaGenerator {
 
     @Override
     public List<Alerta> gerarAlertas(Folga folga) {
-        List<Alerta> alertas = new ArrayList<>();
-
         var escala = folga.getEscala();
         var colaborador = folga.getColaborador();
 
@@ -46,6 +45,21 @@ public class AlertaDomingoFaltando implements IAlertaGenerator {
                 escala.getAno()
         );
 
+        return avaliar(folga, totalFolgas, temDomingo);
+    }
+
+    @Override
+    public List<Alerta> gerarAlertas(Folga folga, OcupacaoMes ocupacao) {
+        long colaboradorId = folga.getColaborador().getId();
+        return avaliar(folga, ocupacao.totalFolgas(colaboradorId), ocupacao.temDomingo(colaboradorId));
+    }
+
+    private List<Alerta> avaliar(Folga folga, long totalFolgas, boolean temDomingo) {
+        List<Alerta> alertas = new ArrayList<>();
+
+        var escala = folga.getEscala();
+        var colaborador = folga.getColaborador();
+
         // Se não tem domingo E ainda faltam folgas, gera alerta
         if (!temDomingo && totalFolgas < escala.getFolgasPermitidas()) {
             List<LocalDate> domingosMes = obterDomingosMes(escala.getAno(), escala.getMes());
@@ -3,6 +3,8 @@ package com.oroboros.EscalaDeFolga.domain.service.alerta;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.TipoAlertaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
+import com.oroboros.EscalaDeFolga.domain.model.escala.RetratoEscala;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -25,12 +27,37 @@ public class AlertaIntervaloMinimo implements IAlertaGenerator {
 
     @Override
     public List<Alerta> gerarAlertas(Folga folga) {
-        List<Alerta> alertas = new ArrayList<>();
-
-        Optional<LocalDate> ultimaFolga = folgaRepository.findUltimaFolgaAntesDe(
+        return avaliar(folga, folgaRepository.findUltimaFolgaAntesDe(
                 folga.getColaborador(),
                 folga.getDataSolicitada()
-        );
+        ));
+    }
+
+    /**
+     * A última folga vem da ocupação do mês; só consulta o banco se ela for de um mês anterior
+     */
+    @Override
+    public List<Alerta> gerarAlertas(Folga folga, OcupacaoMes ocupacao) {
+        int dia = ocupacao.diaDe(folga.getDataSolicitada());
+        int anterior = dia == 0 ? 0
+                : OcupacaoMes.ultimaFolgaAntes(ocupacao.mascara(folga.getColaborador().getId()), dia);
+        if (anterior == 0) {
+            return gerarAlertas(folga);
+        }
+        return avaliar(folga, Optional.of(ocupacao.getMes().atDay(anterior)));
+    }
+
+    /**
+     * Simulação: a última folga vem do retrato, inclusive a de meses anteriores
+     */
+    @Override
+    public List<Alerta> gerarAlertas(Folga folga, OcupacaoMes ocupacao, RetratoEscala retrato) {
+        return avaliar(folga, Optional.ofNullable(
+                retrato.ultimaFolgaAntes(folga.getColaborador().getId(), folga.getDataSolicitada())));
+    }
+
+    private List<Alerta> avaliar(Folga folga, Optional<LocalDate> ultimaFolga) {
+        List<Alerta> alertas = new ArrayList<>();
 
         if (ultimaFolga.isEmpty()) {
             return alertas; // Primeira folga, sem alertas
@@ -0,0 +1,121 @@
+package com.oroboros.EscalaDeFolga.domain.service.alerta;
+
+import com.oroboros.EscalaDeFolga.config.AlertasProperties;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.AlertaOutbox;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AlertaOutboxRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service da outbox de alertas - registra pedidos e os processa em transações próprias
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AlertaOutboxService {
+
+    private final AlertaOutboxRepository outboxRepository;
+    private final FolgaRepository folgaRepository;
+    private final AlertaService alertaService;
+    private final AlertasProperties properties;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Grava o pedido de alertas na transação corrente (a da criação da folga)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AlertaOutbox registrar(Folga folga) {
+        AlertaOutbox outbox = outboxRepository.save(AlertaOutbox.criar(folga.getId()));
+        log.debug("📨 Pedido de alertas {} registrado para folga {}", outbox.getId(), folga.getId());
+
+        // Entregue aos workers somente após o commit
+        eventPublisher.publishEvent(new PedidoAlertaRegistrado(outbox.getId()));
+        return outbox;
+    }
+
+    /**
+     * IDs pendentes para a varredura periódica
+     */
+    @Transactional(readOnly = true)
+    public List<Long> buscarPendentes(int limite) {
+        return outboxRepository.findIdsPorStatus(StatusOutboxEnum.PENDENTE, PageRequest.of(0, limite));
+    }
+
+    /**
+     * Tenta reservar o pedido; retorna false se outro worker já o pegou
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean reservar(Long outboxId) {
+        return outboxRepository.reservar(outboxId, LocalDateTime.now()) == 1;
+    }
+
+    /**
+     * Devolve para a fila reservas antigas que nunca foram concluídas. Cada reserva
+     * conta uma tentativa: as que já esgotaram o máximo vão para FALHA, para que um
+     * pedido que derruba o worker não volte à fila indefinidamente.
+     *
+     * @return quantidade de pedidos devolvidos para a fila
+     */
+    @Transactional
+    public int liberarReservasExpiradas(LocalDateTime limite) {
+        int falhas = outboxRepository.falharReservasEsgotadas(
+                limite, properties.maxTentativas(), "Reserva expirada sem conclusão do worker");
+        if (falhas > 0) {
+            log.error("❌ {} pedido(s) de alertas abandonado(s) após {} tentativa(s) marcado(s) como FALHA",
+                    falhas, properties.maxTentativas());
+        }
+        return outboxRepository.liberarReservasExpiradas(limite, properties.maxTentativas());
+    }
+
+    /**
+     * Executa os geradores de alerta do pedido e marca como concluído
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void processar(Long outboxId) {
+        AlertaOutbox outbox = outboxRepository.findById(outboxId)
+                .orElseThrow(() -> new IllegalStateException("Pedido de alertas " + outboxId + " não encontrado"));
+
+        Optional<Folga> folga = folgaRepository.findParaAlertasById(outbox.getFolgaId());
+        if (folga.isPresent()) {
+            alertaService.gerarEPersistirAlertas(folga.get());
+        } else {
+            log.info("ℹ️ Folga {} removida antes da geração de alertas", outbox.getFolgaId());
+        }
+
+        outbox.concluir();
+    }
+
+    /**
+     * Registra a falha do processamento em transação própria
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void registrarFalha(Long outboxId, Exception erro) {
+        outboxRepository.findById(outboxId).ifPresent(outbox -> {
+            outbox.registrarFalha(erro.getMessage(), properties.maxTentativas());
+            if (outbox.getStatus() == StatusOutboxEnum.FALHA) {
+                log.error("❌ Pedido de alertas {} falhou após {} tentativa(s): {}",
+                        outboxId, outbox.getTentativas(), erro.getMessage());
+            } else {
+                log.warn("⚠️ Pedido de alertas {} falhou (tentativa {}), voltará para a fila: {}",
+                        outboxId, outbox.getTentativas(), erro.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Evento publicado quando um pedido é gravado na outbox
+     */
+    public record PedidoAlertaRegistrado(Long outboxId) {}
+}
@@ -0,0 +1,101 @@
+package com.oroboros.EscalaDeFolga.domain.service.alerta;
+
+import com.oroboros.EscalaDeFolga.config.AlertasProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Workers que drenam a outbox de alertas.
+ *
+ * <p>Cada pedido é entregue ao pool logo após o commit da folga. Se a fila do pool
+ * estiver cheia (ou a aplicação reiniciar antes do processamento), o pedido continua
+ * PENDENTE na tabela e é retomado pela varredura periódica.</p>
+ *
+ * <p>Só existe com {@code escala.alertas.assincrono=true}: no modo síncrono nenhum
+ * pedido é gravado e a varredura não roda.</p>
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "escala.alertas", name = "assincrono", havingValue = "true")
+public class AlertaOutboxWorker {
+
+    // Pedidos reservados há mais tempo que isso são considerados abandonados
+    private static final long MINUTOS_RESERVA_EXPIRADA = 5;
+
+    private final AlertaOutboxService outboxService;
+    private final TaskExecutor executor;
+    private final AlertasProperties properties;
+
+    public AlertaOutboxWorker(
+            AlertaOutboxService outboxService,
+            @Qualifier("alertaOutboxExecutor") TaskExecutor executor,
+            AlertasProperties properties
+    ) {
+        this.outboxService = outboxService;
+        this.executor = executor;
+        this.properties = properties;
+    }
+
+    /**
+     * Entrega o pedido aos workers depois que a folga foi confirmada no banco
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void aoRegistrarPedido(AlertaOutboxService.PedidoAlertaRegistrado evento) {
+        despachar(evento.outboxId());
+    }
+
+    /**
+     * Varredura periódica: retoma pedidos que não couberam na fila ou foram abandonados
+     */
+    @Scheduled(fixedDelayString = "${escala.alertas.intervalo-ms:5000}")
+    public void varrerPendentes() {
+        int liberados = outboxService.liberarReservasExpiradas(
+                LocalDateTime.now().minusMinutes(MINUTOS_RESERVA_EXPIRADA));
+        if (liberados > 0) {
+            log.warn("⚠️ {} pedido(s) de alertas abandonado(s) voltaram para a fila", liberados);
+        }
+
+        List<Long> pendentes = outboxService.buscarPendentes(properties.fila());
+        for (Long outboxId : pendentes) {
+            if (!despachar(outboxId)) {
+                break; // Fila cheia: o restante fica para a próxima varredura
+            }
+        }
+    }
+
+    /**
+     * Envia o pedido ao pool; retorna false se a fila estiver cheia
+     */
+    boolean despachar(Long outboxId) {
+        try {
+            executor.execute(() -> executar(outboxId));
+            return true;
+        } catch (TaskRejectedException e) {
+            log.debug("⏳ Fila de alertas cheia, pedido {} aguardará a próxima varredura", outboxId);
+            return false;
+        }
+    }
+
+    void executar(Long outboxId) {
+        if (!outboxService.reservar(outboxId)) {
+            return; // Já reservado por outro worker
+        }
+
+        try {
+            outboxService.processar(outboxId);
+        } catch (Exception e) {
+            outboxService.registrarFalha(outboxId, e);
+        }
+    }
+}
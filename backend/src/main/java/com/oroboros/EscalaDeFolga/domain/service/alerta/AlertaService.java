@@ -1,25 +1,45 @@
 package com.oroboros.EscalaDeFolga.domain.service.alerta;
 
 import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.AlertasGeradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
+import com.oroboros.EscalaDeFolga.domain.model.escala.RetratoEscala;
+import com.oroboros.EscalaDeFolga.domain.service.OcupacaoDiaService;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.AlertaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.ClassUtils;
 
 import java.util.*;
+import java.util.function.Function;
 
 /**
- * Service responsável por orquestrar geração e persistência de alertas
+ * Service responsável por orquestrar geração e persistência de alertas.
+ *
+ * <p>Cada gerador é medido no timer {@value #METRICA} (tags {@code classe} e
+ * {@code resultado}: {@code ok} ou {@code erro}); os alertas produzidos por ele
+ * somam no contador {@value #METRICA_ALERTAS}.</p>
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class AlertaService {
 
+    public static final String METRICA = "alerta.gerador";
+    public static final String METRICA_ALERTAS = "alerta.gerador.alertas";
+
     private final List<IAlertaGenerator> geradores;
     private final AlertaRepository alertaRepository;
+    private final OcupacaoDiaService ocupacaoDiaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Gera todos os alertas para uma folga e os persiste
@@ -31,32 +51,16 @@ public class AlertaService {
                 folga.getDataSolicitada()
         );
 
-        List<Alerta> todosAlertas = new ArrayList<>();
+        // Ocupação do mês carregada uma única vez para todos os geradores
+        OcupacaoMes ocupacao = ocupacaoDiaService.carregarMes(folga.getEscala());
 
-        // Executa cada gerador
-        for (IAlertaGenerator gerador : geradores) {
-            try {
-                List<Alerta> alertas = gerador.gerarAlertas(folga);
-                todosAlertas.addAll(alertas);
-
-                if (!alertas.isEmpty()) {
-                    log.debug("✅ {} gerou {} alerta(s)",
-                            gerador.getClass().getSimpleName(),
-                            alertas.size()
-                    );
-                }
-            } catch (Exception e) {
-                log.error("❌ Erro ao executar gerador {}: {}",
-                        gerador.getClass().getSimpleName(),
-                        e.getMessage()
-                );
-                // Continua com próximo gerador mesmo se um falhar
-            }
-        }
+        List<Alerta> todosAlertas = executarGeradores(gerador -> gerador.gerarAlertas(folga, ocupacao));
 
         // Persiste todos os alertas
         if (!todosAlertas.isEmpty()) {
             alertaRepository.saveAll(todosAlertas);
+            publicarAlteracao(folga.getEscala().getId());
+            eventPublisher.publishEvent(AlertasGeradosEvento.de(folga.getEscala().getId(), todosAlertas));
             log.info("✅ {} alerta(s) persistido(s) com sucesso", todosAlertas.size());
         } else {
             log.info("ℹ️ Nenhum alerta gerado para esta folga");
@@ -65,6 +69,43 @@ public class AlertaService {
         return todosAlertas;
     }
 
+    /**
+     * Gera e persiste os alertas das folgas de um lote já gravado, avaliadas sobre o
+     * retrato da escala com todo o lote (sem consultas por folga)
+     */
+    @Transactional
+    public List<Alerta> gerarEPersistirAlertas(List<Folga> folgas, RetratoEscala retrato) {
+        log.info("🔔 Gerando alertas para {} folga(s) do lote", folgas.size());
+
+        List<Alerta> todosAlertas = new ArrayList<>();
+        for (Folga folga : folgas) {
+            todosAlertas.addAll(executarGeradores(
+                    gerador -> gerador.gerarAlertas(folga, retrato.getOcupacao(), retrato)));
+        }
+
+        if (!todosAlertas.isEmpty()) {
+            Long escalaId = retrato.getEscala().getId();
+            alertaRepository.saveAll(todosAlertas);
+            publicarAlteracao(escalaId);
+            eventPublisher.publishEvent(AlertasGeradosEvento.de(escalaId, todosAlertas));
+            log.info("✅ {} alerta(s) do lote persistido(s) com sucesso", todosAlertas.size());
+        }
+
+        return todosAlertas;
+    }
+
+    /**
+     * Alertas que a folga geraria se fosse criada, avaliados sobre o retrato da escala.
+     * Nada é gravado nem publicado e o banco não é consultado.
+     */
+    public List<Alerta> simularAlertas(Folga folga, RetratoEscala retrato) {
+        OcupacaoMes ocupacao = retrato.getOcupacao().comFolga(
+                folga.getColaborador().getId(),
+                retrato.getOcupacao().diaDe(folga.getDataSolicitada())
+        );
+        return executarGeradores(gerador -> gerador.gerarAlertas(folga, ocupacao, retrato));
+    }
+
     /**
      * Retorna alertas não resolvidos de uma escala
      */
@@ -87,6 +128,7 @@ public class AlertaService {
         alertaRepository.findById(alertaId).ifPresent(alerta -> {
             alerta.marcarComoLido();
             alertaRepository.save(alerta);
+            publicarAlteracao(alerta.getEscala().getId());
             log.info("✅ Alerta {} marcado como lido", alertaId);
         });
     }
@@ -99,6 +141,7 @@ public class AlertaService {
         alertaRepository.findById(alertaId).ifPresent(alerta -> {
             alerta.marcarComoResolvido();
             alertaRepository.save(alerta);
+            publicarAlteracao(alerta.getEscala().getId());
             log.info("✅ Alerta {} marcado como resolvido", alertaId);
         });
     }
@@ -109,4 +152,51 @@ public class AlertaService {
     public long contarAlertasCriticos(Long escalaId) {
         return alertaRepository.countAlertasCriticosPendentes(escalaId);
     }
-}
\ No newline at end of file
+
+    /**
+     * Executa cada gerador; um gerador que falha não impede os demais
+     */
+    private List<Alerta> executarGeradores(Function<IAlertaGenerator, List<Alerta>> execucao) {
+        List<Alerta> todosAlertas = new ArrayList<>();
+
+        for (IAlertaGenerator gerador : geradores) {
+            String classe = ClassUtils.getUserClass(gerador).getSimpleName();
+            Timer.Sample amostra = Timer.start(meterRegistry);
+            try {
+                List<Alerta> alertas = execucao.apply(gerador);
+                todosAlertas.addAll(alertas);
+                registrar(amostra, classe, "ok");
+                meterRegistry.counter(METRICA_ALERTAS, "classe", classe).increment(alertas.size());
+
+                if (!alertas.isEmpty()) {
+                    log.debug("✅ {} gerou {} alerta(s)",
+                            classe,
+                            alertas.size()
+                    );
+                }
+            } catch (Exception e) {
+                registrar(amostra, classe, "erro");
+                log.error("❌ Erro ao executar gerador {}: {}",
+                        classe,
+                        e.getMessage()
+                );
+                // Continua com próximo gerador mesmo se um falhar
+            }
+        }
+
+        return todosAlertas;
+    }
+
+    private void registrar(Timer.Sample amostra, String gerador, String resultado) {
+        amostra.stop(Timer.builder(METRICA)
+                .description("Execução de cada gerador de alertas")
+                .tag("classe", gerador)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
+    private void publicarAlteracao(Long escalaId) {
+        eventPublisher.publishEvent(EscalaAlteradaEvento.alertas(escalaId));
+    }
+}
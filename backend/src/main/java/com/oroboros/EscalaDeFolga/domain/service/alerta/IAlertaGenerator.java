@@ -2,6 +2,8 @@ package com.oroboros.EscalaDeFolga.domain.service.alerta;
 
 import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
+import com.oroboros.EscalaDeFolga.domain.model.escala.RetratoEscala;
 
 import java.util.List;
 
@@ -18,4 +20,21 @@ public interface IAlertaGenerator {
      * Retorna lista vazia se não houver alertas.
      */
     List<Alerta> gerarAlertas(Folga folga);
+
+    /**
+     * Gera alertas usando a ocupação do mês já carregada pelo {@link AlertaService}
+     * para todos os geradores. Geradores que não dependem dela mantêm a implementação padrão.
+     */
+    default List<Alerta> gerarAlertas(Folga folga, OcupacaoMes ocupacao) {
+        return gerarAlertas(folga);
+    }
+
+    /**
+     * Gera alertas de uma folga simulada (não gravada) ou de um lote: a ocupação já inclui
+     * a folga e o retrato traz o restante da escala. Geradores que consultam o banco na versão
+     * com ocupação devem sobrescrever este método para usar apenas o retrato.
+     */
+    default List<Alerta> gerarAlertas(Folga folga, OcupacaoMes ocupacao, RetratoEscala retrato) {
+        return gerarAlertas(folga, ocupacao);
+    }
 }
\ No newline at end of file
@@ -2,8 +2,11 @@ package com.oroboros.EscalaDeFolga.domain.validation.escala;
 
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.util.List;
 
@@ -21,12 +24,20 @@ import java.util.List;
  * A execução é interrompida assim que alguma regra retornar um erro,
  * garantindo performance e previsibilidade.
  * </p>
+ *
+ * <p>
+ * Cada regra executada é medida no timer {@value #METRICA}, com as tags
+ * {@code classe} e {@code resultado} ({@code ok}, {@code rejeitada} ou {@code erro}).
+ * </p>
  */
 @Component
 @RequiredArgsConstructor
 public class EscalaValidatorComposite {
 
+    public static final String METRICA = "escala.validacao";
+
     private final List<IEscalaValidator> validators;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Executa sequencialmente todas as validações registradas.
@@ -36,11 +47,30 @@ public class EscalaValidatorComposite {
      */
     public ResultadoValidacao validar(Escala escala) {
         for (IEscalaValidator validator : validators) {
-            var resultado = validator.validar(escala);
+            String classe = ClassUtils.getUserClass(validator).getSimpleName();
+            Timer.Sample amostra = Timer.start(meterRegistry);
+            ResultadoValidacao resultado;
+            try {
+                resultado = validator.validar(escala);
+            } catch (RuntimeException e) {
+                registrar(amostra, classe, "erro");
+                throw e;
+            }
             if (!resultado.isValido()) {
+                registrar(amostra, classe, "rejeitada");
                 return resultado;
             }
+            registrar(amostra, classe, "ok");
         }
         return ResultadoValidacao.ok();
     }
+
+    private void registrar(Timer.Sample amostra, String classe, String resultado) {
+        amostra.stop(Timer.builder(METRICA)
+                .description("Execução de cada regra de validação de escala")
+                .tag("classe", classe)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
 }
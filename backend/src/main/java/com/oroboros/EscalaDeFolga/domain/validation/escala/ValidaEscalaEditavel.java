@@ -4,6 +4,8 @@ import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusEscalaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -32,9 +34,12 @@ import org.springframework.stereotype.Component;
  * </pre>
  */
 @Component
+@RequiredArgsConstructor
 @Order(4)
 public class ValidaEscalaEditavel implements IEscalaValidator {
 
+    private final FolgaRepository folgaRepository;
+
     @Override
     public ResultadoValidacao validar(Escala escala) {
         // Valida status da escala
@@ -48,17 +53,12 @@ public class ValidaEscalaEditavel implements IEscalaValidator {
             ));
         }
 
-        // Valida se existem folgas aprovadas
-        // CORREÇÃO: Adiciona verificação de null antes de usar stream()
-        if (escala.getFolgas() != null) {
-            boolean temAprovadas = escala.getFolgas().stream()
-                    .anyMatch(f -> f.getStatus() == StatusFolgaEnum.APROVADA);
-
-            if (temAprovadas) {
-                return ResultadoValidacao.erro(
-                        "A escala não pode ser alterada pois existem folgas aprovadas."
-                );
-            }
+        // Valida se existem folgas aprovadas (escala nova não tem; as demais são consultadas
+        // por existência, sem carregar a coleção)
+        if (escala.getId() != null && folgaRepository.existsByEscalaAndStatus(escala, StatusFolgaEnum.APROVADA)) {
+            return ResultadoValidacao.erro(
+                    "A escala não pode ser alterada pois existem folgas aprovadas."
+            );
         }
 
         return ResultadoValidacao.ok();
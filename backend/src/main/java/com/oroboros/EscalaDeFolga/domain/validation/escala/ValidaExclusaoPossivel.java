@@ -4,6 +4,9 @@ import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusEscalaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
@@ -31,9 +34,13 @@ import org.springframework.stereotype.Component;
  */
 
 @Component
+@RequiredArgsConstructor
 @Order(5)
 public class ValidaExclusaoPossivel implements IEscalaValidator {
 
+    private final FolgaRepository folgaRepository;
+    private final EscalaRepository escalaRepository;
+
     @Override
     public ResultadoValidacao validar(Escala escala) {
         // Valida status da escala
@@ -44,22 +51,16 @@ public class ValidaExclusaoPossivel implements IEscalaValidator {
             );
         }
 
-        // Valida se existem folgas aprovadas
-        // CORREÇÃO: Adiciona verificação de null antes de usar stream()
-        if (escala.getFolgas() != null) {
-            boolean temAprovadas = escala.getFolgas().stream()
-                    .anyMatch(f -> f.getStatus() == StatusFolgaEnum.APROVADA);
-
-            if (temAprovadas) {
-                return ResultadoValidacao.erro(
-                        "Não é possível excluir esta escala pois existem folgas aprovadas associadas."
-                );
-            }
+        // Valida se existem folgas aprovadas (escala nova não tem; as demais são consultadas
+        // por existência, sem carregar a coleção)
+        if (escala.getId() != null && folgaRepository.existsByEscalaAndStatus(escala, StatusFolgaEnum.APROVADA)) {
+            return ResultadoValidacao.erro(
+                    "Não é possível excluir esta escala pois existem folgas aprovadas associadas."
+            );
         }
 
         // Valida se existem registros de trabalho
-        // CORREÇÃO: Adiciona verificação de null antes de verificar isEmpty()
-        if (escala.getRegistros() != null && !escala.getRegistros().isEmpty()) {
+        if (escala.getId() != null && escalaRepository.existsRegistroDeTrabalho(escala)) {
             return ResultadoValidacao.erro(
                     "Não é possível excluir a escala pois existem registros de trabalho vinculados."
             );
@@ -0,0 +1,299 @@
+package com.oroboros.EscalaDeFolga.domain.validation.folga;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Contexto de validação compartilhado entre os {@link IFolgaValidator} durante
+ * a validação de uma única solicitação de {@link Folga}.
+ *
+ * <p>Os dados do colaborador na escala (folgas existentes, última folga antes da
+ * data solicitada, existência de domingo no mês) são carregados de forma
+ * preguiçosa na primeira vez que algum validador precisa deles e reaproveitados
+ * pelos demais, evitando que cada regra repita as mesmas consultas.</p>
+ *
+ * <p>Totais e distribuição semanal consideram apenas as folgas da escala. A
+ * duplicidade e o domingo do mês consideram as folgas do colaborador em qualquer
+ * escala, como as consultas por colaborador. Em todos os modos a própria folga
+ * (revalidada em uma atualização) é desconsiderada.</p>
+ *
+ * <p>Existem quatro modos de carregamento:</p>
+ * <ul>
+ *   <li><b>{@link #para(Folga, FolgaRepository)}</b> — usado pelo
+ *   {@link FolgaValidatorComposite} ao criar ou atualizar uma folga: carrega em uma
+ *   única consulta as folgas do colaborador na escala e as dele no mês em outras
+ *   escalas, e deriva total, domingo e duplicidade em memória.</li>
+ *   <li><b>{@link #isolado(Folga, FolgaRepository)}</b> — usado quando um validador
+ *   é chamado diretamente pelo seu {@code validar(Folga)}, fora do composite: cada
+ *   informação é obtida pela consulta específica correspondente, como antes.</li>
+ *   <li><b>{@link #emMemoria(Folga, List, LocalDate)}</b> — usado pelo
+ *   {@code FolgaLoteService} na inclusão em lote: as folgas de todos os colaboradores
+ *   já foram carregadas pelo serviço e nenhuma consulta é feita.</li>
+ *   <li><b>{@link #simulacao(Folga, List, LocalDate)}</b> — usado pelo
+ *   {@code SimulacaoFolgaService}: carrega como o anterior, mas as rejeições são
+ *   esperadas e não são registradas como aviso.</li>
+ * </ul>
+ *
+ * <p>As regras de calendário (semanas, domingo) usam a {@link OcupacaoMes} do mês
+ * da escala e a máscara de bits das folgas ativas do colaborador, montadas uma
+ * única vez por contexto.</p>
+ *
+ * <p>Uma instância não é thread-safe e não deve ser reutilizada entre requisições.</p>
+ *
+ * @see FolgaValidatorComposite
+ * @see IFolgaValidator
+ */
+public class ContextoValidacaoFolga {
+
+    static final List<StatusFolgaEnum> STATUS_ATIVOS =
+            List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA);
+
+    private final Folga folga;
+    private final FolgaRepository folgaRepository;
+    private final boolean consultaAgrupada;
+    private boolean simulacao;
+
+    // Folgas do colaborador na escala e no mês em outras escalas (qualquer status), exceto a própria folga
+    private List<Folga> folgasDoColaborador;
+    private List<Folga> folgasDaEscala;
+    private List<Folga> folgasAtivas;
+    private Long totalFolgasAtivas;
+    private Boolean temDomingoNoMes;
+    private Boolean existeFolgaNaData;
+    private Optional<LocalDate> ultimaFolgaAntes;
+    private OcupacaoMes ocupacao;
+    private int mascaraFolgasAtivas;
+
+    private ContextoValidacaoFolga(Folga folga, FolgaRepository folgaRepository, boolean consultaAgrupada) {
+        this.folga = folga;
+        this.folgaRepository = folgaRepository;
+        this.consultaAgrupada = consultaAgrupada;
+    }
+
+    /**
+     * Cria o contexto compartilhado de uma requisição (uma consulta para todas as folgas da escala)
+     */
+    public static ContextoValidacaoFolga para(Folga folga, FolgaRepository folgaRepository) {
+        return new ContextoValidacaoFolga(folga, folgaRepository, true);
+    }
+
+    /**
+     * Cria um contexto em que cada informação é buscada pela sua consulta específica
+     */
+    public static ContextoValidacaoFolga isolado(Folga folga, FolgaRepository folgaRepository) {
+        return new ContextoValidacaoFolga(folga, folgaRepository, false);
+    }
+
+    /**
+     * Cria um contexto a partir de dados já carregados, sem acesso ao banco.
+     *
+     * @param folga folga em validação (a data deve pertencer ao mês da escala)
+     * @param folgasDoColaborador todas as folgas do colaborador na escala, em qualquer status,
+     *                            e as dele no mês da escala em outras escalas (duplicidade e domingo)
+     * @param ultimaFolgaAntes última folga ativa do colaborador antes da data solicitada, ou {@code null}
+     */
+    public static ContextoValidacaoFolga emMemoria(
+            Folga folga,
+            List<Folga> folgasDoColaborador,
+            LocalDate ultimaFolgaAntes
+    ) {
+        if (!pertenceAoMes(folga.getDataSolicitada(), folga.getEscala())) {
+            throw new IllegalArgumentException("A data da folga deve pertencer ao mês da escala");
+        }
+        ContextoValidacaoFolga contexto = new ContextoValidacaoFolga(folga, null, true);
+        contexto.folgasDoColaborador = folgasDoColaborador.stream()
+                .filter(contexto::naoEhAPropriaFolga)
+                .toList();
+        contexto.ultimaFolgaAntes = Optional.ofNullable(ultimaFolgaAntes);
+        return contexto;
+    }
+
+    /**
+     * Contexto em memória de uma folga simulada (não será gravada)
+     *
+     * @see #emMemoria(Folga, List, LocalDate)
+     */
+    public static ContextoValidacaoFolga simulacao(
+            Folga folga,
+            List<Folga> folgasDoColaborador,
+            LocalDate ultimaFolgaAntes
+    ) {
+        ContextoValidacaoFolga contexto = emMemoria(folga, folgasDoColaborador, ultimaFolgaAntes);
+        contexto.simulacao = true;
+        return contexto;
+    }
+
+    public Folga getFolga() {
+        return folga;
+    }
+
+    public boolean isSimulacao() {
+        return simulacao;
+    }
+
+    /**
+     * Folgas PENDENTES ou APROVADAS do colaborador na escala (sem a folga em validação)
+     */
+    public List<Folga> getFolgasAtivas() {
+        if (folgasAtivas == null) {
+            if (consultaAgrupada) {
+                folgasAtivas = getFolgasDaEscala().stream()
+                        .filter(f -> STATUS_ATIVOS.contains(f.getStatus()))
+                        .toList();
+            } else {
+                folgasAtivas = folgaRepository.findByColaboradorAndEscalaAndStatusIn(
+                                folga.getColaborador(), folga.getEscala(), STATUS_ATIVOS).stream()
+                        .filter(this::naoEhAPropriaFolga)
+                        .toList();
+            }
+        }
+        return folgasAtivas;
+    }
+
+    /**
+     * Estrutura do mês da escala (semanas e domingos) com as folgas ativas do colaborador
+     */
+    public OcupacaoMes getOcupacao() {
+        if (ocupacao == null) {
+            Escala escala = folga.getEscala();
+            OcupacaoMes mes = OcupacaoMes.construtor(YearMonth.of(escala.getAno(), escala.getMes())).construir();
+            int mascara = 0;
+            for (Folga ativa : getFolgasAtivas()) {
+                int dia = mes.diaDe(ativa.getDataSolicitada());
+                if (dia > 0) {
+                    mascara |= OcupacaoMes.bit(dia);
+                }
+            }
+            mascaraFolgasAtivas = mascara;
+            ocupacao = mes;
+        }
+        return ocupacao;
+    }
+
+    /**
+     * Dias do mês da escala com folga ativa do colaborador (bit {@code d - 1} = dia {@code d}),
+     * sem a folga em validação
+     */
+    public int getMascaraFolgasAtivas() {
+        getOcupacao();
+        return mascaraFolgasAtivas;
+    }
+
+    /**
+     * Quantidade de folgas PENDENTES ou APROVADAS do colaborador na escala
+     */
+    public long getTotalFolgasAtivas() {
+        if (totalFolgasAtivas == null) {
+            // A contagem no banco incluiria a própria folga em uma atualização
+            totalFolgasAtivas = consultaAgrupada || folgasAtivas != null || folga.getId() != null
+                    ? getFolgasAtivas().size()
+                    : folgaRepository.countByColaboradorAndEscalaAndStatusIn(
+                            folga.getColaborador(), folga.getEscala(), STATUS_ATIVOS);
+        }
+        return totalFolgasAtivas;
+    }
+
+    /**
+     * Indica se o colaborador já possui folga ativa em algum domingo do mês da escala
+     * (nesta ou em outra escala)
+     */
+    public boolean isTemDomingoNoMes() {
+        if (temDomingoNoMes == null) {
+            Escala escala = folga.getEscala();
+            if (consultaAgrupada) {
+                temDomingoNoMes = getFolgasDoColaborador().stream()
+                        .anyMatch(f -> STATUS_ATIVOS.contains(f.getStatus())
+                                && pertenceAoMes(f.getDataSolicitada(), escala)
+                                && f.getDataSolicitada().getDayOfWeek() == DayOfWeek.SUNDAY);
+            } else if (folga.getId() == null) {
+                temDomingoNoMes = folgaRepository.existsFolgaDomingoNoMes(
+                        folga.getColaborador(), escala.getMes(), escala.getAno());
+            } else {
+                temDomingoNoMes = folgaRepository.existsOutraFolgaDomingoNoMes(
+                        folga.getColaborador(), escala.getMes(), escala.getAno(), folga.getId());
+            }
+        }
+        return temDomingoNoMes;
+    }
+
+    /**
+     * Indica se já existe folga (em qualquer status e escala) do colaborador na data solicitada
+     */
+    public boolean isExisteFolgaNaData() {
+        if (existeFolgaNaData == null) {
+            LocalDate data = folga.getDataSolicitada();
+            if (consultaAgrupada && pertenceAoMes(data, folga.getEscala())) {
+                existeFolgaNaData = getFolgasDoColaborador().stream()
+                        .anyMatch(f -> data.equals(f.getDataSolicitada()));
+            } else if (folga.getId() == null) {
+                existeFolgaNaData = folgaRepository.existsByColaboradorAndDataSolicitada(
+                        folga.getColaborador(), data);
+            } else {
+                existeFolgaNaData = folgaRepository.existsByColaboradorAndDataSolicitadaAndIdNot(
+                        folga.getColaborador(), data, folga.getId());
+            }
+        }
+        return existeFolgaNaData;
+    }
+
+    /**
+     * Data da última folga ativa do colaborador antes da data solicitada (em qualquer escala)
+     */
+    public Optional<LocalDate> getUltimaFolgaAntes() {
+        if (ultimaFolgaAntes == null) {
+            ultimaFolgaAntes = folgaRepository.findUltimaFolgaAntesDe(
+                    folga.getColaborador(), folga.getDataSolicitada());
+        }
+        return ultimaFolgaAntes;
+    }
+
+    private List<Folga> getFolgasDoColaborador() {
+        if (folgasDoColaborador == null) {
+            Colaborador colaborador = folga.getColaborador();
+            Escala escala = folga.getEscala();
+            YearMonth mes = YearMonth.of(escala.getAno(), escala.getMes());
+            folgasDoColaborador = folgaRepository.findDoColaboradorNaEscalaOuNoMes(
+                            colaborador, escala, mes.atDay(1), mes.atEndOfMonth()).stream()
+                    .filter(this::naoEhAPropriaFolga)
+                    .toList();
+        }
+        return folgasDoColaborador;
+    }
+
+    private List<Folga> getFolgasDaEscala() {
+        if (folgasDaEscala == null) {
+            folgasDaEscala = getFolgasDoColaborador().stream()
+                    .filter(this::daMesmaEscala)
+                    .toList();
+        }
+        return folgasDaEscala;
+    }
+
+    private boolean daMesmaEscala(Folga outra) {
+        Escala escala = folga.getEscala();
+        return outra.getEscala() == escala
+                || (escala.getId() != null && outra.getEscala() != null
+                && escala.getId().equals(outra.getEscala().getId()));
+    }
+
+    private boolean naoEhAPropriaFolga(Folga outra) {
+        return folga.getId() == null || !Objects.equals(folga.getId(), outra.getId());
+    }
+
+    private static boolean pertenceAoMes(LocalDate data, Escala escala) {
+        return escala != null
+                && data.getYear() == escala.getAno()
+                && data.getMonthValue() == escala.getMes();
+    }
+}
@@ -2,9 +2,13 @@ package com.oroboros.EscalaDeFolga.domain.validation.folga;
 
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
 
 import java.util.List;
 
@@ -22,6 +26,15 @@ import java.util.List;
  * Caso todas as validações sejam aprovadas, o método retorna um
  * {@link ResultadoValidacao#ok()} indicando que a solicitação de folga é válida.</p>
  *
+ * <p>Antes de executar as regras, o composite cria um {@link ContextoValidacaoFolga}
+ * único para a solicitação e o repassa a todos os validadores. Assim, as folgas do
+ * colaborador na escala e a última folga anterior são consultadas no máximo uma vez,
+ * independentemente de quantas regras precisem delas.</p>
+ *
+ * <p>Cada execução de regra é medida no timer {@value #METRICA}, com as tags
+ * {@code classe} (validador) e {@code resultado} ({@code ok}, {@code rejeitada}
+ * ou {@code erro}).</p>
+ *
  * <p>Esse padrão facilita a extensão de novas regras de negócio relacionadas a folgas,
  * mantendo o código desacoplado, testável e de fácil manutenção.</p>
  *
@@ -44,27 +57,46 @@ import java.util.List;
 @RequiredArgsConstructor
 public class FolgaValidatorComposite {
 
+    public static final String METRICA = "folga.validacao";
+
     private final List<IFolgaValidator> validadores;
+    private final FolgaRepository folgaRepository;
+    private final MeterRegistry meterRegistry;
 
     public ResultadoValidacao validar(Folga folga) {
+        return validar(folga, ContextoValidacaoFolga.para(folga, folgaRepository));
+    }
+
+    /**
+     * Executa todas as regras usando um contexto já montado pelo chamador
+     */
+    public ResultadoValidacao validar(Folga folga, ContextoValidacaoFolga contexto) {
         log.debug("🔍 Iniciando validação de folga com {} validadores", validadores.size());
 
         for (IFolgaValidator validador : validadores) {
-            String nomeValidador = validador.getClass().getSimpleName();
+            String nomeValidador = ClassUtils.getUserClass(validador).getSimpleName();
+            Timer.Sample amostra = Timer.start(meterRegistry);
 
             try {
                 log.debug("▶️  Executando: {}", nomeValidador);
 
-                ResultadoValidacao resultado = validador.validar(folga);
+                ResultadoValidacao resultado = validador.validar(folga, contexto);
 
                 if (!resultado.isValido()) {
-                    log.warn("❌ Validador {} rejeitou: {}", nomeValidador, resultado.getMensagem());
+                    registrar(amostra, nomeValidador, "rejeitada");
+                    if (contexto.isSimulacao()) {
+                        log.debug("❌ Validador {} rejeitou a simulação: {}", nomeValidador, resultado.getMensagem());
+                    } else {
+                        log.warn("❌ Validador {} rejeitou: {}", nomeValidador, resultado.getMensagem());
+                    }
                     return resultado; // para na primeira falha
                 }
 
+                registrar(amostra, nomeValidador, "ok");
                 log.debug("✅ Validador {} passou", nomeValidador);
 
             } catch (Exception e) {
+                registrar(amostra, nomeValidador, "erro");
                 log.error("💥 ERRO CRÍTICO no validador {}: {}", nomeValidador, e.getMessage());
                 log.error("📊 Dados da folga:");
                 log.error("  - Colaborador ID: {}", folga.getColaborador().getId());
@@ -78,4 +110,13 @@ public class FolgaValidatorComposite {
         log.debug("✅ Todas as {} validações passaram", validadores.size());
         return ResultadoValidacao.ok();
     }
-}
\ No newline at end of file
+
+    private void registrar(Timer.Sample amostra, String validador, String resultado) {
+        amostra.stop(Timer.builder(METRICA)
+                .description("Execução de cada regra de validação de folga")
+                .tag("classe", validador)
+                .tag("resultado", resultado)
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+}
@@ -7,4 +7,12 @@ public interface IFolgaValidator {
 
     ResultadoValidacao validar(Folga folga);
 
+    /**
+     * Valida a folga reaproveitando os dados já carregados no {@link ContextoValidacaoFolga}
+     * da requisição. Validadores que não consultam o banco podem manter a implementação padrão.
+     */
+    default ResultadoValidacao validar(Folga folga, ContextoValidacaoFolga contexto) {
+        return validar(folga);
+    }
+
 }
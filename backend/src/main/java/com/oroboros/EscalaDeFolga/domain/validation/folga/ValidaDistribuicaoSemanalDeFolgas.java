@@ -1,6 +1,7 @@
 package com.oroboros.EscalaDeFolga.domain.validation.folga;
 
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoMes;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
@@ -14,9 +15,8 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.time.temporal.TemporalAdjusters;
-import java.time.temporal.WeekFields;
-import java.util.*;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 /**
  * Validador responsável por garantir que o colaborador não fique nenhuma semana
@@ -69,42 +69,30 @@ public class ValidaDistribuicaoSemanalDeFolgas implements IFolgaValidator {
 
     @Override
     public ResultadoValidacao validar(Folga folga) {
+        return validar(folga, ContextoValidacaoFolga.isolado(folga, folgaRepository));
+    }
+
+    @Override
+    public ResultadoValidacao validar(Folga folga, ContextoValidacaoFolga contexto) {
         Escala escala = folga.getEscala();
         Colaborador colaborador = folga.getColaborador();
         LocalDate dataSolicitada = folga.getDataSolicitada();
 
-        // Busca todas as folgas já solicitadas pelo colaborador nesta escala
-        List<Folga> folgasExistentes = folgaRepository.findByColaboradorAndEscalaAndStatusIn(
-                colaborador,
-                escala,
-                List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA)
-        );
-
-        // Adiciona a folga que está sendo solicitada à lista para simular o cenário
-        List<LocalDate> todasAsDatasComFolga = folgasExistentes.stream()
-                .map(Folga::getDataSolicitada)
-                .collect(Collectors.toCollection(ArrayList::new));
-        todasAsDatasComFolga.add(dataSolicitada);
+        // Folgas já solicitadas pelo colaborador nesta escala mais a solicitada (máscara de dias)
+        OcupacaoMes ocupacao = contexto.getOcupacao();
+        int diaSolicitado = ocupacao.diaDe(dataSolicitada);
+        int mascara = contexto.getMascaraFolgasAtivas()
+                | (diaSolicitado > 0 ? OcupacaoMes.bit(diaSolicitado) : 0);
 
         // Calcula quantas folgas ainda poderão ser solicitadas
-        long folgasRestantes = escala.getFolgasPermitidas() - todasAsDatasComFolga.size();
+        long folgasRestantes = escala.getFolgasPermitidas() - (contexto.getTotalFolgasAtivas() + 1);
 
-        // Identifica as semanas do mês e verifica se há folgas em cada uma
-        YearMonth mesEscala = YearMonth.of(escala.getAno(), escala.getMes());
-        Map<Integer, List<LocalDate>> folgasPorSemana = agruparFolgasPorSemana(
-                todasAsDatasComFolga,
-                mesEscala
-        );
-
-        Set<Integer> semanasDoMes = obterSemanasDoMes(mesEscala);
-        Set<Integer> semanasComFolga = folgasPorSemana.keySet();
-
-        // Identifica semanas sem folga
-        Set<Integer> semanasSemFolga = new HashSet<>(semanasDoMes);
-        semanasSemFolga.removeAll(semanasComFolga);
+        // Semanas do mês sem nenhuma folga (bit s = semana s)
+        int semanasSemFolga = ocupacao.semanasSemFolga(mascara);
+        YearMonth mesEscala = ocupacao.getMes();
 
         // Se não há mais folgas restantes e ainda existem semanas sem folga, bloqueia
-        if (folgasRestantes == 0 && !semanasSemFolga.isEmpty()) {
+        if (folgasRestantes == 0 && semanasSemFolga != 0) {
             return ResultadoValidacao.erro(String.format(
                     "Não é possível solicitar folga em %s. " +
                             "O colaborador %s atingirá o limite de %d folga(s) permitida(s), " +
@@ -122,84 +110,37 @@ public class ValidaDistribuicaoSemanalDeFolgas implements IFolgaValidator {
         }
 
         // Verifica se há concentração excessiva de folgas em uma mesma semana
-        for (Map.Entry<Integer, List<LocalDate>> entry : folgasPorSemana.entrySet()) {
-            int semana = entry.getKey();
-            int folgasNaSemana = entry.getValue().size();
-
-            // Se uma semana tem mais de 2 folgas e ainda há semanas sem folga, alerta
-            if (folgasNaSemana > 2 && !semanasSemFolga.isEmpty()) {
-                return ResultadoValidacao.erro(String.format(
-                        "Não é possível solicitar folga em %s. " +
-                                "A semana %d já possui %d folga(s) (%s), " +
-                                "enquanto a(s) semana(s) %s ainda não possui(em) nenhuma. " +
-                                "Redistribua as folgas para garantir pelo menos 1 folga por semana.",
-                        dataSolicitada.format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy")),
-                        semana,
-                        folgasNaSemana,
-                        formatarDatas(entry.getValue()),
-                        formatarSemanas(semanasSemFolga, mesEscala)
-                ));
+        if (semanasSemFolga != 0) {
+            for (int semana = 1; semana <= ocupacao.getSemanas(); semana++) {
+                int folgasNaSemana = ocupacao.contarNaSemana(mascara, semana);
+
+                // Se uma semana tem mais de 2 folgas e ainda há semanas sem folga, alerta
+                if (folgasNaSemana > 2) {
+                    return ResultadoValidacao.erro(String.format(
+                            "Não é possível solicitar folga em %s. " +
+                                    "A semana %d já possui %d folga(s) (%s), " +
+                                    "enquanto a(s) semana(s) %s ainda não possui(em) nenhuma. " +
+                                    "Redistribua as folgas para garantir pelo menos 1 folga por semana.",
+                            dataSolicitada.format(java.time.format.DateTimeFormatter.ofPattern("dd/MM/yyyy")),
+                            semana,
+                            folgasNaSemana,
+                            formatarDatas(mascara & ocupacao.mascaraSemana(semana), mesEscala),
+                            formatarSemanas(semanasSemFolga, mesEscala)
+                    ));
+                }
             }
         }
 
         return ResultadoValidacao.ok();
     }
 
-    /**
-     * Agrupa as datas de folga por número da semana do mês
-     */
-    private Map<Integer, List<LocalDate>> agruparFolgasPorSemana(
-            List<LocalDate> datas,
-            YearMonth mes) {
-
-        WeekFields weekFields = WeekFields.of(DayOfWeek.MONDAY, 1);
-
-        return datas.stream()
-                .filter(data -> YearMonth.from(data).equals(mes))
-                .collect(Collectors.groupingBy(
-                        data -> obterNumeroSemanaNomes(data, mes),
-                        TreeMap::new,
-                        Collectors.toList()
-                ));
-    }
-
-    /**
-     * Obtém todas as semanas que existem no mês
-     * (considera apenas semanas que têm pelo menos um dia útil no mês)
-     */
-    private Set<Integer> obterSemanasDoMes(YearMonth mes) {
-        Set<Integer> semanas = new TreeSet<>();
-        LocalDate primeiroDia = mes.atDay(1);
-        LocalDate ultimoDia = mes.atEndOfMonth();
-
-        for (LocalDate data = primeiroDia; !data.isAfter(ultimoDia); data = data.plusDays(1)) {
-            semanas.add(obterNumeroSemanaNomes(data, mes));
-        }
-
-        return semanas;
-    }
-
-    /**
-     * Calcula o número da semana dentro do mês (1-5)
-     */
-    private int obterNumeroSemanaNomes(LocalDate data, YearMonth mes) {
-        LocalDate primeiroDia = mes.atDay(1);
-        LocalDate inicioSemana = data.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
-
-        if (inicioSemana.isBefore(primeiroDia)) {
-            inicioSemana = primeiroDia;
-        }
-
-        int diasDesdeInicio = (int) java.time.temporal.ChronoUnit.DAYS.between(primeiroDia, inicioSemana);
-        return (diasDesdeInicio / 7) + 1;
-    }
-
     /**
      * Formata as semanas para exibição na mensagem
      */
-    private String formatarSemanas(Set<Integer> semanas, YearMonth mes) {
-        return semanas.stream()
-                .map(sem -> {
+    private String formatarSemanas(int semanas, YearMonth mes) {
+        return IntStream.rangeClosed(1, 6)
+                .filter(sem -> (semanas & (1 << sem)) != 0)
+                .mapToObj(sem -> {
                     LocalDate inicioSemana = obterInicioSemana(sem, mes);
                     LocalDate fimSemana = obterFimSemana(sem, mes);
                     return String.format("%d (%s a %s)",
@@ -214,9 +155,10 @@ public class ValidaDistribuicaoSemanalDeFolgas implements IFolgaValidator {
     /**
      * Formata lista de datas
      */
-    private String formatarDatas(List<LocalDate> datas) {
-        return datas.stream()
-                .map(d -> d.format(java.time.format.DateTimeFormatter.ofPattern("dd/MM")))
+    private String formatarDatas(int dias, YearMonth mes) {
+        return IntStream.rangeClosed(1, mes.lengthOfMonth())
+                .filter(dia -> (dias & OcupacaoMes.bit(dia)) != 0)
+                .mapToObj(dia -> mes.atDay(dia).format(java.time.format.DateTimeFormatter.ofPattern("dd/MM")))
                 .collect(Collectors.joining(", "));
     }
 
@@ -3,14 +3,11 @@ package com.oroboros.EscalaDeFolga.domain.validation.folga;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
-import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
 import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 /**
  * Validador responsável por garantir que cada colaborador tenha pelo menos
  * uma folga em um domingo dentro da escala mensal.
@@ -23,8 +20,8 @@ import java.util.List;
  *
  * <p>A verificação é feita de forma dinâmica, consultando o {@link FolgaRepository}
  * para identificar se há registros de folga em domingos e quantas folgas já foram
- * concedidas (pendentes ou aprovadas). Essa abordagem evita duplicação de dados
- * e garante consistência independente do banco de dados utilizado.</p>
+ * concedidas (pendentes ou aprovadas). Quando executado pelo composite, esses dados
+ * vêm do {@link ContextoValidacaoFolga} compartilhado com as demais regras.</p>
  *
  * <p>Essa validação é executada automaticamente como parte do fluxo de
  * {@link FolgaValidatorComposite}, que agrega todas as regras de negócio
@@ -77,21 +74,21 @@ public class ValidaDomingoObrigatorio implements IFolgaValidator {
      */
     @Override
     public ResultadoValidacao validar(Folga folga) {
+        return validar(folga, ContextoValidacaoFolga.isolado(folga, folgaRepository));
+    }
+
+    @Override
+    public ResultadoValidacao validar(Folga folga, ContextoValidacaoFolga contexto) {
 
         Escala escala = folga.getEscala();
-        Colaborador colaborador = folga.getColaborador();
 
-        long totalFolgas = folgaRepository.countByColaboradorAndEscalaAndStatusIn(
-                colaborador,
-                escala,
-                List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA)
-        );
+        if (contexto.isTemDomingoNoMes()) {
+            return ResultadoValidacao.ok();
+        }
 
-        boolean temDomingo = folgaRepository.existsFolgaDomingoNoMes(
-                colaborador, escala.getMes(), escala.getAno()
-        );
+        long totalFolgas = contexto.getTotalFolgasAtivas();
 
-        if (!temDomingo && totalFolgas + 1 >= escala.getFolgasPermitidas()) {
+        if (totalFolgas + 1 >= escala.getFolgasPermitidas()) {
             return ResultadoValidacao.erro(
                     "Faltam apenas uma folga e o colaborador ainda não folgou em um domingo."
             );
@@ -40,11 +40,12 @@ public class ValidaDuplicidadeDeFolga implements IFolgaValidator {
      */
     @Override
     public ResultadoValidacao validar(Folga folga) {
-        boolean existe = folgaRepository.existsByColaboradorAndDataSolicitada(
-                folga.getColaborador(), folga.getDataSolicitada()
-        );
+        return validar(folga, ContextoValidacaoFolga.isolado(folga, folgaRepository));
+    }
 
-        if (existe) {
+    @Override
+    public ResultadoValidacao validar(Folga folga, ContextoValidacaoFolga contexto) {
+        if (contexto.isExisteFolgaNaData()) {
             return ResultadoValidacao.erro("Já existe uma folga cadastrada para essa data.");
         }
 
@@ -52,13 +52,18 @@ public class ValidaLimiteDeDiasTrabalho implements IFolgaValidator {
 
     @Override
     public ResultadoValidacao validar(Folga folga) {
+        return validar(folga, ContextoValidacaoFolga.isolado(folga, folgaRepository));
+    }
+
+    @Override
+    public ResultadoValidacao validar(Folga folga, ContextoValidacaoFolga contexto) {
         Colaborador colaborador = folga.getColaborador();
         LocalDate novaData = folga.getDataSolicitada();
 
         log.debug("🟢 Iniciando validação de limite de dias trabalhados para colaborador: {}", colaborador.getNome());
         log.debug("📅 Nova data solicitada: {}", novaData);
 
-        Optional<LocalDate> ultimaFolga = folgaRepository.findUltimaFolgaAntesDe(colaborador, novaData);
+        Optional<LocalDate> ultimaFolga = contexto.getUltimaFolgaAntes();
 
         if (ultimaFolga.isEmpty()) {
             log.info("✅ Nenhuma folga anterior encontrada. Primeira folga do colaborador: {}", colaborador.getNome());
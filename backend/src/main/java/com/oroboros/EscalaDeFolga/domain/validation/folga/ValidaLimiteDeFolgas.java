@@ -9,8 +9,6 @@ import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 /**
  * Validador responsável por garantir que um colaborador não exceda o número
  * máximo de folgas permitidas em uma {@link Escala}.
@@ -53,15 +51,16 @@ public class ValidaLimiteDeFolgas implements IFolgaValidator {
 
     @Override
     public ResultadoValidacao validar(Folga folga) {
+        return validar(folga, ContextoValidacaoFolga.isolado(folga, folgaRepository));
+    }
+
+    @Override
+    public ResultadoValidacao validar(Folga folga, ContextoValidacaoFolga contexto) {
         Escala escala = folga.getEscala();
         Colaborador colaborador = folga.getColaborador();
 
         // Conta quantas folgas o colaborador já tem na escala atual
-        long totalFolgas = folgaRepository.countByColaboradorAndEscalaAndStatusIn(
-                colaborador,
-                escala,
-                List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA)
-        );
+        long totalFolgas = contexto.getTotalFolgasAtivas();
 
         if (totalFolgas >= escala.getFolgasPermitidas()) {
             return ResultadoValidacao.erro(String.format(
@@ -0,0 +1,112 @@
+package com.oroboros.EscalaDeFolga.infrastructure.auditoria;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Arquivo local, só de acréscimo, com os registros de auditoria que não puderam
+ * ser gravados no banco (um JSON por linha).
+ *
+ * <p>Cada acréscimo é forçado para o disco antes de retornar. Para reenviar, o
+ * arquivo é renomeado para {@code <arquivo>.reenvio}: novos acréscimos vão para um
+ * arquivo novo e o reenvio só apaga a cópia depois de gravá-la no banco. Se o
+ * processo cair no meio, a cópia continua lá e é reenviada primeiro.</p>
+ */
+@Slf4j
+class ArquivoAuditoriaPendente {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private final Path arquivo;
+    private final Path reenvio;
+
+    ArquivoAuditoriaPendente(Path arquivo) {
+        this.arquivo = arquivo.toAbsolutePath();
+        this.reenvio = this.arquivo.resolveSibling(this.arquivo.getFileName() + ".reenvio");
+    }
+
+    synchronized void anexar(List<RegistroAuditoria> registros) {
+        StringBuilder linhas = new StringBuilder();
+        for (RegistroAuditoria registro : registros) {
+            try {
+                linhas.append(MAPPER.writeValueAsString(registro)).append('\n');
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Registro de auditoria não serializável", e);
+            }
+        }
+
+        try {
+            Files.createDirectories(arquivo.getParent());
+            try (FileChannel canal = FileChannel.open(arquivo,
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+                ByteBuffer buffer = ByteBuffer.wrap(linhas.toString().getBytes(StandardCharsets.UTF_8));
+                while (buffer.hasRemaining()) {
+                    canal.write(buffer);
+                }
+                canal.force(true);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar auditoria pendente em " + arquivo, e);
+        }
+    }
+
+    synchronized boolean temPendentes() {
+        return Files.exists(reenvio) || Files.exists(arquivo);
+    }
+
+    /**
+     * Registros a reenviar: a cópia de um reenvio interrompido ou, se não houver,
+     * o arquivo atual (movido para a cópia)
+     */
+    synchronized List<RegistroAuditoria> abrirReenvio() {
+        try {
+            if (!Files.exists(reenvio)) {
+                if (!Files.exists(arquivo)) {
+                    return List.of();
+                }
+                Files.move(arquivo, reenvio, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            List<RegistroAuditoria> registros = new ArrayList<>();
+            for (String linha : Files.readAllLines(reenvio, StandardCharsets.UTF_8)) {
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    registros.add(MAPPER.readValue(linha, RegistroAuditoria.class));
+                } catch (JsonProcessingException e) {
+                    // Linha incompleta de uma queda durante a escrita
+                    log.error("💥 Linha de auditoria pendente ilegível descartada: {}", linha);
+                }
+            }
+            return registros;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler auditoria pendente de " + reenvio, e);
+        }
+    }
+
+    synchronized void concluirReenvio() {
+        try {
+            Files.deleteIfExists(reenvio);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao remover " + reenvio, e);
+        }
+    }
+}
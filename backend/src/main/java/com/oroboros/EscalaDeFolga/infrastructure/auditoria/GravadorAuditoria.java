@@ -0,0 +1,258 @@
+package com.oroboros.EscalaDeFolga.infrastructure.auditoria;
+
+import com.oroboros.EscalaDeFolga.config.AuditoriaProperties;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AuditoriaColaboradorRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava a auditoria de colaboradores em segundo plano, em lotes.
+ *
+ * <p>Os registros entram numa fila limitada e uma única thread os insere em lotes de
+ * até {@code escala.auditoria.lote}, numa transação por lote (os inserts saem no
+ * batch JDBC do Hibernate). Com a fila cheia, ou com o gravador parado, o registro é
+ * gravado na thread de quem auditou, como antes.</p>
+ *
+ * <p>Se o banco falhar, o lote vai para o {@link ArquivoAuditoriaPendente} e é
+ * reenviado na inicialização e sempre que um lote voltar a ser gravado. O reenvio é
+ * idempotente: registros que já estão no banco (mesmo colaborador, ação e instante)
+ * são ignorados, então uma cópia que não pôde ser apagada depois de gravada não
+ * duplica a auditoria. Ao desligar, o gravador para depois do servidor web e esvazia
+ * a fila antes de terminar.</p>
+ *
+ * <p>Métricas: {@value #METRICA_FILA} (registros na fila), {@value #METRICA_ATRASO}
+ * (da auditoria até o commit no banco) e {@value #METRICA_ARQUIVO} (registros
+ * desviados para o arquivo).</p>
+ */
+@Slf4j
+@Component
+public class GravadorAuditoria implements SmartLifecycle {
+
+    public static final String METRICA_FILA = "auditoria.fila";
+    public static final String METRICA_ATRASO = "auditoria.atraso";
+    public static final String METRICA_ARQUIVO = "auditoria.arquivo";
+
+    private static final long ESPERA_PARADA_MS = 30_000;
+
+    private final AuditoriaColaboradorRepository repository;
+    private final TransactionTemplate transacao;
+    private final AuditoriaProperties properties;
+    private final ArquivoAuditoriaPendente arquivo;
+    private final BlockingQueue<RegistroAuditoria> fila;
+    private final Timer atraso;
+    private final Counter arquivados;
+
+    private volatile boolean ativo;
+    private Thread thread;
+
+    public GravadorAuditoria(
+            AuditoriaColaboradorRepository repository,
+            PlatformTransactionManager transactionManager,
+            AuditoriaProperties properties,
+            MeterRegistry meterRegistry
+    ) {
+        this.repository = repository;
+        this.transacao = new TransactionTemplate(transactionManager);
+        // Também é chamado no afterCommit de quem auditou, quando a transação dele já terminou
+        this.transacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.properties = properties;
+        this.arquivo = new ArquivoAuditoriaPendente(Path.of(properties.arquivoPendente()));
+        this.fila = new LinkedBlockingQueue<>(properties.fila());
+        this.atraso = Timer.builder(METRICA_ATRASO)
+                .description("Tempo entre a auditoria e a gravação no banco")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.arquivados = meterRegistry.counter(METRICA_ARQUIVO);
+        Gauge.builder(METRICA_FILA, fila, Collection::size)
+                .description("Registros de auditoria aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Entrega o registro ao gravador; grava na hora se a fila estiver cheia ou parada
+     */
+    public void enfileirar(RegistroAuditoria registro) {
+        if (ativo && fila.offer(registro)) {
+            return;
+        }
+        if (ativo) {
+            log.warn("⚠️ Fila de auditoria cheia ({}); gravando na requisição", properties.fila());
+        }
+        gravar(List.of(registro));
+    }
+
+    /**
+     * Grava na thread atual tudo o que está na fila
+     */
+    public void descarregar() {
+        List<RegistroAuditoria> lote = new ArrayList<>(properties.lote());
+        while (fila.drainTo(lote, properties.lote()) > 0) {
+            gravar(lote);
+            lote.clear();
+        }
+    }
+
+    @Override
+    public void start() {
+        ativo = true;
+        thread = new Thread(this::executar, "auditoria-gravador");
+        thread.setDaemon(true);
+        thread.start();
+        log.info("📝 Gravador de auditoria iniciado (fila={}, lote={})", properties.fila(), properties.lote());
+    }
+
+    @Override
+    public void stop() {
+        ativo = false;
+        try {
+            if (thread != null) {
+                thread.join(ESPERA_PARADA_MS);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        // Se a thread não terminou a tempo, o que sobrou fica no arquivo
+        List<RegistroAuditoria> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        if (!restantes.isEmpty()) {
+            arquivar(restantes, null);
+        }
+        log.info("📝 Gravador de auditoria parado");
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ativo;
+    }
+
+    /**
+     * Inicia antes e para depois do servidor web, para receber as últimas auditorias
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    private void executar() {
+        reenviarPendentes();
+
+        List<RegistroAuditoria> lote = new ArrayList<>(properties.lote());
+        while (ativo || !fila.isEmpty()) {
+            try {
+                RegistroAuditoria primeiro = fila.poll(properties.intervaloMs(), TimeUnit.MILLISECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, properties.lote() - 1);
+
+                if (gravar(lote) && arquivo.temPendentes()) {
+                    reenviarPendentes();
+                }
+                lote.clear();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                descarregar();
+                return;
+            } catch (RuntimeException e) {
+                log.error("💥 Erro no gravador de auditoria: {}", e.getMessage(), e);
+                lote.clear();
+            }
+        }
+    }
+
+    private boolean gravar(List<RegistroAuditoria> lote) {
+        try {
+            transacao.executeWithoutResult(status ->
+                    repository.saveAll(lote.stream().map(RegistroAuditoria::paraEntidade).toList()));
+        } catch (RuntimeException e) {
+            arquivar(lote, e);
+            return false;
+        }
+
+        long agora = System.currentTimeMillis();
+        lote.forEach(registro -> atraso.record(agora - registro.enfileiradoEm(), TimeUnit.MILLISECONDS));
+        log.debug("📝 {} registro(s) de auditoria gravados", lote.size());
+        return true;
+    }
+
+    private void arquivar(List<RegistroAuditoria> lote, Exception causa) {
+        try {
+            arquivo.anexar(lote);
+            arquivados.increment(lote.size());
+            log.error("💥 Auditoria não gravada no banco ({}); {} registro(s) guardados no arquivo pendente",
+                    causa != null ? causa.getMessage() : "gravador parado", lote.size());
+        } catch (RuntimeException e) {
+            log.error("💥 Auditoria PERDIDA: {} registro(s) sem banco e sem arquivo: {}", lote.size(), lote, e);
+        }
+    }
+
+    private void reenviarPendentes() {
+        try {
+            List<RegistroAuditoria> pendentes = arquivo.abrirReenvio();
+            int reenviados = 0;
+            for (int inicio = 0; inicio < pendentes.size(); inicio += properties.lote()) {
+                List<RegistroAuditoria> lote =
+                        pendentes.subList(inicio, Math.min(inicio + properties.lote(), pendentes.size()));
+                reenviados += transacao.execute(status -> {
+                    List<RegistroAuditoria> novos = semOsJaGravados(lote);
+                    repository.saveAll(novos.stream().map(RegistroAuditoria::paraEntidade).toList());
+                    return novos.size();
+                });
+            }
+            if (!pendentes.isEmpty()) {
+                log.info("📝 {} registro(s) de auditoria pendentes reenviados ({} já estavam no banco)",
+                        reenviados, pendentes.size() - reenviados);
+            }
+            arquivo.concluirReenvio();
+        } catch (RuntimeException e) {
+            log.warn("⚠️ Auditoria pendente continua no arquivo: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Registros do lote que ainda não estão no banco. O instante é comparado em
+     * microssegundos, a precisão da coluna {@code data_hora}.
+     */
+    private List<RegistroAuditoria> semOsJaGravados(List<RegistroAuditoria> lote) {
+        Set<Long> colaboradores = new HashSet<>();
+        LocalDateTime inicio = LocalDateTime.MAX;
+        LocalDateTime fim = LocalDateTime.MIN;
+        for (RegistroAuditoria registro : lote) {
+            colaboradores.add(registro.colaboradorId());
+            LocalDateTime dataHora = registro.dataHora().truncatedTo(ChronoUnit.MICROS);
+            inicio = dataHora.isBefore(inicio) ? dataHora : inicio;
+            fim = dataHora.isAfter(fim) ? dataHora : fim;
+        }
+
+        Set<List<Object>> gravados = new HashSet<>();
+        repository.findChaves(colaboradores, inicio, fim).forEach(chave -> gravados.add(List.of(
+                chave.getColaboradorId(), chave.getAcao(), chave.getDataHora().truncatedTo(ChronoUnit.MICROS))));
+
+        return lote.stream()
+                .filter(registro -> !gravados.contains(List.of(
+                        registro.colaboradorId(), registro.acao(), registro.dataHora().truncatedTo(ChronoUnit.MICROS))))
+                .toList();
+    }
+}
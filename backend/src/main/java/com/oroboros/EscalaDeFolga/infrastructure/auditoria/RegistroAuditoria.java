@@ -0,0 +1,64 @@
+package com.oroboros.EscalaDeFolga.infrastructure.auditoria;
+
+import com.oroboros.EscalaDeFolga.app.dto.colaborador.AuditoriaInfoDTO;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AuditoriaColaborador;
+
+import java.time.LocalDateTime;
+
+/**
+ * Registro de auditoria aguardando gravação (na fila ou no arquivo pendente).
+ *
+ * <p>Imutável: cada tentativa de gravação cria uma entidade nova, então um lote que
+ * falhou pode ir para o arquivo e ser reenviado sem carregar IDs da tentativa anterior.</p>
+ *
+ * @param enfileiradoEm instante (epoch ms) em que o registro foi criado, para medir o atraso
+ */
+public record RegistroAuditoria(
+        AcaoAuditoriaEnum acao,
+        Long colaboradorId,
+        Long usuarioId,
+        String usuarioNome,
+        LocalDateTime dataHora,
+        String dadosAnteriores,
+        String dadosNovos,
+        String ipOrigem,
+        String userAgent,
+        long enfileiradoEm
+) {
+
+    public static RegistroAuditoria de(
+            AcaoAuditoriaEnum acao,
+            Long colaboradorId,
+            AuditoriaInfoDTO auditor,
+            String dadosAnteriores,
+            String dadosNovos
+    ) {
+        return new RegistroAuditoria(
+                acao,
+                colaboradorId,
+                auditor.usuarioId(),
+                auditor.usuarioNome(),
+                LocalDateTime.now(),
+                dadosAnteriores,
+                dadosNovos,
+                auditor.ipOrigem(),
+                auditor.userAgent(),
+                System.currentTimeMillis()
+        );
+    }
+
+    public AuditoriaColaborador paraEntidade() {
+        return AuditoriaColaborador.builder()
+                .acao(acao)
+                .colaboradorId(colaboradorId)
+                .usuarioId(usuarioId)
+                .usuarioNome(usuarioNome)
+                .dataHora(dataHora)
+                .dadosAnteriores(dadosAnteriores)
+                .dadosNovos(dadosNovos)
+                .ipOrigem(ipOrigem)
+                .userAgent(userAgent)
+                .build();
+    }
+}
@@ -0,0 +1,71 @@
+package com.oroboros.EscalaDeFolga.infrastructure.concorrencia;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Repete, em transação nova, atualizações internas idempotentes que perderam a
+ * corrida da versão otimista.
+ *
+ * <p>Só serve para operações que leem o estado dentro da própria ação e gravam
+ * um valor absoluto (ex.: definir a última folga do colaborador): repetir com o
+ * estado recarregado dá o mesmo resultado. Edições feitas pelo cliente a partir
+ * de uma versão lida antes não passam por aqui; o conflito delas vira 409.</p>
+ *
+ * <p>Cada tentativa roda em {@code REQUIRES_NEW}: o rollback da anterior limpa o
+ * contexto de persistência e a próxima lê a versão atual do banco.</p>
+ */
+@Slf4j
+@Component
+public class RetentativaOtimista {
+
+    static final int TENTATIVAS = 3;
+    static final long ESPERA_BASE_MS = 20;
+
+    private final TransactionTemplate transacao;
+
+    public RetentativaOtimista(PlatformTransactionManager transactionManager) {
+        this.transacao = new TransactionTemplate(transactionManager);
+        this.transacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Executa a ação, repetindo até {@value #TENTATIVAS} vezes em caso de conflito
+     * de versão. Esgotadas as tentativas, o último conflito é relançado.
+     */
+    public <T> T executar(String operacao, Supplier<T> acao) {
+        for (int tentativa = 1; ; tentativa++) {
+            try {
+                return transacao.execute(status -> acao.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (tentativa >= TENTATIVAS) {
+                    log.warn("⚠️ Conflito de versão em {} após {} tentativas", operacao, tentativa);
+                    throw e;
+                }
+                log.info("🔁 Conflito de versão em {} (tentativa {}/{}), repetindo", operacao, tentativa, TENTATIVAS);
+                esperar(tentativa);
+            }
+        }
+    }
+
+    /**
+     * Espera crescente com variação aleatória, para as requisições em conflito
+     * não voltarem todas no mesmo instante
+     */
+    private void esperar(int tentativa) {
+        long espera = ESPERA_BASE_MS * tentativa + ThreadLocalRandom.current().nextLong(ESPERA_BASE_MS);
+        try {
+            Thread.sleep(espera);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando nova tentativa", e);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.oroboros.EscalaDeFolga.infrastructure.concorrencia;
+
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Travas em listras por dia da escala, mantidas até o fim da transação.
+ *
+ * <p>Solicitações de folga para o mesmo dia da escala passam uma de cada vez pela
+ * validação e pela reserva de vaga, e a próxima só entra depois do commit da
+ * anterior, enxergando a folga já gravada. Dias diferentes caem em listras
+ * diferentes (salvo colisão de hash) e não esperam uns pelos outros.</p>
+ *
+ * <p>Vale só dentro desta instância: entre instâncias, a garantia fica com o banco
+ * (reserva condicional em {@code ocupacao_dia} e {@code uk_folga_colaborador_data}).</p>
+ */
+@Slf4j
+@Component
+public class TravasDiaEscala {
+
+    static final int LISTRAS = 256;
+    static final long ESPERA_MS = 10_000;
+
+    private static final DateTimeFormatter FORMATO_DATA = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+
+    private final ReentrantLock[] travas = new ReentrantLock[LISTRAS];
+
+    public TravasDiaEscala() {
+        for (int i = 0; i < LISTRAS; i++) {
+            travas[i] = new ReentrantLock();
+        }
+    }
+
+    public void travar(Long escalaId, LocalDate data) {
+        travar(escalaId, List.of(data));
+    }
+
+    /**
+     * Trava os dias até o commit ou rollback da transação atual. As listras são
+     * adquiridas em ordem crescente, então lotes com vários dias não se bloqueiam
+     * mutuamente.
+     */
+    public void travar(Long escalaId, Collection<LocalDate> datas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("As travas do dia exigem uma transação ativa");
+        }
+
+        TreeSet<Integer> listras = new TreeSet<>();
+        datas.forEach(data -> listras.add(listra(escalaId, data)));
+
+        List<ReentrantLock> adquiridas = new ArrayList<>(listras.size());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                adquiridas.forEach(ReentrantLock::unlock);
+            }
+        });
+
+        for (int listra : listras) {
+            ReentrantLock trava = travas[listra];
+            if (trava.isHeldByCurrentThread()) {
+                continue;
+            }
+            if (!adquirir(trava)) {
+                log.warn("⚠️ Espera pela trava do dia excedida na escala {} ({} dia(s))", escalaId, datas.size());
+                throw new BusinessException(String.format(
+                        "Muitas solicitações simultâneas para %s na escala %d. Tente novamente.",
+                        descrever(datas), escalaId));
+            }
+            adquiridas.add(trava);
+        }
+    }
+
+    static int listra(Long escalaId, LocalDate data) {
+        return Math.floorMod(Objects.hash(escalaId, data), LISTRAS);
+    }
+
+    private boolean adquirir(ReentrantLock trava) {
+        try {
+            return trava.tryLock(ESPERA_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private String descrever(Collection<LocalDate> datas) {
+        return datas.size() == 1
+                ? datas.iterator().next().format(FORMATO_DATA)
+                : datas.size() + " dias";
+    }
+}
@@ -0,0 +1,66 @@
+package com.oroboros.EscalaDeFolga.infrastructure.consultas;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Mede quantos comandos SQL cada requisição HTTP executou.
+ *
+ * <p>O total vai para o histograma {@code http.server.requests.consultas}, com as
+ * tags {@code method} e {@code uri} (padrão da rota, como em
+ * {@code http.server.requests}), e fica no atributo {@link #ATRIBUTO_CONSULTAS}
+ * da requisição. Um N+1 aparece como um endpoint cuja distribuição cresce com
+ * os dados.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ConsultasPorRequisicaoFilter extends OncePerRequestFilter {
+
+    public static final String METRICA = "http.server.requests.consultas";
+    public static final String ATRIBUTO_CONSULTAS = ConsultasPorRequisicaoFilter.class.getName() + ".consultas";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ContadorConsultas.iniciar();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            int consultas = ContadorConsultas.encerrar();
+            String uri = uri(request);
+            request.setAttribute(ATRIBUTO_CONSULTAS, consultas);
+
+            DistributionSummary.builder(METRICA)
+                    .description("Comandos SQL por requisição HTTP")
+                    .baseUnit("consultas")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .publishPercentileHistogram()
+                    .maximumExpectedValue(256.0)
+                    .register(meterRegistry)
+                    .record(consultas);
+
+            ContadorConsultas.registrar(new ContadorConsultas.Medicao(request.getMethod() + " " + uri, consultas));
+            log.debug("🔎 {} {}: {} consultas SQL", request.getMethod(), uri, consultas);
+        }
+    }
+
+    private String uri(HttpServletRequest request) {
+        Object padrao = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return padrao != null ? padrao.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,87 @@
+package com.oroboros.EscalaDeFolga.infrastructure.consultas;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Conta os comandos SQL que o Hibernate prepara na thread atual.
+ *
+ * <p>A contagem só acontece entre {@link #iniciar()} e {@link #encerrar()}, chamados
+ * pelo {@link ConsultasPorRequisicaoFilter} em volta de cada requisição HTTP; fora
+ * disso (workers da outbox, streams SSE, jobs) o SQL passa sem custo. Comandos
+ * enviados direto pelo {@code JdbcTemplate} não passam pelo Hibernate e não entram
+ * na conta.</p>
+ *
+ * <p>Com {@link #gravar()} a thread também guarda cada requisição medida, para
+ * que testes comparem as contagens com um limite.</p>
+ */
+public class ContadorConsultas implements StatementInspector {
+
+    private static final ThreadLocal<int[]> ATUAL = new ThreadLocal<>();
+    private static final ThreadLocal<List<Medicao>> GRAVADAS = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] contador = ATUAL.get();
+        if (contador != null) {
+            contador[0]++;
+        }
+        return sql;
+    }
+
+    /**
+     * Começa a contar na thread atual (zera uma contagem anterior)
+     */
+    public static void iniciar() {
+        ATUAL.set(new int[1]);
+    }
+
+    /**
+     * Comandos contados desde {@link #iniciar()}; 0 se a contagem não foi iniciada
+     */
+    public static int atual() {
+        int[] contador = ATUAL.get();
+        return contador != null ? contador[0] : 0;
+    }
+
+    /**
+     * Para de contar e devolve o total
+     */
+    public static int encerrar() {
+        int total = atual();
+        ATUAL.remove();
+        return total;
+    }
+
+    /**
+     * Passa a guardar as medições das requisições atendidas nesta thread
+     */
+    public static void gravar() {
+        GRAVADAS.set(new ArrayList<>());
+    }
+
+    /**
+     * Medições guardadas desde {@link #gravar()}; encerra a gravação
+     */
+    public static List<Medicao> medicoesGravadas() {
+        List<Medicao> medicoes = GRAVADAS.get();
+        GRAVADAS.remove();
+        return medicoes != null ? medicoes : List.of();
+    }
+
+    static void registrar(Medicao medicao) {
+        List<Medicao> medicoes = GRAVADAS.get();
+        if (medicoes != null) {
+            medicoes.add(medicao);
+        }
+    }
+
+    /**
+     * Comandos SQL de uma requisição: {@code endpoint} é o método e o padrão da URI
+     * (ex.: {@code GET /api/escala/{id}/calendario})
+     */
+    public record Medicao(String endpoint, int consultas) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+import java.util.Optional;
+
+/**
+ * Guarda, por chave de idempotência, a resposta da primeira execução de um POST.
+ */
+public interface ArmazemIdempotencia {
+
+    /**
+     * Reserva a chave para a execução desta requisição. Vazio quando a reserva é
+     * desta requisição; senão, o registro de quem usou a chave antes.
+     */
+    Optional<RegistroIdempotencia> reservar(String chave, String impressao);
+
+    /**
+     * Guarda a resposta da execução que reservou a chave
+     */
+    void concluir(String chave, RespostaIdempotente resposta);
+
+    /**
+     * Desfaz a reserva sem resposta guardada: a próxima repetição executa de novo
+     */
+    void liberar(String chave);
+
+    Optional<RegistroIdempotencia> buscar(String chave);
+}
@@ -0,0 +1,125 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+import com.oroboros.EscalaDeFolga.config.IdempotenciaProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Armazém na tabela {@code idempotencia_requisicao}, compartilhado entre instâncias.
+ *
+ * <p>A reserva é um INSERT: a chave primária garante uma única execução por chave
+ * mesmo entre instâncias. Enquanto em andamento, a linha expira em
+ * {@code escala.idempotencia.espera-ms}, para que a chave de uma instância que caiu
+ * no meio da execução volte a ser usável; concluída, em {@code ttl-ms}.</p>
+ *
+ * <p>Cada comando roda fora da transação da requisição (o filtro está antes dela).
+ * Os corpos são guardados como texto UTF-8 (respostas JSON).</p>
+ */
+@Slf4j
+public class ArmazemIdempotenciaBanco implements ArmazemIdempotencia {
+
+    private static final String INSERT = """
+            INSERT INTO idempotencia_requisicao (chave, impressao, criada_em, expira_em)
+            VALUES (?, ?, ?, ?)
+            """;
+
+    private static final String CONCLUIR = """
+            UPDATE idempotencia_requisicao
+            SET status = ?, content_type = ?, corpo = ?, expira_em = ?
+            WHERE chave = ?
+            """;
+
+    private static final String SELECT = """
+            SELECT impressao, status, content_type, corpo FROM idempotencia_requisicao
+            WHERE chave = ? AND expira_em > ?
+            """;
+
+    private static final String DELETE_EXPIRADA = """
+            DELETE FROM idempotencia_requisicao WHERE chave = ? AND expira_em <= ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final IdempotenciaProperties properties;
+
+    public ArmazemIdempotenciaBanco(JdbcTemplate jdbcTemplate, IdempotenciaProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> reservar(String chave, String impressao) {
+        try {
+            inserir(chave, impressao);
+            return Optional.empty();
+        } catch (DuplicateKeyException e) {
+            Optional<RegistroIdempotencia> existente = buscar(chave);
+            if (existente.isPresent()) {
+                return existente;
+            }
+            // Linha expirada: remove e tenta a reserva uma vez mais
+            jdbcTemplate.update(DELETE_EXPIRADA, chave, Timestamp.valueOf(LocalDateTime.now()));
+            try {
+                inserir(chave, impressao);
+                return Optional.empty();
+            } catch (DuplicateKeyException outraInstancia) {
+                return buscar(chave).or(() -> Optional.of(new RegistroIdempotencia(impressao, null)));
+            }
+        }
+    }
+
+    @Override
+    public void concluir(String chave, RespostaIdempotente resposta) {
+        jdbcTemplate.update(CONCLUIR,
+                resposta.status(),
+                resposta.contentType(),
+                new String(resposta.corpo(), StandardCharsets.UTF_8),
+                daqui(properties.ttlMs()),
+                chave);
+    }
+
+    @Override
+    public void liberar(String chave) {
+        jdbcTemplate.update("DELETE FROM idempotencia_requisicao WHERE chave = ?", chave);
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> buscar(String chave) {
+        return jdbcTemplate.query(SELECT, (rs, linha) -> {
+            int status = rs.getInt("status");
+            RespostaIdempotente resposta = rs.wasNull() ? null : new RespostaIdempotente(
+                    status,
+                    rs.getString("content_type"),
+                    Optional.ofNullable(rs.getString("corpo")).orElse("").getBytes(StandardCharsets.UTF_8));
+            return new RegistroIdempotencia(rs.getString("impressao"), resposta);
+        }, chave, Timestamp.valueOf(LocalDateTime.now())).stream().findFirst();
+    }
+
+    private void inserir(String chave, String impressao) {
+        jdbcTemplate.update(INSERT, chave, impressao, Timestamp.valueOf(LocalDateTime.now()),
+                daqui(properties.esperaMs()));
+    }
+
+    private static Timestamp daqui(long ms) {
+        return Timestamp.valueOf(LocalDateTime.now().plus(Duration.ofMillis(ms)));
+    }
+
+    /**
+     * Remove as respostas expiradas
+     */
+    @Scheduled(fixedDelayString = "${escala.idempotencia.limpeza-ms:3600000}")
+    public void removerExpiradas() {
+        int removidas = jdbcTemplate.update("DELETE FROM idempotencia_requisicao WHERE expira_em <= ?",
+                Timestamp.valueOf(LocalDateTime.now()));
+        if (removidas > 0) {
+            log.info("🧹 {} resposta(s) idempotente(s) expirada(s) removida(s)", removidas);
+        }
+    }
+}
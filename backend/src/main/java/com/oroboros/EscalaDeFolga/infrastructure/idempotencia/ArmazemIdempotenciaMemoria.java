@@ -0,0 +1,43 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.oroboros.EscalaDeFolga.config.IdempotenciaProperties;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Armazém em memória, limitado em chaves e com expiração; vale só para esta instância.
+ */
+public class ArmazemIdempotenciaMemoria implements ArmazemIdempotencia {
+
+    private final Cache<String, RegistroIdempotencia> registros;
+
+    public ArmazemIdempotenciaMemoria(IdempotenciaProperties properties) {
+        this.registros = Caffeine.newBuilder()
+                .maximumSize(properties.maximoChaves())
+                .expireAfterWrite(Duration.ofMillis(properties.ttlMs()))
+                .build();
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> reservar(String chave, String impressao) {
+        return Optional.ofNullable(registros.asMap().putIfAbsent(chave, new RegistroIdempotencia(impressao, null)));
+    }
+
+    @Override
+    public void concluir(String chave, RespostaIdempotente resposta) {
+        registros.asMap().computeIfPresent(chave, (c, registro) -> new RegistroIdempotencia(registro.impressao(), resposta));
+    }
+
+    @Override
+    public void liberar(String chave) {
+        registros.invalidate(chave);
+    }
+
+    @Override
+    public Optional<RegistroIdempotencia> buscar(String chave) {
+        return Optional.ofNullable(registros.getIfPresent(chave));
+    }
+}
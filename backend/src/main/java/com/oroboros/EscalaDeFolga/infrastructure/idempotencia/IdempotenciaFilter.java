@@ -0,0 +1,260 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.oroboros.EscalaDeFolga.config.IdempotenciaProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * POSTs com o cabeçalho {@value #CABECALHO} executam uma única vez por chave.
+ *
+ * <p>A primeira requisição reserva a chave no {@link ArmazemIdempotencia}, executa
+ * e guarda a resposta (status abaixo de 500); as repetições recebem essa resposta,
+ * com {@value #CABECALHO_REPETIDA}, sem passar por controller, validadores ou
+ * repositórios. Respostas 5xx liberam a chave para uma nova tentativa.</p>
+ *
+ * <p>Repetições simultâneas esperam a primeira execução: na mesma instância pelo
+ * futuro dela, entre instâncias (armazém no banco) consultando o registro. A chave
+ * vale para a mesma requisição (método, caminho e corpo); reutilizada com outra,
+ * a resposta é 422.</p>
+ *
+ * <p>Métrica: {@value #METRICA_REPETICOES} (respostas devolvidas do armazém).</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    public static final String CABECALHO = "Idempotency-Key";
+    public static final String CABECALHO_REPETIDA = "Idempotent-Replayed";
+    public static final String METRICA_REPETICOES = "idempotencia.repeticoes";
+
+    static final int TAMANHO_MAXIMO_CHAVE = 255;
+    private static final long INTERVALO_CONSULTA_MS = 100;
+
+    private final ArmazemIdempotencia armazem;
+    private final IdempotenciaProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /** Execuções em andamento nesta instância, por chave */
+    private final ConcurrentMap<String, Execucao> emAndamento = new ConcurrentHashMap<>();
+
+    private record Execucao(String impressao, CompletableFuture<RespostaIdempotente> resposta) {}
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.habilitada()
+                || !HttpMethod.POST.matches(request.getMethod())
+                || request.getHeader(CABECALHO) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String chave = request.getHeader(CABECALHO).trim();
+        if (chave.isEmpty() || chave.length() > TAMANHO_MAXIMO_CHAVE) {
+            escrever(response, erro(HttpStatus.BAD_REQUEST, String.format(
+                    "%s deve ter entre 1 e %d caracteres.", CABECALHO, TAMANHO_MAXIMO_CHAVE)), false);
+            return;
+        }
+
+        RequisicaoComCorpo requisicao = new RequisicaoComCorpo(request);
+        String impressao = impressao(requisicao);
+        long limite = System.currentTimeMillis() + properties.esperaMs();
+
+        while (true) {
+            Execucao propria = new Execucao(impressao, new CompletableFuture<>());
+            Execucao primeira = emAndamento.putIfAbsent(chave, propria);
+
+            if (primeira == null) {
+                executar(chave, propria, requisicao, response, chain);
+                return;
+            }
+
+            // Repetição simultânea nesta instância: espera a primeira execução
+            if (!primeira.impressao().equals(impressao)) {
+                escrever(response, chaveReutilizada(), false);
+                return;
+            }
+            Optional<RespostaIdempotente> resposta = aguardar(primeira.resposta(), limite);
+            if (resposta.isPresent()) {
+                repetir(chave, resposta.get(), response);
+                return;
+            }
+            if (System.currentTimeMillis() >= limite) {
+                escrever(response, emProcessamento(), false);
+                return;
+            }
+            // A primeira falhou sem resposta: a chave foi liberada, tenta executar
+        }
+    }
+
+    private void executar(String chave, Execucao propria, RequisicaoComCorpo requisicao,
+                          HttpServletResponse response, FilterChain chain) throws ServletException, IOException {
+        try {
+            RespostaIdempotente resposta = processar(chave, propria.impressao(), requisicao, response, chain);
+            propria.resposta().complete(resposta);
+        } catch (ServletException | IOException | RuntimeException e) {
+            propria.resposta().completeExceptionally(e);
+            throw e;
+        } finally {
+            emAndamento.remove(chave, propria);
+        }
+    }
+
+    /**
+     * Reserva a chave e executa, ou devolve a resposta de quem a usou antes
+     */
+    private RespostaIdempotente processar(String chave, String impressao, RequisicaoComCorpo requisicao,
+                                          HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Optional<RegistroIdempotencia> existente = armazem.reservar(chave, impressao);
+        if (existente.isPresent()) {
+            RegistroIdempotencia registro = existente.get();
+            if (!registro.impressao().equals(impressao)) {
+                return escrever(response, chaveReutilizada(), false);
+            }
+            Optional<RespostaIdempotente> resposta = registro.emAndamento()
+                    ? aguardarOutraInstancia(chave)
+                    : Optional.of(registro.resposta());
+            if (resposta.isEmpty()) {
+                return escrever(response, emProcessamento(), false);
+            }
+            repetir(chave, resposta.get(), response);
+            return resposta.get();
+        }
+
+        ContentCachingResponseWrapper captura = new ContentCachingResponseWrapper(response);
+        boolean guardada = false;
+        try {
+            chain.doFilter(requisicao, captura);
+            RespostaIdempotente resposta = new RespostaIdempotente(
+                    captura.getStatus(), captura.getContentType(), captura.getContentAsByteArray());
+            if (resposta.status() < 500 && resposta.corpo().length <= properties.maximoCorpoBytes()) {
+                armazem.concluir(chave, resposta);
+                guardada = true;
+            }
+            return resposta;
+        } finally {
+            if (!guardada) {
+                armazem.liberar(chave);
+            }
+            captura.copyBodyToResponse();
+        }
+    }
+
+    private Optional<RespostaIdempotente> aguardar(CompletableFuture<RespostaIdempotente> resposta, long limite) {
+        try {
+            return Optional.of(resposta.get(Math.max(0, limite - System.currentTimeMillis()), TimeUnit.MILLISECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (ExecutionException | TimeoutException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Execução em andamento em outra instância (armazém no banco): consulta o
+     * registro até a resposta aparecer, a chave ser liberada ou o tempo acabar
+     */
+    private Optional<RespostaIdempotente> aguardarOutraInstancia(String chave) {
+        long limite = System.currentTimeMillis() + properties.esperaMs();
+        while (System.currentTimeMillis() < limite) {
+            try {
+                Thread.sleep(INTERVALO_CONSULTA_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return Optional.empty();
+            }
+            Optional<RegistroIdempotencia> registro = armazem.buscar(chave);
+            if (registro.isEmpty()) {
+                return Optional.empty();
+            }
+            if (!registro.get().emAndamento()) {
+                return Optional.of(registro.get().resposta());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void repetir(String chave, RespostaIdempotente resposta, HttpServletResponse response) throws IOException {
+        log.info("🔁 Resposta repetida para a chave de idempotência {} (status {})", chave, resposta.status());
+        meterRegistry.counter(METRICA_REPETICOES).increment();
+        escrever(response, resposta, true);
+    }
+
+    private RespostaIdempotente escrever(HttpServletResponse response, RespostaIdempotente resposta, boolean repetida)
+            throws IOException {
+        response.setStatus(resposta.status());
+        if (resposta.contentType() != null) {
+            response.setContentType(resposta.contentType());
+        }
+        if (repetida) {
+            response.setHeader(CABECALHO_REPETIDA, "true");
+        }
+        response.setContentLength(resposta.corpo().length);
+        response.getOutputStream().write(resposta.corpo());
+        response.flushBuffer();
+        return resposta;
+    }
+
+    private RespostaIdempotente chaveReutilizada() throws IOException {
+        return erro(HttpStatus.UNPROCESSABLE_ENTITY, String.format(
+                "%s já usada com outra requisição. Gere uma nova chave.", CABECALHO));
+    }
+
+    private RespostaIdempotente emProcessamento() throws IOException {
+        return erro(HttpStatus.CONFLICT, String.format(
+                "A requisição com esta %s ainda está em processamento. Tente novamente.", CABECALHO));
+    }
+
+    private RespostaIdempotente erro(HttpStatus status, String mensagem) throws IOException {
+        ProblemDetail problemDetail = ProblemDetail.forStatusAndDetail(status, mensagem);
+        problemDetail.setTitle("Chave de Idempotência");
+        return new RespostaIdempotente(status.value(), MediaType.APPLICATION_PROBLEM_JSON_VALUE,
+                objectMapper.writeValueAsBytes(problemDetail));
+    }
+
+    /**
+     * SHA-256 do método, caminho e corpo: a mesma chave só vale para a mesma requisição
+     */
+    static String impressao(RequisicaoComCorpo requisicao) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update((requisicao.getMethod() + " " + requisicao.getRequestURI() + "?"
+                    + Optional.ofNullable(requisicao.getQueryString()).orElse("") + "\n")
+                    .getBytes(StandardCharsets.UTF_8));
+            digest.update(requisicao.getCorpo());
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+}
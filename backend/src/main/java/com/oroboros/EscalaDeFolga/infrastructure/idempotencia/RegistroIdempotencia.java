@@ -0,0 +1,12 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+/**
+ * Chave já usada: a impressão da requisição original e a resposta dela, nula
+ * enquanto a execução ainda está em andamento.
+ */
+public record RegistroIdempotencia(String impressao, RespostaIdempotente resposta) {
+
+    public boolean emAndamento() {
+        return resposta == null;
+    }
+}
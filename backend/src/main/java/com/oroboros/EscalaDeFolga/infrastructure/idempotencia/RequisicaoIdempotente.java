@@ -0,0 +1,47 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Linha da tabela {@code idempotencia_requisicao}, usada pelo
+ * {@link ArmazemIdempotenciaBanco}.
+ *
+ * <p>O armazém lê e grava por JDBC (a reserva precisa de um INSERT que falhe na
+ * chave duplicada, sem o merge do JPA); o mapeamento mantém a tabela no esquema
+ * validado pelo Hibernate e nos testes.</p>
+ */
+@Entity
+@Table(name = "idempotencia_requisicao", indexes = {
+        @Index(name = "idx_idempotencia_expira_em", columnList = "expira_em")
+})
+@NoArgsConstructor
+@Getter
+public class RequisicaoIdempotente {
+
+    @Id
+    @Column(length = 255)
+    private String chave;
+
+    @Column(nullable = false, length = 64)
+    private String impressao;
+
+    // Nulo enquanto a execução está em andamento
+    private Integer status;
+
+    @Column(name = "content_type")
+    private String contentType;
+
+    @Lob
+    @Column(columnDefinition = "TEXT")
+    private String corpo;
+
+    @Column(name = "criada_em", nullable = false)
+    private LocalDateTime criadaEm;
+
+    @Column(name = "expira_em", nullable = false)
+    private LocalDateTime expiraEm;
+}
@@ -0,0 +1,7 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+/**
+ * Resposta de um POST guardada para ser devolvida às repetições da mesma chave
+ */
+public record RespostaIdempotente(int status, String contentType, byte[] corpo) {
+}
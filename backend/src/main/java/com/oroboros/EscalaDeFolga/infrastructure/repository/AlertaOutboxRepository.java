@@ -0,0 +1,77 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.alerta.AlertaOutbox;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AlertaOutboxRepository extends JpaRepository<AlertaOutbox, Long> {
+
+    /**
+     * IDs dos pedidos aguardando processamento, do mais antigo para o mais novo
+     */
+    @Query("""
+            SELECT o.id FROM AlertaOutbox o
+            WHERE o.status = :status
+            ORDER BY o.id
+            """)
+    List<Long> findIdsPorStatus(@Param("status") StatusOutboxEnum status, Pageable pageable);
+
+    /**
+     * Reserva o pedido para um worker (só um worker consegue mudar PENDENTE → PROCESSANDO)
+     */
+    @Modifying
+    @Query("""
+            UPDATE AlertaOutbox o
+            SET o.status = com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum.PROCESSANDO,
+                o.tentativas = o.tentativas + 1,
+                o.dataProcessamento = :agora
+            WHERE o.id = :id
+            AND o.status = com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum.PENDENTE
+            """)
+    int reservar(@Param("id") Long id, @Param("agora") LocalDateTime agora);
+
+    /**
+     * Marca como FALHA os pedidos abandonados por workers que já esgotaram as
+     * tentativas (a tentativa abandonada foi contada na reserva)
+     */
+    @Modifying
+    @Query("""
+            UPDATE AlertaOutbox o
+            SET o.status = com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum.FALHA,
+                o.ultimoErro = :erro
+            WHERE o.status = com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum.PROCESSANDO
+            AND o.dataProcessamento < :limite
+            AND o.tentativas >= :maxTentativas
+            """)
+    int falharReservasEsgotadas(
+            @Param("limite") LocalDateTime limite,
+            @Param("maxTentativas") int maxTentativas,
+            @Param("erro") String erro
+    );
+
+    /**
+     * Devolve para a fila pedidos reservados por workers que não terminaram (ex.: reinício da aplicação)
+     * e que ainda têm tentativas
+     */
+    @Modifying
+    @Query("""
+            UPDATE AlertaOutbox o
+            SET o.status = com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum.PENDENTE
+            WHERE o.status = com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum.PROCESSANDO
+            AND o.dataProcessamento < :limite
+            AND o.tentativas < :maxTentativas
+            """)
+    int liberarReservasExpiradas(
+            @Param("limite") LocalDateTime limite,
+            @Param("maxTentativas") int maxTentativas
+    );
+}
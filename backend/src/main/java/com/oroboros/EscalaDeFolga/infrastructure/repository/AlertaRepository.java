@@ -4,7 +4,9 @@ import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.SeveridadeEnum;
 import com.oroboros.EscalaDeFolga.domain.model.alerta.TipoAlertaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -51,9 +53,12 @@ public interface AlertaRepository extends JpaRepository<Alerta, Long> {
     long countAlertasCriticosPendentes(@Param("escalaId") Long escalaId);
 
     /**
-     * Busca alertas de uma folga específica
+     * Busca alertas de uma folga específica (pela FK, sem junção com a folga)
      */
-    List<Alerta> findByFolgaIdOrderBySeveridadeAsc(Long folgaId);
+    @Query("SELECT a FROM Alerta a " +
+            "WHERE a.folga.id = :folgaId " +
+            "ORDER BY a.severidade ASC")
+    List<Alerta> findByFolgaIdOrderBySeveridadeAsc(@Param("folgaId") Long folgaId);
 
     /**
      * Busca alertas de um colaborador na escala
@@ -88,4 +93,15 @@ public interface AlertaRepository extends JpaRepository<Alerta, Long> {
             @Param("data") LocalDate data,
             @Param("escala") Escala escala
     );
+
+    /**
+     * Remove os alertas das folgas da escala com o status informado
+     */
+    @Modifying
+    @Query("DELETE FROM Alerta a WHERE a.folga.id IN (" +
+            "SELECT f.id FROM Folga f WHERE f.escala = :escala AND f.status = :status)")
+    int deleteByFolgaEscalaAndStatus(
+            @Param("escala") Escala escala,
+            @Param("status") StatusFolgaEnum status
+    );
 }
@@ -0,0 +1,45 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.escala.AlteracaoCalendario;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface AlteracaoCalendarioRepository extends JpaRepository<AlteracaoCalendario, Long> {
+
+    /**
+     * Alterações registradas depois da versão {@code desde} até a versão {@code ate} (inclusive)
+     */
+    @Query("""
+        SELECT a FROM AlteracaoCalendario a
+        WHERE a.escalaId = :escalaId
+          AND a.versao > :desde
+          AND a.versao <= :ate
+    """)
+    List<AlteracaoCalendario> findAlteracoes(
+            @Param("escalaId") Long escalaId,
+            @Param("desde") long desde,
+            @Param("ate") long ate
+    );
+
+    /**
+     * Remove, em todas as escalas, o histórico anterior às últimas {@code retencao}
+     * versões e o de escalas que não existem mais
+     */
+    @Modifying
+    @Query("""
+        DELETE FROM AlteracaoCalendario a
+        WHERE a.versao <= (SELECT e.versaoCalendario FROM Escala e WHERE e.id = a.escalaId) - :retencao
+           OR NOT EXISTS (SELECT 1 FROM Escala e WHERE e.id = a.escalaId)
+    """)
+    int excluirForaDaRetencao(@Param("retencao") long retencao);
+
+    @Modifying
+    @Query("DELETE FROM AlteracaoCalendario a WHERE a.escalaId = :escalaId")
+    int deleteByEscalaId(@Param("escalaId") Long escalaId);
+}
@@ -1,13 +1,65 @@
 package com.oroboros.EscalaDeFolga.infrastructure.repository;
 
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.colaborador.AuditoriaColaborador;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface AuditoriaColaboradorRepository extends JpaRepository<AuditoriaColaborador, Long> {
 
-    // Buscar auditorias de um colaborador específico
-    List<AuditoriaColaborador> findByColaboradorIdOrderByDataHoraDesc(Long colaboradorId);
+    /**
+     * Página do histórico de um colaborador, do mais recente para o mais antigo.
+     *
+     * <p>Paginação por chave (dataHora, id): a página começa logo depois do último
+     * registro da anterior ({@code antesDe}/{@code antesDeId}) e segue o índice
+     * (colaborador_id, data_hora, id), sem OFFSET.</p>
+     */
+    @Query("""
+        SELECT a FROM AuditoriaColaborador a
+        WHERE a.colaboradorId = :colaboradorId
+          AND a.acao IN :acoes
+          AND a.dataHora >= :inicio
+          AND (a.dataHora < :antesDe OR (a.dataHora = :antesDe AND a.id < :antesDeId))
+        ORDER BY a.dataHora DESC, a.id DESC
+    """)
+    List<AuditoriaColaborador> findHistorico(
+            @Param("colaboradorId") Long colaboradorId,
+            @Param("acoes") Collection<AcaoAuditoriaEnum> acoes,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("antesDe") LocalDateTime antesDe,
+            @Param("antesDeId") Long antesDeId,
+            Limit limit
+    );
 
+    /**
+     * Chaves dos registros já gravados dos colaboradores no intervalo [inicio, fim],
+     * para o reenvio do arquivo pendente não gravar o mesmo registro duas vezes
+     * (segue o índice (colaborador_id, data_hora, id))
+     */
+    @Query("""
+        SELECT a.colaboradorId AS colaboradorId, a.acao AS acao, a.dataHora AS dataHora
+        FROM AuditoriaColaborador a
+        WHERE a.colaboradorId IN :colaboradorIds
+          AND a.dataHora BETWEEN :inicio AND :fim
+    """)
+    List<ChaveAuditoria> findChaves(
+            @Param("colaboradorIds") Collection<Long> colaboradorIds,
+            @Param("inicio") LocalDateTime inicio,
+            @Param("fim") LocalDateTime fim
+    );
+
+    /**
+     * Projeção com o que identifica um registro de auditoria
+     */
+    interface ChaveAuditoria {
+        Long getColaboradorId();
+        AcaoAuditoriaEnum getAcao();
+        LocalDateTime getDataHora();
+    }
 }
@@ -6,13 +6,17 @@ import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface ColaboradorRepository extends JpaRepository<Colaborador, Long> {
+public interface ColaboradorRepository extends JpaRepository<Colaborador, Long>, ColaboradorUltimaFolgaRepository {
 
 
     Page<Colaborador> findByAtivoTrue(Pageable pageable);
@@ -43,6 +47,15 @@ public interface ColaboradorRepository extends JpaRepository<Colaborador, Long>
 
     long countBySetorAndTurno(Setor setor, TurnoEnum turno);
 
+    /**
+     * Grava a última folga direto no banco, sem a versão otimista: é um dado
+     * mantido pelas folgas, não uma edição do colaborador, e não deve invalidar
+     * a versão que o cliente tem em mãos. Em seguida, use
+     * {@link #sincronizarUltimaFolga} no colaborador carregado.
+     */
+    @Modifying
+    @Query("UPDATE Colaborador c SET c.ultimaFolga = :data WHERE c.id = :id")
+    int atualizarUltimaFolga(@Param("id") Long id, @Param("data") LocalDate data);
 
 }
 
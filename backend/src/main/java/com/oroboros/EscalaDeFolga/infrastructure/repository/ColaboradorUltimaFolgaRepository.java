@@ -0,0 +1,22 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+
+import java.time.LocalDate;
+
+/**
+ * Fragmento do {@link ColaboradorRepository} que mantém a entidade em memória em dia
+ * com a última folga gravada por UPDATE direto
+ */
+public interface ColaboradorUltimaFolgaRepository {
+
+    /**
+     * Aplica no colaborador já carregado a última folga gravada no banco, sem torná-lo
+     * sujo: o flush não gera UPDATE nem incrementa a versão otimista. Colaboradores
+     * ainda não carregados (proxy) leem o valor novo do banco.
+     *
+     * <p>Deve ser chamado logo depois do UPDATE e antes de qualquer outra alteração
+     * no colaborador na mesma transação, que deixaria de ser gravada.</p>
+     */
+    void sincronizarUltimaFolga(Colaborador colaborador, LocalDate ultimaFolga);
+}
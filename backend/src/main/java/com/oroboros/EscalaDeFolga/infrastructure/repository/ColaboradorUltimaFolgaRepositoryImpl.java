@@ -0,0 +1,28 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Hibernate;
+import org.hibernate.Session;
+
+import java.time.LocalDate;
+
+@RequiredArgsConstructor
+class ColaboradorUltimaFolgaRepositoryImpl implements ColaboradorUltimaFolgaRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public void sincronizarUltimaFolga(Colaborador colaborador, LocalDate ultimaFolga) {
+        if (!Hibernate.isInitialized(colaborador) || !entityManager.contains(colaborador)) {
+            return;
+        }
+
+        // Ao voltar de somente leitura, o estado atual passa a ser o retrato do banco
+        Session sessao = entityManager.unwrap(Session.class);
+        sessao.setReadOnly(colaborador, true);
+        colaborador.setUltimaFolga(ultimaFolga);
+        sessao.setReadOnly(colaborador, false);
+    }
+}
@@ -4,11 +4,17 @@ import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusEscalaEnum;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -17,6 +23,18 @@ public interface EscalaRepository extends JpaRepository<Escala, Long> {
     boolean existsByMesAndAnoAndTurnoAndSetorAndStatus(
             int mes, int ano, TurnoEnum turno, Setor setor, StatusEscalaEnum status);
 
+    /**
+     * Escala com o setor (nome exibido no calendário e na resposta da API)
+     */
+    @EntityGraph(Escala.GRAFO_COM_SETOR)
+    Optional<Escala> findComSetorById(Long id);
+
+    /**
+     * Indica se a escala tem registros de trabalho, sem carregar a coleção
+     */
+    @Query("SELECT COUNT(r) > 0 FROM EscalaColaborador r WHERE r.escala = :escala")
+    boolean existsRegistroDeTrabalho(@Param("escala") Escala escala);
+
     @Query("""
     SELECT e FROM Escala e
     WHERE\s
@@ -34,4 +52,54 @@ public interface EscalaRepository extends JpaRepository<Escala, Long> {
             @Param("setor") Setor setor
     );
 
+    /**
+     * IDs das escalas de um setor nos turnos informados
+     */
+    @Query("""
+    SELECT e.id FROM Escala e
+    WHERE e.setor.id = :setorId AND e.turno IN :turnos
+    ORDER BY e.id
+""")
+    List<Long> findIdsPorSetorETurnos(
+            @Param("setorId") Long setorId,
+            @Param("turnos") Collection<TurnoEnum> turnos
+    );
+
+    /**
+     * Trava, em ordem de ID, as escalas do setor nos turnos informados (menos a
+     * {@code exceto}, se informada) e retorna a versão atual de cada uma. A ordem fixa
+     * evita deadlock entre transações que incrementam várias escalas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+    SELECT e.id AS id, e.versaoCalendario AS versao FROM Escala e
+    WHERE e.setor.id = :setorId AND e.turno IN :turnos
+      AND (:exceto IS NULL OR e.id <> :exceto)
+    ORDER BY e.id
+""")
+    List<VersaoEscala> travarVersoesPorSetorETurnos(
+            @Param("setorId") Long setorId,
+            @Param("turnos") Collection<TurnoEnum> turnos,
+            @Param("exceto") Long exceto
+    );
+
+    @Query("SELECT e.versaoCalendario FROM Escala e WHERE e.id = :id")
+    Optional<Long> findVersaoCalendario(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE Escala e SET e.versaoCalendario = e.versaoCalendario + 1 WHERE e.id = :id")
+    int incrementarVersaoCalendario(@Param("id") Long id);
+
+    /**
+     * Incrementa a versão de várias escalas em um único comando (travadas antes, em ordem de ID)
+     */
+    @Modifying
+    @Query("UPDATE Escala e SET e.versaoCalendario = e.versaoCalendario + 1 WHERE e.id IN :ids")
+    int incrementarVersoesCalendario(@Param("ids") Collection<Long> ids);
+
+    interface VersaoEscala {
+        Long getId();
+        long getVersao();
+    }
+
 }
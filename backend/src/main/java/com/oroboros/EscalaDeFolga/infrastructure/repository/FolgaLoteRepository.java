@@ -0,0 +1,49 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Atualizações em lote via JDBC para cargas do mês inteiro de um setor.
+ *
+ * <p>Os inserts de folgas usam o batch do próprio Hibernate (IDs por sequência
+ * pooled). Aqui fica apenas a atualização da última folga dos colaboradores, um
+ * UPDATE por colaborador enviado pelo {@link JdbcTemplate} em lotes de
+ * {@value #TAMANHO_LOTE}, participando da mesma transação JPA.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class FolgaLoteRepository {
+
+    static final int TAMANHO_LOTE = 200;
+
+    private static final String UPDATE_ULTIMA_FOLGA = """
+            UPDATE colaborador SET ultima_folga = ? WHERE id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Atualiza a última folga de vários colaboradores em lote (data nula limpa o campo)
+     */
+    public void atualizarUltimaFolga(Map<Long, LocalDate> ultimaFolgaPorColaborador) {
+        List<Map.Entry<Long, LocalDate>> entradas = new ArrayList<>(ultimaFolgaPorColaborador.entrySet());
+
+        jdbcTemplate.batchUpdate(UPDATE_ULTIMA_FOLGA, entradas, TAMANHO_LOTE, (ps, entrada) -> {
+            if (entrada.getValue() != null) {
+                ps.setDate(1, Date.valueOf(entrada.getValue()));
+            } else {
+                ps.setNull(1, Types.DATE);
+            }
+            ps.setLong(2, entrada.getKey());
+        });
+    }
+}
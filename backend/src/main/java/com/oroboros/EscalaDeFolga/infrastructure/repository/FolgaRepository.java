@@ -4,12 +4,16 @@ import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,25 +22,77 @@ public interface FolgaRepository extends JpaRepository<Folga, Long> {
 
     boolean existsByColaboradorAndDataSolicitada(Colaborador colaborador, LocalDate dataSolicitada);
 
+    // Duplicidade ao revalidar uma folga existente (desconsidera ela mesma)
+    boolean existsByColaboradorAndDataSolicitadaAndIdNot(Colaborador colaborador, LocalDate dataSolicitada, Long id);
+
+    // Usado para saber se a escala ainda pode ser editada ou excluída
+    boolean existsByEscalaAndStatus(Escala escala, StatusFolgaEnum status);
+
+    /**
+     * Folga com o colaborador, para a resposta da API
+     */
+    @EntityGraph(Folga.GRAFO_RESPOSTA)
+    Optional<Folga> findComColaboradorById(Long id);
+
+    /**
+     * Folga com colaborador e escala, para os geradores de alerta
+     */
+    @EntityGraph(Folga.GRAFO_ALERTAS)
+    Optional<Folga> findParaAlertasById(Long id);
+
     long countByColaboradorAndEscalaAndStatusIn(Colaborador colaborador, Escala escala, List<StatusFolgaEnum> status);
 
     List<Folga> findByEscalaAndStatus(Escala escala, StatusFolgaEnum status);
 
+    /**
+     * Indica se o colaborador tem folga ativa em algum domingo do intervalo.
+     *
+     * <p>Filtra por intervalo de {@code dataSolicitada} e pelo {@code diaSemana} gravado,
+     * usando o índice (colaborador, data) em qualquer banco.</p>
+     */
     @Query("""
         SELECT COUNT(f) > 0
         FROM Folga f
         WHERE f.colaborador = :colaborador
+          AND f.dataSolicitada BETWEEN :inicio AND :fim
+          AND f.diaSemana = 7
           AND f.status IN ('PENDENTE', 'APROVADA')
-          AND FUNCTION('DAYOFWEEK',  f.dataSolicitada) = 1
-          AND FUNCTION('MONTH', f.dataSolicitada) = :mes
-          AND FUNCTION('YEAR', f.dataSolicitada) = :ano
     """)
-    boolean existsFolgaDomingoNoMes(
+    boolean existsFolgaDomingoEntre(
             @Param("colaborador") Colaborador colaborador,
-            @Param("mes") int mes,
-            @Param("ano") int ano
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim
     );
 
+    default boolean existsFolgaDomingoNoMes(Colaborador colaborador, int mes, int ano) {
+        YearMonth yearMonth = YearMonth.of(ano, mes);
+        return existsFolgaDomingoEntre(colaborador, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    /**
+     * Como {@link #existsFolgaDomingoEntre}, desconsiderando a folga informada (revalidação)
+     */
+    @Query("""
+        SELECT COUNT(f) > 0
+        FROM Folga f
+        WHERE f.colaborador = :colaborador
+          AND f.dataSolicitada BETWEEN :inicio AND :fim
+          AND f.diaSemana = 7
+          AND f.status IN ('PENDENTE', 'APROVADA')
+          AND f.id <> :folgaId
+    """)
+    boolean existsOutraFolgaDomingoEntre(
+            @Param("colaborador") Colaborador colaborador,
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim,
+            @Param("folgaId") Long folgaId
+    );
+
+    default boolean existsOutraFolgaDomingoNoMes(Colaborador colaborador, int mes, int ano, Long folgaId) {
+        YearMonth yearMonth = YearMonth.of(ano, mes);
+        return existsOutraFolgaDomingoEntre(colaborador, yearMonth.atDay(1), yearMonth.atEndOfMonth(), folgaId);
+    }
+
     @Query("""
     SELECT MAX(f.dataSolicitada)
     FROM Folga f
@@ -49,6 +105,98 @@ public interface FolgaRepository extends JpaRepository<Folga, Long> {
             @Param("data") LocalDate data
     );
 
+    /**
+     * Última folga ativa de cada colaborador, em qualquer escala (uma linha por
+     * colaborador; quem não tem folga ativa fica de fora)
+     */
+    @Query("""
+        SELECT f.colaborador.id AS colaboradorId, MAX(f.dataSolicitada) AS ultimaFolga
+        FROM Folga f
+        WHERE f.colaborador.id IN :colaboradorIds
+          AND f.status IN ('PENDENTE', 'APROVADA')
+        GROUP BY f.colaborador.id
+    """)
+    List<UltimaFolgaColaborador> findUltimaFolgaPorColaborador(
+            @Param("colaboradorIds") Collection<Long> colaboradorIds
+    );
+
+    /**
+     * Todas as folgas do colaborador na escala e as dele entre {@code inicio} e {@code fim}
+     * em outras escalas, em qualquer status (contexto de validação agrupado)
+     */
+    @Query("""
+        SELECT f
+        FROM Folga f
+        WHERE f.colaborador = :colaborador
+          AND (f.escala = :escala OR f.dataSolicitada BETWEEN :inicio AND :fim)
+    """)
+    List<Folga> findDoColaboradorNaEscalaOuNoMes(
+            @Param("colaborador") Colaborador colaborador,
+            @Param("escala") Escala escala,
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim
+    );
+
+    /**
+     * Folgas dos colaboradores entre {@code inicio} e {@code fim} lançadas em outras escalas,
+     * em qualquer status, já trazendo o colaborador (duplicidade e domingo no lote)
+     */
+    @Query("""
+        SELECT f
+        FROM Folga f
+        JOIN FETCH f.colaborador
+        WHERE f.colaborador.id IN :colaboradorIds
+          AND f.escala <> :escala
+          AND f.dataSolicitada BETWEEN :inicio AND :fim
+    """)
+    List<Folga> findDosColaboradoresEmOutrasEscalasEntre(
+            @Param("colaboradorIds") Collection<Long> colaboradorIds,
+            @Param("escala") Escala escala,
+            @Param("inicio") LocalDate inicio,
+            @Param("fim") LocalDate fim
+    );
+
+    /**
+     * Última folga ativa de cada colaborador antes da data informada (uma linha por colaborador)
+     */
+    @Query("""
+        SELECT f.colaborador.id AS colaboradorId, MAX(f.dataSolicitada) AS ultimaFolga
+        FROM Folga f
+        WHERE f.colaborador.id IN :colaboradorIds
+          AND f.dataSolicitada < :data
+          AND f.status IN ('PENDENTE', 'APROVADA')
+        GROUP BY f.colaborador.id
+    """)
+    List<UltimaFolgaColaborador> findUltimaFolgaAntesDePorColaborador(
+            @Param("colaboradorIds") Collection<Long> colaboradorIds,
+            @Param("data") LocalDate data
+    );
+
+    /**
+     * Total de folgas ativas por dia da escala (base da reconciliação dos contadores de ocupação)
+     */
+    @Query("""
+        SELECT f.dataSolicitada AS data, COUNT(f) AS total
+        FROM Folga f
+        WHERE f.escala.id = :escalaId
+          AND f.status IN ('PENDENTE', 'APROVADA')
+        GROUP BY f.dataSolicitada
+    """)
+    List<TotalFolgasDia> contarFolgasAtivasPorDia(@Param("escalaId") Long escalaId);
+
+    /**
+     * Remove as folgas da escala com o status informado (usado ao regerar a escala).
+     *
+     * <p>O contexto de persistência é descarregado antes e limpo depois: folgas e
+     * contadores já carregados na transação não sobrevivem ao DELETE em massa.</p>
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM Folga f WHERE f.escala = :escala AND f.status = :status")
+    int deleteByEscalaAndStatus(
+            @Param("escala") Escala escala,
+            @Param("status") StatusFolgaEnum status
+    );
+
     List<Folga> findByColaboradorAndEscalaAndStatusIn(
             Colaborador colaborador,
             Escala escala,
@@ -58,14 +206,109 @@ public interface FolgaRepository extends JpaRepository<Folga, Long> {
     // Busca folgas de uma data específica
     List<Folga> findByDataSolicitadaAndEscala(LocalDate data, Escala escala);
 
-    // Conta folgas em uma data com status específicos
-    @Query("SELECT COUNT(f) FROM Folga f WHERE f.dataSolicitada = :data " +
-            "AND f.status IN :status")
-    long countByDataSolicitadaAndStatusIn(
-            @Param("data") LocalDate data,
+    /**
+     * Busca todas as folgas da escala (qualquer status), já trazendo o colaborador
+     */
+    @Query("""
+        SELECT f
+        FROM Folga f
+        JOIN FETCH f.colaborador
+        WHERE f.escala = :escala
+        ORDER BY f.dataSolicitada, f.id
+    """)
+    List<Folga> findByEscalaComColaborador(@Param("escala") Escala escala);
+
+    /**
+     * Busca todas as folgas da escala com os status informados, já trazendo o
+     * colaborador na mesma consulta (usado na montagem do calendário do mês)
+     */
+    @Query("""
+        SELECT f
+        FROM Folga f
+        JOIN FETCH f.colaborador
+        WHERE f.escala = :escala
+          AND f.status IN :status
+        ORDER BY f.dataSolicitada, f.id
+    """)
+    List<Folga> findByEscalaAndStatusInComColaborador(
+            @Param("escala") Escala escala,
             @Param("status") List<StatusFolgaEnum> status
     );
 
+    /**
+     * Folgas da escala com os status informados que caem em uma das datas ou
+     * pertencem a um dos colaboradores (usado no calendário em delta). As duas
+     * coleções devem ter itens; com uma delas vazia, use as consultas abaixo.
+     */
+    @Query("""
+        SELECT f
+        FROM Folga f
+        JOIN FETCH f.colaborador c
+        WHERE f.escala = :escala
+          AND f.status IN :status
+          AND (f.dataSolicitada IN :datas OR c.id IN :colaboradorIds)
+        ORDER BY f.dataSolicitada, f.id
+    """)
+    List<Folga> findByEscalaAndStatusInDasDatasOuColaboradores(
+            @Param("escala") Escala escala,
+            @Param("status") List<StatusFolgaEnum> status,
+            @Param("datas") Collection<LocalDate> datas,
+            @Param("colaboradorIds") Collection<Long> colaboradorIds
+    );
+
+    /**
+     * Folgas da escala com os status informados que caem em uma das datas
+     * (calendário em delta sem colaboradores alterados)
+     */
+    @Query("""
+        SELECT f
+        FROM Folga f
+        JOIN FETCH f.colaborador
+        WHERE f.escala = :escala
+          AND f.status IN :status
+          AND f.dataSolicitada IN :datas
+        ORDER BY f.dataSolicitada, f.id
+    """)
+    List<Folga> findByEscalaAndStatusInDasDatas(
+            @Param("escala") Escala escala,
+            @Param("status") List<StatusFolgaEnum> status,
+            @Param("datas") Collection<LocalDate> datas
+    );
+
+    /**
+     * Folgas da escala com os status informados de um dos colaboradores
+     * (calendário em delta sem dias alterados)
+     */
+    @Query("""
+        SELECT f
+        FROM Folga f
+        JOIN FETCH f.colaborador c
+        WHERE f.escala = :escala
+          AND f.status IN :status
+          AND c.id IN :colaboradorIds
+        ORDER BY f.dataSolicitada, f.id
+    """)
+    List<Folga> findByEscalaAndStatusInDosColaboradores(
+            @Param("escala") Escala escala,
+            @Param("status") List<StatusFolgaEnum> status,
+            @Param("colaboradorIds") Collection<Long> colaboradorIds
+    );
+
+    /**
+     * Colaborador e data das folgas da escala, sem carregar entidades (monta a OcupacaoMes)
+     */
+    @Query("""
+        SELECT f.colaborador.id AS colaboradorId, f.dataSolicitada AS data
+        FROM Folga f
+        WHERE f.escala = :escala
+          AND f.status IN :status
+        ORDER BY f.colaborador.id, f.dataSolicitada
+        """)
+    List<FolgaDoDia> findFolgasDoDiaByEscala(
+            @Param("escala") Escala escala,
+            @Param("status") Collection<StatusFolgaEnum> status
+    );
+
     /**
      * Conta folgas em uma data específica com status filtrados
      */
@@ -78,4 +321,28 @@ public interface FolgaRepository extends JpaRepository<Folga, Long> {
             @Param("data") LocalDate data,
             @Param("status") List<StatusFolgaEnum> status
     );
+
+    /**
+     * Projeção com a última folga de um colaborador
+     */
+    interface UltimaFolgaColaborador {
+        Long getColaboradorId();
+        LocalDate getUltimaFolga();
+    }
+
+    /**
+     * Projeção com o colaborador e a data de uma folga
+     */
+    interface FolgaDoDia {
+        Long getColaboradorId();
+        LocalDate getData();
+    }
+
+    /**
+     * Projeção com o total de folgas ativas de um dia
+     */
+    interface TotalFolgasDia {
+        LocalDate getData();
+        Long getTotal();
+    }
 }
@@ -0,0 +1,63 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.time.LocalDate;
+
+/**
+ * Criação do contador de ocupação de um dia, segura entre transações concorrentes.
+ *
+ * <p>O INSERT roda na conexão da transação atual, protegido por um savepoint: se
+ * outra transação criou o mesmo contador antes ({@code uk_ocupacao_escala_data}),
+ * só o savepoint é desfeito e a transação segue (no PostgreSQL, um erro sem
+ * savepoint abortaria a transação inteira). Não passa pela sessão do Hibernate,
+ * que continuaria com a entidade rejeitada.</p>
+ */
+@Repository
+@RequiredArgsConstructor
+public class OcupacaoDiaInsercaoRepository {
+
+    private static final String INSERT = """
+            INSERT INTO ocupacao_dia (escala_id, data, total_folgas) VALUES (?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Cria o contador do dia com o total informado; deve ser chamado dentro de uma transação
+     *
+     * @return {@code false} se o contador já existia (criado por outra transação)
+     */
+    public boolean inserirSeAusente(Long escalaId, LocalDate data, int totalFolgas) {
+        return Boolean.TRUE.equals(jdbcTemplate.execute((ConnectionCallback<Boolean>) conexao -> {
+            Savepoint savepoint = conexao.setSavepoint();
+            try (PreparedStatement insert = conexao.prepareStatement(INSERT)) {
+                insert.setLong(1, escalaId);
+                insert.setDate(2, Date.valueOf(data));
+                insert.setInt(3, totalFolgas);
+                insert.executeUpdate();
+            } catch (SQLException e) {
+                conexao.rollback(savepoint);
+                DataAccessException traduzida = jdbcTemplate.getExceptionTranslator().translate("inserirSeAusente", INSERT, e);
+                if (traduzida instanceof DuplicateKeyException) {
+                    return false;
+                }
+                if (traduzida != null) {
+                    throw traduzida;
+                }
+                throw e;
+            }
+            conexao.releaseSavepoint(savepoint);
+            return true;
+        }));
+    }
+}
@@ -0,0 +1,68 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoDia;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface OcupacaoDiaRepository extends JpaRepository<OcupacaoDia, Long> {
+
+    Optional<OcupacaoDia> findByEscalaIdAndData(Long escalaId, LocalDate data);
+
+    List<OcupacaoDia> findByEscalaIdOrderByData(Long escalaId);
+
+    /**
+     * Contadores da escala travados para escrita, em ordem de data (reconciliação)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM OcupacaoDia o WHERE o.escalaId = :escalaId ORDER BY o.data")
+    List<OcupacaoDia> travarPorEscala(@Param("escalaId") Long escalaId);
+
+    /**
+     * Soma o delta ao contador do dia direto no banco; retorna 0 se o contador ainda não existe
+     */
+    @Modifying
+    @Query("""
+        UPDATE OcupacaoDia o
+        SET o.totalFolgas = o.totalFolgas + :delta
+        WHERE o.escalaId = :escalaId
+          AND o.data = :data
+    """)
+    int incrementar(
+            @Param("escalaId") Long escalaId,
+            @Param("data") LocalDate data,
+            @Param("delta") int delta
+    );
+
+    /**
+     * Reserva vagas no dia só se couberem no limite, numa única instrução (atômica
+     * no banco); retorna 0 se o dia está cheio ou o contador ainda não existe
+     */
+    @Modifying
+    @Query("""
+        UPDATE OcupacaoDia o
+        SET o.totalFolgas = o.totalFolgas + :quantidade
+        WHERE o.escalaId = :escalaId
+          AND o.data = :data
+          AND o.totalFolgas + :quantidade <= :limite
+    """)
+    int reservar(
+            @Param("escalaId") Long escalaId,
+            @Param("data") LocalDate data,
+            @Param("quantidade") int quantidade,
+            @Param("limite") int limite
+    );
+
+    @Modifying
+    @Query("DELETE FROM OcupacaoDia o WHERE o.escalaId = :escalaId")
+    int deleteByEscalaId(@Param("escalaId") Long escalaId);
+}
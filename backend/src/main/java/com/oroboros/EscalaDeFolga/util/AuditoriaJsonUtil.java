@@ -0,0 +1,70 @@
+package com.oroboros.EscalaDeFolga.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.SnapshotColaborador;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * JSON dos snapshots de auditoria ({@code dadosAnteriores}/{@code dadosNovos}).
+ *
+ * <p>Usa writers criados uma única vez e só serializa {@link SnapshotColaborador},
+ * nunca a entidade. Na atualização são guardados apenas os campos alterados.</p>
+ */
+public class AuditoriaJsonUtil {
+
+    // Datas em ISO-8601, como na API
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private static final ObjectWriter SNAPSHOT_WRITER = MAPPER.writerFor(SnapshotColaborador.class);
+    private static final ObjectWriter NODE_WRITER = MAPPER.writerFor(JsonNode.class);
+
+    /**
+     * Campos alterados: valores anteriores e novos, cada um como objeto JSON
+     */
+    public record Diferenca(String anteriores, String novos) {}
+
+    public static String snapshot(SnapshotColaborador snapshot) {
+        if (snapshot == null) return null;
+        try {
+            return SNAPSHOT_WRITER.writeValueAsString(snapshot);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao converter snapshot de auditoria para JSON", e);
+        }
+    }
+
+    /**
+     * Apenas os campos que mudaram entre os snapshots ({@code {}} se nenhum mudou)
+     */
+    public static Diferenca diferenca(SnapshotColaborador antes, SnapshotColaborador depois) {
+        ObjectNode camposAntes = MAPPER.valueToTree(antes);
+        ObjectNode camposDepois = MAPPER.valueToTree(depois);
+
+        ObjectNode anteriores = MAPPER.createObjectNode();
+        ObjectNode novos = MAPPER.createObjectNode();
+        for (Iterator<Map.Entry<String, JsonNode>> campos = camposDepois.fields(); campos.hasNext(); ) {
+            Map.Entry<String, JsonNode> campo = campos.next();
+            JsonNode anterior = camposAntes.get(campo.getKey());
+            if (!Objects.equals(anterior, campo.getValue())) {
+                anteriores.set(campo.getKey(), anterior);
+                novos.set(campo.getKey(), campo.getValue());
+            }
+        }
+
+        try {
+            return new Diferenca(NODE_WRITER.writeValueAsString(anteriores), NODE_WRITER.writeValueAsString(novos));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Erro ao converter diferença de auditoria para JSON", e);
+        }
+    }
+}
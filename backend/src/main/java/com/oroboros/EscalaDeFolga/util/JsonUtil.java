@@ -1,19 +0,0 @@
-package com.oroboros.EscalaDeFolga.util;
-
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
-
-public class JsonUtil {
-
-    private static final ObjectMapper mapper = new ObjectMapper();
-
-    // Método genérico
-    public static String toJson(Object obj) {
-        if (obj == null) return null;
-        try {
-            return mapper.writeValueAsString(obj);
-        } catch (JsonProcessingException e) {
-            throw new RuntimeException("Erro ao converter objeto para JSON", e);
-        }
-    }
-}
@@ -0,0 +1,121 @@
+-- V1__schema_inicial.sql (MySQL 8)
+-- Esquema inicial: as tabelas que o ddl-auto=update gerava antes do Flyway.
+-- Bancos já existentes entram com baseline nesta versão (spring.flyway.baseline-version=1),
+-- então tudo o que veio depois fica nas migrações seguintes.
+
+-- =====================================
+-- Tabela Setor
+-- =====================================
+CREATE TABLE setor (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    nome VARCHAR(255),
+    nome_normalizado VARCHAR(255) NOT NULL,
+    ativo BIT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_setor_nome_normalizado UNIQUE (nome_normalizado)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela Colaborador
+-- =====================================
+CREATE TABLE colaborador (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    nome VARCHAR(255),
+    nome_normalizado VARCHAR(255) NOT NULL,
+    cargo ENUM('ENFERMEIRO','TECNICO'),
+    turno ENUM('MANHA','NOITE','TARDE'),
+    ativo BIT NOT NULL,
+    ultima_folga DATE,
+    setor_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_colaborador_setor FOREIGN KEY (setor_id) REFERENCES setor (id)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela Escala
+-- =====================================
+CREATE TABLE escala (
+    id BIGINT NOT NULL,
+    mes INTEGER NOT NULL,
+    ano INTEGER NOT NULL,
+    turno TINYINT,
+    status ENUM('FECHADA','NOVA','PARCIAL','PUBLICADA'),
+    folgas_permitidas INTEGER NOT NULL,
+    setor_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_escala_setor FOREIGN KEY (setor_id) REFERENCES setor (id)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela EscalaColaborador
+-- =====================================
+CREATE TABLE escala_colaborador (
+    id BIGINT NOT NULL,
+    escala_id BIGINT,
+    colaborador_id BIGINT,
+    dia_da_escala DATE,
+    turno ENUM('MANHA','NOITE','TARDE'),
+    criado_em DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_escala_colaborador_escala FOREIGN KEY (escala_id) REFERENCES escala (id),
+    CONSTRAINT fk_escala_colaborador_colaborador FOREIGN KEY (colaborador_id) REFERENCES colaborador (id)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela Folga
+-- =====================================
+CREATE TABLE folga (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    colaborador_id BIGINT,
+    escala_id BIGINT,
+    data_solicitada DATE,
+    justificativa VARCHAR(255),
+    status ENUM('APROVADA','NEGADA','PENDENTE'),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_folga_colaborador FOREIGN KEY (colaborador_id) REFERENCES colaborador (id),
+    CONSTRAINT fk_folga_escala FOREIGN KEY (escala_id) REFERENCES escala (id)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela Alertas
+-- =====================================
+CREATE TABLE alertas (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    escala_id BIGINT NOT NULL,
+    colaborador_id BIGINT NOT NULL,
+    folga_id BIGINT,
+    tipo ENUM('AVISO_CONCENTRACAO_FOLGAS','AVISO_DESEQUILIBRIO_TURNO','AVISO_DOMINGO_FALTANDO','AVISO_INTERVALO_MINIMO_CURTO','AVISO_RISCO_INSUFICIENCIA','INFO_DISTRIBUICAO_ADEQUADA','INFO_PROXIMAS_DATAS_SUGERIDAS','INFO_RESUMO_FOLGAS') NOT NULL,
+    severidade ENUM('ALTA','BAIXA','CRITICA','INFO','MEDIA') NOT NULL,
+    mensagem TEXT NOT NULL,
+    recomendacao TEXT,
+    dados_adicionais TEXT,
+    data_criacao DATETIME(6) NOT NULL,
+    lido BIT NOT NULL,
+    resolvido BIT NOT NULL,
+    data_resolucao DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_escala_colaborador (escala_id, colaborador_id),
+    INDEX idx_severidade (severidade),
+    INDEX idx_data_criacao (data_criacao),
+    INDEX idx_resolvido (resolvido),
+    CONSTRAINT fk_alertas_escala FOREIGN KEY (escala_id) REFERENCES escala (id),
+    CONSTRAINT fk_alertas_colaborador FOREIGN KEY (colaborador_id) REFERENCES colaborador (id),
+    CONSTRAINT fk_alertas_folga FOREIGN KEY (folga_id) REFERENCES folga (id)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela AuditoriaColaborador
+-- =====================================
+CREATE TABLE auditoria_colaborador (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    colaborador_id BIGINT NOT NULL,
+    acao ENUM('ATUALIZACAO','CRIACAO','INATIVACAO','REATIVACAO') NOT NULL,
+    usuario_id BIGINT NOT NULL,
+    usuario_nome VARCHAR(150) NOT NULL,
+    data_hora DATETIME(6) NOT NULL,
+    dados_anteriores TEXT,
+    dados_novos TEXT,
+    ip_origem VARCHAR(50),
+    user_agent VARCHAR(500),
+    PRIMARY KEY (id)
+) ENGINE=InnoDB;
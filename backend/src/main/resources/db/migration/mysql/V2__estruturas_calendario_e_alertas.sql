@@ -0,0 +1,74 @@
+-- V2__estruturas_calendario_e_alertas.sql (MySQL 8)
+-- Tabelas e colunas criadas depois do esquema inicial: roda também nos bancos
+-- que entraram no Flyway com baseline na versão 1.
+
+-- =====================================
+-- Sequências emuladas em tabela de Escala e EscalaColaborador (@GeneratedValue padrão).
+-- Bancos gerados pelo ddl-auto=update já as têm.
+-- =====================================
+CREATE TABLE IF NOT EXISTS escala_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO escala_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM escala_seq);
+
+CREATE TABLE IF NOT EXISTS escala_colaborador_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO escala_colaborador_seq SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM escala_colaborador_seq);
+
+-- =====================================
+-- Colunas novas
+-- =====================================
+-- Dia da semana da folga, ISO-8601 (1 = segunda ... 7 = domingo), como Folga.diaSemanaDe.
+-- As folgas antigas são preenchidas aqui, antes de a aplicação aceitar requisições;
+-- DAYOFWEEK começa no domingo (1 = domingo ... 7 = sábado).
+ALTER TABLE folga ADD COLUMN dia_semana INTEGER;
+
+UPDATE folga SET dia_semana = MOD(DAYOFWEEK(data_solicitada) + 5, 7) + 1
+WHERE data_solicitada IS NOT NULL;
+
+-- Versão do calendário da escala (ETag e delta)
+ALTER TABLE escala ADD COLUMN versao_calendario BIGINT DEFAULT 0 NOT NULL;
+
+-- =====================================
+-- Tabela AlertasOutbox
+-- =====================================
+CREATE TABLE alertas_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    folga_id BIGINT NOT NULL,
+    status ENUM('CONCLUIDO','FALHA','PENDENTE','PROCESSANDO') NOT NULL,
+    tentativas INTEGER NOT NULL,
+    ultimo_erro VARCHAR(500),
+    data_criacao DATETIME(6) NOT NULL,
+    data_processamento DATETIME(6),
+    PRIMARY KEY (id),
+    INDEX idx_outbox_status (status, id)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela AlteracaoCalendario
+-- =====================================
+CREATE TABLE alteracao_calendario (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    escala_id BIGINT NOT NULL,
+    versao BIGINT NOT NULL,
+    completa BIT NOT NULL,
+    data DATE,
+    colaborador_id BIGINT,
+    PRIMARY KEY (id),
+    INDEX idx_alteracao_calendario_escala_versao (escala_id, versao)
+) ENGINE=InnoDB;
+
+-- =====================================
+-- Tabela OcupacaoDia (contadores criados sob demanda e pela reconciliação)
+-- =====================================
+CREATE TABLE ocupacao_dia (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    escala_id BIGINT NOT NULL,
+    data DATE NOT NULL,
+    total_folgas INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ocupacao_escala_data UNIQUE (escala_id, data)
+) ENGINE=InnoDB;
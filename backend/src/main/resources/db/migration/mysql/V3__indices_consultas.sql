@@ -0,0 +1,60 @@
+-- V3__indices_consultas.sql (MySQL 8)
+-- Índices compostos dos caminhos de acesso dos repositórios.
+-- Com eles o InnoDB reaproveita o prefixo para as chaves estrangeiras.
+
+-- =====================================
+-- Folga
+-- =====================================
+-- Calendário, ocupação do dia e geração: escala + data (+ status)
+CREATE INDEX idx_folga_escala_data_status ON folga (escala_id, data_solicitada, status);
+
+-- Totais do colaborador na escala (limite de folgas, alertas)
+CREATE INDEX idx_folga_colaborador_escala_status ON folga (colaborador_id, escala_id, status);
+
+-- Duplicidade, domingo no mês e última folga antes de uma data.
+-- Um colaborador tem no máximo uma folga por data (ValidaDuplicidadeDeFolga).
+-- Bancos antigos podem ter duplicatas gravadas antes da validação: fica uma folga
+-- por colaborador e data (APROVADA, depois PENDENTE, depois a de menor id) e as
+-- demais são removidas junto com os seus alertas.
+DELETE FROM alertas WHERE folga_id IN (
+    SELECT id FROM (
+        SELECT id, ROW_NUMBER() OVER (
+            PARTITION BY colaborador_id, data_solicitada
+            ORDER BY CASE status WHEN 'APROVADA' THEN 0 WHEN 'PENDENTE' THEN 1 ELSE 2 END, id
+        ) AS ordem
+        FROM folga
+        WHERE colaborador_id IS NOT NULL AND data_solicitada IS NOT NULL
+    ) duplicadas
+    WHERE ordem > 1
+);
+
+DELETE FROM folga WHERE id IN (
+    SELECT id FROM (
+        SELECT id, ROW_NUMBER() OVER (
+            PARTITION BY colaborador_id, data_solicitada
+            ORDER BY CASE status WHEN 'APROVADA' THEN 0 WHEN 'PENDENTE' THEN 1 ELSE 2 END, id
+        ) AS ordem
+        FROM folga
+        WHERE colaborador_id IS NOT NULL AND data_solicitada IS NOT NULL
+    ) duplicadas
+    WHERE ordem > 1
+);
+
+ALTER TABLE folga ADD CONSTRAINT uk_folga_colaborador_data UNIQUE (colaborador_id, data_solicitada);
+
+-- =====================================
+-- Colaborador
+-- =====================================
+-- Colaboradores do setor/turno e duplicidade por nome normalizado
+CREATE INDEX idx_colaborador_setor_turno_nome ON colaborador (setor_id, turno, nome_normalizado);
+
+-- =====================================
+-- Escala
+-- =====================================
+-- Escala duplicada, escala anterior e escalas do setor por turno
+CREATE INDEX idx_escala_setor_turno_periodo ON escala (setor_id, turno, ano, mes);
+
+-- =====================================
+-- Auditoria (alertas.folga_id já é indexado pela chave estrangeira)
+-- =====================================
+CREATE INDEX idx_auditoria_colaborador_data ON auditoria_colaborador (colaborador_id, data_hora);
@@ -0,0 +1,36 @@
+-- V4__sequencias_ids.sql (MySQL)
+-- IDs por sequência com otimizador pooled (allocationSize = 50). O MySQL não tem
+-- sequências: o Hibernate usa uma tabela de uma linha por sequência (next_val),
+-- como em escala_seq. O valor inicial é o fim do primeiro bloco livre (MAX(id) + 50).
+-- As colunas mantêm o AUTO_INCREMENT (não pode ser removido de colunas referenciadas
+-- por chaves estrangeiras), mas a aplicação passa a informar sempre o ID.
+
+CREATE TABLE folga_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO folga_seq SELECT COALESCE(MAX(id), 0) + 50 FROM folga;
+
+CREATE TABLE alertas_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO alertas_seq SELECT COALESCE(MAX(id), 0) + 50 FROM alertas;
+
+CREATE TABLE auditoria_colaborador_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO auditoria_colaborador_seq SELECT COALESCE(MAX(id), 0) + 50 FROM auditoria_colaborador;
+
+CREATE TABLE colaborador_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO colaborador_seq SELECT COALESCE(MAX(id), 0) + 50 FROM colaborador;
+
+CREATE TABLE setor_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO setor_seq SELECT COALESCE(MAX(id), 0) + 50 FROM setor;
@@ -0,0 +1,7 @@
+-- V5__indice_historico_auditoria.sql (MySQL 8)
+-- Histórico de auditoria paginado por chave (data_hora, id) do colaborador.
+-- O InnoDB já guarda a chave primária no índice secundário; o id fica explícito
+-- para o índice ser o mesmo nos dois bancos.
+
+DROP INDEX idx_auditoria_colaborador_data ON auditoria_colaborador;
+CREATE INDEX idx_auditoria_colaborador_data_id ON auditoria_colaborador (colaborador_id, data_hora, id);
@@ -0,0 +1,17 @@
+-- V7__idempotencia_requisicao.sql (MySQL 8)
+-- Respostas dos POSTs por chave de idempotência (escala.idempotencia.armazem=banco).
+-- status nulo: execução em andamento; a chave primária impede duas execuções
+-- simultâneas da mesma chave entre instâncias. Expiradas são removidas pelo índice.
+
+CREATE TABLE idempotencia_requisicao (
+    chave VARCHAR(255) NOT NULL,
+    impressao VARCHAR(64) NOT NULL,
+    status INT,
+    content_type VARCHAR(255),
+    corpo MEDIUMTEXT,
+    criada_em DATETIME(6) NOT NULL,
+    expira_em DATETIME(6) NOT NULL,
+    PRIMARY KEY (chave)
+) ENGINE=InnoDB;
+
+CREATE INDEX idx_idempotencia_expira_em ON idempotencia_requisicao (expira_em);
@@ -0,0 +1,10 @@
+-- V8__sequencia_alteracao_calendario.sql (MySQL)
+-- Histórico do calendário com ID por sequência (pooled, allocationSize = 50), como
+-- em V4: as linhas de uma versão (dias e colaboradores) são gravadas em batch JDBC.
+-- A coluna mantém o AUTO_INCREMENT, mas a aplicação passa a informar sempre o ID.
+
+CREATE TABLE alteracao_calendario_seq (
+    next_val BIGINT
+) ENGINE=InnoDB;
+
+INSERT INTO alteracao_calendario_seq SELECT COALESCE(MAX(id), 0) + 50 FROM alteracao_calendario;
@@ -0,0 +1,122 @@
+-- V1__schema_inicial.sql (PostgreSQL)
+-- Esquema inicial: as tabelas que o ddl-auto=update gerava antes do Flyway.
+-- Bancos já existentes entram com baseline nesta versão (spring.flyway.baseline-version=1),
+-- então tudo o que veio depois fica nas migrações seguintes.
+
+-- =====================================
+-- Tabela Setor
+-- =====================================
+CREATE TABLE setor (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome VARCHAR(255),
+    nome_normalizado VARCHAR(255) NOT NULL,
+    ativo BOOLEAN NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_setor_nome_normalizado UNIQUE (nome_normalizado)
+);
+
+-- =====================================
+-- Tabela Colaborador
+-- =====================================
+CREATE TABLE colaborador (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    nome VARCHAR(255),
+    nome_normalizado VARCHAR(255) NOT NULL,
+    cargo VARCHAR(255) CHECK (cargo IN ('ENFERMEIRO','TECNICO')),
+    turno VARCHAR(255) CHECK (turno IN ('MANHA','TARDE','NOITE')),
+    ativo BOOLEAN NOT NULL,
+    ultima_folga DATE,
+    setor_id BIGINT,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_colaborador_setor FOREIGN KEY (setor_id) REFERENCES setor (id)
+);
+
+-- =====================================
+-- Tabela Escala
+-- =====================================
+CREATE TABLE escala (
+    id BIGINT NOT NULL,
+    mes INTEGER NOT NULL,
+    ano INTEGER NOT NULL,
+    turno SMALLINT CHECK (turno BETWEEN 0 AND 2),
+    status VARCHAR(255) CHECK (status IN ('NOVA','PARCIAL','PUBLICADA','FECHADA')),
+    folgas_permitidas INTEGER NOT NULL,
+    setor_id BIGINT NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_escala_setor FOREIGN KEY (setor_id) REFERENCES setor (id)
+);
+
+-- =====================================
+-- Tabela EscalaColaborador
+-- =====================================
+CREATE TABLE escala_colaborador (
+    id BIGINT NOT NULL,
+    escala_id BIGINT,
+    colaborador_id BIGINT,
+    dia_da_escala DATE,
+    turno VARCHAR(255) CHECK (turno IN ('MANHA','TARDE','NOITE')),
+    criado_em DATE,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_escala_colaborador_escala FOREIGN KEY (escala_id) REFERENCES escala (id),
+    CONSTRAINT fk_escala_colaborador_colaborador FOREIGN KEY (colaborador_id) REFERENCES colaborador (id)
+);
+
+-- =====================================
+-- Tabela Folga
+-- =====================================
+CREATE TABLE folga (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    colaborador_id BIGINT,
+    escala_id BIGINT,
+    data_solicitada DATE,
+    justificativa VARCHAR(255),
+    status VARCHAR(255) CHECK (status IN ('PENDENTE','APROVADA','NEGADA')),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_folga_colaborador FOREIGN KEY (colaborador_id) REFERENCES colaborador (id),
+    CONSTRAINT fk_folga_escala FOREIGN KEY (escala_id) REFERENCES escala (id)
+);
+
+-- =====================================
+-- Tabela Alertas
+-- =====================================
+CREATE TABLE alertas (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    escala_id BIGINT NOT NULL,
+    colaborador_id BIGINT NOT NULL,
+    folga_id BIGINT,
+    tipo VARCHAR(50) NOT NULL CHECK (tipo IN ('AVISO_DOMINGO_FALTANDO','AVISO_INTERVALO_MINIMO_CURTO','AVISO_DESEQUILIBRIO_TURNO','AVISO_CONCENTRACAO_FOLGAS','AVISO_RISCO_INSUFICIENCIA','INFO_PROXIMAS_DATAS_SUGERIDAS','INFO_DISTRIBUICAO_ADEQUADA','INFO_RESUMO_FOLGAS')),
+    severidade VARCHAR(20) NOT NULL CHECK (severidade IN ('CRITICA','ALTA','MEDIA','BAIXA','INFO')),
+    mensagem TEXT NOT NULL,
+    recomendacao TEXT,
+    dados_adicionais TEXT,
+    data_criacao TIMESTAMP(6) NOT NULL,
+    lido BOOLEAN NOT NULL,
+    resolvido BOOLEAN NOT NULL,
+    data_resolucao TIMESTAMP(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_alertas_escala FOREIGN KEY (escala_id) REFERENCES escala (id),
+    CONSTRAINT fk_alertas_colaborador FOREIGN KEY (colaborador_id) REFERENCES colaborador (id),
+    CONSTRAINT fk_alertas_folga FOREIGN KEY (folga_id) REFERENCES folga (id)
+);
+
+CREATE INDEX idx_escala_colaborador ON alertas (escala_id, colaborador_id);
+CREATE INDEX idx_severidade ON alertas (severidade);
+CREATE INDEX idx_data_criacao ON alertas (data_criacao);
+CREATE INDEX idx_resolvido ON alertas (resolvido);
+
+-- =====================================
+-- Tabela AuditoriaColaborador
+-- =====================================
+CREATE TABLE auditoria_colaborador (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    colaborador_id BIGINT NOT NULL,
+    acao VARCHAR(50) NOT NULL CHECK (acao IN ('CRIACAO','ATUALIZACAO','INATIVACAO','REATIVACAO')),
+    usuario_id BIGINT NOT NULL,
+    usuario_nome VARCHAR(150) NOT NULL,
+    data_hora TIMESTAMP(6) NOT NULL,
+    dados_anteriores TEXT,
+    dados_novos TEXT,
+    ip_origem VARCHAR(50),
+    user_agent VARCHAR(500),
+    PRIMARY KEY (id)
+);
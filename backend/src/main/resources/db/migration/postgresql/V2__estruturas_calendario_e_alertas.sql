@@ -0,0 +1,66 @@
+-- V2__estruturas_calendario_e_alertas.sql (PostgreSQL)
+-- Tabelas e colunas criadas depois do esquema inicial: roda também nos bancos
+-- que entraram no Flyway com baseline na versão 1.
+
+-- =====================================
+-- Sequências de Escala e EscalaColaborador (@GeneratedValue padrão).
+-- Bancos gerados pelo ddl-auto=update já as têm.
+-- =====================================
+CREATE SEQUENCE IF NOT EXISTS escala_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS escala_colaborador_seq START WITH 1 INCREMENT BY 50;
+
+-- =====================================
+-- Colunas novas
+-- =====================================
+-- Dia da semana da folga, ISO-8601 (1 = segunda ... 7 = domingo), como Folga.diaSemanaDe.
+-- As folgas antigas são preenchidas aqui, antes de a aplicação aceitar requisições.
+ALTER TABLE folga ADD COLUMN dia_semana INTEGER;
+
+UPDATE folga SET dia_semana = CAST(EXTRACT(ISODOW FROM data_solicitada) AS INTEGER)
+WHERE data_solicitada IS NOT NULL;
+
+-- Versão do calendário da escala (ETag e delta)
+ALTER TABLE escala ADD COLUMN versao_calendario BIGINT DEFAULT 0 NOT NULL;
+
+-- =====================================
+-- Tabela AlertasOutbox
+-- =====================================
+CREATE TABLE alertas_outbox (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    folga_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL CHECK (status IN ('PENDENTE','PROCESSANDO','CONCLUIDO','FALHA')),
+    tentativas INTEGER NOT NULL,
+    ultimo_erro VARCHAR(500),
+    data_criacao TIMESTAMP(6) NOT NULL,
+    data_processamento TIMESTAMP(6),
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_outbox_status ON alertas_outbox (status, id);
+
+-- =====================================
+-- Tabela AlteracaoCalendario
+-- =====================================
+CREATE TABLE alteracao_calendario (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    escala_id BIGINT NOT NULL,
+    versao BIGINT NOT NULL,
+    completa BOOLEAN NOT NULL,
+    data DATE,
+    colaborador_id BIGINT,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX idx_alteracao_calendario_escala_versao ON alteracao_calendario (escala_id, versao);
+
+-- =====================================
+-- Tabela OcupacaoDia (contadores criados sob demanda e pela reconciliação)
+-- =====================================
+CREATE TABLE ocupacao_dia (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY,
+    escala_id BIGINT NOT NULL,
+    data DATE NOT NULL,
+    total_folgas INTEGER NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ocupacao_escala_data UNIQUE (escala_id, data)
+);
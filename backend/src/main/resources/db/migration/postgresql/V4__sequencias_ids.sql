@@ -0,0 +1,23 @@
+-- V4__sequencias_ids.sql (PostgreSQL)
+-- IDs por sequência com otimizador pooled (allocationSize = 50): o Hibernate
+-- reserva um bloco de IDs por chamada e consegue enviar os inserts em batch JDBC.
+-- O próximo valor de cada sequência é o fim do primeiro bloco livre (MAX(id) + 50).
+
+CREATE SEQUENCE folga_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE alertas_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE auditoria_colaborador_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE colaborador_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE setor_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('folga_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM folga), false);
+SELECT setval('alertas_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM alertas), false);
+SELECT setval('auditoria_colaborador_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM auditoria_colaborador), false);
+SELECT setval('colaborador_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM colaborador), false);
+SELECT setval('setor_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM setor), false);
+
+-- Os IDs passam a vir sempre da aplicação
+ALTER TABLE folga ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE alertas ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE auditoria_colaborador ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE colaborador ALTER COLUMN id DROP IDENTITY;
+ALTER TABLE setor ALTER COLUMN id DROP IDENTITY;
@@ -0,0 +1,6 @@
+-- V5__indice_historico_auditoria.sql (PostgreSQL)
+-- Histórico de auditoria paginado por chave (data_hora, id) do colaborador:
+-- o índice cobre o filtro, a ordenação e o desempate pelo id, sem ordenar em memória.
+
+DROP INDEX idx_auditoria_colaborador_data;
+CREATE INDEX idx_auditoria_colaborador_data_id ON auditoria_colaborador (colaborador_id, data_hora, id);
@@ -0,0 +1,7 @@
+-- V6__versao_otimista.sql (PostgreSQL)
+-- Controle otimista das edições de folga, escala e colaborador: o Hibernate
+-- inclui a versão no WHERE do UPDATE e a incrementa a cada alteração.
+
+ALTER TABLE folga ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE escala ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE colaborador ADD COLUMN versao BIGINT NOT NULL DEFAULT 0;
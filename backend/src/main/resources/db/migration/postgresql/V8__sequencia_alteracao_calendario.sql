@@ -0,0 +1,9 @@
+-- V8__sequencia_alteracao_calendario.sql (PostgreSQL)
+-- Histórico do calendário com ID por sequência (pooled, allocationSize = 50), como
+-- em V4: as linhas de uma versão (dias e colaboradores) são gravadas em batch JDBC.
+
+CREATE SEQUENCE alteracao_calendario_seq START WITH 1 INCREMENT BY 50;
+
+SELECT setval('alteracao_calendario_seq', (SELECT COALESCE(MAX(id), 0) + 50 FROM alteracao_calendario), false);
+
+ALTER TABLE alteracao_calendario ALTER COLUMN id DROP IDENTITY;
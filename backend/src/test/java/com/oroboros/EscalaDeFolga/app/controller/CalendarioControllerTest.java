@@ -0,0 +1,202 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.service.CalendarioService;
+import com.oroboros.EscalaDeFolga.domain.service.FolgaService;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import com.jayway.jsonpath.JsonPath;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * ETag do calendário e dos alertas pela versão da escala e calendário em delta
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class CalendarioControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private FolgaService folgaService;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @MockitoSpyBean
+    private CalendarioService calendarioService;
+
+    private Escala escala;
+    private Colaborador colaborador;
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setNome("UTI ETag");
+        setor = setorRepository.save(setor);
+
+        colaborador = new Colaborador();
+        colaborador.setNome("COLABORADOR ETAG");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador.setSetor(setor);
+        colaborador = colaboradorRepository.save(colaborador);
+
+        escala = new Escala();
+        escala.setMes(7);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+    }
+
+    @Test
+    void deveResponder304SemMontarCalendarioQuandoNadaMudou() throws Exception {
+        String etag = mockMvc.perform(get("/api/escala/{id}/calendario", escala.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        clearInvocations(calendarioService);
+
+        mockMvc.perform(get("/api/escala/{id}/calendario", escala.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        verify(calendarioService, never()).gerarCalendario(anyLong());
+    }
+
+    @Test
+    void alteracaoDeFolgaDeveMudarOEtag() throws Exception {
+        String etagCalendario = mockMvc.perform(get("/api/escala/{id}/calendario", escala.getId()))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        String etagAlertas = mockMvc.perform(get("/api/escala/{id}/alertas", escala.getId()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(LocalDate.of(2030, 7, 7));
+        folgaService.criarFolga(folga);
+
+        String novoEtag = mockMvc.perform(get("/api/escala/{id}/calendario", escala.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etagCalendario))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resumo.totalFolgasAlocadas").value(1))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertNotEquals(etagCalendario, novoEtag);
+
+        mockMvc.perform(get("/api/escala/{id}/alertas", escala.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, etagAlertas))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deltaDeveTrazerApenasODiaEOColaboradorAlterados() throws Exception {
+        Colaborador outro = new Colaborador();
+        outro.setNome("COLABORADOR DELTA");
+        outro.setCargo(CargoEnum.TECNICO);
+        outro.setTurno(TurnoEnum.MANHA);
+        outro.setSetor(escala.getSetor());
+        outro = colaboradorRepository.save(outro);
+
+        criarFolga(colaborador, LocalDate.of(2030, 7, 7));
+
+        String base = mockMvc.perform(get("/api/escala/{id}/calendario/delta", escala.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completo").value(true))
+                .andExpect(jsonPath("$.dias.length()").value(31))
+                .andReturn().getResponse().getContentAsString();
+        long versao = JsonPath.parse(base).read("$.versao", Long.class);
+
+        criarFolga(outro, LocalDate.of(2030, 7, 14));
+
+        mockMvc.perform(get("/api/escala/{id}/calendario/delta", escala.getId()).param("desde", String.valueOf(versao)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.completo").value(false))
+                .andExpect(jsonPath("$.desde").value(versao))
+                .andExpect(jsonPath("$.dias.length()").value(1))
+                .andExpect(jsonPath("$.dias[0].data").value("2030-07-14"))
+                .andExpect(jsonPath("$.dias[0].totalFolgasNoDia").value(1))
+                .andExpect(jsonPath("$.colaboradores.length()").value(1))
+                .andExpect(jsonPath("$.colaboradores[0].id").value(outro.getId()))
+                .andExpect(jsonPath("$.resumo.totalFolgasAlocadas").value(2));
+    }
+
+    @Test
+    void deltaDeVersaoAtualDeveVirVazioEAlteracaoDaEscalaDeveTrazerTudo() throws Exception {
+        criarFolga(colaborador, LocalDate.of(2030, 7, 7));
+
+        String base = mockMvc.perform(get("/api/escala/{id}/calendario/delta", escala.getId()))
+                .andReturn().getResponse().getContentAsString();
+        long versao = JsonPath.parse(base).read("$.versao", Long.class);
+
+        mockMvc.perform(get("/api/escala/{id}/calendario/delta", escala.getId()).param("desde", String.valueOf(versao)))
+                .andExpect(jsonPath("$.completo").value(false))
+                .andExpect(jsonPath("$.dias.length()").value(0))
+                .andExpect(jsonPath("$.colaboradores.length()").value(0))
+                .andExpect(jsonPath("$.resumo.totalFolgasAlocadas").value(1));
+
+        eventPublisher.publishEvent(new EscalaAlteradaEvento(escala.getId(), EscalaAlteradaEvento.Origem.ESCALA));
+
+        mockMvc.perform(get("/api/escala/{id}/calendario/delta", escala.getId()).param("desde", String.valueOf(versao)))
+                .andExpect(jsonPath("$.completo").value(true))
+                .andExpect(jsonPath("$.versao").value(versao + 1))
+                .andExpect(jsonPath("$.dias.length()").value(31));
+    }
+
+    @Test
+    void escalaInexistenteDeveRetornarErroSemEtag() throws Exception {
+        mockMvc.perform(get("/api/escala/{id}/calendario", 999_999L))
+                .andExpect(status().is4xxClientError())
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG));
+    }
+
+    private void criarFolga(Colaborador colaborador, LocalDate data) {
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(data);
+        folgaService.criarFolga(folga);
+    }
+}
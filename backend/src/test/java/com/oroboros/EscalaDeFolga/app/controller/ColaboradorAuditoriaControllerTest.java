@@ -0,0 +1,179 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.jayway.jsonpath.JsonPath;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AuditoriaColaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AuditoriaColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Histórico de auditoria do colaborador paginado por cursor e exportação em NDJSON.
+ *
+ * <p>Sem {@code @Transactional}: a exportação é escrita em outra thread e precisa
+ * ver os registros gravados.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ColaboradorAuditoriaControllerTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 3, 10, 8, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private AuditoriaColaboradorRepository auditoriaRepository;
+
+    private Colaborador colaborador;
+
+    @BeforeEach
+    void setUp() {
+        colaborador = new Colaborador();
+        colaborador.setNome("COLABORADOR HISTORICO");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador = colaboradorRepository.save(colaborador);
+    }
+
+    @AfterEach
+    void tearDown() {
+        auditoriaRepository.deleteAll(auditoriaRepository.findAll().stream()
+                .filter(a -> a.getColaboradorId().equals(colaborador.getId()))
+                .toList());
+        colaboradorRepository.delete(colaborador);
+    }
+
+    @Test
+    void devePercorrerOHistoricoPorCursorSemRepetirRegistros() throws Exception {
+        // Dois registros por instante, para exercitar o desempate pelo id
+        List<AuditoriaColaborador> gravadas = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            gravadas.add(auditoria(AcaoAuditoriaEnum.ATUALIZACAO, BASE.plusMinutes(i / 2)));
+        }
+        auditoriaRepository.saveAll(gravadas);
+
+        List<Long> esperados = gravadas.stream()
+                .sorted((a, b) -> a.getDataHora().equals(b.getDataHora())
+                        ? b.getId().compareTo(a.getId())
+                        : b.getDataHora().compareTo(a.getDataHora()))
+                .map(AuditoriaColaborador::getId)
+                .toList();
+
+        List<Long> lidos = new ArrayList<>();
+        String cursor = null;
+        int paginas = 0;
+        do {
+            var requisicao = get("/api/colaborador/{id}/auditoria", colaborador.getId()).param("tamanho", "3");
+            if (cursor != null) {
+                requisicao.param("cursor", cursor);
+            }
+            String corpo = mockMvc.perform(requisicao)
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString();
+
+            List<Number> ids = JsonPath.read(corpo, "$.itens[*].id");
+            ids.forEach(id -> lidos.add(id.longValue()));
+            cursor = JsonPath.read(corpo, "$.proximoCursor");
+            paginas++;
+        } while (cursor != null);
+
+        assertEquals(3, paginas);
+        assertEquals(esperados, lidos);
+    }
+
+    @Test
+    void deveFiltrarPorAcaoEPeriodo() throws Exception {
+        auditoriaRepository.saveAll(List.of(
+                auditoria(AcaoAuditoriaEnum.CRIACAO, BASE),
+                auditoria(AcaoAuditoriaEnum.ATUALIZACAO, BASE.plusDays(1)),
+                auditoria(AcaoAuditoriaEnum.ATUALIZACAO, BASE.plusDays(2)),
+                auditoria(AcaoAuditoriaEnum.ATUALIZACAO, BASE.plusDays(3)),
+                auditoria(AcaoAuditoriaEnum.INATIVACAO, BASE.plusDays(3).plusHours(1))
+        ));
+
+        mockMvc.perform(get("/api/colaborador/{id}/auditoria", colaborador.getId())
+                        .param("acao", "ATUALIZACAO")
+                        .param("inicio", iso(BASE.plusDays(1)))
+                        .param("fim", iso(BASE.plusDays(3))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.itens.length()").value(2))
+                .andExpect(jsonPath("$.itens[0].dataHora").value(iso(BASE.plusDays(2))))
+                .andExpect(jsonPath("$.itens[1].dataHora").value(iso(BASE.plusDays(1))))
+                .andExpect(jsonPath("$.proximoCursor").doesNotExist());
+    }
+
+    @Test
+    void deveRejeitarCursorTamanhoOuColaboradorInvalidos() throws Exception {
+        mockMvc.perform(get("/api/colaborador/{id}/auditoria", colaborador.getId()).param("cursor", "invalido"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/colaborador/{id}/auditoria", colaborador.getId()).param("tamanho", "201"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/colaborador/{id}/auditoria", 999_999L))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/colaborador/{id}/auditoria/exportar", 999_999L))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void deveExportarOHistoricoEmNdjsonPaginaAPagina() throws Exception {
+        // Mais que uma página da exportação (500)
+        List<AuditoriaColaborador> gravadas = new ArrayList<>();
+        for (int i = 0; i < 520; i++) {
+            gravadas.add(auditoria(AcaoAuditoriaEnum.ATUALIZACAO, BASE.plusSeconds(i)));
+        }
+        auditoriaRepository.saveAll(gravadas);
+
+        MvcResult resultado = mockMvc.perform(get("/api/colaborador/{id}/auditoria/exportar", colaborador.getId()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(resultado))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"));
+
+        String[] linhas = resultado.getResponse().getContentAsString().split("\n");
+        assertEquals(520, linhas.length);
+        assertEquals(iso(BASE.plusSeconds(519)), JsonPath.read(linhas[0], "$.dataHora"));
+        assertEquals(iso(BASE), JsonPath.read(linhas[519], "$.dataHora"));
+    }
+
+    private static String iso(LocalDateTime dataHora) {
+        return dataHora.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+    }
+
+    private AuditoriaColaborador auditoria(AcaoAuditoriaEnum acao, LocalDateTime dataHora) {
+        return AuditoriaColaborador.builder()
+                .colaboradorId(colaborador.getId())
+                .acao(acao)
+                .usuarioId(1L)
+                .usuarioNome("Admin")
+                .dataHora(dataHora)
+                .dadosNovos("{}")
+                .build();
+    }
+}
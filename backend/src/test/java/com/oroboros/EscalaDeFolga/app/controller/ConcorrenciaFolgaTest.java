@@ -0,0 +1,168 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Pedidos simultâneos de folga para o mesmo dia: o limite de vagas e a duplicidade
+ * valem mesmo quando todos chegam ao mesmo tempo.
+ *
+ * <p>Sem {@code @Transactional}: cada requisição precisa da própria transação.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        // Milhares de requisições: sem o SQL no log
+        "spring.jpa.show-sql=false",
+        "logging.level.org.hibernate.SQL=INFO"
+})
+class ConcorrenciaFolgaTest {
+
+    private static final int COLABORADORES = 100;
+    private static final int PEDIDOS_POR_COLABORADOR = 20;
+    private static final int THREADS = 32;
+    private static final int LIMITE = COLABORADORES / 2;
+    private static final LocalDate DOMINGO = LocalDate.of(2030, 11, 3);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Setor setor;
+    private Escala escala;
+    private final List<Colaborador> colaboradores = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        setor = new Setor();
+        setor.setNome("UTI Concorrencia");
+        setor = setorRepository.save(setor);
+
+        escala = new Escala();
+        escala.setMes(11);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+
+        for (int i = 0; i < COLABORADORES; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome("COLABORADOR CONCORRENCIA " + i);
+            colaborador.setCargo(CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            colaboradores.add(colaboradorRepository.save(colaborador));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long escalaId = escala.getId();
+        jdbcTemplate.update("DELETE FROM alertas WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM alteracao_calendario WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM ocupacao_dia WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM folga WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM escala WHERE id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM colaborador WHERE setor_id = ?", setor.getId());
+        jdbcTemplate.update("DELETE FROM setor WHERE id = ?", setor.getId());
+    }
+
+    @Test
+    void pedidosSimultaneosNaoDevemPassarDoLimiteNemDuplicarFolga() throws Exception {
+        List<Colaborador> pedidos = new ArrayList<>();
+        for (int repeticao = 0; repeticao < PEDIDOS_POR_COLABORADOR; repeticao++) {
+            pedidos.addAll(colaboradores);
+        }
+        Collections.shuffle(pedidos);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<Integer>> respostas = new ArrayList<>(pedidos.size());
+        try {
+            for (Colaborador colaborador : pedidos) {
+                respostas.add(executor.submit(() -> {
+                    largada.await();
+                    return mockMvc.perform(post("/api/folga")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content("""
+                                            {"colaboradorId": %d, "escalaId": %d, "dataSolicitada": "%s"}
+                                            """.formatted(colaborador.getId(), escala.getId(), DOMINGO)))
+                            .andReturn().getResponse().getStatus();
+                }));
+            }
+            largada.countDown();
+
+            List<Integer> status = new ArrayList<>(respostas.size());
+            for (Future<Integer> resposta : respostas) {
+                status.add(resposta.get());
+            }
+
+            Map<Integer, Long> porStatus = status.stream()
+                    .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+            assertEquals(Set.of(201, 400), porStatus.keySet(), porStatus.toString());
+            assertEquals(LIMITE, porStatus.get(201));
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Integer folgas = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM folga WHERE escala_id = ? AND data_solicitada = ?",
+                Integer.class, escala.getId(), DOMINGO);
+        Integer colaboradoresComFolga = jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT colaborador_id) FROM folga WHERE escala_id = ? AND data_solicitada = ?",
+                Integer.class, escala.getId(), DOMINGO);
+        Integer ocupacao = jdbcTemplate.queryForObject(
+                "SELECT total_folgas FROM ocupacao_dia WHERE escala_id = ? AND data = ?",
+                Integer.class, escala.getId(), DOMINGO);
+
+        assertEquals(LIMITE, folgas);
+        assertEquals(LIMITE, colaboradoresComFolga);
+        assertEquals(LIMITE, ocupacao);
+    }
+}
@@ -0,0 +1,199 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.TipoAlertaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import jakarta.persistence.EntityManager;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Plano de busca por endpoint: cada resposta carrega só as associações que mostra
+ * e o número de SELECTs não cresce com a quantidade de colaboradores.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.oroboros.EscalaDeFolga.app.controller.ConsultasPorEndpointTest$ConsultasCapturadas")
+class ConsultasPorEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Escala escalaPequena;
+    private Escala escalaGrande;
+    private Folga folga;
+
+    @BeforeEach
+    void setUp() {
+        escalaPequena = escalaCom("UTI Plano Pequena", 2);
+        escalaGrande = escalaCom("UTI Plano Grande", 8);
+        folga = escalaPequena.getFolgas().get(0);
+
+        entityManager.flush();
+        entityManager.clear();
+        ConsultasCapturadas.limpar();
+    }
+
+    @Test
+    void folgaPorIdDeveJuntarApenasOColaborador() throws Exception {
+        mockMvc.perform(get("/api/folga/{id}", folga.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.colaboradorNome").value("UTI Plano Pequena 0"))
+                .andExpect(jsonPath("$.escalaId").value(escalaPequena.getId()));
+
+        List<String> selects = ConsultasCapturadas.selects();
+        assertEquals(1, selects.size(), () -> "SELECTs: " + selects);
+        assertTrue(juntas(selects.get(0), "colaborador"));
+        assertFalse(juntas(selects.get(0), "setor"));
+        assertFalse(juntas(selects.get(0), "escala"));
+    }
+
+    @Test
+    void escalaPorIdDeveJuntarApenasOSetor() throws Exception {
+        mockMvc.perform(get("/api/escala/{id}", escalaPequena.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.setorNome").value("UTI PLANO PEQUENA"));
+
+        List<String> selects = ConsultasCapturadas.selects();
+        assertEquals(1, selects.size(), () -> "SELECTs: " + selects);
+        assertTrue(juntas(selects.get(0), "setor"));
+    }
+
+    @Test
+    void alertasNaoDevemCarregarAssociacoes() throws Exception {
+        mockMvc.perform(get("/api/escala/{id}/alertas", escalaGrande.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(8));
+
+        List<String> daEscala = ConsultasCapturadas.selects();
+        assertEquals(2, daEscala.size(), () -> "Versão + alertas: " + daEscala);
+        daEscala.forEach(sql -> assertFalse(sql.toLowerCase().contains(" join "), sql));
+
+        ConsultasCapturadas.limpar();
+        mockMvc.perform(get("/api/folga/{id}/alertas", folga.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+
+        List<String> daFolga = ConsultasCapturadas.selects();
+        assertEquals(2, daFolga.size(), () -> "Existência + alertas: " + daFolga);
+        daFolga.forEach(sql -> assertFalse(sql.toLowerCase().contains(" join "), sql));
+    }
+
+    @Test
+    void calendarioNaoDeveCrescerComOsColaboradores() throws Exception {
+        mockMvc.perform(get("/api/escala/{id}/calendario", escalaPequena.getId()))
+                .andExpect(status().isOk());
+        int pequena = ConsultasCapturadas.selects().size();
+
+        entityManager.clear();
+        ConsultasCapturadas.limpar();
+        mockMvc.perform(get("/api/escala/{id}/calendario", escalaGrande.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resumo.totalFolgasAlocadas").value(8));
+        int grande = ConsultasCapturadas.selects().size();
+
+        assertEquals(pequena, grande, () -> "SELECTs: " + ConsultasCapturadas.selects());
+    }
+
+    @Test
+    void listagemDeColaboradoresNaoDeveBuscarOSetor() throws Exception {
+        mockMvc.perform(get("/api/colaborador").param("size", "20"))
+                .andExpect(status().isOk());
+
+        List<String> selects = ConsultasCapturadas.selects();
+        assertFalse(selects.isEmpty());
+        assertTrue(selects.size() <= 2, () -> "Página + contagem: " + selects);
+        selects.forEach(sql -> assertFalse(juntas(sql, "setor"), sql));
+    }
+
+    private Escala escalaCom(String nomeSetor, int colaboradores) {
+        Setor setor = new Setor();
+        setor.setNome(nomeSetor);
+        entityManager.persist(setor);
+
+        Escala escala = new Escala();
+        escala.setMes(8);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala.setFolgas(new ArrayList<>());
+        entityManager.persist(escala);
+
+        for (int i = 0; i < colaboradores; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome(nomeSetor + " " + i);
+            colaborador.setCargo(CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            entityManager.persist(colaborador);
+
+            Folga nova = new Folga();
+            nova.setColaborador(colaborador);
+            nova.setEscala(escala);
+            nova.setDataSolicitada(LocalDate.of(2030, 8, 1 + i));
+            nova.setStatus(StatusFolgaEnum.APROVADA);
+            entityManager.persist(nova);
+            escala.getFolgas().add(nova);
+
+            entityManager.persist(Alerta.criar(escala, colaborador, nova,
+                    TipoAlertaEnum.INFO_RESUMO_FOLGAS, "Resumo " + i, null));
+        }
+        return escala;
+    }
+
+    private static boolean juntas(String sql, String tabela) {
+        return sql.toLowerCase().matches("(?s).*\\bjoin " + tabela + "\\b.*");
+    }
+
+    /**
+     * Guarda o SQL que o Hibernate envia ao banco
+     */
+    public static class ConsultasCapturadas implements StatementInspector {
+
+        private static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+
+        static void limpar() {
+            SQL.clear();
+        }
+
+        static List<String> selects() {
+            return SQL.stream().filter(s -> s.stripLeading().toLowerCase().startsWith("select")).toList();
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.infrastructure.idempotencia.IdempotenciaFilter;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * POST /api/folga com {@code Idempotency-Key}: repetições devolvem a resposta da
+ * primeira execução sem criar nem validar de novo.
+ *
+ * <p>Sem {@code @Transactional}: a repetição precisa ver a folga gravada.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class IdempotenciaControllerTest {
+
+    private static final LocalDate DOMINGO = LocalDate.of(2030, 12, 1);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Setor setor;
+    private Escala escala;
+    private Colaborador colaborador;
+
+    @BeforeEach
+    void setUp() {
+        setor = new Setor();
+        setor.setNome("UTI Idempotencia");
+        setor = setorRepository.save(setor);
+
+        escala = new Escala();
+        escala.setMes(12);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+
+        colaborador = new Colaborador();
+        colaborador.setNome("COLABORADOR IDEMPOTENCIA");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador.setSetor(setor);
+        colaborador = colaboradorRepository.save(colaborador);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long escalaId = escala.getId();
+        jdbcTemplate.update("DELETE FROM alertas WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM alteracao_calendario WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM ocupacao_dia WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM folga WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM escala WHERE id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM colaborador WHERE setor_id = ?", setor.getId());
+        jdbcTemplate.update("DELETE FROM setor WHERE id = ?", setor.getId());
+    }
+
+    @Test
+    void repeticaoDeveDevolverAMesmaRespostaSemCriarOutraFolga() throws Exception {
+        String chave = UUID.randomUUID().toString();
+
+        MockHttpServletResponse primeira = criarFolga(chave, DOMINGO);
+        MockHttpServletResponse repeticao = criarFolga(chave, DOMINGO);
+
+        assertEquals(201, primeira.getStatus());
+        assertNull(primeira.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA));
+        // Sem a chave, a repetição seria recusada como folga duplicada
+        assertEquals(201, repeticao.getStatus());
+        assertEquals("true", repeticao.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA));
+        assertEquals(primeira.getContentAsString(), repeticao.getContentAsString());
+        assertEquals(1, folgasNoDia());
+    }
+
+    @Test
+    void chaveReutilizadaComOutraRequisicaoDeveSerRecusada() throws Exception {
+        String chave = UUID.randomUUID().toString();
+
+        assertEquals(201, criarFolga(chave, DOMINGO).getStatus());
+        assertEquals(422, criarFolga(chave, DOMINGO.plusDays(7)).getStatus());
+        assertEquals(400, mockMvc.perform(post("/api/folga")
+                        .header(IdempotenciaFilter.CABECALHO, "x".repeat(256))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo(DOMINGO)))
+                .andReturn().getResponse().getStatus());
+    }
+
+    @Test
+    void repeticoesSimultaneasDevemEsperarAPrimeiraExecucao() throws Exception {
+        String chave = UUID.randomUUID().toString();
+        int repeticoes = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(repeticoes);
+        CountDownLatch largada = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> respostas = new ArrayList<>();
+        try {
+            for (int i = 0; i < repeticoes; i++) {
+                respostas.add(executor.submit(() -> {
+                    largada.await();
+                    return criarFolga(chave, DOMINGO);
+                }));
+            }
+            largada.countDown();
+
+            String corpoEsperado = null;
+            int repetidas = 0;
+            for (Future<MockHttpServletResponse> resposta : respostas) {
+                MockHttpServletResponse r = resposta.get();
+                assertEquals(201, r.getStatus(), r.getContentAsString());
+                corpoEsperado = corpoEsperado == null ? r.getContentAsString() : corpoEsperado;
+                assertEquals(corpoEsperado, r.getContentAsString());
+                repetidas += r.getHeader(IdempotenciaFilter.CABECALHO_REPETIDA) != null ? 1 : 0;
+            }
+            assertEquals(repeticoes - 1, repetidas);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, folgasNoDia());
+    }
+
+    private MockHttpServletResponse criarFolga(String chave, LocalDate data) throws Exception {
+        return mockMvc.perform(post("/api/folga")
+                        .header(IdempotenciaFilter.CABECALHO, chave)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(corpo(data)))
+                .andReturn().getResponse();
+    }
+
+    private String corpo(LocalDate data) {
+        return """
+                {"colaboradorId": %d, "escalaId": %d, "dataSolicitada": "%s"}
+                """.formatted(colaborador.getId(), escala.getId(), data);
+    }
+
+    private int folgasNoDia() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM folga WHERE escala_id = ? AND data_solicitada = ?",
+                Integer.class, escala.getId(), DOMINGO);
+    }
+}
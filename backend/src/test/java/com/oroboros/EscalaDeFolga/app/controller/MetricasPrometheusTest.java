@@ -0,0 +1,79 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Timers das regras, geradores e fases do calendário no scrape do Prometheus
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+@ActiveProfiles("test")
+@Transactional
+class MetricasPrometheusTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void deveExporTimersPorRegraGeradorEFase() throws Exception {
+        Setor setor = new Setor();
+        setor.setNome("UTI Metricas");
+        entityManager.persist(setor);
+
+        Colaborador colaborador = new Colaborador();
+        colaborador.setNome("COLABORADOR METRICAS");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador.setSetor(setor);
+        entityManager.persist(colaborador);
+
+        Escala escala = new Escala();
+        escala.setMes(10);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        entityManager.persist(escala);
+        entityManager.flush();
+
+        mockMvc.perform(post("/api/folga")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"colaboradorId": %d, "escalaId": %d, "dataSolicitada": "2030-10-06"}
+                                """.formatted(colaborador.getId(), escala.getId())))
+                .andExpect(status().isCreated());
+        mockMvc.perform(get("/api/escala/{id}/calendario", escala.getId()))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString(
+                        "folga_validacao_seconds_count{application=\"EscalaDeFolga\",classe=\"ValidaDuplicidadeDeFolga\",resultado=\"ok\"}")))
+                .andExpect(content().string(containsString("alerta_gerador_seconds_bucket{")))
+                .andExpect(content().string(containsString("calendario_fase_seconds_count{application=\"EscalaDeFolga\",fase=\"mapeamento\"}")))
+                .andExpect(content().string(containsString("http_server_requests_consultas_bucket{")));
+    }
+}
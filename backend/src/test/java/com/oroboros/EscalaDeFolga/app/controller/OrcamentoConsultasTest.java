@@ -0,0 +1,265 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.consultas.ConsultasPorRequisicaoFilter;
+import com.oroboros.EscalaDeFolga.infrastructure.consultas.MaxQueries;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Orçamento de comandos SQL dos endpoints mais usados, com um setor de tamanho real
+ * (20 colaboradores com folgas espalhadas pelo mês)
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Transactional
+class OrcamentoConsultasTest {
+
+    private static final int COLABORADORES = 20;
+    private static final int COLABORADORES_LOTE = 40;
+    private static final int FOLGAS_LOTE = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Escala escala;
+    private final List<Colaborador> colaboradores = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setNome("UTI Orcamento");
+        entityManager.persist(setor);
+
+        escala = new Escala();
+        escala.setMes(9);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        entityManager.persist(escala);
+
+        for (int i = 0; i < COLABORADORES; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome("COLABORADOR ORCAMENTO " + i);
+            colaborador.setCargo(i % 4 == 0 ? CargoEnum.ENFERMEIRO : CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            entityManager.persist(colaborador);
+            colaboradores.add(colaborador);
+
+            // Todos menos o último já têm duas folgas no mês
+            if (i < COLABORADORES - 1) {
+                folga(colaborador, LocalDate.of(2030, 9, 1 + i % 7));
+                folga(colaborador, LocalDate.of(2030, 9, 15 + i % 7));
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    /**
+     * Validação, insert, reserva da vaga do dia (limite e criação do contador), versões
+     * e alteração do calendário e alertas síncronos: o total não depende de quantos
+     * colaboradores o setor tem. A escala é versionada uma vez por requisição, mesmo
+     * com os alertas, e a última folga chega às demais escalas depois do commit.
+     */
+    @Test
+    @MaxQueries(value = 19, endpoint = "POST /api/folga")
+    void criarFolgaDeveCaberNoOrcamento() throws Exception {
+        Colaborador semFolga = colaboradores.get(COLABORADORES - 1);
+        mockMvc.perform(post("/api/folga")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"colaboradorId": %d, "escalaId": %d, "dataSolicitada": "2030-09-10"}
+                                """.formatted(semFolga.getId(), escala.getId())))
+                .andExpect(status().isCreated());
+    }
+
+    /**
+     * O mês de 40 colaboradores com 8 folgas cada (320 folgas) criado uma a uma e em
+     * lote, em dois setores iguais e sem folgas: o lote não pode passar de um décimo
+     * dos comandos SQL da criação uma a uma
+     */
+    @Test
+    void loteDeveUsarMenosDeUmDecimoDosComandosDaCriacaoUmaAUma() throws Exception {
+        List<Colaborador> individuais = new ArrayList<>();
+        Escala escalaIndividual = setorSemFolgas("UTI Individual", individuais);
+        List<Colaborador> doLote = new ArrayList<>();
+        Escala escalaLote = setorSemFolgas("UTI Lote", doLote);
+
+        int comandosIndividuais = 0;
+        for (int i = 0; i < individuais.size(); i++) {
+            for (int dia : diasDoColaborador(i)) {
+                MvcResult resultado = mockMvc.perform(post("/api/folga")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(folgaJson(individuais.get(i), escalaIndividual, dia)))
+                        .andExpect(status().isCreated())
+                        .andReturn();
+                comandosIndividuais += comandos(resultado);
+            }
+        }
+
+        String folgas = IntStream.range(0, doLote.size())
+                .boxed()
+                .flatMap(i -> IntStream.of(diasDoColaborador(i)).mapToObj(dia -> folgaJson(doLote.get(i), escalaLote, dia)))
+                .collect(Collectors.joining(", "));
+        MvcResult lote = mockMvc.perform(post("/api/folga/lote")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"escalaId": %d, "folgas": [%s]}
+                                """.formatted(escalaLote.getId(), folgas)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCriadas").value(COLABORADORES_LOTE * FOLGAS_LOTE))
+                .andReturn();
+
+        int comandosLote = comandos(lote);
+        int totalIndividuais = comandosIndividuais;
+        assertTrue(comandosLote * 10 <= totalIndividuais,
+                () -> "Lote com %d comandos; uma a uma: %d".formatted(comandosLote, totalIndividuais));
+    }
+
+    /**
+     * Retrato da escala carregado uma vez (versão, escala com setor, colaboradores do
+     * turno, folgas e última folga antes do mês); as 31 datas são avaliadas em memória
+     */
+    @Test
+    @MaxQueries(value = 5, endpoint = "POST /api/folga/simular")
+    void simularOMesInteiroDeveCaberNoOrcamento() throws Exception {
+        Colaborador semFolga = colaboradores.get(COLABORADORES - 1);
+        String datas = IntStream.rangeClosed(1, 30)
+                .mapToObj(dia -> "\"" + LocalDate.of(2030, 9, dia) + "\"")
+                .collect(Collectors.joining(", "));
+        String corpo = """
+                {"colaboradorId": %d, "escalaId": %d, "datas": [%s]}
+                """.formatted(semFolga.getId(), escala.getId(), datas);
+
+        for (int repeticao = 0; repeticao < 2; repeticao++) {
+            mockMvc.perform(post("/api/folga/simular")
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(corpo))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.resultados.length()").value(30));
+        }
+    }
+
+    /**
+     * Versão, escala com setor, colaboradores do turno, folgas com colaborador e
+     * ocupação dos dias
+     */
+    @Test
+    @MaxQueries(value = 5, endpoint = "GET /api/escala/{id}/calendario")
+    void calendarioDeveCaberNoOrcamento() throws Exception {
+        mockMvc.perform(get("/api/escala/{id}/calendario", escala.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.resumo.totalFolgasAlocadas").value(2 * (COLABORADORES - 1)));
+    }
+
+    @Test
+    void consultasDevemIrParaOHistogramaDoEndpoint() throws Exception {
+        mockMvc.perform(get("/api/escala/{id}", escala.getId()))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(ConsultasPorRequisicaoFilter.ATRIBUTO_CONSULTAS, 1));
+
+        DistributionSummary histograma = meterRegistry.find(ConsultasPorRequisicaoFilter.METRICA)
+                .tags("method", "GET", "uri", "/api/escala/{id}")
+                .summary();
+        assertNotNull(histograma);
+        assertTrue(histograma.count() >= 1);
+        assertTrue(histograma.max() >= 1);
+    }
+
+    private Escala setorSemFolgas(String nome, List<Colaborador> destino) {
+        Setor setor = new Setor();
+        setor.setNome(nome);
+        entityManager.persist(setor);
+
+        Escala nova = new Escala();
+        nova.setMes(7);
+        nova.setAno(2030);
+        nova.setFolgasPermitidas(FOLGAS_LOTE);
+        nova.setTurno(TurnoEnum.MANHA);
+        nova.setSetor(setor);
+        entityManager.persist(nova);
+
+        for (int i = 0; i < COLABORADORES_LOTE; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome(nome.toUpperCase() + " " + i);
+            colaborador.setCargo(CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            entityManager.persist(colaborador);
+            destino.add(colaborador);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return nova;
+    }
+
+    /**
+     * Julho/2030 começa na segunda: folgas a cada quatro dias (uma ou duas por semana,
+     * com domingo) e a oitava na última semana; no máximo 20 colaboradores por dia
+     */
+    private static int[] diasDoColaborador(int indice) {
+        int deslocamento = indice % 4;
+        return IntStream.range(0, FOLGAS_LOTE)
+                .map(k -> k < FOLGAS_LOTE - 1 ? 1 + deslocamento + 4 * k : 29 + deslocamento % 3)
+                .toArray();
+    }
+
+    private static String folgaJson(Colaborador colaborador, Escala escala, int dia) {
+        return """
+                {"colaboradorId": %d, "escalaId": %d, "dataSolicitada": "%s"}
+                """.formatted(colaborador.getId(), escala.getId(), LocalDate.of(2030, 7, dia));
+    }
+
+    private static int comandos(MvcResult resultado) {
+        return (Integer) resultado.getRequest().getAttribute(ConsultasPorRequisicaoFilter.ATRIBUTO_CONSULTAS);
+    }
+
+    private void folga(Colaborador colaborador, LocalDate data) {
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(data);
+        folga.setStatus(StatusFolgaEnum.APROVADA);
+        entityManager.persist(folga);
+    }
+}
@@ -0,0 +1,197 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Simulação de folgas: veredito e alertas por data sem gravar nada, sobre o retrato
+ * da escala refeito quando a versão muda.
+ *
+ * <p>Sem {@code @Transactional}: as folgas criadas entre as simulações precisam
+ * ser confirmadas para mudar a versão da escala.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SimulacaoFolgaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Setor setor;
+    private Escala escala;
+    private final List<Colaborador> colaboradores = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        setor = new Setor();
+        setor.setNome("UTI Simulacao");
+        setor = setorRepository.save(setor);
+
+        // Janeiro/2031 começa numa quarta-feira; domingos: 5, 12, 19 e 26
+        escala = new Escala();
+        escala.setMes(1);
+        escala.setAno(2031);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+
+        // Quatro colaboradores: limite de duas folgas por dia
+        for (int i = 0; i < 4; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome("COLABORADOR SIMULACAO " + i);
+            colaborador.setCargo(CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            colaboradores.add(colaboradorRepository.save(colaborador));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long escalaId = escala.getId();
+        jdbcTemplate.update("DELETE FROM alertas WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM alteracao_calendario WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM ocupacao_dia WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM folga WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM escala WHERE id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM colaborador WHERE setor_id = ?", setor.getId());
+        jdbcTemplate.update("DELETE FROM setor WHERE id = ?", setor.getId());
+    }
+
+    @Test
+    void deveAvaliarCadaDataSemGravarNada() throws Exception {
+        simular(colaboradores.get(0), LocalDate.of(2031, 1, 6), LocalDate.of(2031, 1, 5), LocalDate.of(2031, 2, 1))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalPermitidas").value(2))
+                .andExpect(jsonPath("$.resultados[0].data").value("2031-01-06"))
+                .andExpect(jsonPath("$.resultados[0].permitida").value(true))
+                .andExpect(jsonPath("$.resultados[0].alertas[*].tipo").value(hasItem("AVISO_DOMINGO_FALTANDO")))
+                .andExpect(jsonPath("$.resultados[1].permitida").value(true))
+                .andExpect(jsonPath("$.resultados[1].alertas[*].tipo").value(not(hasItem("AVISO_DOMINGO_FALTANDO"))))
+                .andExpect(jsonPath("$.resultados[2].permitida").value(false))
+                .andExpect(jsonPath("$.resultados[2].mensagem").value(containsString("não pertence ao mês")));
+
+        Long escalaId = escala.getId();
+        assertEquals(0, contar("SELECT COUNT(*) FROM folga WHERE escala_id = ?", escalaId));
+        assertEquals(0, contar("SELECT COUNT(*) FROM alertas WHERE escala_id = ?", escalaId));
+        assertEquals(0, contar("SELECT COUNT(*) FROM ocupacao_dia WHERE escala_id = ?", escalaId));
+        assertEquals(0, contar("SELECT versao_calendario FROM escala WHERE id = ?", escalaId));
+    }
+
+    @Test
+    void deveEnxergarFolgasCriadasDepoisDoRetratoEmCache() throws Exception {
+        Colaborador colaborador = colaboradores.get(0);
+        LocalDate dia8 = LocalDate.of(2031, 1, 8);
+        LocalDate dia9 = LocalDate.of(2031, 1, 9);
+        LocalDate dia10 = LocalDate.of(2031, 1, 10);
+
+        simular(colaborador, dia8, dia9)
+                .andExpect(jsonPath("$.versao").value(0))
+                .andExpect(jsonPath("$.totalPermitidas").value(2));
+
+        criarFolga(colaborador, dia8);
+        criarFolga(colaboradores.get(1), dia9);
+        criarFolga(colaboradores.get(2), dia9);
+
+        simular(colaborador, dia8, dia9, dia10)
+                .andExpect(jsonPath("$.versao").value(greaterThan(0)))
+                .andExpect(jsonPath("$.resultados[0].permitida").value(false))
+                .andExpect(jsonPath("$.resultados[0].mensagem").value("Já existe uma folga cadastrada para essa data."))
+                .andExpect(jsonPath("$.resultados[1].permitida").value(false))
+                .andExpect(jsonPath("$.resultados[1].mensagem").value(containsString("já atingiu o limite de 2 folga(s)")))
+                .andExpect(jsonPath("$.resultados[2].permitida").value(true))
+                .andExpect(jsonPath("$.resultados[2].alertas[*].tipo").value(hasItem("AVISO_INTERVALO_MINIMO_CURTO")));
+
+        assertEquals(3, contar("SELECT COUNT(*) FROM folga WHERE escala_id = ?", escala.getId()));
+    }
+
+    @Test
+    void deveRecusarSimulacaoSemDatasOuForaDoSetor() throws Exception {
+        Colaborador colaborador = colaboradores.get(0);
+
+        simular(colaborador).andExpect(status().isBadRequest());
+
+        List<LocalDate> mesMaisUm = new ArrayList<>();
+        for (int dia = 1; dia <= 31; dia++) {
+            mesMaisUm.add(LocalDate.of(2031, 1, dia));
+        }
+        mesMaisUm.add(LocalDate.of(2031, 1, 1));
+        simular(colaborador, mesMaisUm.toArray(LocalDate[]::new)).andExpect(status().isBadRequest());
+
+        mockMvc.perform(post("/api/folga/simular")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"colaboradorId": 999999, "escalaId": %d, "dataSolicitada": "2031-01-06"}
+                                """.formatted(escala.getId())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.detail").value(containsString("não encontrado no setor/turno")));
+    }
+
+    private ResultActions simular(Colaborador colaborador, LocalDate... datas) throws Exception {
+        String lista = List.of(datas).stream()
+                .map(d -> "\"" + d + "\"")
+                .collect(Collectors.joining(", "));
+        return mockMvc.perform(post("/api/folga/simular")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"colaboradorId": %d, "escalaId": %d, "datas": [%s]}
+                        """.formatted(colaborador.getId(), escala.getId(), lista)));
+    }
+
+    private void criarFolga(Colaborador colaborador, LocalDate data) throws Exception {
+        mockMvc.perform(post("/api/folga")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"colaboradorId": %d, "escalaId": %d, "dataSolicitada": "%s"}
+                                """.formatted(colaborador.getId(), escala.getId(), data)))
+                .andExpect(status().isCreated());
+    }
+
+    private int contar(String sql, Long escalaId) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, escalaId);
+    }
+}
@@ -0,0 +1,163 @@
+package com.oroboros.EscalaDeFolga.app.controller;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Edições com a versão lida pelo cliente: 409 com o estado atual quando outra
+ * requisição gravou antes.
+ *
+ * <p>Sem {@code @Transactional}: a versão só é incrementada no commit.</p>
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class VersaoOtimistaControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private FolgaRepository folgaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Setor setor;
+    private Escala escala;
+    private Colaborador colaborador;
+
+    @BeforeEach
+    void setUp() {
+        setor = new Setor();
+        setor.setNome("UTI Versao");
+        setor = setorRepository.save(setor);
+
+        escala = new Escala();
+        escala.setMes(10);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+
+        colaborador = new Colaborador();
+        colaborador.setNome("COLABORADOR VERSAO");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador.setSetor(setor);
+        colaborador = colaboradorRepository.save(colaborador);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Long escalaId = escala.getId();
+        jdbcTemplate.update("DELETE FROM alertas WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM alteracao_calendario WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM ocupacao_dia WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM folga WHERE escala_id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM escala WHERE id = ?", escalaId);
+        jdbcTemplate.update("DELETE FROM colaborador WHERE setor_id = ?", setor.getId());
+        jdbcTemplate.update("DELETE FROM setor WHERE id = ?", setor.getId());
+    }
+
+    @Test
+    void segundaEdicaoComAVersaoAntigaDeveReceber409ComAEscalaAtual() throws Exception {
+        mockMvc.perform(put("/api/escala/{id}", escala.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"folgasPermitidas\": 6, \"versao\": 0}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.versao").value(1));
+
+        mockMvc.perform(put("/api/escala/{id}", escala.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"folgasPermitidas\": 7, \"versao\": 0}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.recurso").value("Escala"))
+                .andExpect(jsonPath("$.estadoAtual.versao").value(1))
+                .andExpect(jsonPath("$.estadoAtual.folgasPermitidas").value(6));
+
+        assertEquals(6, escalaRepository.findById(escala.getId()).orElseThrow().getFolgasPermitidas());
+    }
+
+    @Test
+    void edicaoDeFolgaEColaboradorComVersaoAntigaDeveReceber409() throws Exception {
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(LocalDate.of(2030, 10, 8));
+        folga.setStatus(StatusFolgaEnum.PENDENTE);
+        folga = folgaRepository.save(folga);
+
+        mockMvc.perform(put("/api/folga/{id}", folga.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"justificativa\": \"Consulta\", \"versao\": 3}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.recurso").value("Folga"))
+                .andExpect(jsonPath("$.estadoAtual.id").value(folga.getId()))
+                .andExpect(jsonPath("$.estadoAtual.versao").value(0));
+
+        mockMvc.perform(put("/api/colaborador/{id}", colaborador.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"nome\": \"OUTRO NOME\", \"versao\": 3}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.estadoAtual.nome").value("COLABORADOR VERSAO"));
+    }
+
+    @Test
+    void ultimaFolgaDaFolgaNaoDeveAlterarAVersaoEAManualSim() throws Exception {
+        LocalDate domingo = LocalDate.of(2030, 10, 6);
+        mockMvc.perform(post("/api/folga")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"colaboradorId": %d, "escalaId": %d, "dataSolicitada": "%s"}
+                                """.formatted(colaborador.getId(), escala.getId(), domingo)))
+                .andExpect(status().isCreated());
+
+        // A última folga mantida pelas folgas não invalida a versão que o cliente tem
+        Colaborador aposFolga = colaboradorRepository.findById(colaborador.getId()).orElseThrow();
+        assertEquals(domingo, aposFolga.getUltimaFolga());
+        assertEquals(0L, aposFolga.getVersao());
+
+        mockMvc.perform(put("/api/colaborador/{id}/ultima-folga", colaborador.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"ultimaFolga\": \"2024-09-30\"}"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.versao").value(1));
+    }
+}
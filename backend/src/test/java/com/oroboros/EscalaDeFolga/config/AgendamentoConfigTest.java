@@ -0,0 +1,32 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.task.TaskSchedulingAutoConfiguration;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AgendamentoConfigTest {
+
+    @Test
+    void agendadorDeveTerUmaThreadPorTarefa() throws Exception {
+        Properties propriedades = PropertiesLoaderUtils.loadProperties(new ClassPathResource("application.properties"));
+        String threads = propriedades.getProperty("spring.task.scheduling.pool.size");
+
+        new ApplicationContextRunner()
+                .withConfiguration(AutoConfigurations.of(TaskSchedulingAutoConfiguration.class))
+                .withUserConfiguration(AgendamentoConfig.class)
+                .withPropertyValues("spring.task.scheduling.pool.size=" + threads)
+                .run(contexto -> {
+                    ThreadPoolTaskScheduler agendador = contexto.getBean(ThreadPoolTaskScheduler.class);
+                    // Outbox, heartbeat, histórico, idempotência e reconciliação
+                    assertEquals(5, agendador.getScheduledThreadPoolExecutor().getCorePoolSize());
+                });
+    }
+}
@@ -0,0 +1,25 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditoriaPropertiesTest {
+
+    @Test
+    void arquivoPendenteDeveSerObrigatorio() {
+        assertThrows(IllegalArgumentException.class, () -> new AuditoriaProperties(true, 100, 3, 20, null));
+        assertThrows(IllegalArgumentException.class, () -> new AuditoriaProperties(true, 100, 3, 20, " "));
+    }
+
+    @Test
+    void arquivoPendenteDeveSerAbsoluto() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AuditoriaProperties(true, 100, 3, 20, "auditoria-pendente.ndjson"));
+
+        String absoluto = Path.of("auditoria-pendente.ndjson").toAbsolutePath().toString();
+        assertEquals(absoluto, new AuditoriaProperties(true, 100, 3, 20, absoluto).arquivoPendente());
+    }
+}
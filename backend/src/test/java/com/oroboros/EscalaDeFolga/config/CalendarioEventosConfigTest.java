@@ -0,0 +1,38 @@
+package com.oroboros.EscalaDeFolga.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CalendarioEventosConfigTest {
+
+    @Test
+    void poolDosEventosDeveRecusarTarefasComAFilaCheia() throws Exception {
+        ThreadPoolTaskExecutor executor = new CalendarioEventosConfig()
+                .calendarioEventosExecutor(new CalendarioEventosProperties(64, 60_000, 25_000, 1, 2));
+        CountDownLatch ocupado = new CountDownLatch(1);
+        CountDownLatch liberar = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                ocupado.countDown();
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            ocupado.await();
+
+            executor.execute(() -> {});
+            executor.execute(() -> {});
+            assertThrows(TaskRejectedException.class, () -> executor.execute(() -> {}));
+        } finally {
+            liberar.countDown();
+            executor.shutdown();
+        }
+    }
+}
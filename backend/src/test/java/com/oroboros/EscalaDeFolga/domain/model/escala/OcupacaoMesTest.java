@@ -0,0 +1,153 @@
+package com.oroboros.EscalaDeFolga.domain.model.escala;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Matriz de folgas do mês: semanas, contadores e consultas sem alocação
+ */
+class OcupacaoMesTest {
+
+    private static final YearMonth MAIO_2030 = YearMonth.of(2030, 5); // começa numa quarta-feira
+
+    @Test
+    void deveNumerarSemanasComoAsRegrasDeDistribuicao() {
+        OcupacaoMes ocupacao = OcupacaoMes.construtor(MAIO_2030).construir();
+
+        // A semana 1 vai do dia 1 ao dia 12; depois, uma semana a cada segunda-feira
+        assertEquals(1, ocupacao.semanaDoDia(1));
+        assertEquals(1, ocupacao.semanaDoDia(12));
+        assertEquals(2, ocupacao.semanaDoDia(13));
+        assertEquals(4, ocupacao.semanaDoDia(31));
+        assertEquals(4, ocupacao.getSemanas());
+        assertEquals(OcupacaoMes.numeroSemana(LocalDate.of(2030, 5, 20)), ocupacao.semanaDoDia(20));
+
+        // Domingos de maio/2030: 5, 12, 19 e 26
+        int domingos = OcupacaoMes.bit(5) | OcupacaoMes.bit(12) | OcupacaoMes.bit(19) | OcupacaoMes.bit(26);
+        assertEquals(domingos, ocupacao.getMascaraDomingos());
+    }
+
+    @Test
+    void deveContarFolgasAtivasPorDiaSemanaEColaborador() {
+        OcupacaoMes ocupacao = OcupacaoMes.de(MAIO_2030, List.of(3L), List.of(
+                folga(1L, 5, StatusFolgaEnum.APROVADA),
+                folga(1L, 13, StatusFolgaEnum.PENDENTE),
+                folga(1L, 14, StatusFolgaEnum.PENDENTE),
+                folga(2L, 13, StatusFolgaEnum.PENDENTE),
+                folga(2L, 20, StatusFolgaEnum.NEGADA),
+                folga(2L, LocalDate.of(2030, 6, 1), StatusFolgaEnum.PENDENTE) // fora do mês
+        ));
+
+        assertEquals(3, ocupacao.getTotalColaboradores());
+        assertEquals(3, ocupacao.totalFolgas(1L));
+        assertEquals(1, ocupacao.totalFolgas(2L));
+        assertEquals(0, ocupacao.totalFolgas(3L));
+        assertEquals(0, ocupacao.totalFolgas(99L));
+
+        assertEquals(2, ocupacao.totalNoDia(13));
+        assertEquals(0, ocupacao.totalNoDia(20));
+        assertEquals(1, ocupacao.totalNaSemana(1));
+        assertEquals(3, ocupacao.totalNaSemana(2));
+        assertEquals(4, ocupacao.getTotalFolgas());
+
+        assertEquals(2, ocupacao.folgasNaSemana(1L, 2));
+        assertTrue(ocupacao.temDomingo(1L));
+        assertFalse(ocupacao.temDomingo(2L));
+        assertTrue(ocupacao.temFolga(2L, 13));
+        assertEquals(List.of(LocalDate.of(2030, 5, 5), LocalDate.of(2030, 5, 13), LocalDate.of(2030, 5, 14)),
+                ocupacao.datas(1L));
+
+        // Semanas 3 e 4 sem folga para o colaborador 1; simulação de uma folga no dia 20
+        int mascara = ocupacao.mascara(1L);
+        assertEquals((1 << 3) | (1 << 4), ocupacao.semanasSemFolga(mascara));
+        assertEquals(1 << 4, ocupacao.semanasSemFolga(mascara | OcupacaoMes.bit(20)));
+        assertEquals(2, ocupacao.maxFolgasNumaSemana(mascara));
+        assertEquals(13, OcupacaoMes.ultimaFolgaAntes(mascara, 14));
+        assertEquals(0, OcupacaoMes.ultimaFolgaAntes(mascara, 5));
+    }
+
+    @Test
+    void comFolgaDeveDevolverUmaCopiaSemAlterarAOriginal() {
+        OcupacaoMes ocupacao = OcupacaoMes.de(MAIO_2030, List.of(), List.of(
+                folga(2L, 13, StatusFolgaEnum.PENDENTE),
+                folga(5L, 13, StatusFolgaEnum.APROVADA)
+        ));
+
+        OcupacaoMes existente = ocupacao.comFolga(2L, 19);
+        OcupacaoMes novo = ocupacao.comFolga(3L, 13);
+
+        assertEquals(2, existente.totalFolgas(2L));
+        assertTrue(existente.temDomingo(2L));
+        assertEquals(1, existente.totalNoDia(19));
+
+        assertEquals(3, novo.getTotalColaboradores());
+        assertEquals(3, novo.totalNoDia(13));
+        assertTrue(novo.temFolga(3L, 13));
+        assertEquals(1, novo.totalFolgas(5L));
+
+        assertEquals(2, ocupacao.getTotalColaboradores());
+        assertEquals(2, ocupacao.totalNoDia(13));
+        assertEquals(0, ocupacao.totalNoDia(19));
+    }
+
+    @Test
+    void consultasNaoDevemAlocarMemoria() {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        OcupacaoMes.Construtor construtor = OcupacaoMes.construtor(MAIO_2030);
+        for (long id = 1; id <= 500; id++) {
+            for (int dia = 1 + (int) (id % 4); dia <= 31; dia += 4) {
+                construtor.folga(id, MAIO_2030.atDay(dia));
+            }
+        }
+        OcupacaoMes ocupacao = construtor.construir();
+
+        long soma = consultar(ocupacao); // Aquecimento
+        long thread = Thread.currentThread().getId();
+        long antes = threads.getThreadAllocatedBytes(thread);
+        soma += consultar(ocupacao);
+        long alocado = threads.getThreadAllocatedBytes(thread) - antes;
+
+        assertTrue(soma > 0);
+        assertTrue(alocado < 1024, "Consultas alocaram " + alocado + " bytes");
+    }
+
+    private long consultar(OcupacaoMes ocupacao) {
+        long soma = 0;
+        for (int rodada = 0; rodada < 20; rodada++) {
+            for (long id = 1; id <= 500; id++) {
+                int mascara = ocupacao.mascara(id) | OcupacaoMes.bit(1 + (int) (id % 31));
+                soma += ocupacao.folgasNaSemana(id, 2)
+                        + ocupacao.semanasSemFolga(mascara)
+                        + (ocupacao.temDomingo(id) ? 1 : 0)
+                        + OcupacaoMes.ultimaFolgaAntes(mascara, 20)
+                        + ocupacao.totalNoDia(1 + (int) (id % 31));
+            }
+        }
+        return soma;
+    }
+
+    private Folga folga(Long colaboradorId, int dia, StatusFolgaEnum status) {
+        return folga(colaboradorId, MAIO_2030.atDay(dia), status);
+    }
+
+    private Folga folga(Long colaboradorId, LocalDate data, StatusFolgaEnum status) {
+        Colaborador colaborador = new Colaborador();
+        colaborador.setId(colaboradorId);
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setDataSolicitada(data);
+        folga.setStatus(status);
+        return folga;
+    }
+}
@@ -0,0 +1,195 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.app.dto.calendario.CalendarioResponseDTO;
+import com.oroboros.EscalaDeFolga.app.mapper.CalendarioMapper;
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarioCacheServiceTest {
+
+    @Mock
+    private CalendarioService calendarioService;
+
+    @Mock
+    private CalendarioMapper calendarioMapper;
+
+    @Mock
+    private EscalaRepository escalaRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CalendarioCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cacheService = new CalendarioCacheService(
+                calendarioService,
+                calendarioMapper,
+                escalaRepository,
+                new ConcurrentMapCacheManager(CalendarioCacheService.CACHE),
+                meterRegistry
+        );
+    }
+
+    @Test
+    void deveGerarCalendarioApenasUmaVezEnquantoNaoHouverAlteracao() {
+        CalendarioResponseDTO resposta = resposta(1L);
+        when(calendarioMapper.toResponse(any())).thenReturn(resposta);
+
+        assertSame(resposta, cacheService.obterCalendario(1L, 0).calendario());
+        assertSame(resposta, cacheService.obterCalendario(1L, 0).calendario());
+
+        verify(calendarioService, times(1)).gerarCalendario(1L);
+    }
+
+    @Test
+    void deveGerarNovamenteQuandoVersaoDoCacheForAnterior() {
+        // Alteração confirmada (versão 1) antes de a remoção pós-commit chegar ao cache
+        when(calendarioMapper.toResponse(any())).thenReturn(resposta(1L));
+        cacheService.obterCalendario(1L, 0);
+
+        assertEquals(1, cacheService.obterCalendario(1L, 1).versao());
+        assertEquals(1, cacheService.obterCalendario(1L, 0).versao());
+
+        verify(calendarioService, times(2)).gerarCalendario(1L);
+    }
+
+    @Test
+    void alteracaoDeAlertaNaoDeveRemoverCalendario() {
+        when(calendarioMapper.toResponse(any())).thenReturn(resposta(1L));
+        cacheService.obterCalendario(1L, 0);
+
+        cacheService.aoAlterarEscala(new EscalaAlteradaEvento(1L, EscalaAlteradaEvento.Origem.ALERTA));
+        cacheService.obterCalendario(1L, 0);
+
+        verify(calendarioService, times(1)).gerarCalendario(1L);
+    }
+
+    @Test
+    void alteracaoDeFolgaDeveRemoverApenasAEscalaAfetada() {
+        when(calendarioMapper.toResponse(any())).thenReturn(resposta(1L), resposta(2L), resposta(1L));
+        cacheService.obterCalendario(1L, 0);
+        cacheService.obterCalendario(2L, 0);
+
+        cacheService.aoAlterarEscala(new EscalaAlteradaEvento(1L, EscalaAlteradaEvento.Origem.FOLGA));
+        cacheService.obterCalendario(1L, 0);
+        cacheService.obterCalendario(2L, 0);
+
+        verify(calendarioService, times(2)).gerarCalendario(1L);
+        verify(calendarioService, times(1)).gerarCalendario(2L);
+        assertEquals(1.0, meterRegistry.counter("calendario.cache.invalidacoes", "origem", "FOLGA").count());
+    }
+
+    @Test
+    void alteracaoDeColaboradorDeveRemoverAsEscalasDoSetorETurno() {
+        when(calendarioMapper.toResponse(any())).thenReturn(resposta(1L));
+        cacheService.obterCalendario(1L, 0);
+        cacheService.obterCalendario(2L, 0);
+        cacheService.obterCalendario(3L, 0);
+        when(escalaRepository.findIdsPorSetorETurnos(5L, Set.of(TurnoEnum.MANHA))).thenReturn(List.of(1L, 3L));
+
+        cacheService.aoAlterarColaboradores(new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(), false));
+        cacheService.obterCalendario(1L, 0);
+        cacheService.obterCalendario(2L, 0);
+        cacheService.obterCalendario(3L, 0);
+
+        verify(calendarioService, times(2)).gerarCalendario(1L);
+        verify(calendarioService, times(1)).gerarCalendario(2L);
+        verify(calendarioService, times(2)).gerarCalendario(3L);
+        assertEquals(2.0, meterRegistry.counter("calendario.cache.invalidacoes", "origem", "COLABORADOR").count());
+    }
+
+    @Test
+    void geracaoAtrasadaNaoDeveSubstituirUmaVersaoMaisNova() {
+        when(calendarioMapper.toResponse(any())).thenReturn(resposta(1L));
+        cacheService.obterCalendario(1L, 0);
+
+        // Enquanto a versão 1 é gerada, outra requisição já vê e guarda a versão 2
+        boolean[] primeira = {true};
+        when(calendarioService.gerarCalendario(1L)).thenAnswer(invocacao -> {
+            if (primeira[0]) {
+                primeira[0] = false;
+                assertEquals(2, cacheService.obterCalendario(1L, 2).versao());
+            }
+            return null;
+        });
+
+        assertEquals(2, cacheService.obterCalendario(1L, 1).versao());
+        assertEquals(2, cacheService.obterCalendario(1L, 0).versao());
+    }
+
+    @Test
+    void trocaDeSetorDeveRemoverAsEscalasDoSetorAnteriorEDoAtual() {
+        when(calendarioMapper.toResponse(any())).thenReturn(resposta(1L));
+        cacheService.obterCalendario(1L, 0);
+        cacheService.obterCalendario(2L, 0);
+        when(escalaRepository.findIdsPorSetorETurnos(5L, Set.of(TurnoEnum.MANHA))).thenReturn(List.of(1L));
+        when(escalaRepository.findIdsPorSetorETurnos(6L, Set.of(TurnoEnum.NOITE))).thenReturn(List.of(2L));
+
+        Setor setor = new Setor();
+        setor.setId(6L);
+        Colaborador colaborador = new Colaborador();
+        colaborador.setId(7L);
+        colaborador.setSetor(setor);
+        colaborador.setTurno(TurnoEnum.NOITE);
+
+        List<ColaboradoresAlteradosEvento> eventos =
+                ColaboradoresAlteradosEvento.alteracao(colaborador, 5L, TurnoEnum.MANHA);
+        eventos.forEach(cacheService::aoAlterarColaboradores);
+        cacheService.obterCalendario(1L, 0);
+        cacheService.obterCalendario(2L, 0);
+
+        assertEquals(2, eventos.size());
+        verify(calendarioService, times(2)).gerarCalendario(1L);
+        verify(calendarioService, times(2)).gerarCalendario(2L);
+    }
+
+    @Test
+    void trocaDeTurnoNoMesmoSetorDeveGerarUmEventoComOsDoisTurnos() {
+        Setor setor = new Setor();
+        setor.setId(5L);
+        Colaborador colaborador = new Colaborador();
+        colaborador.setId(7L);
+        colaborador.setSetor(setor);
+        colaborador.setTurno(TurnoEnum.NOITE);
+
+        assertEquals(
+                List.of(new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA, TurnoEnum.NOITE), Set.of(7L), false)),
+                ColaboradoresAlteradosEvento.alteracao(colaborador, 5L, TurnoEnum.MANHA)
+        );
+    }
+
+    @Test
+    void devePropagarBusinessExceptionSemGuardarNoCache() {
+        when(calendarioService.gerarCalendario(9L)).thenThrow(new BusinessException("Escala", 9L));
+
+        assertThrows(BusinessException.class, () -> cacheService.obterCalendario(9L, 0));
+        assertThrows(BusinessException.class, () -> cacheService.obterCalendario(9L, 0));
+
+        verify(calendarioService, times(2)).gerarCalendario(9L);
+    }
+
+    private CalendarioResponseDTO resposta(Long escalaId) {
+        return new CalendarioResponseDTO(escalaId, 7, 2030, "Julho", "MANHA", "UTI", List.of(), List.of(), null, null);
+    }
+}
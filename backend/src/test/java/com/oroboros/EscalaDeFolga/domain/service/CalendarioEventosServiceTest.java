@@ -0,0 +1,212 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.app.controller.CalendarioController;
+import com.oroboros.EscalaDeFolga.app.mapper.CalendarioMapper;
+import com.oroboros.EscalaDeFolga.config.CalendarioEventosProperties;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.FolgaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Stream SSE do calendário: eventos após a conexão e fila limitada por cliente
+ */
+@ExtendWith(MockitoExtension.class)
+class CalendarioEventosServiceTest {
+
+    @Mock
+    private EscalaVersaoService escalaVersaoService;
+
+    @Mock
+    private CalendarioService calendarioService;
+
+    @Mock
+    private EscalaRepository escalaRepository;
+
+    private final List<Runnable> tarefas = new ArrayList<>();
+    private final AtomicInteger recusar = new AtomicInteger();
+    private SimpleMeterRegistry meterRegistry;
+    private CalendarioEventosService eventosService;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        eventosService = new CalendarioEventosService(
+                escalaVersaoService,
+                calendarioService,
+                escalaRepository,
+                tarefa -> {
+                    if (recusar.getAndDecrement() > 0) {
+                        throw new TaskRejectedException("fila cheia");
+                    }
+                    tarefas.add(tarefa); // O envio só acontece quando o teste executa as tarefas
+                },
+                new CalendarioEventosProperties(4, 60_000, 25_000, 1, 100),
+                meterRegistry
+        );
+
+        mockMvc = MockMvcBuilders.standaloneSetup(new CalendarioController(
+                calendarioService,
+                mock(CalendarioCacheService.class),
+                escalaVersaoService,
+                mock(CalendarioDeltaService.class),
+                eventosService,
+                mock(CalendarioMapper.class)
+        )).build();
+    }
+
+    @Test
+    void deveEnviarApenasEventosDaEscalaConectada() throws Exception {
+        when(escalaVersaoService.buscarVersao(1L)).thenReturn(3L);
+        MvcResult resultado = conectar(1L);
+
+        eventosService.aoAlterarFolga(folgaCriada(1L, 10L));
+        eventosService.aoAlterarFolga(folgaCriada(2L, 11L));
+        executarTarefas();
+
+        String corpo = resultado.getResponse().getContentAsString();
+        assertTrue(corpo.contains("id:1\nevent:CONECTADO\n"), corpo);
+        assertTrue(corpo.contains("id:2\nevent:FOLGA_CRIADA\n"), corpo);
+        assertTrue(corpo.contains("\"folgaId\":10"), corpo);
+        assertFalse(corpo.contains("\"folgaId\":11"), corpo);
+        assertEquals(1.0, meterRegistry.get("calendario.eventos.assinantes").gauge().value());
+
+        // Escala sem clientes não custa nenhuma consulta
+        verify(escalaVersaoService, never()).buscarVersao(2L);
+    }
+
+    @Test
+    void deveDescartarOsEventosMaisAntigosQuandoAFilaDoClienteEnche() throws Exception {
+        when(escalaVersaoService.buscarVersao(1L)).thenReturn(3L);
+        MvcResult resultado = conectar(1L);
+        executarTarefas();
+
+        for (long folgaId = 1; folgaId <= 10; folgaId++) {
+            eventosService.aoAlterarFolga(folgaCriada(1L, folgaId));
+        }
+        assertEquals(1, tarefas.size(), "Uma única tarefa de montagem por escala");
+        tarefas.remove(0).run();
+        assertEquals(1, tarefas.size(), "Uma única tarefa de envio por cliente");
+        executarTarefas();
+
+        String corpo = resultado.getResponse().getContentAsString();
+        assertTrue(corpo.contains("id:1\nevent:CONECTADO\n"), corpo);
+        assertFalse(corpo.contains("id:7\n"), corpo);
+        for (int id = 8; id <= 11; id++) {
+            assertTrue(corpo.contains("id:" + id + "\n"), corpo);
+        }
+        assertEquals(6.0, meterRegistry.counter("calendario.eventos.descartados").count());
+    }
+
+    @Test
+    void deveEnviarStatusDosDiasAlteradosEIgnorarAlertasSemCalendario() throws Exception {
+        when(escalaVersaoService.buscarVersao(1L)).thenReturn(5L);
+        MvcResult resultado = conectar(1L);
+
+        LocalDate data = LocalDate.of(2030, 7, 7);
+        when(calendarioService.gerarCalendarioParcial(1L, Set.of(data), Set.of()))
+                .thenReturn(new CalendarioService.CalendarioParcialDomain(null, List.of(
+                        new CalendarioService.DiaDomain(data,
+                                new CalendarioService.StatusDiaDomain("LOTADO", "red", false, "Limite atingido"),
+                                2, 0, 2, List.of())
+                ), List.of(), null));
+
+        eventosService.aoAlterarEscala(new EscalaAlteradaEvento(1L, EscalaAlteradaEvento.Origem.FOLGA, Set.of(data), Set.of(9L)));
+        eventosService.aoAlterarEscala(EscalaAlteradaEvento.alertas(1L));
+        eventosService.aoAlterarEscala(new EscalaAlteradaEvento(1L, EscalaAlteradaEvento.Origem.ESCALA));
+        executarTarefas();
+
+        String corpo = resultado.getResponse().getContentAsString();
+        assertTrue(corpo.contains("event:DIA_ALTERADO\n"), corpo);
+        assertTrue(corpo.contains("\"status\":\"LOTADO\""), corpo);
+        assertTrue(corpo.contains("\"totalFolgasNoDia\":2"), corpo);
+        assertTrue(corpo.contains("id:3\nevent:CALENDARIO_ALTERADO\n"), corpo);
+        verify(calendarioService, times(1)).gerarCalendarioParcial(anyLong(), any(), any());
+    }
+
+    @Test
+    void montagemDosEventosNaoDeveRodarNaThreadQueFezAAlteracao() throws Exception {
+        when(escalaVersaoService.buscarVersao(1L)).thenReturn(5L);
+        MvcResult resultado = conectar(1L);
+        executarTarefas();
+
+        LocalDate data = LocalDate.of(2030, 7, 7);
+        eventosService.aoAlterarFolga(folgaCriada(1L, 10L));
+        eventosService.aoAlterarEscala(new EscalaAlteradaEvento(1L, EscalaAlteradaEvento.Origem.FOLGA, Set.of(data), Set.of(20L)));
+        eventosService.aoAlterarColaboradores(new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(20L), true));
+
+        // Na thread do commit: só a consulta da versão feita ao conectar
+        verify(escalaVersaoService, times(1)).buscarVersao(1L);
+        verifyNoInteractions(calendarioService, escalaRepository);
+
+        when(escalaRepository.findIdsPorSetorETurnos(5L, Set.of(TurnoEnum.MANHA))).thenReturn(List.of(1L));
+        when(calendarioService.gerarCalendarioParcial(1L, Set.of(data), Set.of()))
+                .thenThrow(new IllegalStateException("indisponível"));
+        executarTarefas();
+
+        // Mesma ordem dos commits; sem os dias, o cliente recebe CALENDARIO_ALTERADO
+        String corpo = resultado.getResponse().getContentAsString();
+        int folga = corpo.indexOf("event:FOLGA_CRIADA");
+        int calendario = corpo.indexOf("event:CALENDARIO_ALTERADO");
+        int colaborador = corpo.indexOf("event:COLABORADOR_ALTERADO");
+        assertTrue(folga >= 0 && folga < calendario && calendario < colaborador, corpo);
+    }
+
+    @Test
+    void poolCheioNaAlteracaoDeColaboradoresDeveAvisarOsClientesSemDetalhes() throws Exception {
+        when(escalaVersaoService.buscarVersao(1L)).thenReturn(5L);
+        MvcResult resultado = conectar(1L);
+        executarTarefas();
+
+        recusar.set(1);
+        eventosService.aoAlterarColaboradores(new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(20L), false));
+        executarTarefas();
+
+        String corpo = resultado.getResponse().getContentAsString();
+        assertTrue(corpo.contains("id:2\nevent:CALENDARIO_ALTERADO\n"), corpo);
+        assertEquals(1.0, meterRegistry.counter("calendario.eventos.descartados").count());
+        verifyNoInteractions(escalaRepository);
+    }
+
+    private MvcResult conectar(Long escalaId) throws Exception {
+        return mockMvc.perform(get("/api/escala/{id}/calendario/eventos", escalaId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private void executarTarefas() {
+        while (!tarefas.isEmpty()) {
+            tarefas.remove(0).run();
+        }
+    }
+
+    private FolgaAlteradaEvento folgaCriada(Long escalaId, Long folgaId) {
+        return new FolgaAlteradaEvento(escalaId, FolgaAlteradaEvento.Tipo.CRIADA, folgaId, 20L,
+                LocalDate.of(2030, 7, 7), null, StatusFolgaEnum.PENDENTE);
+    }
+}
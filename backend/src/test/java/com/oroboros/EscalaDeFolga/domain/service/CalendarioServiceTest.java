@@ -0,0 +1,174 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CalendarioServiceTest {
+
+    @Mock
+    private EscalaRepository escalaRepository;
+
+    @Mock
+    private ColaboradorRepository colaboradorRepository;
+
+    @Mock
+    private FolgaRepository folgaRepository;
+
+    @Mock
+    private EscalaRegrasService regrasService;
+
+    @Mock
+    private OcupacaoDiaService ocupacaoDiaService;
+
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @InjectMocks
+    private CalendarioService calendarioService;
+
+    private Escala escala;
+    private List<Colaborador> colaboradores;
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setId(1L);
+        setor.setNome("UTI");
+
+        escala = new Escala();
+        escala.setId(10L);
+        escala.setMes(5);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(6);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+
+        colaboradores = new ArrayList<>();
+        for (long i = 1; i <= 60; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setId(i);
+            colaborador.setNome("COLABORADOR " + i);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaboradores.add(colaborador);
+        }
+
+        when(escalaRepository.findComSetorById(10L)).thenReturn(Optional.of(escala));
+        when(colaboradorRepository.findBySetorAndTurno(setor, TurnoEnum.MANHA)).thenReturn(colaboradores);
+        when(regrasService.getDiasTrabalhoPermitidos()).thenReturn(6);
+    }
+
+    @Test
+    void deveMontarCalendarioComUmaUnicaConsultaDeFolgas() {
+        List<Folga> folgas = List.of(
+                criarFolga(colaboradores.get(0), LocalDate.of(2030, 5, 5)),  // domingo
+                criarFolga(colaboradores.get(1), LocalDate.of(2030, 5, 5)),
+                criarFolga(colaboradores.get(0), LocalDate.of(2030, 5, 10))
+        );
+        when(folgaRepository.findByEscalaAndStatusInComColaborador(
+                escala, List.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA)))
+                .thenReturn(folgas);
+
+        CalendarioService.CalendarioDomain calendario = calendarioService.gerarCalendario(10L);
+
+        assertEquals(31, calendario.dias().size());
+        assertEquals(2, calendario.dias().get(4).totalFolgasNoDia());
+        assertEquals(58, calendario.dias().get(4).colaboradoresDisponiveis());
+        assertEquals(1, calendario.dias().get(9).totalFolgasNoDia());
+        assertEquals(3, calendario.resumo().totalFolgasAlocadas());
+
+        CalendarioService.ColaboradorHistoricoDomain primeiro = calendario.colaboradores().stream()
+                .filter(c -> c.id() == 1L)
+                .findFirst()
+                .orElseThrow();
+        assertEquals(2, primeiro.totalFolgasNoMes());
+        assertTrue(primeiro.temDomingo());
+        assertEquals(List.of(LocalDate.of(2030, 5, 5), LocalDate.of(2030, 5, 10)), primeiro.datasComFolga());
+
+        verify(folgaRepository, times(1)).findByEscalaAndStatusInComColaborador(any(), any());
+        verify(folgaRepository, never()).findByDataSolicitadaAndEscala(any(), any());
+        verify(folgaRepository, never()).findByColaboradorAndEscalaAndStatusIn(any(), any(), any());
+    }
+
+    @Test
+    void deveUsarContadorDeOcupacaoNoTotalDoDia() {
+        when(folgaRepository.findByEscalaAndStatusInComColaborador(any(), any()))
+                .thenReturn(List.of(criarFolga(colaboradores.get(0), LocalDate.of(2030, 5, 10))));
+        when(ocupacaoDiaService.contarPorDia(escala))
+                .thenReturn(Map.of(LocalDate.of(2030, 5, 10), 31));
+
+        CalendarioService.CalendarioDomain calendario = calendarioService.gerarCalendario(10L);
+
+        CalendarioService.DiaDomain dia = calendario.dias().get(9);
+        assertEquals(31, dia.totalFolgasNoDia());
+        assertEquals(29, dia.colaboradoresDisponiveis());
+        assertEquals(1, dia.folgasNoDia().size());
+        assertEquals(0, calendario.dias().get(4).totalFolgasNoDia());
+    }
+
+    @Test
+    void setorComUmColaboradorDeveMostrarOLimiteAplicadoNaInclusao() {
+        colaboradores.subList(1, colaboradores.size()).clear();
+        when(folgaRepository.findByEscalaAndStatusInComColaborador(any(), any()))
+                .thenReturn(List.of(criarFolga(colaboradores.get(0), LocalDate.of(2030, 5, 10))));
+
+        CalendarioService.CalendarioDomain calendario = calendarioService.gerarCalendario(10L);
+
+        // Sexta sem folga: aberta, como o POST /api/folga, que aceita uma folga por dia
+        CalendarioService.DiaDomain livre = calendario.dias().get(2);
+        assertEquals(OcupacaoDiaService.limitePara(1), livre.limiteMaximoFolgas());
+        assertEquals(1, livre.limiteMaximoFolgas());
+        assertEquals("ABERTO", livre.status().nome());
+        assertTrue(livre.status().clicavel());
+
+        CalendarioService.DiaDomain ocupado = calendario.dias().get(9);
+        assertEquals("OCUPADO", ocupado.status().nome());
+        assertFalse(ocupado.status().clicavel());
+    }
+
+    @Test
+    void deveMedirAsFasesDoCalendario() {
+        when(folgaRepository.findByEscalaAndStatusInComColaborador(any(), any())).thenReturn(List.of());
+
+        calendarioService.gerarCalendario(10L);
+
+        for (String fase : List.of("dias", "colaboradores", "resumo")) {
+            assertEquals(1, meterRegistry.get(CalendarioService.METRICA_FASE).tag("fase", fase).timer().count(), fase);
+        }
+    }
+
+    private Folga criarFolga(Colaborador colaborador, LocalDate data) {
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(data);
+        folga.setStatus(StatusFolgaEnum.PENDENTE);
+        return folga;
+    }
+}
@@ -0,0 +1,199 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.ColaboradoresAlteradosEvento;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.AlteracaoCalendario;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AlteracaoCalendarioRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class EscalaVersaoServiceTest {
+
+    @Mock
+    private EscalaRepository escalaRepository;
+
+    @Mock
+    private AlteracaoCalendarioRepository alteracaoRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private EscalaVersaoService versaoService;
+
+    @BeforeEach
+    void setUp() {
+        // Executor síncrono: a propagação roda na própria thread do teste
+        versaoService = new EscalaVersaoService(escalaRepository, alteracaoRepository, transactionManager, Runnable::run);
+    }
+
+    @Test
+    void ultimaFolgaNaoDeveVersionarEscalasNaTransacaoDaFolga() {
+        versaoService.aoAlterarColaboradores(
+                new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(7L), true, 1L));
+
+        verifyNoInteractions(escalaRepository, alteracaoRepository);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void ultimaFolgaDeveVersionarAsDemaisEscalasComUmUnicoUpdate() {
+        when(escalaRepository.travarVersoesPorSetorETurnos(5L, Set.of(TurnoEnum.MANHA), 1L))
+                .thenReturn(List.of(versao(2L, 10), versao(3L, 4)));
+
+        versaoService.aoAlterarUltimaFolga(
+                new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(7L), true, 1L));
+
+        verify(escalaRepository).incrementarVersoesCalendario(List.of(2L, 3L));
+        verify(escalaRepository, never()).incrementarVersaoCalendario(anyLong());
+        verify(transactionManager).commit(any());
+
+        ArgumentCaptor<List<AlteracaoCalendario>> alteracoes = ArgumentCaptor.forClass(List.class);
+        verify(alteracaoRepository).saveAll(alteracoes.capture());
+        assertEquals(List.of(11L, 5L), alteracoes.getValue().stream().map(AlteracaoCalendario::getVersao).toList());
+        assertTrue(alteracoes.getValue().stream().allMatch(a -> Long.valueOf(7L).equals(a.getColaboradorId())));
+    }
+
+    @Test
+    void filaCheiaDeveVersionarAUltimaFolgaNaThreadDeQuemGravou() {
+        EscalaVersaoService semFila = new EscalaVersaoService(escalaRepository, alteracaoRepository,
+                transactionManager, tarefa -> {
+                    throw new TaskRejectedException("fila cheia");
+                });
+        when(escalaRepository.travarVersoesPorSetorETurnos(5L, Set.of(TurnoEnum.MANHA), 1L))
+                .thenReturn(List.of(versao(2L, 10)));
+
+        semFila.aoAlterarUltimaFolga(
+                new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(7L), true, 1L));
+
+        verify(escalaRepository).incrementarVersoesCalendario(List.of(2L));
+        verify(alteracaoRepository).saveAll(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void falhaNaPropagacaoDaUltimaFolgaDeveSerRepetida() {
+        when(escalaRepository.travarVersoesPorSetorETurnos(5L, Set.of(TurnoEnum.MANHA), 1L))
+                .thenThrow(new CannotAcquireLockException("deadlock"))
+                .thenReturn(List.of(versao(2L, 10)));
+
+        versaoService.aoAlterarUltimaFolga(
+                new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(7L), true, 1L));
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager).commit(any());
+        verify(escalaRepository).incrementarVersoesCalendario(List.of(2L));
+    }
+
+    @Test
+    void cadastroDeColaboradorDeveVersionarNaTransacaoEIgnorarDepoisDoCommit() {
+        ColaboradoresAlteradosEvento evento =
+                new ColaboradoresAlteradosEvento(5L, Set.of(TurnoEnum.MANHA), Set.of(7L), false);
+
+        versaoService.aoAlterarUltimaFolga(evento);
+        verifyNoInteractions(escalaRepository);
+
+        when(escalaRepository.travarVersoesPorSetorETurnos(5L, Set.of(TurnoEnum.MANHA), null))
+                .thenReturn(List.of(versao(2L, 0)));
+        versaoService.aoAlterarColaboradores(evento);
+
+        verify(escalaRepository).incrementarVersoesCalendario(List.of(2L));
+        verify(alteracaoRepository).saveAll(any());
+    }
+
+    @Test
+    void mesmaEscalaDeveSerIncrementadaUmaVezPorTransacao() {
+        when(escalaRepository.findVersaoCalendario(2L)).thenReturn(Optional.of(8L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            versaoService.aoAlterarEscala(new EscalaAlteradaEvento(
+                    2L, EscalaAlteradaEvento.Origem.FOLGA, Set.of(LocalDate.of(2030, 12, 10)), Set.of(7L)));
+            versaoService.aoAlterarEscala(EscalaAlteradaEvento.alertas(2L));
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(escalaRepository, times(1)).incrementarVersaoCalendario(2L);
+        verify(escalaRepository, times(1)).findVersaoCalendario(2L);
+        assertNull(TransactionSynchronizationManager.getResource(
+                EscalaVersaoService.class.getName() + ".versoes"));
+    }
+
+    @Test
+    void versaoLidaNaTransacaoDeveSerIncrementadaNaProximaAlteracao() {
+        when(escalaRepository.findVersaoCalendario(2L)).thenReturn(Optional.of(8L), Optional.of(8L), Optional.of(9L));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            versaoService.aoAlterarEscala(EscalaAlteradaEvento.alertas(2L));
+            assertEquals(8L, versaoService.buscarVersao(2L));
+            versaoService.aoAlterarEscala(EscalaAlteradaEvento.alertas(2L));
+        } finally {
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        verify(escalaRepository, times(2)).incrementarVersaoCalendario(2L);
+    }
+
+    @Test
+    void transacoesDiferentesDevemIncrementarCadaUma() {
+        when(escalaRepository.findVersaoCalendario(2L)).thenReturn(Optional.of(8L), Optional.of(9L));
+
+        versaoService.aoAlterarEscala(EscalaAlteradaEvento.alertas(2L));
+        versaoService.aoAlterarEscala(EscalaAlteradaEvento.alertas(2L));
+
+        verify(escalaRepository, times(2)).incrementarVersaoCalendario(2L);
+    }
+
+    @Test
+    void gravacaoNaoDevePodarOHistorico() {
+        when(escalaRepository.findVersaoCalendario(2L)).thenReturn(Optional.of(900L));
+
+        versaoService.aoAlterarEscala(EscalaAlteradaEvento.alertas(2L));
+
+        verify(alteracaoRepository, never()).excluirForaDaRetencao(anyLong());
+
+        versaoService.podarHistorico();
+        verify(alteracaoRepository).excluirForaDaRetencao(EscalaVersaoService.RETENCAO_VERSOES);
+    }
+
+    private static EscalaRepository.VersaoEscala versao(Long id, long versao) {
+        return new EscalaRepository.VersaoEscala() {
+            @Override
+            public Long getId() {
+                return id;
+            }
+
+            @Override
+            public long getVersao() {
+                return versao;
+            }
+        };
+    }
+}
@@ -0,0 +1,210 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.alerta.Alerta;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.TipoAlertaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AlertaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.OcupacaoDiaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FolgaLoteServiceTest {
+
+    @Autowired
+    private FolgaLoteService folgaLoteService;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private OcupacaoDiaRepository ocupacaoDiaRepository;
+
+    @Autowired
+    private OcupacaoDiaService ocupacaoDiaService;
+
+    @Autowired
+    private AlertaRepository alertaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Escala escala;
+    private List<Colaborador> colaboradores;
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setNome("UTI Lote");
+        setor = setorRepository.save(setor);
+
+        colaboradores = new ArrayList<>();
+        for (int i = 1; i <= 40; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome("COLABORADOR LOTE " + i);
+            colaborador.setCargo(CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            colaboradores.add(colaboradorRepository.save(colaborador));
+        }
+
+        escala = new Escala();
+        escala.setMes(7);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+    }
+
+    /**
+     * 40 colaboradores × 8 folgas a cada 4 dias: cobre todas as semanas,
+     * inclui um domingo e nunca passa de 3 dias seguidos de trabalho.
+     * Julho/2030 começa numa segunda-feira, então as semanas do mês são completas.
+     */
+    @Test
+    void deveCriarMesInteiroDoSetorEmUmUnicoLote() {
+        List<FolgaLoteService.SolicitacaoLoteDomain> solicitacoes = new ArrayList<>();
+        for (int i = 0; i < colaboradores.size(); i++) {
+            int inicio = 1 + (i % 3);
+            for (int k = 0; k < 8; k++) {
+                solicitacoes.add(solicitacao(colaboradores.get(i), LocalDate.of(2030, 7, inicio + 4 * k)));
+            }
+        }
+
+        List<FolgaLoteService.ResultadoItemLoteDomain> resultados =
+                folgaLoteService.criarEmLote(escala.getId(), solicitacoes);
+
+        assertEquals(320, resultados.size());
+        assertTrue(resultados.stream().allMatch(FolgaLoteService.ResultadoItemLoteDomain::criada),
+                () -> resultados.stream().filter(r -> !r.criada()).findFirst().map(r -> r.mensagem()).orElse(""));
+        assertTrue(resultados.stream().allMatch(r -> r.folga().getId() != null));
+
+        entityManager.clear();
+        assertEquals(320, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM folga WHERE escala_id = ?", Integer.class, escala.getId()));
+        assertEquals(LocalDate.of(2030, 7, 29),
+                colaboradorRepository.findById(colaboradores.get(0).getId()).orElseThrow().getUltimaFolga());
+
+        // 14 colaboradores (i % 3 == 0) folgam no dia 1
+        assertEquals(14, ocupacaoDiaRepository.findByEscalaIdAndData(escala.getId(), LocalDate.of(2030, 7, 1))
+                .orElseThrow().getTotalFolgas());
+        assertEquals(0, ocupacaoDiaService.reconciliar(escala.getId()));
+    }
+
+    @Test
+    void colaboradorCarregadoDeveVerAUltimaFolgaSemMudarAVersao() {
+        Colaborador colaborador = colaboradores.get(0);
+
+        folgaLoteService.criarEmLote(escala.getId(), List.of(
+                solicitacao(colaborador, LocalDate.of(2030, 7, 2)),
+                solicitacao(colaborador, LocalDate.of(2030, 7, 6))
+        ));
+
+        assertEquals(LocalDate.of(2030, 7, 6), colaborador.getUltimaFolga());
+        entityManager.flush();
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT versao FROM colaborador WHERE id = ?", Long.class, colaborador.getId()));
+    }
+
+    @Test
+    void itensDoMesmoLoteDevemEnxergarUnsAosOutros() {
+        Colaborador colaborador = colaboradores.get(0);
+
+        List<FolgaLoteService.ResultadoItemLoteDomain> resultados = folgaLoteService.criarEmLote(
+                escala.getId(),
+                List.of(
+                        solicitacao(colaborador, LocalDate.of(2030, 7, 5)),
+                        solicitacao(colaborador, LocalDate.of(2030, 7, 5)),   // duplicada no próprio lote
+                        solicitacao(colaborador, LocalDate.of(2030, 8, 2)),   // fora do mês da escala
+                        new FolgaLoteService.SolicitacaoLoteDomain(escala.getId(), 999_999L, LocalDate.of(2030, 7, 6), null)
+                )
+        );
+
+        assertTrue(resultados.get(0).criada());
+        assertFalse(resultados.get(1).criada());
+        assertEquals("Já existe uma folga cadastrada para essa data.", resultados.get(1).mensagem());
+        assertFalse(resultados.get(2).criada());
+        assertFalse(resultados.get(3).criada());
+        assertTrue(resultados.get(3).mensagem().contains("não encontrado"));
+    }
+
+    @Test
+    void deveGerarAlertasDasFolgasAceitasNoModoSincrono() {
+        Colaborador colaborador = colaboradores.get(0);
+
+        List<FolgaLoteService.ResultadoItemLoteDomain> resultados = folgaLoteService.criarEmLote(
+                escala.getId(),
+                List.of(
+                        solicitacao(colaborador, LocalDate.of(2030, 7, 2)),
+                        solicitacao(colaborador, LocalDate.of(2030, 7, 4))   // 2 dias depois da anterior
+                )
+        );
+
+        assertTrue(resultados.stream().allMatch(FolgaLoteService.ResultadoItemLoteDomain::criada));
+
+        List<Alerta> alertas = alertaRepository.findByFolgaIdOrderBySeveridadeAsc(resultados.get(1).folga().getId());
+        assertTrue(alertas.stream().anyMatch(a -> a.getTipo() == TipoAlertaEnum.AVISO_INTERVALO_MINIMO_CURTO));
+        assertTrue(alertaRepository.findByFolgaIdOrderBySeveridadeAsc(resultados.get(0).folga().getId()).stream()
+                .noneMatch(a -> a.getTipo() == TipoAlertaEnum.AVISO_INTERVALO_MINIMO_CURTO));
+    }
+
+    @Test
+    void deveConsiderarFolgasDoColaboradorEmOutraEscalaDoMes() {
+        Colaborador colaborador = colaboradores.get(0);
+
+        Escala outra = new Escala();
+        outra.setMes(7);
+        outra.setAno(2030);
+        outra.setFolgasPermitidas(8);
+        outra.setTurno(TurnoEnum.TARDE);
+        outra.setSetor(escala.getSetor());
+        outra = escalaRepository.save(outra);
+
+        assertTrue(folgaLoteService.criarEmLote(outra.getId(), List.of(
+                new FolgaLoteService.SolicitacaoLoteDomain(outra.getId(), colaborador.getId(), LocalDate.of(2030, 7, 5), null)
+        )).get(0).criada());
+
+        List<FolgaLoteService.ResultadoItemLoteDomain> resultados = folgaLoteService.criarEmLote(
+                escala.getId(),
+                List.of(solicitacao(colaborador, LocalDate.of(2030, 7, 5)))
+        );
+
+        assertFalse(resultados.get(0).criada());
+        assertEquals("Já existe uma folga cadastrada para essa data.", resultados.get(0).mensagem());
+    }
+
+    private FolgaLoteService.SolicitacaoLoteDomain solicitacao(Colaborador colaborador, LocalDate data) {
+        return new FolgaLoteService.SolicitacaoLoteDomain(escala.getId(), colaborador.getId(), data, null);
+    }
+}
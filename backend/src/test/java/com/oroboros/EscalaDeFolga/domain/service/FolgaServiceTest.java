@@ -0,0 +1,83 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class FolgaServiceTest {
+
+    @Autowired
+    private FolgaService folgaService;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * A última folga é gravada por UPDATE direto; o colaborador já carregado na
+     * transação enxerga o valor novo e o flush não incrementa a versão
+     */
+    @Test
+    void colaboradorCarregadoDeveVerAUltimaFolgaSemMudarAVersao() {
+        Setor setor = new Setor();
+        setor.setNome("UTI Ultima Folga");
+        setor = setorRepository.save(setor);
+
+        Colaborador colaborador = new Colaborador();
+        colaborador.setNome("COLABORADOR ULTIMA FOLGA");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador.setSetor(setor);
+        colaborador = colaboradorRepository.save(colaborador);
+
+        Escala escala = new Escala();
+        escala.setMes(7);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(LocalDate.of(2030, 7, 3));
+        folgaService.criarFolga(folga);
+
+        assertEquals(LocalDate.of(2030, 7, 3), colaborador.getUltimaFolga());
+        entityManager.flush();
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT versao FROM colaborador WHERE id = ?", Long.class, colaborador.getId()));
+    }
+}
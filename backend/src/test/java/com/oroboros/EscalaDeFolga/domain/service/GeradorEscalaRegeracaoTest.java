@@ -0,0 +1,121 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.SetorRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Regeração da escala: pendentes removidas em massa, contadores e última folga
+ * dos colaboradores coerentes com as folgas que restaram.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class GeradorEscalaRegeracaoTest {
+
+    @Autowired
+    private GeradorEscalaService geradorEscalaService;
+
+    @Autowired
+    private SetorRepository setorRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Escala escala;
+    private List<Colaborador> colaboradores;
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setNome("UTI Regeração");
+        setor = setorRepository.save(setor);
+
+        colaboradores = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome("COLABORADOR REGERACAO " + i);
+            colaborador.setCargo(CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            colaboradores.add(colaboradorRepository.save(colaborador));
+        }
+
+        // Julho/2030 começa numa segunda-feira
+        escala = new Escala();
+        escala.setMes(7);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        escala = escalaRepository.save(escala);
+    }
+
+    /**
+     * O colaborador com uma folga aprovada é mantido na regeração: a última folga
+     * dele volta para a aprovada, e não fica apontando para uma pendente removida
+     */
+    @Test
+    void regerarDeveRecalcularUltimaFolgaEContadores() {
+        GeradorEscalaService.GeracaoEscalaDomain primeira = geradorEscalaService.gerar(escala.getId(), false);
+        assertEquals(6 * 8, primeira.totalFolgasCriadas());
+
+        Long mantidoId = colaboradores.get(0).getId();
+        LocalDate aprovada = jdbcTemplate.queryForObject(
+                "SELECT MIN(data_solicitada) FROM folga WHERE colaborador_id = ?", LocalDate.class, mantidoId);
+        jdbcTemplate.update("UPDATE folga SET status = 'APROVADA' WHERE colaborador_id = ? AND data_solicitada = ?",
+                mantidoId, aprovada);
+        entityManager.flush();
+        entityManager.clear();
+
+        GeradorEscalaService.GeracaoEscalaDomain regerada = geradorEscalaService.gerar(escala.getId(), true);
+        entityManager.flush();
+
+        assertEquals(5 * 8, regerada.totalFolgasCriadas());
+        assertEquals(aprovada, jdbcTemplate.queryForObject(
+                "SELECT ultima_folga FROM colaborador WHERE id = ?", LocalDate.class, mantidoId));
+        assertEquals(aprovada, colaboradorRepository.findById(mantidoId).orElseThrow().getUltimaFolga());
+
+        for (Colaborador colaborador : colaboradores.subList(1, colaboradores.size())) {
+            assertEquals(
+                    jdbcTemplate.queryForObject("SELECT MAX(data_solicitada) FROM folga WHERE colaborador_id = ?",
+                            LocalDate.class, colaborador.getId()),
+                    jdbcTemplate.queryForObject("SELECT ultima_folga FROM colaborador WHERE id = ?",
+                            LocalDate.class, colaborador.getId()));
+        }
+
+        // Contadores de ocupação batem com as folgas que existem
+        assertEquals(
+                jdbcTemplate.queryForObject("SELECT COUNT(*) FROM folga WHERE escala_id = ?", Long.class, escala.getId()),
+                jdbcTemplate.queryForObject("SELECT COALESCE(SUM(total_folgas), 0) FROM ocupacao_dia WHERE escala_id = ?",
+                        Long.class, escala.getId()));
+    }
+}
@@ -0,0 +1,182 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.domain.validation.folga.*;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Planejamento em memória do gerador: regras dos validadores, teto por dia e desempenho.
+ */
+class GeradorEscalaServiceTest {
+
+    private EscalaRegrasService regras;
+    private GeradorEscalaService gerador;
+    private FolgaValidatorComposite validadores;
+
+    @BeforeEach
+    void setUp() {
+        regras = new EscalaRegrasService();
+        gerador = new GeradorEscalaService(null, null, null, null, null, null, null, regras, null);
+
+        // Os contextos em memória não acessam o repositório
+        validadores = new FolgaValidatorComposite(List.of(
+                new ValidaDuplicidadeDeFolga(null),
+                new ValidaLimiteDeFolgas(null),
+                new ValidaDomingoObrigatorio(null),
+                new ValidaDistribuicaoSemanalDeFolgas(null, regras),
+                new ValidaLimiteDeDiasTrabalho(null, regras)
+        ), null, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void devePlanejarSetorDe200ColaboradoresRapidamente() {
+        Escala escala = criarEscala(7, 2030, 8);
+        List<GeradorEscalaService.ColaboradorPlanoDomain> colaboradores = criarColaboradores(200, escala);
+
+        // Aquecimento do JIT
+        gerador.planejar(escala, 200, colaboradores, new int[31]);
+
+        long inicio = System.nanoTime();
+        int[] carga = new int[31];
+        GeradorEscalaService.PlanoEscalaDomain plano = gerador.planejar(escala, 200, colaboradores, carga);
+        long ms = (System.nanoTime() - inicio) / 1_000_000;
+
+        assertTrue(ms < 1000, "Planejamento levou " + ms + " ms");
+        assertTrue(plano.pendencias().isEmpty(), () -> plano.pendencias().get(0).motivo());
+        assertEquals(200, plano.alocacoes().size());
+        assertEquals(1600, IntStream.of(carga).sum());
+        assertTrue(IntStream.of(carga).allMatch(c -> c <= plano.tetoPorDia()));
+
+        verificarComValidadores(escala, colaboradores, plano);
+    }
+
+    @Test
+    void deveRespeitarNumeracaoDeSemanasEmMesQueNaoComecaNaSegunda() {
+        // Maio/2030 começa numa quarta-feira: a semana 1 vai do dia 1 ao dia 12
+        Escala escala = criarEscala(5, 2030, 6);
+        List<GeradorEscalaService.ColaboradorPlanoDomain> colaboradores = criarColaboradores(30, escala);
+
+        GeradorEscalaService.PlanoEscalaDomain plano = gerador.planejar(escala, 30, colaboradores, new int[31]);
+
+        assertTrue(plano.pendencias().isEmpty(), () -> plano.pendencias().get(0).motivo());
+        verificarComValidadores(escala, colaboradores, plano);
+    }
+
+    @Test
+    void deveRegistrarPendenciaQuandoUltimaFolgaInviabilizaOMes() {
+        Escala escala = criarEscala(7, 2030, 8);
+        Colaborador colaborador = criarColaborador(1L, escala);
+        var plano = gerador.planejar(escala, 10, List.of(
+                new GeradorEscalaService.ColaboradorPlanoDomain(colaborador, LocalDate.of(2030, 6, 10), 0)
+        ), new int[31]);
+
+        assertTrue(plano.alocacoes().isEmpty());
+        assertEquals(1, plano.pendencias().size());
+        assertTrue(plano.pendencias().get(0).motivo().contains("dias consecutivos"));
+    }
+
+    @Test
+    void naoDeveUltrapassarTetoNemUsarDatasBloqueadas() {
+        Escala escala = criarEscala(7, 2030, 8);
+        int[] carga = new int[31];
+        carga[6] = 5; // domingo 07/07 já lotado (teto de 5 para 10 colaboradores)
+
+        int bloqueados = 1 << 13; // domingo 14/07 já usado (ex.: folga negada)
+        Colaborador colaborador = criarColaborador(1L, escala);
+        var plano = gerador.planejar(escala, 10, List.of(
+                new GeradorEscalaService.ColaboradorPlanoDomain(colaborador, null, bloqueados)
+        ), carga);
+
+        List<LocalDate> datas = plano.alocacoes().get(0).datas();
+        assertFalse(datas.contains(LocalDate.of(2030, 7, 7)));
+        assertFalse(datas.contains(LocalDate.of(2030, 7, 14)));
+        assertTrue(datas.stream().anyMatch(d -> d.getDayOfWeek() == DayOfWeek.SUNDAY));
+        assertEquals(5, carga[6]);
+    }
+
+    /**
+     * Reproduz a gravação em lote: as datas de cada colaborador passam pelos validadores reais,
+     * em ordem cronológica, enxergando apenas as anteriores
+     */
+    private void verificarComValidadores(
+            Escala escala,
+            List<GeradorEscalaService.ColaboradorPlanoDomain> colaboradores,
+            GeradorEscalaService.PlanoEscalaDomain plano
+    ) {
+        YearMonth mes = YearMonth.of(escala.getAno(), escala.getMes());
+
+        for (GeradorEscalaService.AlocacaoDomain alocacao : plano.alocacoes()) {
+            LocalDate ultima = colaboradores.stream()
+                    .filter(c -> c.colaborador() == alocacao.colaborador())
+                    .findFirst().orElseThrow()
+                    .ultimaFolga();
+
+            assertEquals(escala.getFolgasPermitidas(), alocacao.datas().size());
+
+            List<Folga> aceitas = new ArrayList<>();
+            for (LocalDate data : alocacao.datas()) {
+                Folga folga = new Folga();
+                folga.setColaborador(alocacao.colaborador());
+                folga.setEscala(escala);
+                folga.setDataSolicitada(data);
+                folga.setStatus(StatusFolgaEnum.PENDENTE);
+
+                ResultadoValidacao resultado = validadores.validar(
+                        folga, ContextoValidacaoFolga.emMemoria(folga, aceitas, ultima));
+                assertTrue(resultado.isValido(), alocacao.colaborador().getNome() + " " + data + ": " + resultado.getMensagem());
+
+                aceitas.add(folga);
+                ultima = data;
+            }
+
+            // Deixa o mês seguinte começar dentro do limite de dias consecutivos
+            assertTrue(ChronoUnit.DAYS.between(ultima, mes.atEndOfMonth().plusDays(1)) <= regras.getDiasTrabalhoPermitidos());
+        }
+    }
+
+    private List<GeradorEscalaService.ColaboradorPlanoDomain> criarColaboradores(int total, Escala escala) {
+        LocalDate inicioMes = YearMonth.of(escala.getAno(), escala.getMes()).atDay(1);
+        List<GeradorEscalaService.ColaboradorPlanoDomain> colaboradores = new ArrayList<>();
+        for (long i = 1; i <= total; i++) {
+            // Metade sem histórico, metade com última folga entre 1 e 6 dias antes do mês
+            LocalDate ultimaFolga = i % 2 == 0 ? null : inicioMes.minusDays(1 + (i % 6));
+            colaboradores.add(new GeradorEscalaService.ColaboradorPlanoDomain(criarColaborador(i, escala), ultimaFolga, 0));
+        }
+        return colaboradores;
+    }
+
+    private Colaborador criarColaborador(long id, Escala escala) {
+        Colaborador colaborador = new Colaborador();
+        colaborador.setId(id);
+        colaborador.setNome("COLABORADOR " + id);
+        colaborador.setTurno(escala.getTurno());
+        return colaborador;
+    }
+
+    private Escala criarEscala(int mes, int ano, int folgasPermitidas) {
+        Escala escala = new Escala();
+        escala.setId(1L);
+        escala.setMes(mes);
+        escala.setAno(ano);
+        escala.setFolgasPermitidas(folgasPermitidas);
+        escala.setTurno(TurnoEnum.MANHA);
+        return escala;
+    }
+}
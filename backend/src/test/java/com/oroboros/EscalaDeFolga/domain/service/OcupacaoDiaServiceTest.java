@@ -0,0 +1,227 @@
+package com.oroboros.EscalaDeFolga.domain.service;
+
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaAlteradaEvento;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoDia;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.ColaboradorRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.OcupacaoDiaInsercaoRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.OcupacaoDiaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OcupacaoDiaServiceTest {
+
+    @Mock
+    private OcupacaoDiaRepository ocupacaoDiaRepository;
+
+    @Mock
+    private OcupacaoDiaInsercaoRepository ocupacaoDiaInsercaoRepository;
+
+    @Mock
+    private FolgaRepository folgaRepository;
+
+    @Mock
+    private ColaboradorRepository colaboradorRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private OcupacaoDiaService ocupacaoDiaService;
+
+    private Escala escala;
+
+    @BeforeEach
+    void setUp() {
+        escala = new Escala();
+        escala.setId(10L);
+        escala.setMes(7);
+        escala.setAno(2030);
+        escala.setSetor(new Setor());
+        escala.setTurno(TurnoEnum.MANHA);
+    }
+
+    @Test
+    void deveReservarVagaNoContadorExistenteSemContarFolgas() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(colaboradorRepository.countBySetorAndTurno(any(), any())).thenReturn(10L);
+        when(ocupacaoDiaRepository.reservar(10L, data, 1, 5)).thenReturn(1);
+
+        ocupacaoDiaService.registrarInclusao(criarFolga(data, StatusFolgaEnum.PENDENTE));
+
+        verify(ocupacaoDiaRepository).reservar(10L, data, 1, 5);
+        verifyNoInteractions(folgaRepository);
+    }
+
+    @Test
+    void deveCriarContadorComContagemRealQuandoAusente() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(colaboradorRepository.countBySetorAndTurno(any(), any())).thenReturn(10L);
+        when(ocupacaoDiaRepository.reservar(10L, data, 1, 5)).thenReturn(0);
+        when(ocupacaoDiaRepository.findByEscalaIdAndData(10L, data)).thenReturn(Optional.empty());
+        when(folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(any(), any(), any())).thenReturn(4L);
+        when(ocupacaoDiaInsercaoRepository.inserirSeAusente(10L, data, 4)).thenReturn(true);
+
+        ocupacaoDiaService.registrarInclusao(criarFolga(data, StatusFolgaEnum.PENDENTE));
+
+        verify(ocupacaoDiaInsercaoRepository).inserirSeAusente(10L, data, 4);
+        verify(ocupacaoDiaRepository, times(1)).reservar(10L, data, 1, 5);
+    }
+
+    @Test
+    void deveReservarNoContadorCriadoPorOutraTransacao() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(colaboradorRepository.countBySetorAndTurno(any(), any())).thenReturn(10L);
+        when(ocupacaoDiaRepository.reservar(10L, data, 1, 5)).thenReturn(0, 1);
+        when(ocupacaoDiaRepository.findByEscalaIdAndData(10L, data)).thenReturn(Optional.empty());
+        when(folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(any(), any(), any())).thenReturn(1L);
+        when(ocupacaoDiaInsercaoRepository.inserirSeAusente(10L, data, 1)).thenReturn(false);
+
+        ocupacaoDiaService.registrarInclusao(criarFolga(data, StatusFolgaEnum.PENDENTE));
+
+        verify(ocupacaoDiaRepository, times(2)).reservar(10L, data, 1, 5);
+    }
+
+    @Test
+    void deveRejeitarQuandoOContadorCriadoPorOutraTransacaoLotouODia() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(colaboradorRepository.countBySetorAndTurno(any(), any())).thenReturn(10L);
+        when(ocupacaoDiaRepository.reservar(10L, data, 1, 5)).thenReturn(0, 0);
+        when(ocupacaoDiaRepository.findByEscalaIdAndData(10L, data)).thenReturn(Optional.empty());
+        when(folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(any(), any(), any())).thenReturn(1L);
+        when(ocupacaoDiaInsercaoRepository.inserirSeAusente(10L, data, 1)).thenReturn(false);
+
+        assertThrows(BusinessException.class,
+                () -> ocupacaoDiaService.registrarInclusao(criarFolga(data, StatusFolgaEnum.PENDENTE)));
+    }
+
+    @Test
+    void deveSomarAoContadorCriadoPorOutraTransacaoAoAjustar() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(ocupacaoDiaRepository.incrementar(10L, data, -1)).thenReturn(0, 1);
+        when(folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(any(), any(), any())).thenReturn(2L);
+        when(ocupacaoDiaInsercaoRepository.inserirSeAusente(10L, data, 2)).thenReturn(false);
+
+        ocupacaoDiaService.registrarRemocao(criarFolga(data, StatusFolgaEnum.PENDENTE));
+
+        verify(ocupacaoDiaRepository, times(2)).incrementar(10L, data, -1);
+    }
+
+    @Test
+    void deveRejeitarInclusaoQuandoODiaEstaCheio() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(colaboradorRepository.countBySetorAndTurno(any(), any())).thenReturn(10L);
+        when(ocupacaoDiaRepository.reservar(10L, data, 1, 5)).thenReturn(0);
+        when(ocupacaoDiaRepository.findByEscalaIdAndData(10L, data))
+                .thenReturn(Optional.of(OcupacaoDia.criar(10L, data, 5)));
+
+        BusinessException erro = assertThrows(BusinessException.class,
+                () -> ocupacaoDiaService.registrarInclusao(criarFolga(data, StatusFolgaEnum.PENDENTE)));
+
+        assertEquals("O dia 03/07/2030 já atingiu o limite de 5 folga(s) da escala.", erro.getMessage());
+        verifyNoInteractions(ocupacaoDiaInsercaoRepository);
+    }
+
+    @Test
+    void deveRejeitarCriacaoDoContadorAcimaDoLimite() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(colaboradorRepository.countBySetorAndTurno(any(), any())).thenReturn(1L);
+        when(ocupacaoDiaRepository.reservar(10L, data, 1, 1)).thenReturn(0);
+        when(ocupacaoDiaRepository.findByEscalaIdAndData(10L, data)).thenReturn(Optional.empty());
+        // Já inclui a folga da transação atual
+        when(folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(any(), any(), any())).thenReturn(2L);
+
+        assertThrows(BusinessException.class,
+                () -> ocupacaoDiaService.registrarInclusao(criarFolga(data, StatusFolgaEnum.PENDENTE)));
+        verifyNoInteractions(ocupacaoDiaInsercaoRepository);
+    }
+
+    @Test
+    void deveMoverOcupacaoQuandoDataMuda() {
+        LocalDate anterior = LocalDate.of(2030, 7, 3);
+        LocalDate nova = LocalDate.of(2030, 7, 9);
+        when(colaboradorRepository.countBySetorAndTurno(any(), any())).thenReturn(10L);
+        when(ocupacaoDiaRepository.incrementar(any(), any(), anyInt())).thenReturn(1);
+        when(ocupacaoDiaRepository.reservar(any(), any(), anyInt(), anyInt())).thenReturn(1);
+
+        ocupacaoDiaService.registrarAlteracao(criarFolga(nova, StatusFolgaEnum.PENDENTE), anterior, StatusFolgaEnum.PENDENTE);
+
+        verify(ocupacaoDiaRepository).incrementar(10L, anterior, -1);
+        verify(ocupacaoDiaRepository).reservar(10L, nova, 1, 5);
+    }
+
+    @Test
+    void deveLiberarDiaQuandoFolgaENegada() {
+        LocalDate data = LocalDate.of(2030, 7, 3);
+        when(ocupacaoDiaRepository.incrementar(10L, data, -1)).thenReturn(1);
+
+        ocupacaoDiaService.registrarAlteracao(criarFolga(data, StatusFolgaEnum.NEGADA), data, StatusFolgaEnum.APROVADA);
+
+        verify(ocupacaoDiaRepository).incrementar(10L, data, -1);
+        verifyNoMoreInteractions(ocupacaoDiaRepository);
+    }
+
+    @Test
+    void deveCorrigirContadoresDivergentesNaReconciliacao() {
+        OcupacaoDia divergente = OcupacaoDia.criar(10L, LocalDate.of(2030, 7, 3), 5);
+        OcupacaoDia correto = OcupacaoDia.criar(10L, LocalDate.of(2030, 7, 4), 2);
+        OcupacaoDia orfao = OcupacaoDia.criar(10L, LocalDate.of(2030, 7, 5), 1);
+        when(ocupacaoDiaRepository.travarPorEscala(10L)).thenReturn(List.of(divergente, correto, orfao));
+        when(folgaRepository.contarFolgasAtivasPorDia(10L)).thenReturn(List.of(
+                total(LocalDate.of(2030, 7, 3), 3),
+                total(LocalDate.of(2030, 7, 4), 2),
+                total(LocalDate.of(2030, 7, 6), 1)
+        ));
+        when(ocupacaoDiaInsercaoRepository.inserirSeAusente(10L, LocalDate.of(2030, 7, 6), 1)).thenReturn(true);
+
+        int divergencias = ocupacaoDiaService.reconciliar(10L);
+
+        assertEquals(3, divergencias);
+        assertEquals(3, divergente.getTotalFolgas());
+        assertEquals(2, correto.getTotalFolgas());
+        assertEquals(0, orfao.getTotalFolgas());
+        verify(ocupacaoDiaInsercaoRepository).inserirSeAusente(10L, LocalDate.of(2030, 7, 6), 1);
+        // Os contadores são travados antes da contagem real
+        InOrder ordem = inOrder(ocupacaoDiaRepository, folgaRepository);
+        ordem.verify(ocupacaoDiaRepository).travarPorEscala(10L);
+        ordem.verify(folgaRepository).contarFolgasAtivasPorDia(10L);
+        verify(eventPublisher).publishEvent(new EscalaAlteradaEvento(10L, EscalaAlteradaEvento.Origem.RECONCILIACAO));
+    }
+
+    private Folga criarFolga(LocalDate data, StatusFolgaEnum status) {
+        Folga folga = new Folga();
+        folga.setEscala(escala);
+        folga.setDataSolicitada(data);
+        folga.setStatus(status);
+        return folga;
+    }
+
+    private FolgaRepository.TotalFolgasDia total(LocalDate data, long total) {
+        return new FolgaRepository.TotalFolgasDia() {
+            public LocalDate getData() { return data; }
+            public Long getTotal() { return total; }
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.oroboros.EscalaDeFolga.domain.service.alerta;
+
+import com.oroboros.EscalaDeFolga.config.AlertasProperties;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.AlertaOutbox;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.StatusOutboxEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AlertaOutboxRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AlertaOutboxServiceTest {
+
+    @Mock
+    private AlertaOutboxRepository outboxRepository;
+
+    @Mock
+    private FolgaRepository folgaRepository;
+
+    @Mock
+    private AlertaService alertaService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private AlertaOutboxService service;
+
+    @BeforeEach
+    void setUp() {
+        AlertasProperties properties = new AlertasProperties(true, 2, 500, 5000, 3);
+        service = new AlertaOutboxService(outboxRepository, folgaRepository, alertaService, properties, eventPublisher);
+    }
+
+    @Test
+    void deveRegistrarPedidoEPublicarEvento() {
+        Folga folga = new Folga();
+        folga.setId(7L);
+        when(outboxRepository.save(any(AlertaOutbox.class))).thenAnswer(inv -> {
+            AlertaOutbox outbox = inv.getArgument(0);
+            outbox.setId(1L);
+            return outbox;
+        });
+
+        AlertaOutbox outbox = service.registrar(folga);
+
+        assertEquals(7L, outbox.getFolgaId());
+        assertEquals(StatusOutboxEnum.PENDENTE, outbox.getStatus());
+        verify(eventPublisher).publishEvent(new AlertaOutboxService.PedidoAlertaRegistrado(1L));
+        verifyNoInteractions(alertaService);
+    }
+
+    @Test
+    void deveGerarAlertasEConcluirPedido() {
+        AlertaOutbox outbox = AlertaOutbox.criar(7L);
+        Folga folga = new Folga();
+        folga.setId(7L);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(folgaRepository.findParaAlertasById(7L)).thenReturn(Optional.of(folga));
+        when(alertaService.gerarEPersistirAlertas(folga)).thenReturn(List.of());
+
+        service.processar(1L);
+
+        verify(alertaService).gerarEPersistirAlertas(folga);
+        assertEquals(StatusOutboxEnum.CONCLUIDO, outbox.getStatus());
+        assertNotNull(outbox.getDataProcessamento());
+    }
+
+    @Test
+    void deveConcluirSemGerarQuandoFolgaFoiRemovida() {
+        AlertaOutbox outbox = AlertaOutbox.criar(7L);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+        when(folgaRepository.findParaAlertasById(7L)).thenReturn(Optional.empty());
+
+        service.processar(1L);
+
+        verifyNoInteractions(alertaService);
+        assertEquals(StatusOutboxEnum.CONCLUIDO, outbox.getStatus());
+    }
+
+    @Test
+    void deveVoltarParaFilaAteEsgotarTentativas() {
+        AlertaOutbox outbox = AlertaOutbox.criar(7L);
+        when(outboxRepository.findById(1L)).thenReturn(Optional.of(outbox));
+
+        outbox.setTentativas(1);
+        service.registrarFalha(1L, new RuntimeException("timeout"));
+        assertEquals(StatusOutboxEnum.PENDENTE, outbox.getStatus());
+        assertEquals("timeout", outbox.getUltimoErro());
+
+        outbox.setTentativas(3);
+        service.registrarFalha(1L, new RuntimeException("timeout"));
+        assertEquals(StatusOutboxEnum.FALHA, outbox.getStatus());
+    }
+
+    @Test
+    void reservaExpiradaDeveIrParaFalhaAoEsgotarTentativas() {
+        LocalDateTime limite = LocalDateTime.of(2030, 7, 1, 10, 0);
+        when(outboxRepository.falharReservasEsgotadas(eq(limite), eq(3), any())).thenReturn(1);
+        when(outboxRepository.liberarReservasExpiradas(limite, 3)).thenReturn(2);
+
+        assertEquals(2, service.liberarReservasExpiradas(limite));
+
+        verify(outboxRepository).falharReservasEsgotadas(eq(limite), eq(3), any());
+        verify(outboxRepository).liberarReservasExpiradas(limite, 3);
+    }
+}
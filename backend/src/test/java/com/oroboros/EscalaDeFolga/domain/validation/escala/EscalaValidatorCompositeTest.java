@@ -3,6 +3,9 @@ package com.oroboros.EscalaDeFolga.domain.validation.escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusEscalaEnum;
 import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,7 +52,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRetornarOkQuandoTodosValidadoresPassam() {
         List<IEscalaValidator> validators = Arrays.asList(validador1, validador2, validador3);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.ok());
         when(validador2.validar(escala)).thenReturn(ResultadoValidacao.ok());
@@ -71,7 +74,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRetornarErroDoPrimeiroValidadorQuandoFalha() {
         List<IEscalaValidator> validators = Arrays.asList(validador1, validador2, validador3);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         String mensagemErro = "Erro no validador 1";
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.erro(mensagemErro));
@@ -94,7 +97,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRetornarErroDoSegundoValidadorQuandoFalha() {
         List<IEscalaValidator> validators = Arrays.asList(validador1, validador2, validador3);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         String mensagemErro = "Erro no validador 2";
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.ok());
@@ -118,7 +121,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRetornarErroDoUltimoValidadorQuandoFalha() {
         List<IEscalaValidator> validators = Arrays.asList(validador1, validador2, validador3);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         String mensagemErro = "Erro no validador 3";
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.ok());
@@ -143,7 +146,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRetornarOkQuandoListaDeValidadoresVazia() {
         List<IEscalaValidator> validators = new ArrayList<>();
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         var resultado = composite.validar(escala);
 
@@ -158,7 +161,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRetornarOkComApenasUmValidadorQuePassa() {
         List<IEscalaValidator> validators = Arrays.asList(validador1);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.ok());
 
@@ -176,7 +179,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRetornarErroComApenasUmValidadorQueFalha() {
         List<IEscalaValidator> validators = Arrays.asList(validador1);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         String mensagemErro = "Validação falhou";
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.erro(mensagemErro));
@@ -197,7 +200,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveExecutarNaOrdemAteEncontrarErro() {
         List<IEscalaValidator> validators = Arrays.asList(validador1, validador2, validador3);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.ok());
         when(validador2.validar(escala)).thenReturn(ResultadoValidacao.ok());
@@ -221,7 +224,7 @@ public class EscalaValidatorCompositeTest {
     @Test
     void devePassarMesmaInstanciaDeEscalaParaTodos() {
         List<IEscalaValidator> validators = Arrays.asList(validador1, validador2);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.ok());
         when(validador2.validar(escala)).thenReturn(ResultadoValidacao.ok());
@@ -238,11 +241,11 @@ public class EscalaValidatorCompositeTest {
      */
     @Test
     void deveValidarComValidadoresReais() {
-        ValidaEscalaEditavel validaEditavel = new ValidaEscalaEditavel();
-        ValidaExclusaoPossivel validaExclusao = new ValidaExclusaoPossivel();
+        ValidaEscalaEditavel validaEditavel = new ValidaEscalaEditavel(mock(FolgaRepository.class));
+        ValidaExclusaoPossivel validaExclusao = new ValidaExclusaoPossivel(mock(FolgaRepository.class), mock(EscalaRepository.class));
 
         List<IEscalaValidator> validators = Arrays.asList(validaEditavel, validaExclusao);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         // Escala NOVA sem dependências - deve passar em ambos
         var resultado = composite.validar(escala);
@@ -258,11 +261,11 @@ public class EscalaValidatorCompositeTest {
      */
     @Test
     void deveRetornarPrimeiroErroEmCadeiaDeValidadoresReais() {
-        ValidaEscalaEditavel validaEditavel = new ValidaEscalaEditavel();
-        ValidaExclusaoPossivel validaExclusao = new ValidaExclusaoPossivel();
+        ValidaEscalaEditavel validaEditavel = new ValidaEscalaEditavel(mock(FolgaRepository.class));
+        ValidaExclusaoPossivel validaExclusao = new ValidaExclusaoPossivel(mock(FolgaRepository.class), mock(EscalaRepository.class));
 
         List<IEscalaValidator> validators = Arrays.asList(validaEditavel, validaExclusao);
-        composite = new EscalaValidatorComposite(validators);
+        composite = new EscalaValidatorComposite(validators, new SimpleMeterRegistry());
 
         escala.setStatus(StatusEscalaEnum.PUBLICADA);
 
@@ -282,10 +285,10 @@ public class EscalaValidatorCompositeTest {
     @Test
     void deveRespeitarOrdemDosValidadores() {
         List<IEscalaValidator> validators1 = Arrays.asList(validador1, validador2);
-        EscalaValidatorComposite composite1 = new EscalaValidatorComposite(validators1);
+        EscalaValidatorComposite composite1 = new EscalaValidatorComposite(validators1, new SimpleMeterRegistry());
 
         List<IEscalaValidator> validators2 = Arrays.asList(validador2, validador1);
-        EscalaValidatorComposite composite2 = new EscalaValidatorComposite(validators2);
+        EscalaValidatorComposite composite2 = new EscalaValidatorComposite(validators2, new SimpleMeterRegistry());
 
         when(validador1.validar(escala)).thenReturn(ResultadoValidacao.erro("Erro 1"));
         when(validador2.validar(escala)).thenReturn(ResultadoValidacao.erro("Erro 2"));
@@ -298,4 +301,29 @@ public class EscalaValidatorCompositeTest {
         assertEquals("Erro 2", resultado2.getMensagem(),
                 "Segundo composite deve retornar erro do validador2");
     }
+
+    /**
+     * Caso 13: Cada execução é medida por validador e resultado.
+     */
+    @Test
+    void deveMedirCadaValidadorPorResultado() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ValidaEscalaEditavel validaEditavel = new ValidaEscalaEditavel(mock(FolgaRepository.class));
+        composite = new EscalaValidatorComposite(List.of(validaEditavel, validador1), registry);
+
+        when(validador1.validar(escala)).thenThrow(new IllegalStateException("falhou"));
+
+        escala.setStatus(StatusEscalaEnum.NOVA);
+        assertThrows(IllegalStateException.class, () -> composite.validar(escala));
+
+        escala.setStatus(StatusEscalaEnum.PUBLICADA);
+        assertFalse(composite.validar(escala).isValido());
+
+        assertEquals(1, registry.get(EscalaValidatorComposite.METRICA)
+                .tags("classe", "ValidaEscalaEditavel", "resultado", "ok").timer().count());
+        assertEquals(1, registry.get(EscalaValidatorComposite.METRICA)
+                .tags("classe", "ValidaEscalaEditavel", "resultado", "rejeitada").timer().count());
+        assertEquals(1, registry.get(EscalaValidatorComposite.METRICA)
+                .tag("resultado", "erro").timer().count());
+    }
 }
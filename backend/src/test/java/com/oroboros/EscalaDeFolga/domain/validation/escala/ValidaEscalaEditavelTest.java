@@ -5,10 +5,12 @@ import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusEscalaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
@@ -16,10 +18,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
 
 @ExtendWith(MockitoExtension.class)
 public class ValidaEscalaEditavelTest {
 
+    @Mock
+    private FolgaRepository folgaRepository;
+
     @InjectMocks
     private ValidaEscalaEditavel validaEscalaEditavel;
 
@@ -112,7 +118,7 @@ public class ValidaEscalaEditavelTest {
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 5, 5), StatusFolgaEnum.PENDENTE);
         Folga folga2 = criarFolga(LocalDate.of(2025, 5, 12), StatusFolgaEnum.PENDENTE);
-        escala.setFolgas(Arrays.asList(folga1, folga2));
+        comFolgas(folga1, folga2);
 
         var resultado = validaEscalaEditavel.validar(escala);
 
@@ -130,7 +136,7 @@ public class ValidaEscalaEditavelTest {
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 5, 5), StatusFolgaEnum.NEGADA);
         Folga folga2 = criarFolga(LocalDate.of(2025, 5, 12), StatusFolgaEnum.NEGADA);
-        escala.setFolgas(Arrays.asList(folga1, folga2));
+        comFolgas(folga1, folga2);
 
         var resultado = validaEscalaEditavel.validar(escala);
 
@@ -148,7 +154,7 @@ public class ValidaEscalaEditavelTest {
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 5, 5), StatusFolgaEnum.PENDENTE);
         Folga folga2 = criarFolga(LocalDate.of(2025, 5, 12), StatusFolgaEnum.APROVADA);
-        escala.setFolgas(Arrays.asList(folga1, folga2));
+        comFolgas(folga1, folga2);
 
         var resultado = validaEscalaEditavel.validar(escala);
 
@@ -169,7 +175,7 @@ public class ValidaEscalaEditavelTest {
         Folga folga1 = criarFolga(LocalDate.of(2025, 5, 5), StatusFolgaEnum.APROVADA);
         Folga folga2 = criarFolga(LocalDate.of(2025, 5, 12), StatusFolgaEnum.APROVADA);
         Folga folga3 = criarFolga(LocalDate.of(2025, 5, 19), StatusFolgaEnum.PENDENTE);
-        escala.setFolgas(Arrays.asList(folga1, folga2, folga3));
+        comFolgas(folga1, folga2, folga3);
 
         var resultado = validaEscalaEditavel.validar(escala);
 
@@ -188,7 +194,7 @@ public class ValidaEscalaEditavelTest {
         Folga folga1 = criarFolga(LocalDate.of(2025, 5, 5), StatusFolgaEnum.PENDENTE);
         Folga folga2 = criarFolga(LocalDate.of(2025, 5, 12), StatusFolgaEnum.NEGADA);
         Folga folga3 = criarFolga(LocalDate.of(2025, 5, 19), StatusFolgaEnum.PENDENTE);
-        escala.setFolgas(Arrays.asList(folga1, folga2, folga3));
+        comFolgas(folga1, folga2, folga3);
 
         var resultado = validaEscalaEditavel.validar(escala);
 
@@ -221,7 +227,7 @@ public class ValidaEscalaEditavelTest {
         escala.setStatus(StatusEscalaEnum.PUBLICADA);
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 5, 5), StatusFolgaEnum.APROVADA);
-        escala.setFolgas(Arrays.asList(folga1));
+        comFolgas(folga1);
 
         var resultado = validaEscalaEditavel.validar(escala);
 
@@ -248,6 +254,14 @@ public class ValidaEscalaEditavelTest {
 
     // ==================== Métodos Auxiliares ====================
 
+    /**
+     * Folgas gravadas na escala: o validador só consulta se existe alguma aprovada
+     */
+    private void comFolgas(Folga... folgas) {
+        boolean aprovadas = Arrays.stream(folgas).anyMatch(f -> f.getStatus() == StatusFolgaEnum.APROVADA);
+        lenient().when(folgaRepository.existsByEscalaAndStatus(escala, StatusFolgaEnum.APROVADA)).thenReturn(aprovadas);
+    }
+
     private Folga criarFolga(LocalDate data, StatusFolgaEnum status) {
         Folga folga = new Folga();
         folga.setId(System.currentTimeMillis() + Math.round(Math.random() * 1000));
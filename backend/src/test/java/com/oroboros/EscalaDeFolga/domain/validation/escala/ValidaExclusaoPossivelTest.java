@@ -6,22 +6,31 @@ import com.oroboros.EscalaDeFolga.domain.model.escala.EscalaColaborador;
 import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusEscalaEnum;
 import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.EscalaRepository;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.lenient;
 
 @ExtendWith(MockitoExtension.class)
 public class ValidaExclusaoPossivelTest {
 
+    @Mock
+    private FolgaRepository folgaRepository;
+
+    @Mock
+    private EscalaRepository escalaRepository;
+
     @InjectMocks
     private ValidaExclusaoPossivel validaExclusaoPossivel;
 
@@ -68,7 +77,7 @@ public class ValidaExclusaoPossivelTest {
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 6, 5), StatusFolgaEnum.PENDENTE);
         Folga folga2 = criarFolga(LocalDate.of(2025, 6, 12), StatusFolgaEnum.NEGADA);
-        escala.setFolgas(Arrays.asList(folga1, folga2));
+        comFolgas(folga1, folga2);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -118,7 +127,7 @@ public class ValidaExclusaoPossivelTest {
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 6, 5), StatusFolgaEnum.PENDENTE);
         Folga folga2 = criarFolga(LocalDate.of(2025, 6, 12), StatusFolgaEnum.APROVADA);
-        escala.setFolgas(Arrays.asList(folga1, folga2));
+        comFolgas(folga1, folga2);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -139,7 +148,7 @@ public class ValidaExclusaoPossivelTest {
         Folga folga1 = criarFolga(LocalDate.of(2025, 6, 5), StatusFolgaEnum.APROVADA);
         Folga folga2 = criarFolga(LocalDate.of(2025, 6, 12), StatusFolgaEnum.APROVADA);
         Folga folga3 = criarFolga(LocalDate.of(2025, 6, 19), StatusFolgaEnum.APROVADA);
-        escala.setFolgas(Arrays.asList(folga1, folga2, folga3));
+        comFolgas(folga1, folga2, folga3);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -156,7 +165,7 @@ public class ValidaExclusaoPossivelTest {
         escala.setStatus(StatusEscalaEnum.NOVA);
 
         EscalaColaborador registro1 = criarRegistro(LocalDate.of(2025, 6, 5));
-        escala.setRegistros(Arrays.asList(registro1));
+        comRegistros(registro1);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -177,7 +186,7 @@ public class ValidaExclusaoPossivelTest {
         EscalaColaborador registro1 = criarRegistro(LocalDate.of(2025, 6, 5));
         EscalaColaborador registro2 = criarRegistro(LocalDate.of(2025, 6, 6));
         EscalaColaborador registro3 = criarRegistro(LocalDate.of(2025, 6, 7));
-        escala.setRegistros(Arrays.asList(registro1, registro2, registro3));
+        comRegistros(registro1, registro2, registro3);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -195,10 +204,10 @@ public class ValidaExclusaoPossivelTest {
         escala.setStatus(StatusEscalaEnum.PUBLICADA);
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 6, 5), StatusFolgaEnum.APROVADA);
-        escala.setFolgas(Arrays.asList(folga1));
+        comFolgas(folga1);
 
         EscalaColaborador registro1 = criarRegistro(LocalDate.of(2025, 6, 5));
-        escala.setRegistros(Arrays.asList(registro1));
+        comRegistros(registro1);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -219,7 +228,7 @@ public class ValidaExclusaoPossivelTest {
         escala.setStatus(StatusEscalaEnum.NOVA);
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 6, 5), StatusFolgaEnum.APROVADA);
-        escala.setFolgas(Arrays.asList(folga1));
+        comFolgas(folga1);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -241,7 +250,7 @@ public class ValidaExclusaoPossivelTest {
         Folga folga1 = criarFolga(LocalDate.of(2025, 6, 5), StatusFolgaEnum.PENDENTE);
         Folga folga2 = criarFolga(LocalDate.of(2025, 6, 12), StatusFolgaEnum.PENDENTE);
         Folga folga3 = criarFolga(LocalDate.of(2025, 6, 19), StatusFolgaEnum.NEGADA);
-        escala.setFolgas(Arrays.asList(folga1, folga2, folga3));
+        comFolgas(folga1, folga2, folga3);
 
         var resultado = validaExclusaoPossivel.validar(escala);
 
@@ -276,7 +285,7 @@ public class ValidaExclusaoPossivelTest {
         escala.setStatus(StatusEscalaEnum.NOVA);
 
         Folga folga1 = criarFolga(LocalDate.of(2025, 6, 5), StatusFolgaEnum.PENDENTE);
-        escala.setFolgas(List.of(folga1));
+        comFolgas(folga1);
         escala.setRegistros(null);
 
         var resultado = validaExclusaoPossivel.validar(escala);
@@ -304,6 +313,18 @@ public class ValidaExclusaoPossivelTest {
 
     // ==================== Métodos Auxiliares ====================
 
+    /**
+     * Folgas gravadas na escala: o validador só consulta se existe alguma aprovada
+     */
+    private void comFolgas(Folga... folgas) {
+        boolean aprovadas = Arrays.stream(folgas).anyMatch(f -> f.getStatus() == StatusFolgaEnum.APROVADA);
+        lenient().when(folgaRepository.existsByEscalaAndStatus(escala, StatusFolgaEnum.APROVADA)).thenReturn(aprovadas);
+    }
+
+    private void comRegistros(EscalaColaborador... registros) {
+        lenient().when(escalaRepository.existsRegistroDeTrabalho(escala)).thenReturn(registros.length > 0);
+    }
+
     private Folga criarFolga(LocalDate data, StatusFolgaEnum status) {
         Folga folga = new Folga();
         folga.setId(System.currentTimeMillis() + Math.round(Math.random() * 1000));
@@ -0,0 +1,167 @@
+package com.oroboros.EscalaDeFolga.domain.validation.folga;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import com.oroboros.EscalaDeFolga.domain.service.EscalaRegrasService;
+import com.oroboros.EscalaDeFolga.domain.validation.ResultadoValidacao;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.FolgaRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Garante que o composite compartilha um único contexto entre os validadores,
+ * executando no máximo duas consultas por solicitação de folga.
+ */
+@ExtendWith(MockitoExtension.class)
+class FolgaValidatorCompositeTest {
+
+    private static final LocalDate INICIO_MES = LocalDate.of(2025, 5, 1);
+    private static final LocalDate FIM_MES = LocalDate.of(2025, 5, 31);
+
+    @Mock
+    private FolgaRepository folgaRepository;
+
+    private FolgaValidatorComposite composite;
+
+    private Colaborador colaborador;
+    private Escala escala;
+
+    @BeforeEach
+    void setUp() {
+        EscalaRegrasService regras = new EscalaRegrasService();
+
+        composite = new FolgaValidatorComposite(List.of(
+                new ValidaDuplicidadeDeFolga(folgaRepository),
+                new ValidaLimiteDeFolgas(folgaRepository),
+                new ValidaDomingoObrigatorio(folgaRepository),
+                new ValidaDistribuicaoSemanalDeFolgas(folgaRepository, regras),
+                new ValidaLimiteDeDiasTrabalho(folgaRepository, regras)
+        ), folgaRepository, new SimpleMeterRegistry());
+
+        colaborador = new Colaborador();
+        colaborador.setId(1L);
+        colaborador.setNome("Alexandre Dinis");
+
+        escala = new Escala();
+        escala.setId(1L);
+        escala.setMes(5);
+        escala.setAno(2025);
+        escala.setFolgasPermitidas(5);
+    }
+
+    @Test
+    void deveExecutarTodasAsRegrasComApenasDuasConsultas() {
+        when(folgaRepository.findDoColaboradorNaEscalaOuNoMes(colaborador, escala, INICIO_MES, FIM_MES)).thenReturn(List.of(
+                criarFolga(10L, LocalDate.of(2025, 5, 4), StatusFolgaEnum.APROVADA),   // domingo
+                criarFolga(11L, LocalDate.of(2025, 5, 9), StatusFolgaEnum.PENDENTE)
+        ));
+        LocalDate novaData = LocalDate.of(2025, 5, 14);
+        when(folgaRepository.findUltimaFolgaAntesDe(colaborador, novaData))
+                .thenReturn(Optional.of(LocalDate.of(2025, 5, 9)));
+
+        ResultadoValidacao resultado = composite.validar(criarFolga(null, novaData, StatusFolgaEnum.PENDENTE));
+
+        assertTrue(resultado.isValido(), resultado.getMensagem());
+        verify(folgaRepository).findDoColaboradorNaEscalaOuNoMes(colaborador, escala, INICIO_MES, FIM_MES);
+        verify(folgaRepository).findUltimaFolgaAntesDe(colaborador, novaData);
+        verifyNoMoreInteractions(folgaRepository);
+    }
+
+    @Test
+    void deveDetectarDuplicidadeSemConsultaEspecifica() {
+        LocalDate data = LocalDate.of(2025, 5, 9);
+        when(folgaRepository.findDoColaboradorNaEscalaOuNoMes(colaborador, escala, INICIO_MES, FIM_MES)).thenReturn(List.of(
+                criarFolga(11L, data, StatusFolgaEnum.NEGADA)
+        ));
+
+        ResultadoValidacao resultado = composite.validar(criarFolga(null, data, StatusFolgaEnum.PENDENTE));
+
+        assertFalse(resultado.isValido());
+        assertEquals("Já existe uma folga cadastrada para essa data.", resultado.getMensagem());
+        verify(folgaRepository, never()).existsByColaboradorAndDataSolicitada(any(), any());
+    }
+
+    @Test
+    void naoDeveConsiderarAPropriaFolgaAoRevalidarAtualizacao() {
+        LocalDate data = LocalDate.of(2025, 5, 14);
+        Folga emEdicao = criarFolga(12L, data, StatusFolgaEnum.PENDENTE);
+        when(folgaRepository.findDoColaboradorNaEscalaOuNoMes(colaborador, escala, INICIO_MES, FIM_MES)).thenReturn(List.of(
+                criarFolga(10L, LocalDate.of(2025, 5, 4), StatusFolgaEnum.APROVADA),
+                emEdicao
+        ));
+        when(folgaRepository.findUltimaFolgaAntesDe(colaborador, data))
+                .thenReturn(Optional.of(LocalDate.of(2025, 5, 9)));
+
+        ResultadoValidacao resultado = composite.validar(emEdicao);
+
+        assertTrue(resultado.isValido(), resultado.getMensagem());
+    }
+
+    @Test
+    void deveConsiderarFolgasDoMesEmOutrasEscalasNaDuplicidadeENoDomingo() {
+        Escala outraEscala = new Escala();
+        outraEscala.setId(2L);
+        outraEscala.setMes(5);
+        outraEscala.setAno(2025);
+
+        LocalDate data = LocalDate.of(2025, 5, 9);
+        Folga deOutraEscala = criarFolga(20L, data, StatusFolgaEnum.PENDENTE);
+        deOutraEscala.setEscala(outraEscala);
+        when(folgaRepository.findDoColaboradorNaEscalaOuNoMes(colaborador, escala, INICIO_MES, FIM_MES))
+                .thenReturn(List.of(deOutraEscala));
+
+        ResultadoValidacao resultado = composite.validar(criarFolga(null, data, StatusFolgaEnum.PENDENTE));
+
+        assertFalse(resultado.isValido());
+        assertEquals("Já existe uma folga cadastrada para essa data.", resultado.getMensagem());
+
+        // Domingo em outra escala do mês conta para a regra; o total é só desta escala
+        Folga domingo = criarFolga(21L, LocalDate.of(2025, 5, 4), StatusFolgaEnum.APROVADA);
+        domingo.setEscala(outraEscala);
+        ContextoValidacaoFolga contexto = ContextoValidacaoFolga.emMemoria(
+                criarFolga(null, LocalDate.of(2025, 5, 14), StatusFolgaEnum.PENDENTE), List.of(domingo), null);
+        assertTrue(contexto.isTemDomingoNoMes());
+        assertEquals(0, contexto.getTotalFolgasAtivas());
+    }
+
+    @Test
+    void contextoIsoladoTambemDeveDesconsiderarAPropriaFolga() {
+        LocalDate data = LocalDate.of(2025, 5, 14);
+        Folga emEdicao = criarFolga(12L, data, StatusFolgaEnum.PENDENTE);
+        when(folgaRepository.existsByColaboradorAndDataSolicitadaAndIdNot(colaborador, data, 12L)).thenReturn(false);
+        when(folgaRepository.existsOutraFolgaDomingoNoMes(colaborador, 5, 2025, 12L)).thenReturn(false);
+        when(folgaRepository.findByColaboradorAndEscalaAndStatusIn(colaborador, escala, ContextoValidacaoFolga.STATUS_ATIVOS))
+                .thenReturn(List.of(emEdicao));
+
+        ContextoValidacaoFolga contexto = ContextoValidacaoFolga.isolado(emEdicao, folgaRepository);
+
+        assertFalse(contexto.isExisteFolgaNaData());
+        assertFalse(contexto.isTemDomingoNoMes());
+        assertEquals(0, contexto.getTotalFolgasAtivas());
+        verify(folgaRepository, never()).existsByColaboradorAndDataSolicitada(any(), any());
+        verify(folgaRepository, never()).countByColaboradorAndEscalaAndStatusIn(any(), any(), any());
+    }
+
+    private Folga criarFolga(Long id, LocalDate data, StatusFolgaEnum status) {
+        Folga folga = new Folga();
+        folga.setId(id);
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(data);
+        folga.setStatus(status);
+        return folga;
+    }
+}
@@ -0,0 +1,150 @@
+package com.oroboros.EscalaDeFolga.infrastructure.auditoria;
+
+import com.oroboros.EscalaDeFolga.app.dto.colaborador.AuditoriaInfoDTO;
+import com.oroboros.EscalaDeFolga.config.AuditoriaProperties;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AuditoriaColaborador;
+import com.oroboros.EscalaDeFolga.infrastructure.repository.AuditoriaColaboradorRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class GravadorAuditoriaTest {
+
+    @Mock
+    private AuditoriaColaboradorRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    private Path pasta;
+
+    private Path arquivo;
+    private SimpleMeterRegistry meterRegistry;
+    private GravadorAuditoria gravador;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        arquivo = pasta.resolve("auditoria-pendente.ndjson");
+        meterRegistry = new SimpleMeterRegistry();
+        gravador = new GravadorAuditoria(repository, transactionManager,
+                new AuditoriaProperties(true, 100, 3, 20, arquivo.toString()), meterRegistry);
+    }
+
+    @Test
+    void deveGravarEmLotesEEsvaziarAFilaAoParar() {
+        List<List<AuditoriaColaborador>> lotes = new ArrayList<>();
+        when(repository.saveAll(anyIterable())).thenAnswer(invocacao -> {
+            Iterable<AuditoriaColaborador> lote = invocacao.getArgument(0);
+            lotes.add(StreamSupport.stream(lote.spliterator(), false).toList());
+            return lote;
+        });
+
+        gravador.start();
+        for (long id = 1; id <= 7; id++) {
+            gravador.enfileirar(registro(id));
+        }
+        gravador.stop();
+
+        assertEquals(7, lotes.stream().mapToInt(List::size).sum());
+        assertTrue(lotes.stream().allMatch(lote -> lote.size() <= 3), "Lotes: " + lotes.size());
+        assertEquals(0, meterRegistry.get(GravadorAuditoria.METRICA_FILA).gauge().value());
+        assertEquals(7, meterRegistry.get(GravadorAuditoria.METRICA_ATRASO).timer().count());
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void deveGuardarNoArquivoEReenviarQuandoOBancoVoltar() throws Exception {
+        when(repository.saveAll(anyIterable()))
+                .thenThrow(new DataAccessResourceFailureException("banco fora"))
+                .thenAnswer(invocacao -> invocacao.getArgument(0));
+
+        // Parado: grava na hora, o banco falha e o registro vai para o arquivo
+        gravador.enfileirar(registro(42L));
+
+        assertTrue(Files.exists(arquivo));
+        assertEquals(1, Files.readAllLines(arquivo).size());
+        assertEquals(1, meterRegistry.get(GravadorAuditoria.METRICA_ARQUIVO).counter().count());
+
+        // Ao iniciar, o arquivo é reenviado
+        gravador.start();
+        gravador.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<AuditoriaColaborador>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository, times(2)).saveAll(captor.capture());
+        AuditoriaColaborador reenviada = captor.getValue().iterator().next();
+        assertEquals(42L, reenviada.getColaboradorId());
+        assertEquals(AcaoAuditoriaEnum.ATUALIZACAO, reenviada.getAcao());
+        assertEquals("{\"nome\":\"NOVO\"}", reenviada.getDadosNovos());
+        assertNull(reenviada.getId());
+
+        assertFalse(Files.exists(arquivo));
+        assertFalse(Files.exists(pasta.resolve("auditoria-pendente.ndjson.reenvio")));
+    }
+
+    @Test
+    void reenvioNaoDeveDuplicarRegistrosQueJaEstaoNoBanco() throws Exception {
+        when(repository.saveAll(anyIterable()))
+                .thenThrow(new DataAccessResourceFailureException("banco fora"))
+                .thenThrow(new DataAccessResourceFailureException("banco fora"))
+                .thenAnswer(invocacao -> invocacao.getArgument(0));
+        RegistroAuditoria jaGravado = registro(42L);
+        gravador.enfileirar(jaGravado);
+        gravador.enfileirar(registro(43L));
+        assertEquals(2, Files.readAllLines(arquivo).size());
+
+        // Reenvio anterior gravou o primeiro no banco, mas a cópia não foi apagada
+        Files.move(arquivo, pasta.resolve("auditoria-pendente.ndjson.reenvio"));
+        AuditoriaColaboradorRepository.ChaveAuditoria chave = mock(AuditoriaColaboradorRepository.ChaveAuditoria.class);
+        when(chave.getColaboradorId()).thenReturn(42L);
+        when(chave.getAcao()).thenReturn(AcaoAuditoriaEnum.ATUALIZACAO);
+        when(chave.getDataHora()).thenReturn(jaGravado.dataHora().truncatedTo(ChronoUnit.MICROS));
+        when(repository.findChaves(any(), any(), any())).thenReturn(List.of(chave));
+
+        gravador.start();
+        gravador.stop();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Iterable<AuditoriaColaborador>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(repository, times(3)).saveAll(captor.capture());
+        List<Long> reenviados = StreamSupport.stream(captor.getValue().spliterator(), false)
+                .map(AuditoriaColaborador::getColaboradorId)
+                .toList();
+        assertEquals(List.of(43L), reenviados);
+        assertFalse(Files.exists(pasta.resolve("auditoria-pendente.ndjson.reenvio")));
+    }
+
+    private RegistroAuditoria registro(Long colaboradorId) {
+        return RegistroAuditoria.de(
+                AcaoAuditoriaEnum.ATUALIZACAO,
+                colaboradorId,
+                new AuditoriaInfoDTO(1L, "Admin", "127.0.0.1", "JUnit"),
+                "{\"nome\":\"ANTIGO\"}",
+                "{\"nome\":\"NOVO\"}"
+        );
+    }
+}
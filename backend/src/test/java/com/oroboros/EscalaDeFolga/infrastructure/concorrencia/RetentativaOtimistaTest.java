@@ -0,0 +1,78 @@
+package com.oroboros.EscalaDeFolga.infrastructure.concorrencia;
+
+import com.oroboros.EscalaDeFolga.domain.exception.BusinessException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RetentativaOtimistaTest {
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RetentativaOtimista retentativa;
+
+    @BeforeEach
+    void setUp() {
+        when(transactionManager.getTransaction(any())).thenAnswer(i -> new SimpleTransactionStatus());
+        retentativa = new RetentativaOtimista(transactionManager);
+    }
+
+    @Test
+    void deveRepetirEmTransacaoNovaAteGravar() {
+        AtomicInteger chamadas = new AtomicInteger();
+
+        String resultado = retentativa.executar("teste", () -> {
+            if (chamadas.incrementAndGet() < RetentativaOtimista.TENTATIVAS) {
+                throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+            }
+            return "gravado";
+        });
+
+        assertEquals("gravado", resultado);
+        assertEquals(RetentativaOtimista.TENTATIVAS, chamadas.get());
+        verify(transactionManager, times(RetentativaOtimista.TENTATIVAS)).getTransaction(argThat(definicao ->
+                definicao.getPropagationBehavior() == TransactionDefinition.PROPAGATION_REQUIRES_NEW));
+        verify(transactionManager, times(RetentativaOtimista.TENTATIVAS - 1)).rollback(any());
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void deveRelancarOConflitoQuandoAsTentativasAcabam() {
+        AtomicInteger chamadas = new AtomicInteger();
+
+        assertThrows(OptimisticLockingFailureException.class, () -> retentativa.executar("teste", () -> {
+            chamadas.incrementAndGet();
+            throw new ObjectOptimisticLockingFailureException(Object.class, 1L);
+        }));
+
+        assertEquals(RetentativaOtimista.TENTATIVAS, chamadas.get());
+    }
+
+    @Test
+    void naoDeveRepetirOutrosErros() {
+        AtomicInteger chamadas = new AtomicInteger();
+
+        assertThrows(BusinessException.class, () -> retentativa.executar("teste", () -> {
+            chamadas.incrementAndGet();
+            throw new BusinessException("Colaborador", 1L);
+        }));
+
+        assertEquals(1, chamadas.get());
+    }
+}
@@ -0,0 +1,33 @@
+package com.oroboros.EscalaDeFolga.infrastructure.consultas;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Limite de comandos SQL por requisição HTTP feita no teste (MockMvc).
+ *
+ * <p>Cada requisição atendida durante o teste é medida pelo
+ * {@link ConsultasPorRequisicaoFilter}; o teste falha se alguma passar do limite
+ * ou se nenhuma requisição do {@link #endpoint()} for feita. Na classe, vale
+ * para todos os testes que não tiverem a própria anotação.</p>
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(MaxQueriesExtension.class)
+public @interface MaxQueries {
+
+    /**
+     * Máximo de comandos SQL por requisição
+     */
+    int value();
+
+    /**
+     * Só confere as requisições deste endpoint, no formato
+     * {@code "GET /api/escala/{id}/calendario"}; vazio confere todas
+     */
+    String endpoint() default "";
+}
@@ -0,0 +1,43 @@
+package com.oroboros.EscalaDeFolga.infrastructure.consultas;
+
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.opentest4j.AssertionFailedError;
+
+import java.util.List;
+
+/**
+ * Confere o {@link MaxQueries} com as medições do {@link ContadorConsultas}
+ */
+class MaxQueriesExtension implements BeforeEachCallback, AfterEachCallback {
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        ContadorConsultas.gravar();
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        List<ContadorConsultas.Medicao> medicoes = ContadorConsultas.medicoesGravadas();
+        MaxQueries limite = AnnotationSupport.findAnnotation(context.getRequiredTestMethod(), MaxQueries.class)
+                .or(() -> AnnotationSupport.findAnnotation(context.getRequiredTestClass(), MaxQueries.class))
+                .orElseThrow();
+
+        List<ContadorConsultas.Medicao> conferidas = medicoes.stream()
+                .filter(m -> limite.endpoint().isEmpty() || m.endpoint().equals(limite.endpoint()))
+                .toList();
+        if (conferidas.isEmpty()) {
+            throw new AssertionFailedError("@MaxQueries: nenhuma requisição medida"
+                    + (limite.endpoint().isEmpty() ? "" : " para " + limite.endpoint()) + "; medidas: " + medicoes);
+        }
+
+        List<ContadorConsultas.Medicao> acima = conferidas.stream()
+                .filter(m -> m.consultas() > limite.value())
+                .toList();
+        if (!acima.isEmpty()) {
+            throw new AssertionFailedError("@MaxQueries(" + limite.value() + ") excedido: " + acima);
+        }
+    }
+}
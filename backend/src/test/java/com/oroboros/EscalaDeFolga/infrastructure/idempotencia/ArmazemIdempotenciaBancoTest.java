@@ -0,0 +1,68 @@
+package com.oroboros.EscalaDeFolga.infrastructure.idempotencia;
+
+import com.oroboros.EscalaDeFolga.config.IdempotenciaProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Armazém de idempotência na tabela {@code idempotencia_requisicao} (multi-instância)
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ArmazemIdempotenciaBancoTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ArmazemIdempotenciaBanco armazem;
+    private String chave;
+
+    @BeforeEach
+    void setUp() {
+        armazem = new ArmazemIdempotenciaBanco(jdbcTemplate,
+                new IdempotenciaProperties(true, "banco", 60_000, 100, 1024, 1_000));
+        chave = UUID.randomUUID().toString();
+    }
+
+    @Test
+    void deveReservarUmaVezEDevolverARespostaConcluida() {
+        assertTrue(armazem.reservar(chave, "abc").isEmpty());
+
+        Optional<RegistroIdempotencia> emAndamento = armazem.reservar(chave, "abc");
+        assertTrue(emAndamento.orElseThrow().emAndamento());
+
+        armazem.concluir(chave, new RespostaIdempotente(201, "application/json",
+                "{\"id\":1}".getBytes(StandardCharsets.UTF_8)));
+
+        RegistroIdempotencia concluido = armazem.reservar(chave, "abc").orElseThrow();
+        assertEquals("abc", concluido.impressao());
+        assertEquals(201, concluido.resposta().status());
+        assertEquals("{\"id\":1}", new String(concluido.resposta().corpo(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void chaveLiberadaOuExpiradaDeveSerReservadaDeNovo() {
+        assertTrue(armazem.reservar(chave, "abc").isEmpty());
+        armazem.liberar(chave);
+        assertTrue(armazem.reservar(chave, "abc").isEmpty());
+
+        // Execução abandonada (instância caiu): a reserva expira após a espera
+        jdbcTemplate.update("UPDATE idempotencia_requisicao SET expira_em = DATEADD('SECOND', -1, CURRENT_TIMESTAMP) "
+                + "WHERE chave = ?", chave);
+        assertTrue(armazem.buscar(chave).isEmpty());
+        assertTrue(armazem.reservar(chave, "def").isEmpty());
+        assertEquals("def", armazem.buscar(chave).orElseThrow().impressao());
+
+        armazem.liberar(chave);
+    }
+}
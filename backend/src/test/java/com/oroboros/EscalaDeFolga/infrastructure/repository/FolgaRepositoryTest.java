@@ -0,0 +1,93 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Busca de domingos por intervalo de datas e dia da semana gravado
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+class FolgaRepositoryTest {
+
+    @Autowired
+    private FolgaRepository folgaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Colaborador colaborador;
+    private Escala escala;
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setNome("UTI Domingo");
+        entityManager.persist(setor);
+
+        colaborador = new Colaborador();
+        colaborador.setNome("COLABORADOR DOMINGO");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador.setSetor(setor);
+        entityManager.persist(colaborador);
+
+        escala = new Escala();
+        escala.setMes(6);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(8);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        entityManager.persist(escala);
+    }
+
+    @Test
+    void deveGravarODiaDaSemanaDaData() {
+        Folga domingo = salvar(LocalDate.of(2030, 6, 2), StatusFolgaEnum.PENDENTE);
+
+        Folga atualizada = folgaRepository.findById(domingo.getId()).orElseThrow();
+        assertEquals(7, atualizada.getDiaSemana());
+        assertTrue(atualizada.isDomingo());
+
+        atualizada.setDataSolicitada(LocalDate.of(2030, 6, 3));
+        assertEquals(1, atualizada.getDiaSemana());
+        assertFalse(atualizada.isDomingo());
+    }
+
+    @Test
+    void deveEncontrarDomingoAtivoApenasNoMesConsultado() {
+        salvar(LocalDate.of(2030, 5, 26), StatusFolgaEnum.APROVADA); // domingo do mês anterior
+        salvar(LocalDate.of(2030, 6, 9), StatusFolgaEnum.NEGADA);    // domingo negado
+        salvar(LocalDate.of(2030, 6, 10), StatusFolgaEnum.PENDENTE); // segunda-feira
+
+        assertFalse(folgaRepository.existsFolgaDomingoNoMes(colaborador, 6, 2030));
+        assertTrue(folgaRepository.existsFolgaDomingoNoMes(colaborador, 5, 2030));
+
+        salvar(LocalDate.of(2030, 6, 30), StatusFolgaEnum.PENDENTE); // último dia do mês, domingo
+        assertTrue(folgaRepository.existsFolgaDomingoNoMes(colaborador, 6, 2030));
+    }
+
+    private Folga salvar(LocalDate data, StatusFolgaEnum status) {
+        Folga folga = new Folga();
+        folga.setColaborador(colaborador);
+        folga.setEscala(escala);
+        folga.setDataSolicitada(data);
+        folga.setStatus(status);
+        return folgaRepository.saveAndFlush(folga);
+    }
+}
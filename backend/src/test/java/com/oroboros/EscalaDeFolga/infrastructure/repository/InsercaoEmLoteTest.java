@@ -0,0 +1,177 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IDs por sequência pooled: N inserts de folga saem em ceil(N / batch_size) comandos JDBC
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(InsercaoEmLoteTest.ContagemJdbc.class)
+class InsercaoEmLoteTest {
+
+    private static final int TOTAL_FOLGAS = 120;
+
+    @Autowired
+    private FolgaRepository folgaRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size}")
+    private int tamanhoBatch;
+
+    private final List<Colaborador> colaboradores = new ArrayList<>();
+    private Escala escala;
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setNome("UTI Batch");
+        entityManager.persist(setor);
+
+        for (int i = 0; i < 4; i++) {
+            Colaborador colaborador = new Colaborador();
+            colaborador.setNome("COLABORADOR BATCH " + i);
+            colaborador.setCargo(CargoEnum.TECNICO);
+            colaborador.setTurno(TurnoEnum.MANHA);
+            colaborador.setSetor(setor);
+            entityManager.persist(colaborador);
+            colaboradores.add(colaborador);
+        }
+
+        escala = new Escala();
+        escala.setMes(6);
+        escala.setAno(2030);
+        escala.setFolgasPermitidas(30);
+        escala.setTurno(TurnoEnum.MANHA);
+        escala.setSetor(setor);
+        entityManager.persist(escala);
+        entityManager.flush();
+    }
+
+    @Test
+    void deveEnviarOsInsertsDeFolgaEmBatch() {
+        List<Folga> folgas = new ArrayList<>();
+        for (int i = 0; i < TOTAL_FOLGAS; i++) {
+            Folga folga = new Folga();
+            folga.setColaborador(colaboradores.get(i % colaboradores.size()));
+            folga.setEscala(escala);
+            folga.setDataSolicitada(LocalDate.of(2030, 6, 1 + i / colaboradores.size()));
+            folga.setStatus(StatusFolgaEnum.PENDENTE);
+            folgas.add(folga);
+        }
+
+        ContagemJdbc.zerar();
+        folgaRepository.saveAll(folgas);
+        folgaRepository.flush();
+
+        int esperado = (TOTAL_FOLGAS + tamanhoBatch - 1) / tamanhoBatch;
+        assertEquals(esperado, ContagemJdbc.EXECUCOES_BATCH.get(), "Comandos em batch para " + TOTAL_FOLGAS + " folgas");
+        assertEquals(TOTAL_FOLGAS, ContagemJdbc.LINHAS_BATCH.get());
+        assertEquals(0, ContagemJdbc.EXECUCOES_AVULSAS.get(), "Nenhum insert fora do batch");
+
+        assertTrue(folgas.stream().allMatch(f -> f.getId() != null));
+        assertEquals(TOTAL_FOLGAS, folgas.stream().map(Folga::getId).distinct().count());
+        assertEquals(TOTAL_FOLGAS, folgaRepository.findByEscalaComColaborador(escala).size());
+    }
+
+    /**
+     * Envolve o DataSource e conta as execuções dos comandos {@code insert into folga}
+     */
+    @TestConfiguration
+    static class ContagemJdbc {
+
+        static final AtomicInteger EXECUCOES_BATCH = new AtomicInteger();
+        static final AtomicInteger LINHAS_BATCH = new AtomicInteger();
+        static final AtomicInteger EXECUCOES_AVULSAS = new AtomicInteger();
+
+        static void zerar() {
+            EXECUCOES_BATCH.set(0);
+            LINHAS_BATCH.set(0);
+            EXECUCOES_AVULSAS.set(0);
+        }
+
+        @Bean
+        static BeanPostProcessor contagemDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? envolver(dataSource) : bean;
+                }
+            };
+        }
+
+        private static DataSource envolver(DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (metodo, args, resultado) ->
+                    resultado instanceof Connection conexao ? envolver(conexao) : resultado);
+        }
+
+        private static Connection envolver(Connection conexao) {
+            return proxy(Connection.class, conexao, (metodo, args, resultado) -> {
+                boolean insertFolga = metodo.equals("prepareStatement")
+                        && args[0] instanceof String sql
+                        && sql.trim().toLowerCase().startsWith("insert into folga ");
+                return insertFolga ? contar((PreparedStatement) resultado) : resultado;
+            });
+        }
+
+        private static PreparedStatement contar(PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, (metodo, args, resultado) -> {
+                switch (metodo) {
+                    case "executeBatch" -> {
+                        EXECUCOES_BATCH.incrementAndGet();
+                        LINHAS_BATCH.addAndGet(((int[]) resultado).length);
+                    }
+                    case "executeUpdate", "execute" -> EXECUCOES_AVULSAS.incrementAndGet();
+                    default -> { }
+                }
+                return resultado;
+            });
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T> T proxy(Class<T> tipo, T alvo, Interceptador interceptador) {
+            return (T) Proxy.newProxyInstance(tipo.getClassLoader(), new Class<?>[]{tipo}, (p, metodo, args) -> {
+                try {
+                    return interceptador.depois(metodo.getName(), args, metodo.invoke(alvo, args));
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            });
+        }
+
+        private interface Interceptador {
+            Object depois(String metodo, Object[] args, Object resultado);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.escala.OcupacaoDia;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Criação concorrente do contador: o INSERT duplicado desfaz só o savepoint e a
+ * transação segue utilizável
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(OcupacaoDiaInsercaoRepository.class)
+class OcupacaoDiaInsercaoRepositoryTest {
+
+    private static final LocalDate DATA = LocalDate.of(2030, 7, 3);
+
+    @Autowired
+    private OcupacaoDiaInsercaoRepository insercaoRepository;
+
+    @Autowired
+    private OcupacaoDiaRepository ocupacaoDiaRepository;
+
+    @Test
+    void segundaCriacaoDoMesmoDiaNaoDeveInvalidarATransacao() {
+        assertTrue(insercaoRepository.inserirSeAusente(77L, DATA, 2));
+        assertFalse(insercaoRepository.inserirSeAusente(77L, DATA, 5));
+
+        assertEquals(1, ocupacaoDiaRepository.incrementar(77L, DATA, 1));
+        assertEquals(3, ocupacaoDiaRepository.findByEscalaIdAndData(77L, DATA)
+                .map(OcupacaoDia::getTotalFolgas)
+                .orElseThrow());
+    }
+}
@@ -0,0 +1,415 @@
+package com.oroboros.EscalaDeFolga.infrastructure.repository;
+
+import com.oroboros.EscalaDeFolga.domain.model.alerta.SeveridadeEnum;
+import com.oroboros.EscalaDeFolga.domain.model.alerta.TipoAlertaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.AcaoAuditoriaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Escala;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusEscalaEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.StatusFolgaEnum;
+import jakarta.persistence.EntityManager;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.internal.database.DatabaseTypeRegister;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Migrações do Flyway e plano das consultas dos repositórios.
+ *
+ * <p>O esquema é criado pelas migrações do PostgreSQL em um H2 compatível (a
+ * validação contra as entidades fica com o {@code ddl-auto=validate} no banco real,
+ * pois o H2 lê {@code TEXT} como {@code VARCHAR}). Cada consulta é executada, o SQL
+ * gerado pelo Hibernate é capturado e o {@code EXPLAIN} do H2 não pode conter
+ * varredura completa de tabela.</p>
+ *
+ * <p>O {@code setval} do PostgreSQL, usado na migração das sequências, é emulado
+ * por {@link FuncoesPostgres#setval(Connection, String, long, boolean)}.</p>
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:plano_consultas;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+                + "INIT=CREATE ALIAS IF NOT EXISTS setval FOR "
+                + "'com.oroboros.EscalaDeFolga.infrastructure.repository.PlanoConsultasTest$FuncoesPostgres.setval'",
+        "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=none",
+        "spring.jpa.defer-datasource-initialization=false",
+        "spring.flyway.enabled=true",
+        "spring.flyway.locations=classpath:db/migration/postgresql",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+                + "com.oroboros.EscalaDeFolga.infrastructure.repository.PlanoConsultasTest$ConsultasCapturadas"
+})
+class PlanoConsultasTest {
+
+    @Autowired
+    private FolgaRepository folgaRepository;
+
+    @Autowired
+    private ColaboradorRepository colaboradorRepository;
+
+    @Autowired
+    private EscalaRepository escalaRepository;
+
+    @Autowired
+    private AlertaRepository alertaRepository;
+
+    @Autowired
+    private OcupacaoDiaRepository ocupacaoDiaRepository;
+
+    @Autowired
+    private AlteracaoCalendarioRepository alteracaoCalendarioRepository;
+
+    @Autowired
+    private AuditoriaColaboradorRepository auditoriaColaboradorRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Setor setor;
+    private Escala escala;
+    private Colaborador colaborador;
+
+    @BeforeEach
+    void setUp() {
+        setor = new Setor();
+        setor.setNome("UTI Plano");
+        entityManager.persist(setor);
+
+        // Volume suficiente para o otimizador preferir os índices
+        for (int mes = 1; mes <= 12; mes++) {
+            Escala e = new Escala();
+            e.setMes(mes);
+            e.setAno(2030);
+            e.setFolgasPermitidas(8);
+            e.setTurno(TurnoEnum.MANHA);
+            e.setSetor(setor);
+            entityManager.persist(e);
+            escala = e;
+        }
+
+        List<Colaborador> colaboradores = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            Colaborador c = new Colaborador();
+            c.setNome("COLABORADOR PLANO " + i);
+            c.setCargo(CargoEnum.TECNICO);
+            c.setTurno(TurnoEnum.MANHA);
+            c.setSetor(setor);
+            entityManager.persist(c);
+            colaboradores.add(c);
+        }
+        colaborador = colaboradores.get(0);
+
+        for (Colaborador c : colaboradores) {
+            for (int dia = 1 + (int) (c.getId() % 4); dia <= 31; dia += 4) {
+                Folga folga = new Folga();
+                folga.setColaborador(c);
+                folga.setEscala(escala);
+                folga.setDataSolicitada(LocalDate.of(2030, 12, dia));
+                folga.setStatus(StatusFolgaEnum.PENDENTE);
+                entityManager.persist(folga);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        ConsultasCapturadas.limpar();
+    }
+
+    @Test
+    void migracoesDevemCriarIndicesEUnicidadeDasFolgas() {
+        List<String> indices = jdbcTemplate.queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'folga'", String.class);
+        assertTrue(indices.contains("idx_folga_escala_data_status"), indices.toString());
+        assertTrue(indices.contains("idx_folga_colaborador_escala_status"), indices.toString());
+
+        List<String> unicos = jdbcTemplate.queryForList(
+                "SELECT constraint_name FROM information_schema.table_constraints "
+                        + "WHERE table_name = 'folga' AND constraint_type = 'UNIQUE'", String.class);
+        assertEquals(List.of("uk_folga_colaborador_data"), unicos);
+
+        Integer versao = jdbcTemplate.queryForObject(
+                "SELECT MAX(CAST(\"version\" AS INT)) FROM \"flyway_schema_history\"", Integer.class);
+        assertEquals(8, versao);
+    }
+
+    /**
+     * Banco gerado pelo ddl-auto=update antes do Flyway: entra com baseline na versão 1
+     * (já com as sequências do Hibernate) e recebe as estruturas novas. Duplicatas de
+     * colaborador e data são resolvidas antes da restrição única.
+     */
+    @Test
+    void bancoComBaselineNaVersao1DeveReceberAsMigracoesSeguintes() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:baseline_postgres;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;"
+                        + "INIT=CREATE ALIAS IF NOT EXISTS setval FOR "
+                        + "'com.oroboros.EscalaDeFolga.infrastructure.repository.PlanoConsultasTest$FuncoesPostgres.setval'",
+                "sa", "");
+        JdbcTemplate banco = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/postgresql")
+                .target("1").load().migrate();
+        banco.execute("CREATE SEQUENCE escala_seq START WITH 1 INCREMENT BY 50");
+        banco.update("INSERT INTO setor (id, nome, nome_normalizado, ativo) VALUES (1, 'UTI', 'uti', TRUE)");
+        banco.update("INSERT INTO colaborador (id, nome, nome_normalizado, ativo, setor_id) VALUES (1, 'ANA', 'ana', TRUE, 1)");
+        banco.update("INSERT INTO escala (id, mes, ano, turno, status, folgas_permitidas, setor_id) "
+                + "VALUES (1, 7, 2030, 0, 'NOVA', 8, 1)");
+        banco.update("INSERT INTO folga (id, colaborador_id, escala_id, data_solicitada, status) "
+                + "VALUES (1, 1, 1, DATE '2030-07-07', 'PENDENTE'), (2, 1, 1, DATE '2030-07-07', 'APROVADA'), "
+                + "(3, 1, 1, DATE '2030-07-15', 'PENDENTE')");
+        banco.update("INSERT INTO alertas (id, escala_id, colaborador_id, folga_id, tipo, severidade, mensagem, "
+                + "data_criacao, lido, resolvido) VALUES (1, 1, 1, 1, 'AVISO_DOMINGO_FALTANDO', 'ALTA', 'x', "
+                + "TIMESTAMP '2030-07-01 00:00:00', FALSE, FALSE)");
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/postgresql")
+                .load().migrate();
+
+        assertEquals(List.of(2L, 3L), banco.queryForList("SELECT id FROM folga ORDER BY id", Long.class));
+        assertEquals(0, banco.queryForObject("SELECT COUNT(*) FROM alertas", Integer.class));
+        assertEquals(0L, banco.queryForObject("SELECT versao_calendario FROM escala WHERE id = 1", Long.class));
+        assertEquals(0, banco.queryForObject("SELECT COUNT(*) FROM ocupacao_dia", Integer.class));
+        // Dia da semana ISO preenchido pela migração: domingo e segunda
+        assertEquals(List.of(7, 1), banco.queryForList("SELECT dia_semana FROM folga ORDER BY id", Integer.class));
+        assertEquals(8, banco.queryForObject(
+                "SELECT MAX(CAST(\"version\" AS INT)) FROM \"flyway_schema_history\"", Integer.class));
+    }
+
+    @Test
+    void consultasDeFolgaDevemUsarIndice() {
+        Set<StatusFolgaEnum> ativos = Set.of(StatusFolgaEnum.PENDENTE, StatusFolgaEnum.APROVADA);
+        List<StatusFolgaEnum> listaAtivos = List.copyOf(ativos);
+        LocalDate data = LocalDate.of(2030, 12, 10);
+
+        verificar("existsByColaboradorAndDataSolicitada", "uk_folga_colaborador_data",
+                () -> folgaRepository.existsByColaboradorAndDataSolicitada(colaborador, data));
+        verificar("countByColaboradorAndEscalaAndStatusIn", "idx_folga_colaborador_escala_status",
+                () -> folgaRepository.countByColaboradorAndEscalaAndStatusIn(colaborador, escala, listaAtivos));
+        verificar("findByEscalaAndStatus",
+                () -> folgaRepository.findByEscalaAndStatus(escala, StatusFolgaEnum.PENDENTE));
+        verificar("existsFolgaDomingoNoMes", "uk_folga_colaborador_data",
+                () -> folgaRepository.existsFolgaDomingoNoMes(colaborador, 12, 2030));
+        verificar("existsByColaboradorAndDataSolicitadaAndIdNot", "uk_folga_colaborador_data",
+                () -> folgaRepository.existsByColaboradorAndDataSolicitadaAndIdNot(colaborador, data, 1L));
+        verificar("existsOutraFolgaDomingoNoMes", "uk_folga_colaborador_data",
+                () -> folgaRepository.existsOutraFolgaDomingoNoMes(colaborador, 12, 2030, 1L));
+        verificar("findUltimaFolgaAntesDe", "uk_folga_colaborador_data",
+                () -> folgaRepository.findUltimaFolgaAntesDe(colaborador, data));
+        verificar("findDoColaboradorNaEscalaOuNoMes",
+                () -> folgaRepository.findDoColaboradorNaEscalaOuNoMes(
+                        colaborador, escala, data.withDayOfMonth(1), data.withDayOfMonth(31)));
+        verificar("findUltimaFolgaAntesDePorColaborador", "uk_folga_colaborador_data",
+                () -> folgaRepository.findUltimaFolgaAntesDePorColaborador(Set.of(colaborador.getId()), data));
+        verificar("findUltimaFolgaPorColaborador",
+                () -> folgaRepository.findUltimaFolgaPorColaborador(Set.of(colaborador.getId())));
+        verificar("findByColaboradorAndEscalaAndStatusIn", "idx_folga_colaborador_escala_status",
+                () -> folgaRepository.findByColaboradorAndEscalaAndStatusIn(colaborador, escala, listaAtivos));
+        verificar("findByDataSolicitadaAndEscala",
+                () -> folgaRepository.findByDataSolicitadaAndEscala(data, escala));
+        verificar("findByEscalaComColaborador",
+                () -> folgaRepository.findByEscalaComColaborador(escala));
+        verificar("findByEscalaAndStatusInComColaborador",
+                () -> folgaRepository.findByEscalaAndStatusInComColaborador(escala, listaAtivos));
+        verificar("findByEscalaAndStatusInDasDatasOuColaboradores",
+                () -> folgaRepository.findByEscalaAndStatusInDasDatasOuColaboradores(
+                        escala, listaAtivos, Set.of(data), Set.of(colaborador.getId())));
+        verificar("findByEscalaAndStatusInDasDatas",
+                () -> folgaRepository.findByEscalaAndStatusInDasDatas(escala, listaAtivos, Set.of(data)));
+        verificar("findByEscalaAndStatusInDosColaboradores",
+                () -> folgaRepository.findByEscalaAndStatusInDosColaboradores(
+                        escala, listaAtivos, Set.of(colaborador.getId())));
+        verificar("findFolgasDoDiaByEscala",
+                () -> folgaRepository.findFolgasDoDiaByEscala(escala, ativos));
+        verificar("countByEscalaAndDataSolicitadaAndStatusIn", "idx_folga_escala_data_status",
+                () -> folgaRepository.countByEscalaAndDataSolicitadaAndStatusIn(escala, data, listaAtivos));
+    }
+
+    @Test
+    void consultasDosDemaisRepositoriosDevemUsarIndice() {
+        verificar("findBySetorAndTurno",
+                () -> colaboradorRepository.findBySetorAndTurno(setor, TurnoEnum.MANHA));
+        verificar("existsByNomeNormalizadoAndSetorAndTurnoAndIdNot",
+                () -> colaboradorRepository.existsByNomeNormalizadoAndSetorAndTurnoAndIdNot(
+                        "COLABORADOR PLANO 1", setor, TurnoEnum.MANHA, colaborador.getId()));
+        verificar("existsByMesAndAnoAndTurnoAndSetorAndStatus",
+                () -> escalaRepository.existsByMesAndAnoAndTurnoAndSetorAndStatus(
+                        12, 2030, TurnoEnum.MANHA, setor, StatusEscalaEnum.NOVA));
+        verificar("findIdsPorSetorETurnos",
+                () -> escalaRepository.findIdsPorSetorETurnos(setor.getId(), Set.of(TurnoEnum.MANHA)));
+        verificar("travarVersoesPorSetorETurnos",
+                () -> escalaRepository.travarVersoesPorSetorETurnos(setor.getId(), Set.of(TurnoEnum.MANHA), escala.getId()));
+        verificar("findByEscalaIdAndResolvidoFalseOrderBySeveridadeAsc",
+                () -> alertaRepository.findByEscalaIdAndResolvidoFalseOrderBySeveridadeAsc(escala.getId()));
+        verificar("findByEscalaIdAndSeveridadeAndResolvidoFalse",
+                () -> alertaRepository.findByEscalaIdAndSeveridadeAndResolvidoFalse(escala.getId(), SeveridadeEnum.ALTA));
+        verificar("findByEscalaIdAndTipoAndResolvidoFalse",
+                () -> alertaRepository.findByEscalaIdAndTipoAndResolvidoFalse(
+                        escala.getId(), TipoAlertaEnum.AVISO_DOMINGO_FALTANDO));
+        verificar("findByFolgaIdOrderBySeveridadeAsc",
+                () -> alertaRepository.findByFolgaIdOrderBySeveridadeAsc(1L));
+        verificar("findByDataAndEscala",
+                () -> alertaRepository.findByDataAndEscala(LocalDate.of(2030, 12, 10), escala));
+        verificar("findByEscalaIdAndData",
+                () -> ocupacaoDiaRepository.findByEscalaIdAndData(escala.getId(), LocalDate.of(2030, 12, 10)));
+        verificar("travarPorEscala",
+                () -> ocupacaoDiaRepository.travarPorEscala(escala.getId()));
+        verificar("findAlteracoes",
+                () -> alteracaoCalendarioRepository.findAlteracoes(escala.getId(), 0L, 10L));
+        verificar("findHistorico", "idx_auditoria_colaborador_data_id",
+                () -> auditoriaColaboradorRepository.findHistorico(colaborador.getId(),
+                        EnumSet.allOf(AcaoAuditoriaEnum.class), LocalDateTime.of(2030, 1, 1, 0, 0),
+                        LocalDateTime.of(2031, 1, 1, 0, 0), 0L, Limit.of(51)));
+        verificar("findChaves", "idx_auditoria_colaborador_data_id",
+                () -> auditoriaColaboradorRepository.findChaves(List.of(colaborador.getId()),
+                        LocalDateTime.of(2030, 1, 1, 0, 0), LocalDateTime.of(2030, 1, 2, 0, 0)));
+    }
+
+    @Test
+    void migracoesDoMySqlDevemExecutar() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:migracao_mysql;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration/mysql")
+                .load()
+                .migrate();
+
+        List<String> indices = new JdbcTemplate(dataSource).queryForList(
+                "SELECT index_name FROM information_schema.indexes WHERE table_name = 'folga'", String.class);
+        assertTrue(indices.contains("idx_folga_escala_data_status"), indices.toString());
+        assertTrue(indices.contains("idx_folga_colaborador_escala_status"), indices.toString());
+    }
+
+    @Test
+    void bancoMySqlComBaselineNaVersao1DevePreencherODiaDaSemana() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:baseline_mysql;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate banco = new JdbcTemplate(dataSource);
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/mysql")
+                .target("1").load().migrate();
+        banco.update("INSERT INTO setor (id, nome, nome_normalizado, ativo) VALUES (1, 'UTI', 'uti', TRUE)");
+        banco.update("INSERT INTO colaborador (id, nome, nome_normalizado, ativo, setor_id) VALUES (1, 'ANA', 'ana', TRUE, 1)");
+        banco.update("INSERT INTO escala (id, mes, ano, turno, status, folgas_permitidas, setor_id) "
+                + "VALUES (1, 7, 2030, 0, 'NOVA', 8, 1)");
+        banco.update("INSERT INTO folga (id, colaborador_id, escala_id, data_solicitada, status) "
+                + "VALUES (1, 1, 1, DATE '2030-07-07', 'PENDENTE'), (2, 1, 1, DATE '2030-07-07', 'APROVADA'), "
+                + "(3, 1, 1, DATE '2030-07-15', 'PENDENTE'), (4, 1, 1, DATE '2030-07-20', 'PENDENTE')");
+
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration/mysql")
+                .load().migrate();
+
+        assertEquals(List.of(2L, 3L, 4L), banco.queryForList("SELECT id FROM folga ORDER BY id", Long.class));
+        // Domingo, segunda e sábado no dia da semana ISO
+        assertEquals(List.of(7, 1, 6), banco.queryForList("SELECT dia_semana FROM folga ORDER BY id", Integer.class));
+    }
+
+    /**
+     * O H2 em modo MySQL é detectado como H2: o suporte ao MySQL real (perfil dev)
+     * depende do plugin flyway-mysql no classpath
+     */
+    @Test
+    void flywayDeveReconhecerOMySql() {
+        assertEquals("MySQL",
+                DatabaseTypeRegister.getDatabaseTypeForUrl("jdbc:mysql://localhost:3306/escala_folga").getName());
+    }
+
+    /**
+     * Executa a consulta e confere o plano de cada SELECT que ela gerou
+     */
+    private void verificar(String consulta, Runnable execucao) {
+        verificar(consulta, null, execucao);
+    }
+
+    /**
+     * Como {@link #verificar(String, Runnable)}, exigindo o índice composto na primeira consulta.
+     * Sem ele o H2 recorreria ao índice que cria para a chave estrangeira, o que o PostgreSQL não faz.
+     */
+    private void verificar(String consulta, String indiceEsperado, Runnable execucao) {
+        ConsultasCapturadas.limpar();
+        execucao.run();
+
+        List<String> selects = ConsultasCapturadas.selects();
+        assertFalse(selects.isEmpty(), consulta + " não gerou SELECT");
+
+        for (String sql : selects) {
+            String plano = explicar(sql);
+            assertFalse(plano.contains(".tableScan"), consulta + " faz varredura completa:\n" + plano);
+        }
+
+        if (indiceEsperado != null) {
+            String plano = explicar(selects.get(0));
+            assertTrue(plano.contains(indiceEsperado), consulta + " não usa " + indiceEsperado + ":\n" + plano);
+        }
+    }
+
+    private String explicar(String sql) {
+        int parametros = (int) sql.chars().filter(c -> c == '?').count();
+        Object[] valores = Collections.nCopies(parametros, 1).toArray();
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class, valores);
+    }
+
+    /**
+     * {@code setval(sequencia, valor, chamado)} do PostgreSQL para o H2
+     */
+    public static class FuncoesPostgres {
+
+        public static long setval(Connection conexao, String sequencia, long valor, boolean chamado) throws SQLException {
+            try (Statement statement = conexao.createStatement()) {
+                statement.execute("ALTER SEQUENCE " + sequencia + " RESTART WITH " + (chamado ? valor + 1 : valor));
+            }
+            return valor;
+        }
+    }
+
+    /**
+     * Guarda o SQL que o Hibernate envia ao banco
+     */
+    public static class ConsultasCapturadas implements StatementInspector {
+
+        private static final List<String> SQL = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            SQL.add(sql);
+            return sql;
+        }
+
+        static void limpar() {
+            SQL.clear();
+        }
+
+        static List<String> selects() {
+            return SQL.stream().filter(s -> s.stripLeading().toLowerCase().startsWith("select")).toList();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.oroboros.EscalaDeFolga.util;
+
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.CargoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.Colaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.SnapshotColaborador;
+import com.oroboros.EscalaDeFolga.domain.model.colaborador.TurnoEnum;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Folga;
+import com.oroboros.EscalaDeFolga.domain.model.escala.Setor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class AuditoriaJsonUtilTest {
+
+    private Colaborador colaborador;
+
+    @BeforeEach
+    void setUp() {
+        Setor setor = new Setor();
+        setor.setId(3L);
+
+        colaborador = new Colaborador();
+        colaborador.setId(10L);
+        colaborador.setNome("MARIA SILVA");
+        colaborador.setCargo(CargoEnum.TECNICO);
+        colaborador.setTurno(TurnoEnum.MANHA);
+        colaborador.setUltimaFolga(LocalDate.of(2025, 1, 31));
+        colaborador.setSetor(setor);
+    }
+
+    @Test
+    void snapshotDeveConterApenasCamposSimplesEIdDoSetor() {
+        @SuppressWarnings("unchecked")
+        List<Folga> folgas = mock(List.class);
+        colaborador.setFolgas(folgas);
+
+        String json = AuditoriaJsonUtil.snapshot(SnapshotColaborador.de(colaborador));
+
+        assertEquals("{\"id\":10,\"nome\":\"MARIA SILVA\",\"cargo\":\"TECNICO\",\"turno\":\"MANHA\","
+                + "\"ativo\":true,\"ultimaFolga\":\"2025-01-31\",\"setorId\":3}", json);
+        verifyNoInteractions(folgas);
+    }
+
+    @Test
+    void diferencaDeveConterApenasOsCamposAlterados() {
+        SnapshotColaborador antes = SnapshotColaborador.de(colaborador);
+        colaborador.setNome("MARIA SOUZA");
+        colaborador.setTurno(TurnoEnum.NOITE);
+
+        AuditoriaJsonUtil.Diferenca diferenca =
+                AuditoriaJsonUtil.diferenca(antes, SnapshotColaborador.de(colaborador));
+
+        assertEquals("{\"nome\":\"MARIA SILVA\",\"turno\":\"MANHA\"}", diferenca.anteriores());
+        assertEquals("{\"nome\":\"MARIA SOUZA\",\"turno\":\"NOITE\"}", diferenca.novos());
+    }
+
+    @Test
+    void diferencaDeveSerVaziaQuandoNadaMudou() {
+        SnapshotColaborador antes = SnapshotColaborador.de(colaborador);
+
+        AuditoriaJsonUtil.Diferenca diferenca =
+                AuditoriaJsonUtil.diferenca(antes, SnapshotColaborador.de(colaborador));
+
+        assertEquals("{}", diferenca.anteriores());
+        assertEquals("{}", diferenca.novos());
+    }
+
+    @Test
+    void diferencaDeveRegistrarCampoQueFicouNulo() {
+        SnapshotColaborador antes = SnapshotColaborador.de(colaborador);
+        colaborador.setUltimaFolga(null);
+
+        AuditoriaJsonUtil.Diferenca diferenca =
+                AuditoriaJsonUtil.diferenca(antes, SnapshotColaborador.de(colaborador));
+
+        assertEquals("{\"ultimaFolga\":\"2025-01-31\"}", diferenca.anteriores());
+        assertEquals("{\"ultimaFolga\":null}", diferenca.novos());
+    }
+}